@@ -0,0 +1,109 @@
+package org.pix.wallet.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pix.wallet.infrastructure.cache.OffHeapBalanceTable;
+
+/**
+ * Reads and reloads of random wallets in the off-heap balance table against a
+ * {@link ConcurrentHashMap} of {@link UUID} to an immutable balance, the obvious on-heap
+ * alternative. Run with {@code -prof gc} to compare allocation and GC time; the table's
+ * footprint is outside the heap and shows up in the process RSS instead.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g", "-XX:MaxDirectMemorySize=2g", "-XX:+UseZGC"})
+public class BalanceStoreBenchmark {
+
+    private record OnHeapBalance(long balanceCents, long reservedCents, long loadedAtMillis) {
+    }
+
+    @State(Scope.Benchmark)
+    public static class Wallets {
+
+        @Param({"10000000"})
+        int entries;
+
+        long[] msb;
+        long[] lsb;
+        OffHeapBalanceTable offHeap;
+        ConcurrentHashMap<UUID, OnHeapBalance> onHeap;
+
+        @Setup(Level.Trial)
+        public void fill() {
+            msb = new long[entries];
+            lsb = new long[entries];
+            offHeap = new OffHeapBalanceTable(entries);
+            onHeap = new ConcurrentHashMap<>(entries * 4 / 3);
+            for (int i = 0; i < entries; i++) {
+                UUID id = UUID.randomUUID();
+                msb[i] = id.getMostSignificantBits();
+                lsb[i] = id.getLeastSignificantBits();
+                offHeap.putIfUnchanged(msb[i], lsb[i], offHeap.stamp(msb[i], lsb[i]), i, 0, 1);
+                onHeap.put(id, new OnHeapBalance(i, 0, 1));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        int next(int bound) {
+            return random.nextInt(bound);
+        }
+    }
+
+    @Benchmark
+    public void offHeapGet(Wallets wallets, Cursor cursor, Blackhole blackhole) {
+        int i = cursor.next(wallets.entries);
+        blackhole.consume(wallets.offHeap.get(wallets.msb[i], wallets.lsb[i]));
+    }
+
+    @Benchmark
+    public void onHeapGet(Wallets wallets, Cursor cursor, Blackhole blackhole) {
+        int i = cursor.next(wallets.entries);
+        blackhole.consume(wallets.onHeap.get(new UUID(wallets.msb[i], wallets.lsb[i])));
+    }
+
+    /**
+     * Invalidation followed by a reload, as a ledger write and the next balance read do.
+     */
+    @Benchmark
+    public boolean offHeapInvalidateAndReload(Wallets wallets, Cursor cursor) {
+        int i = cursor.next(wallets.entries);
+        long msb = wallets.msb[i];
+        long lsb = wallets.lsb[i];
+        wallets.offHeap.invalidate(msb, lsb);
+        return wallets.offHeap.putIfUnchanged(msb, lsb, wallets.offHeap.stamp(msb, lsb), i, 100, 2);
+    }
+
+    @Benchmark
+    public Object onHeapInvalidateAndReload(Wallets wallets, Cursor cursor) {
+        int i = cursor.next(wallets.entries);
+        UUID id = new UUID(wallets.msb[i], wallets.lsb[i]);
+        wallets.onHeap.remove(id);
+        return wallets.onHeap.put(id, new OnHeapBalance(i, 100, 2));
+    }
+}
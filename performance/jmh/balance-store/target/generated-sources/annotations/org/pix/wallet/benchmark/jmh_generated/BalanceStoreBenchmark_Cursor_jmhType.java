@@ -0,0 +1,4 @@
+package org.pix.wallet.benchmark.jmh_generated;
+public class BalanceStoreBenchmark_Cursor_jmhType extends BalanceStoreBenchmark_Cursor_jmhType_B3 {
+}
+
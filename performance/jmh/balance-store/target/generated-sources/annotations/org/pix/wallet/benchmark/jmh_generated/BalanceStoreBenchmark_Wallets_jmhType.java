@@ -0,0 +1,4 @@
+package org.pix.wallet.benchmark.jmh_generated;
+public class BalanceStoreBenchmark_Wallets_jmhType extends BalanceStoreBenchmark_Wallets_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.pix.wallet.benchmark.jmh_generated;
+public class BalanceStoreBenchmark_jmhType extends BalanceStoreBenchmark_jmhType_B3 {
+}
+
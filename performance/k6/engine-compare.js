@@ -0,0 +1,60 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { scenarioSetup, createTransfer, depositWallet, randomId, BASE_URL, SCENARIO_NAME, RUN_ID } from './lib/helpers.js';
+
+// Single-node throughput of the DB-bound services vs the in-memory wallet engine:
+//   ENGINE_ENABLED=false docker compose up -d app  -> WRITE_PATH=database
+//   ENGINE_ENABLED=true  docker compose up -d app  -> WRITE_PATH=engine
+// Ramp the arrival rate until requests fail or queue up; the sustained rate is the result.
+// Transfers are left PENDING: with the engine the row is written by the projection shortly
+// after the response, so an immediate webhook could race it.
+const WRITE_PATH = __ENV.WRITE_PATH || 'database';
+const START_RATE = parseInt(__ENV.START_RATE || '200');
+const MAX_RATE = parseInt(__ENV.MAX_RATE || '3000');
+const STAGE = __ENV.STAGE || '1m';
+
+export const options = {
+  tags: { write_path: WRITE_PATH },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  scenarios: {
+    ramp: {
+      executor: 'ramping-arrival-rate',
+      startRate: START_RATE,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: Math.round(MAX_RATE / 3), duration: STAGE },
+        { target: Math.round((2 * MAX_RATE) / 3), duration: STAGE },
+        { target: MAX_RATE, duration: STAGE },
+        { target: MAX_RATE, duration: STAGE },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    dropped_iterations: ['count<100'],
+  },
+};
+
+export function setup() { return scenarioSetup(); }
+
+export default function (data) {
+  const r = Math.random();
+  if (r < 0.4) {
+    depositWallet(data.walletA, '1.00');
+  } else if (r < 0.6) {
+    const res = http.post(`${BASE_URL}/wallets/${data.walletA}/withdraw`, JSON.stringify({ amount: '0.50' }), {
+      headers: {
+        'Content-Type': 'application/json',
+        'Idempotency-Key': randomId(),
+        'X-Scenario': SCENARIO_NAME,
+        'X-Run-Id': RUN_ID,
+      },
+      tags: { endpoint: 'wallet_withdraw' },
+    });
+    check(res, { 'withdraw ok 200': r => r.status === 200 });
+  } else {
+    createTransfer(data.walletA, data.pixKeyB, '0.50');
+  }
+}
@@ -0,0 +1,56 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { scenarioSetup, createTransfer, confirmTransfer, depositWallet, randomId, BASE_URL, SCENARIO_NAME, RUN_ID } from './lib/helpers.js';
+
+// Run twice against the same stack, once per persistence adapter, and compare the summaries:
+//   PERSISTENCE_ADAPTER=jpa  docker compose up -d app  -> ADAPTER=jpa
+//   PERSISTENCE_ADAPTER=jdbc docker compose up -d app  -> ADAPTER=jdbc
+// Every request below writes through the ledger or transfer port, so the difference is the adapter's.
+const ADAPTER = __ENV.ADAPTER || 'jpa';
+const RATE = parseInt(__ENV.RATE || '200');
+const DURATION = __ENV.DURATION || '3m';
+
+export const options = {
+  tags: { persistence_adapter: ADAPTER },
+  scenarios: {
+    writes: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: Math.max(50, RATE),
+      maxVUs: RATE * 4,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{endpoint:wallet_deposit}': ['p(99)<250'],
+    'http_req_duration{endpoint:wallet_withdraw}': ['p(99)<250'],
+    'http_req_duration{endpoint:transfer_create}': ['p(99)<500'],
+  },
+};
+
+export function setup() { return scenarioSetup(); }
+
+export default function (data) {
+  const r = Math.random();
+  if (r < 0.3) {
+    depositWallet(data.walletA, '1.00');
+  } else if (r < 0.5) {
+    const res = http.post(`${BASE_URL}/wallets/${data.walletA}/withdraw`, JSON.stringify({ amount: '0.50' }), {
+      headers: {
+        'Content-Type': 'application/json',
+        'Idempotency-Key': randomId(),
+        'X-Scenario': SCENARIO_NAME,
+        'X-Run-Id': RUN_ID,
+      },
+      tags: { endpoint: 'wallet_withdraw' },
+    });
+    check(res, { 'withdraw ok 200': r => r.status === 200 });
+  } else {
+    const t = createTransfer(data.walletA, data.pixKeyB, '1.00');
+    if (t) {
+      confirmTransfer(t.endToEndId);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { scenarioSetup, createTransfer, BASE_URL } from './lib/helpers.js';
+
+// Compares the blocking MVC read path with the R2DBC one (REACTIVE_READ_ENABLED=true):
+//   READ_PATH=mvc      -> GET /wallets/{id}/balance
+//   READ_PATH=reactive -> GET /reactive/wallets/{id}/balance + /reactive/pix/transfers/{e2e}
+const READ_PATH = __ENV.READ_PATH || 'mvc';
+const PREFIX = READ_PATH === 'reactive' ? (__ENV.REACTIVE_PREFIX || '/reactive') : '';
+const RATE = parseInt(__ENV.RATE || '500');
+const DURATION = __ENV.DURATION || '3m';
+
+export const options = {
+  tags: { read_path: READ_PATH },
+  scenarios: {
+    reads: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: Math.max(50, RATE),
+      maxVUs: RATE * 4,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{endpoint:wallet_balance}': ['p(99)<250'],
+  },
+};
+
+export function setup() {
+  const data = scenarioSetup();
+  const t = createTransfer(data.walletA, data.pixKeyB, '1.00');
+  data.endToEndId = t ? t.endToEndId : null;
+  return data;
+}
+
+export default function (data) {
+  const balance = http.get(`${BASE_URL}${PREFIX}/wallets/${data.walletA}/balance`, { tags: { endpoint: 'wallet_balance' } });
+  check(balance, { 'balance 200': r => r.status === 200 });
+
+  // Transfer status only exists on the reactive path
+  if (READ_PATH === 'reactive' && data.endToEndId) {
+    const status = http.get(`${BASE_URL}${PREFIX}/pix/transfers/${data.endToEndId}`, { tags: { endpoint: 'transfer_status' } });
+    check(status, { 'transfer status 200': r => r.status === 200 });
+  }
+}
@@ -0,0 +1,52 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+import { createWallet, depositWallet, randomId, BASE_URL, INITIAL_BALANCE } from './lib/helpers.js';
+
+// Hot merchant wallet: every VU credits (and optionally debits) the same wallet.
+// Run once per BUCKETS value (e.g. 2, 8, 32) and compare iterations/s:
+//   k6 run -e BUCKETS=8 performance/k6/sharded-wallet.js
+const BUCKETS = parseInt(__ENV.BUCKETS || '8');
+const RATE = parseInt(__ENV.RATE || '1000');
+const DURATION = __ENV.DURATION || '2m';
+const DEBIT_RATIO = parseFloat(__ENV.DEBIT_RATIO || '0.1');
+
+const insufficientFunds = new Counter('insufficient_funds');
+
+export const options = {
+  tags: { buckets: String(BUCKETS) },
+  scenarios: {
+    hot_wallet: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: Math.max(100, RATE / 2),
+      maxVUs: RATE * 2,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{endpoint:wallet_deposit}': ['p(99)<500'],
+  },
+};
+
+export function setup() {
+  const wallet = createWallet();
+  depositWallet(wallet, INITIAL_BALANCE);
+  const res = http.put(`${BASE_URL}/wallets/${wallet}/balance-buckets`, JSON.stringify({ buckets: BUCKETS }),
+    { headers: { 'Content-Type': 'application/json' }, tags: { endpoint: 'balance_buckets' } });
+  check(res, { 'buckets configured 200': r => r.status === 200 });
+  return { wallet };
+}
+
+export default function (data) {
+  if (Math.random() < DEBIT_RATIO) {
+    const res = http.post(`${BASE_URL}/wallets/${data.wallet}/withdraw`, JSON.stringify({ amount: '1.00' }),
+      { headers: { 'Content-Type': 'application/json', 'Idempotency-Key': randomId() }, tags: { endpoint: 'wallet_withdraw' } });
+    if (res.status === 409) insufficientFunds.add(1);
+    check(res, { 'withdraw ok': r => r.status === 200 || r.status === 409 });
+    return;
+  }
+  depositWallet(data.wallet, '1.00');
+}
@@ -0,0 +1,58 @@
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+import { createWallet, createRandomPixKey, depositWallet, createTransfer, confirmTransfer, INITIAL_BALANCE } from './lib/helpers.js';
+
+// Transfers between random wallets of a large pool, so load spreads over every shard
+// and most transfers are cross-shard once SHARDS > 1. Run once per shard count:
+//   SHARDING_ENABLED=true SHARD_URLS=... k6 run -e SHARDS=2 performance/k6/sharding.js
+const SHARDS = __ENV.SHARDS || '1';
+const WALLETS = parseInt(__ENV.WALLETS || '200');
+const RATE = parseInt(__ENV.RATE || '300');
+const DURATION = __ENV.DURATION || '3m';
+
+const transferFailures = new Counter('transfer_failures');
+
+export const options = {
+  setupTimeout: '5m',
+  tags: { shards: SHARDS },
+  scenarios: {
+    transfers: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: Math.max(50, RATE / 2),
+      maxVUs: RATE * 2,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{endpoint:transfer_create}': ['p(95)<500'],
+  },
+};
+
+export function setup() {
+  const wallets = [];
+  for (let i = 0; i < WALLETS; i++) {
+    const id = createWallet();
+    depositWallet(id, INITIAL_BALANCE);
+    wallets.push({ id, pixKey: createRandomPixKey(id) });
+  }
+  return { wallets };
+}
+
+export default function (data) {
+  const from = data.wallets[Math.floor(Math.random() * data.wallets.length)];
+  let to = data.wallets[Math.floor(Math.random() * data.wallets.length)];
+  if (to.id === from.id) {
+    to = data.wallets[(data.wallets.indexOf(from) + 1) % data.wallets.length];
+  }
+
+  const transfer = createTransfer(from.id, to.pixKey, '1.00');
+  if (!transfer) {
+    transferFailures.add(1);
+    return;
+  }
+  const confirmed = confirmTransfer(transfer.endToEndId);
+  check(confirmed, { 'transfer confirmed': ok => ok === true });
+}
@@ -0,0 +1,44 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { scenarioSetup, createTransfer, confirmTransfer, BASE_URL } from './lib/helpers.js';
+
+// Run twice against the same stack, once per execution mode, and compare the summaries:
+//   VIRTUAL_THREADS_ENABLED=false docker compose up -d app  -> THREAD_MODE=platform
+//   VIRTUAL_THREADS_ENABLED=true  docker compose up -d app  -> THREAD_MODE=virtual
+const THREAD_MODE = __ENV.THREAD_MODE || 'platform';
+const RATE = parseInt(__ENV.RATE || '200');
+const DURATION = __ENV.DURATION || '3m';
+const READ_RATIO = parseFloat(__ENV.READ_RATIO || '0.8');
+
+export const options = {
+  tags: { thread_mode: THREAD_MODE },
+  scenarios: {
+    mixed: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: Math.max(50, RATE),
+      maxVUs: RATE * 4,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{endpoint:wallet_balance}': ['p(99)<250'],
+    'http_req_duration{endpoint:transfer_create}': ['p(99)<500'],
+  },
+};
+
+export function setup() { return scenarioSetup(); }
+
+export default function (data) {
+  if (Math.random() < READ_RATIO) {
+    const res = http.get(`${BASE_URL}/wallets/${data.walletA}/balance`, { tags: { endpoint: 'wallet_balance' } });
+    check(res, { 'balance 200': r => r.status === 200 });
+    return;
+  }
+  const t = createTransfer(data.walletA, data.pixKeyB, '1.00');
+  if (t) {
+    confirmTransfer(t.endToEndId);
+  }
+}
@@ -0,0 +1,34 @@
+import { scenarioSetup, createTransfer } from './lib/helpers.js';
+
+// Run twice against the same stack, once per creation path, and compare p50/p99:
+//   TRANSFER_SINGLE_CALL_ENABLED=false docker compose up -d app  -> CREATE_PATH=java
+//   TRANSFER_SINGLE_CALL_ENABLED=true  docker compose up -d app  -> CREATE_PATH=function
+// Transfers are left PENDING: the comparison is the creation request alone.
+const CREATE_PATH = __ENV.CREATE_PATH || 'java';
+const RATE = parseInt(__ENV.RATE || '200');
+const DURATION = __ENV.DURATION || '3m';
+
+export const options = {
+  tags: { create_path: CREATE_PATH },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  scenarios: {
+    create: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: Math.max(50, RATE),
+      maxVUs: RATE * 4,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{endpoint:transfer_create}': ['p(50)<100', 'p(99)<500'],
+  },
+};
+
+export function setup() { return scenarioSetup(); }
+
+export default function (data) {
+  createTransfer(data.walletA, data.pixKeyB, '0.01');
+}
@@ -0,0 +1,8 @@
+\set w random(1, :wallets)
+SELECT COALESCE(SUM(CASE WHEN operation_code = 0 THEN amount_cents
+                         WHEN operation_code = 1 THEN -amount_cents
+                         WHEN operation_code = 5 THEN -amount_cents
+                         WHEN operation_code = 6 THEN amount_cents
+                         ELSE 0 END), 0) * 0.01
+FROM bench.ledger_compact
+WHERE wallet_id = (SELECT id FROM bench.wallet WHERE n = :w);
@@ -0,0 +1,8 @@
+\set w random(1, :wallets)
+SELECT COALESCE(SUM(CASE WHEN operation_type = 'DEPOSIT' THEN amount
+                         WHEN operation_type = 'WITHDRAW' THEN -amount
+                         WHEN operation_type = 'RESERVED' THEN -amount
+                         WHEN operation_type = 'UNRESERVED' THEN amount
+                         ELSE 0 END), 0)
+FROM bench.ledger_legacy
+WHERE wallet_id = (SELECT id FROM bench.wallet WHERE n = :w);
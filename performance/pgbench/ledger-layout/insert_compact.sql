@@ -0,0 +1,6 @@
+\set w random(1, :wallets)
+INSERT INTO bench.ledger_compact (id, wallet_id, amount_cents, created_at, operation_code, idempotency_hash, end_to_end_id)
+SELECT gen_random_uuid(), w.id, 1050, now(), 0, md5(k.key)::UUID, substr(k.key, 2, 32)::UUID
+FROM bench.wallet w,
+     (SELECT 'E' || upper(replace(gen_random_uuid()::TEXT, '-', '')) || '-apply-credit' AS key) k
+WHERE w.n = :w;
@@ -0,0 +1,6 @@
+\set w random(1, :wallets)
+INSERT INTO bench.ledger_legacy (id, wallet_id, operation_type, amount, effective_at, created_at, idempotency_key)
+SELECT gen_random_uuid(), w.id, 'DEPOSIT', 10.50, now(), now(), k.key
+FROM bench.wallet w,
+     (SELECT 'E' || upper(replace(gen_random_uuid()::TEXT, '-', '')) || '-apply-credit' AS key) k
+WHERE w.n = :w;
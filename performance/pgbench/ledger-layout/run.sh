@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+# Insert throughput, WAL bytes per insert and balance-query latency for the ledger_entry
+# layout before (legacy) and after (compact) V8__compact_ledger_entry.sql.
+# Uses the standard libpq variables (PGHOST, PGPORT, PGUSER, PGPASSWORD, PGDATABASE);
+# CHECKPOINT needs a superuser, as the docker compose user is.
+set -euo pipefail
+cd "$(dirname "$0")"
+
+WALLETS=${WALLETS:-1000}
+ROWS=${ROWS:-1000000}
+CLIENTS=${CLIENTS:-8}
+DURATION=${DURATION:-60}
+
+export PGHOST=${PGHOST:-localhost} PGUSER=${PGUSER:-pix} PGPASSWORD=${PGPASSWORD:-pixpass} PGDATABASE=${PGDATABASE:-pixwallet}
+
+q() { psql -X -q -At -c "$1"; }
+
+echo "Seeding $ROWS ledger rows over $WALLETS wallets per layout..."
+psql -X -q -v ON_ERROR_STOP=1 -v wallets="$WALLETS" -v rows="$ROWS" -f setup.sql
+
+printf '\n%-8s %10s %14s %16s %12s %12s\n' layout insert_tps wal_B/insert balance_avg_ms table index
+for layout in legacy compact; do
+  table="bench.ledger_$layout"
+  q "CHECKPOINT"
+  rows_before=$(q "SELECT count(*) FROM $table")
+  lsn_before=$(q "SELECT pg_current_wal_insert_lsn()")
+  tps=$(pgbench -n -f "insert_$layout.sql" -D wallets="$WALLETS" -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" \
+    | awk '/^tps/ {print $3; exit}')
+  wal=$(q "SELECT round(pg_wal_lsn_diff(pg_current_wal_insert_lsn(), '$lsn_before')
+                        / NULLIF(count(*) - $rows_before, 0)) FROM $table")
+  q "VACUUM ANALYZE $table"
+  latency=$(pgbench -n -f "balance_$layout.sql" -D wallets="$WALLETS" -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" \
+    | awk '/^latency average/ {print $4; exit}')
+  sizes=$(q "SELECT pg_size_pretty(pg_table_size('$table')) || ' ' || pg_size_pretty(pg_indexes_size('$table'))")
+  printf '%-8s %10s %14s %16s %12s %12s\n' "$layout" "$tps" "$wal" "$latency" $sizes
+done
@@ -0,0 +1,60 @@
+-- Both ledger_entry layouts side by side in a scratch schema, with their real index sets.
+-- psql -v wallets=1000 -v rows=1000000 -f setup.sql
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+CREATE TABLE bench.wallet (n INT PRIMARY KEY, id UUID NOT NULL UNIQUE);
+INSERT INTO bench.wallet SELECT n, gen_random_uuid() FROM generate_series(1, :wallets) n;
+
+-- Before V8 (V1 + V6)
+CREATE TABLE bench.ledger_legacy (
+  id               UUID PRIMARY KEY,
+  wallet_id        UUID NOT NULL REFERENCES bench.wallet(id),
+  operation_type   TEXT NOT NULL,
+  amount           NUMERIC(15,2) NOT NULL CHECK (amount <> 0),
+  effective_at     TIMESTAMPTZ NOT NULL,
+  created_at       TIMESTAMPTZ NOT NULL DEFAULT now(),
+  idempotency_key  VARCHAR(64),
+  seq              BIGSERIAL
+);
+CREATE UNIQUE INDEX ON bench.ledger_legacy(wallet_id, idempotency_key) WHERE idempotency_key IS NOT NULL;
+CREATE INDEX ON bench.ledger_legacy(wallet_id, operation_type, amount);
+CREATE INDEX ON bench.ledger_legacy(wallet_id, created_at, operation_type, amount);
+CREATE INDEX ON bench.ledger_legacy(wallet_id, effective_at);
+CREATE UNIQUE INDEX ON bench.ledger_legacy(seq);
+
+-- After V8
+CREATE TABLE bench.ledger_compact (
+  id                UUID PRIMARY KEY,
+  wallet_id         UUID NOT NULL REFERENCES bench.wallet(id),
+  seq               BIGSERIAL,
+  amount_cents      BIGINT NOT NULL CHECK (amount_cents <> 0),
+  created_at        TIMESTAMPTZ NOT NULL DEFAULT now(),
+  operation_code    SMALLINT NOT NULL,
+  idempotency_hash  UUID,
+  end_to_end_id     UUID
+);
+CREATE UNIQUE INDEX ON bench.ledger_compact(seq);
+CREATE INDEX ON bench.ledger_compact(wallet_id, created_at) INCLUDE (operation_code, amount_cents);
+CREATE UNIQUE INDEX ON bench.ledger_compact(idempotency_hash, wallet_id) WHERE idempotency_hash IS NOT NULL;
+
+-- Same history in both: transfer steps with {e2e}-<step> keys, spread over the wallets
+CREATE TEMP TABLE history AS
+SELECT gen_random_uuid() AS id,
+       (SELECT id FROM bench.wallet WHERE n = 1 + (g % :wallets)) AS wallet_id,
+       (ARRAY[0, 1, 5, 6])[1 + (g % 4)] AS code,
+       (1 + g % 50000)::BIGINT AS cents,
+       now() - (g || ' seconds')::INTERVAL AS created_at,
+       'E' || upper(md5(g::TEXT)) || (ARRAY['-apply-credit', '-apply-debit', '-reserve', '-unreserve'])[1 + (g % 4)] AS key
+FROM generate_series(1, :rows) g;
+
+INSERT INTO bench.ledger_legacy (id, wallet_id, operation_type, amount, effective_at, created_at, idempotency_key)
+SELECT id, wallet_id, CASE code WHEN 0 THEN 'DEPOSIT' WHEN 1 THEN 'WITHDRAW' WHEN 5 THEN 'RESERVED' ELSE 'UNRESERVED' END,
+       cents / 100.0, created_at, created_at, key
+FROM history;
+
+INSERT INTO bench.ledger_compact (id, wallet_id, amount_cents, created_at, operation_code, idempotency_hash, end_to_end_id)
+SELECT id, wallet_id, cents, created_at, code, md5(key)::UUID, substr(key, 2, 32)::UUID
+FROM history;
+
+VACUUM ANALYZE bench.wallet, bench.ledger_legacy, bench.ledger_compact;
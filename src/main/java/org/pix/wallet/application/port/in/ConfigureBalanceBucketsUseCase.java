@@ -0,0 +1,15 @@
+package org.pix.wallet.application.port.in;
+
+import java.util.UUID;
+
+public interface ConfigureBalanceBucketsUseCase {
+
+    Result execute(Command command);
+
+    /**
+     * @param buckets number of balance sub-buckets; 1 turns sharding off
+     */
+    record Command(UUID walletId, int buckets) { }
+
+    record Result(UUID walletId, int buckets) { }
+}
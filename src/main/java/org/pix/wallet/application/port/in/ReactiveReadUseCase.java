@@ -0,0 +1,23 @@
+package org.pix.wallet.application.port.in;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveReadUseCase {
+
+  Mono<GetBalanceUseCase.Result> balance(GetBalanceUseCase.Command command);
+
+  /**
+   * Completes empty when no transfer exists for the given end-to-end ID.
+   */
+  Mono<TransferStatusView> transferStatus(String endToEndId);
+
+  public record TransferStatusView(
+      String endToEndId,
+      String status,
+      BigDecimal amount,
+      String currency,
+      Instant initiatedAt) {}
+}
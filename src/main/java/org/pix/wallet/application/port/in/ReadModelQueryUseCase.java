@@ -0,0 +1,51 @@
+package org.pix.wallet.application.port.in;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Wallet queries served only from the asynchronously maintained read model.
+ * Every answer carries the {@link Freshness} of the projection it was read from.
+ */
+public interface ReadModelQueryUseCase {
+
+  /**
+   * Wallets without ledger entries (or unknown ones) read as zero.
+   */
+  BalanceView balance(UUID walletId);
+
+  /**
+   * Newest first; {@code before} pages by initiation time and may be null.
+   */
+  TransferHistoryView transfers(UUID walletId, int limit, Instant before);
+
+  DailyTotalsView dailyTotals(UUID walletId, LocalDate from, LocalDate to);
+
+  /**
+   * @param position        last ledger sequence reflected in the projection
+   * @param projectedThrough creation time of that ledger entry
+   * @param refreshedAt     last time the projector was seen at the head of the stream
+   * @param stalenessMillis time since {@code refreshedAt}
+   */
+  record Freshness(long position, Instant projectedThrough, Instant refreshedAt, long stalenessMillis) {}
+
+  record BalanceView(UUID walletId, BigDecimal balance, BigDecimal availableBalance, Freshness freshness) {}
+
+  record TransferHistoryItem(
+      String endToEndId,
+      String direction,
+      String counterpartyWalletId,
+      BigDecimal amount,
+      String status,
+      Instant initiatedAt,
+      Instant updatedAt) {}
+
+  record TransferHistoryView(UUID walletId, List<TransferHistoryItem> items, Freshness freshness) {}
+
+  record DailyTotal(LocalDate day, BigDecimal credits, BigDecimal debits, int entries) {}
+
+  record DailyTotalsView(UUID walletId, List<DailyTotal> days, Freshness freshness) {}
+}
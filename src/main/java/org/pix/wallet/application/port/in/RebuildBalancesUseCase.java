@@ -0,0 +1,62 @@
+package org.pix.wallet.application.port.in;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recomputes every wallet balance from the raw ledger and reconciles the balance
+ * projection against it, in the background.
+ */
+public interface RebuildBalancesUseCase {
+
+  /**
+   * Starts a run unless one is already in progress.
+   *
+   * @throws IllegalStateException if a run is in progress
+   */
+  Status start(Command command);
+
+  Status status();
+
+  /**
+   * @param dryRun only report the differences, leave the projection untouched
+   */
+  record Command(int parallelism, boolean dryRun) {}
+
+  enum State { IDLE, RUNNING, SUCCEEDED, FAILED }
+
+  /**
+   * @param progress   fraction of the ledger scanned, 0 to 1
+   * @param etaSeconds estimated time left, null until measurable
+   */
+  record Status(State state, double progress, Long etaSeconds, Report report, String error) {}
+
+  /**
+   * @param mismatched wallets whose stored balance differs from the ledger
+   * @param missing    wallets with ledger entries but no stored balance
+   * @param extra      stored balances for wallets without ledger entries
+   */
+  record Report(
+      boolean dryRun,
+      int shards,
+      int passes,
+      long entries,
+      long wallets,
+      long mismatched,
+      long missing,
+      long extra,
+      List<Mismatch> sample,
+      Duration took) {}
+
+  /**
+   * {@code actual*} are null for a missing row, {@code expected*} zero for an extra one.
+   */
+  record Mismatch(
+      UUID walletId,
+      BigDecimal expectedBalance,
+      BigDecimal actualBalance,
+      BigDecimal expectedAvailable,
+      BigDecimal actualAvailable) {}
+}
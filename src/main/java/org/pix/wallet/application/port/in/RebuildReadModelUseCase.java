@@ -0,0 +1,15 @@
+package org.pix.wallet.application.port.in;
+
+import java.time.Duration;
+
+public interface RebuildReadModelUseCase {
+
+  /**
+   * Discards the read model and projects the whole ledger again.
+   */
+  Result execute(Command command);
+
+  record Command(int parallelism) {}
+
+  record Result(int shards, long events, long wallets, long transfers, Duration took) {}
+}
@@ -0,0 +1,13 @@
+package org.pix.wallet.application.port.out;
+
+import java.util.UUID;
+
+public interface BalanceBucketRepositoryPort {
+
+    /**
+     * Spreads the wallet's available balance across {@code buckets} sub-buckets, or turns
+     * sharding off when {@code buckets <= 1}. The buckets are re-seeded from the ledger,
+     * so calling it again with the same value also reconciles them.
+     */
+    void configure(UUID walletId, int buckets);
+}
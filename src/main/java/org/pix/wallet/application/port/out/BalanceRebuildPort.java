@@ -0,0 +1,13 @@
+package org.pix.wallet.application.port.out;
+
+import org.pix.wallet.application.port.in.RebuildBalancesUseCase.Status;
+
+public interface BalanceRebuildPort {
+
+  /**
+   * @throws IllegalStateException if a run is in progress
+   */
+  Status start(int parallelism, boolean dryRun);
+
+  Status status();
+}
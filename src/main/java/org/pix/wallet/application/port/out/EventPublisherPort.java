@@ -0,0 +1,22 @@
+package org.pix.wallet.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EventPublisherPort {
+
+    /**
+     * Publishes a batch of events in order. Throwing leaves the whole batch
+     * in the outbox so it is retried on the next poll (at-least-once delivery).
+     */
+    void publish(List<EventMessage> events);
+
+    record EventMessage(
+        long sequence,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        String payload,
+        Instant createdAt
+    ) {}
+}
@@ -0,0 +1,37 @@
+package org.pix.wallet.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public interface OutboxRepositoryPort {
+
+    /**
+     * Appends an event to the outbox. Must be called inside the transaction
+     * that performs the corresponding transfer/ledger change.
+     */
+    void append(OutboxEvent event);
+
+    /**
+     * Locks the next batch of unpublished events (FOR UPDATE SKIP LOCKED), oldest first.
+     * Concurrent relays receive disjoint batches.
+     */
+    List<EventPublisherPort.EventMessage> lockNextBatch(int limit);
+
+    /**
+     * Marks the given events as published in a single statement.
+     */
+    int markPublished(List<Long> ids, Instant publishedAt);
+
+    /**
+     * Deletes the given events in a single statement.
+     */
+    int delete(List<Long> ids);
+
+    record OutboxEvent(
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        Map<String, Object> payload
+    ) {}
+}
@@ -1,10 +1,17 @@
 package org.pix.wallet.application.port.out;
 
 import org.pix.wallet.domain.model.PixKey;
+import java.util.List;
 import java.util.Optional;
 
 public interface PixKeyRepositoryPort {
     PixKey save(PixKey key);
     boolean existsByValue(String value);
     Optional<PixKey> findByValueAndActive(String value);
+
+    /**
+     * Active keys of the wallets that received the most transfers in the last day, used to
+     * warm the PIX key cache. Best effort: an empty list is a valid answer.
+     */
+    List<PixKey> findMostUsedActive(int limit);
 }
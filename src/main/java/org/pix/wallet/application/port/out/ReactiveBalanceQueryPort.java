@@ -0,0 +1,26 @@
+package org.pix.wallet.application.port.out;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the balance queries in {@link LedgerEntryRepositoryPort},
+ * used by the reactive read path.
+ */
+public interface ReactiveBalanceQueryPort {
+
+    Mono<Boolean> walletExists(UUID walletId);
+
+    /**
+     * Real (accounting) balance, same semantics as {@link LedgerEntryRepositoryPort#getCurrentBalance}.
+     */
+    Mono<BigDecimal> getCurrentBalance(UUID walletId);
+
+    /**
+     * Historical balance, same semantics as {@link LedgerEntryRepositoryPort#getBalanceAsOf}.
+     */
+    Mono<BigDecimal> getBalanceAsOf(UUID walletId, Instant asOf);
+}
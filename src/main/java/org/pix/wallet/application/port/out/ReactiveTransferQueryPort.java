@@ -0,0 +1,14 @@
+package org.pix.wallet.application.port.out;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking transfer lookup used by the reactive read path.
+ */
+public interface ReactiveTransferQueryPort {
+
+    /**
+     * Find transfer by end-to-end ID; completes empty when it does not exist
+     */
+    Mono<TransferRepositoryPort.TransferResult> findByEndToEndId(String endToEndId);
+}
@@ -0,0 +1,32 @@
+package org.pix.wallet.application.port.out;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.pix.wallet.application.port.in.ReadModelQueryUseCase.DailyTotal;
+import org.pix.wallet.application.port.in.ReadModelQueryUseCase.Freshness;
+import org.pix.wallet.application.port.in.ReadModelQueryUseCase.TransferHistoryItem;
+
+/**
+ * Reads the projections. Callers run these in one read-only transaction so the
+ * {@link Freshness} matches the rows returned with it.
+ */
+public interface ReadModelQueryPort {
+
+  /**
+   * Checkpoint of the projection holding {@code walletId}.
+   */
+  Freshness freshness(UUID walletId);
+
+  Optional<Balances> balance(UUID walletId);
+
+  List<TransferHistoryItem> transfers(UUID walletId, int limit, Instant before);
+
+  List<DailyTotal> dailyTotals(UUID walletId, LocalDate from, LocalDate to);
+
+  record Balances(BigDecimal balance, BigDecimal availableBalance) {}
+}
@@ -0,0 +1,8 @@
+package org.pix.wallet.application.port.out;
+
+import org.pix.wallet.application.port.in.RebuildReadModelUseCase;
+
+public interface ReadModelRebuildPort {
+
+  RebuildReadModelUseCase.Result rebuild(int parallelism);
+}
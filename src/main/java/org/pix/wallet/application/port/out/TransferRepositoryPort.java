@@ -29,6 +29,26 @@ public interface TransferRepositoryPort {
      * Update transfer status
      */
     void updateStatus(String endToEndId, String status, int currentVersion);
+
+    /**
+     * Creates a PENDING transfer and reserves its amount in a single database call:
+     * idempotency check, PIX key resolution, balance check under a lock on the source
+     * wallet, reservation entry and transfer insert.
+     *
+     * @return the outcome, or empty when this adapter has no single-call path and the
+     *         caller must run the step-by-step flow
+     */
+    default Optional<CreateOutcome> createPending(CreatePendingCommand command) {
+        return Optional.empty();
+    }
+
+    /**
+     * Whether {@link #createPending} is implemented, so callers can skip opening a write
+     * transaction just to learn that it is not.
+     */
+    default boolean supportsCreatePending() {
+        return false;
+    }
     
     record TransferCommand(
         String endToEndId,
@@ -40,6 +60,41 @@ public interface TransferRepositoryPort {
         String idempotencyKey
     ) {}
     
+    record CreatePendingCommand(
+        String endToEndId,
+        String fromWalletId,
+        String toPixKey,
+        java.math.BigDecimal amount,
+        String currency,
+        String idempotencyKey,
+        String reserveIdempotencyKey
+    ) {}
+
+    /**
+     * @param transfer         the created transfer (CREATED) or the one already under the key (DUPLICATE)
+     * @param availableBalance the source wallet's available balance (INSUFFICIENT_FUNDS)
+     */
+    record CreateOutcome(
+        CreateResultCode code,
+        TransferResult transfer,
+        java.math.BigDecimal availableBalance
+    ) {}
+
+    /**
+     * Declaration order matches the {@code result_code} returned by {@code pix_create_transfer}.
+     */
+    enum CreateResultCode {
+        CREATED,
+        DUPLICATE,
+        SOURCE_WALLET_NOT_FOUND,
+        /** Not found where the call ran; the step-by-step flow gives the authoritative answer. */
+        PIX_KEY_NOT_FOUND,
+        SAME_WALLET,
+        INSUFFICIENT_FUNDS,
+        /** The source wallet needs the step-by-step flow (bucket-sharded balance). */
+        NOT_APPLICABLE
+    }
+
     record TransferResult(
         UUID id,
         String endToEndId,
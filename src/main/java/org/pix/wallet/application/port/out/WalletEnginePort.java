@@ -0,0 +1,63 @@
+package org.pix.wallet.application.port.out;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * In-memory wallet engine (opt-in via {@code pix.engine.enabled}).
+ *
+ * <p>Commands are journaled before they are applied to in-memory balances, so a completed
+ * future means the command survives a restart. Postgres is updated afterwards, in order,
+ * through a {@link Projection}.</p>
+ */
+public interface WalletEnginePort {
+
+    CompletableFuture<Outcome> submit(Command command);
+
+    enum Type { DEPOSIT, WITHDRAW, TRANSFER }
+
+    enum Result { APPLIED, DUPLICATE, INSUFFICIENT_FUNDS }
+
+    /**
+     * @param toWalletId destination wallet (transfers only)
+     * @param endToEndId end-to-end id generated for the transfer (transfers only)
+     */
+    record Command(
+        Type type,
+        UUID walletId,
+        BigDecimal amount,
+        String idempotencyKey,
+        UUID toWalletId,
+        String endToEndId
+    ) {
+        public static Command deposit(UUID walletId, BigDecimal amount, String idempotencyKey) {
+            return new Command(Type.DEPOSIT, walletId, amount, idempotencyKey, null, null);
+        }
+
+        public static Command withdraw(UUID walletId, BigDecimal amount, String idempotencyKey) {
+            return new Command(Type.WITHDRAW, walletId, amount, idempotencyKey, null, null);
+        }
+
+        public static Command transfer(UUID fromWalletId, UUID toWalletId, BigDecimal amount,
+                                       String idempotencyKey, String endToEndId) {
+            return new Command(Type.TRANSFER, fromWalletId, amount, idempotencyKey, toWalletId, endToEndId);
+        }
+    }
+
+    /**
+     * @param endToEndId for a duplicate transfer, the end-to-end id of the original
+     * @param availableBalance available balance after the command (or at rejection)
+     */
+    record Outcome(Result result, String endToEndId, BigDecimal availableBalance) {
+    }
+
+    /**
+     * Writes applied commands to the database. Called from one thread per engine shard, in
+     * journal order, and again for the tail of the journal after a restart, so it must be
+     * idempotent.
+     */
+    interface Projection {
+        void project(Command command);
+    }
+}
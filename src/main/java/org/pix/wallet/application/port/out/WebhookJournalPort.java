@@ -0,0 +1,18 @@
+package org.pix.wallet.application.port.out;
+
+import org.pix.wallet.application.port.in.ProcessPixWebhookUseCase;
+
+/**
+ * Local write-ahead journal for accepted PIX webhooks (opt-in via {@code pix.webhook.journal.enabled}).
+ *
+ * <p>An appended event is as durable as the configured fsync policy makes it and is later
+ * handed to the webhook use case by a background consumer, at least once and in order.</p>
+ */
+public interface WebhookJournalPort {
+
+    /**
+     * @return {@code false} when the journal cannot take the event (full or unwritable);
+     *         the caller then processes it inline
+     */
+    boolean append(ProcessPixWebhookUseCase.Command command);
+}
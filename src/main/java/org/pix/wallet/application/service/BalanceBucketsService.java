@@ -0,0 +1,40 @@
+package org.pix.wallet.application.service;
+
+import org.pix.wallet.application.port.in.ConfigureBalanceBucketsUseCase;
+import org.pix.wallet.application.port.out.BalanceBucketRepositoryPort;
+import org.pix.wallet.domain.model.Wallet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Turns balance sharding on/off for a single (hot) wallet.
+ */
+@Service
+public class BalanceBucketsService implements ConfigureBalanceBucketsUseCase {
+
+    private final WalletOperationValidator validator;
+    private final BalanceBucketRepositoryPort bucketPort;
+    private final int maxBuckets;
+
+    public BalanceBucketsService(WalletOperationValidator validator,
+                                 BalanceBucketRepositoryPort bucketPort,
+                                 @Value("${pix.wallet.balance-buckets.max:64}") int maxBuckets) {
+        this.validator = validator;
+        this.bucketPort = bucketPort;
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    @Transactional
+    public Result execute(Command command) {
+        if (command.buckets() < 1 || command.buckets() > maxBuckets) {
+            throw new IllegalArgumentException("Buckets must be between 1 and " + maxBuckets);
+        }
+        Wallet wallet = validator.validateAndGetActiveWallet(command.walletId());
+
+        bucketPort.configure(wallet.id(), command.buckets());
+
+        return new Result(wallet.id(), command.buckets());
+    }
+}
@@ -0,0 +1,56 @@
+package org.pix.wallet.application.service;
+
+import org.pix.wallet.application.port.in.DepositUseCase;
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.application.port.out.WalletEnginePort;
+import org.pix.wallet.domain.model.Wallet;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link DepositUseCase} on the in-memory wallet engine ({@code pix.engine.enabled}).
+ * Returns once the deposit is journaled; the ledger entry is written asynchronously.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "pix.engine.enabled", havingValue = "true")
+public class EngineDepositService implements DepositUseCase {
+
+    private final WalletOperationValidator validator;
+    private final LedgerEntryRepositoryPort ledgerPort;
+    private final WalletEnginePort walletEngine;
+    private final MetricsService metricsService;
+
+    public EngineDepositService(WalletOperationValidator validator,
+                                LedgerEntryRepositoryPort ledgerPort,
+                                WalletEnginePort walletEngine,
+                                MetricsService metricsService) {
+        this.validator = validator;
+        this.ledgerPort = ledgerPort;
+        this.walletEngine = walletEngine;
+        this.metricsService = metricsService;
+    }
+
+    @Override
+    public Result execute(Command command) {
+        validator.validateAmount(command.amount());
+        validator.validateIdempotencyKey(command.idempotencyKey());
+
+        Wallet wallet = validator.validateAndGetActiveWallet(command.walletId());
+
+        if (ledgerPort.existsByIdempotencyKey(command.idempotencyKey())) {
+            return new Result(wallet.id(), command.idempotencyKey());
+        }
+
+        var outcome = EngineOutcomes.await(walletEngine.submit(
+            WalletEnginePort.Command.deposit(wallet.id(), command.amount(), command.idempotencyKey())));
+
+        if (outcome.result() == WalletEnginePort.Result.APPLIED) {
+            metricsService.recordDepositCompleted();
+        }
+
+        return new Result(wallet.id(), command.idempotencyKey());
+    }
+}
@@ -0,0 +1,26 @@
+package org.pix.wallet.application.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.pix.wallet.application.port.out.WalletEnginePort;
+
+/**
+ * Waits for a wallet engine outcome, surfacing the engine's exception unwrapped.
+ */
+final class EngineOutcomes {
+
+    private EngineOutcomes() {
+    }
+
+    static WalletEnginePort.Outcome await(CompletableFuture<WalletEnginePort.Outcome> outcome) {
+        try {
+            return outcome.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
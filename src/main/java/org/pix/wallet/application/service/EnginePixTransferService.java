@@ -0,0 +1,134 @@
+package org.pix.wallet.application.service;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.in.ProcessPixTransferUseCase;
+import org.pix.wallet.application.port.out.PixKeyRepositoryPort;
+import org.pix.wallet.application.port.out.TransferRepositoryPort;
+import org.pix.wallet.application.port.out.WalletEnginePort;
+import org.pix.wallet.application.port.out.WalletRepositoryPort;
+import org.pix.wallet.domain.exception.InsufficientFundsException;
+import org.pix.wallet.domain.model.PixKey;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.observability.ObservabilityContext;
+import org.pix.wallet.infrastructure.observability.Traced;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * {@link ProcessPixTransferUseCase} on the in-memory wallet engine ({@code pix.engine.enabled}).
+ *
+ * <p>Wallets and the PIX key are resolved from the database as in {@link PixTransferService};
+ * the reservation is then a single engine command on the source wallet's shard. The
+ * transfer row, the reservation entry and the outbox event are written by
+ * {@link EngineProjectionService} shortly after the response, so a webhook for a transfer
+ * created a few milliseconds earlier may not find it yet.</p>
+ */
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(name = "pix.engine.enabled", havingValue = "true")
+public class EnginePixTransferService implements ProcessPixTransferUseCase {
+
+    private final WalletRepositoryPort walletRepositoryPort;
+    private final PixKeyRepositoryPort pixKeyRepositoryPort;
+    private final TransferRepositoryPort transferRepositoryPort;
+    private final WalletEnginePort walletEngine;
+    private final MetricsService metricsService;
+
+    public EnginePixTransferService(WalletRepositoryPort walletRepositoryPort,
+                                    PixKeyRepositoryPort pixKeyRepositoryPort,
+                                    TransferRepositoryPort transferRepositoryPort,
+                                    WalletEnginePort walletEngine,
+                                    MetricsService metricsService) {
+        this.walletRepositoryPort = walletRepositoryPort;
+        this.pixKeyRepositoryPort = pixKeyRepositoryPort;
+        this.transferRepositoryPort = transferRepositoryPort;
+        this.walletEngine = walletEngine;
+        this.metricsService = metricsService;
+    }
+
+    @Override
+    @Traced(operation = "pix.transfer.create", description = "Create PIX transfer")
+    public Result execute(Command command) {
+        validateCommand(command);
+        ObservabilityContext.setOperation("PIX_TRANSFER_CREATE");
+        ObservabilityContext.setWalletId(UUID.fromString(command.fromWalletId()));
+
+        Timer.Sample metricsTimer = metricsService.startTransferCreation();
+
+        try {
+            var existing = transferRepositoryPort.findByIdempotencyKey(command.idempotencyKey());
+            if (existing.isPresent()) {
+                ObservabilityContext.setEndToEndId(existing.get().endToEndId());
+                return new Result(existing.get().endToEndId(), existing.get().status());
+            }
+
+            var sourceWallet = walletRepositoryPort.findById(UUID.fromString(command.fromWalletId()))
+                .orElseThrow(() -> new IllegalArgumentException("Source wallet not found: " + command.fromWalletId()));
+
+            PixKey pixKey = pixKeyRepositoryPort.findByValueAndActive(command.toPixKey())
+                .orElseThrow(() -> new IllegalArgumentException("PIX key not found or inactive: " + command.toPixKey()));
+
+            var destinationWallet = walletRepositoryPort.findById(pixKey.walletId())
+                .orElseThrow(() -> new IllegalArgumentException("Destination wallet not found for PIX key: " + command.toPixKey()));
+
+            if (sourceWallet.id().equals(destinationWallet.id())) {
+                throw new IllegalArgumentException("Cannot transfer to the same wallet");
+            }
+
+            String endToEndId = "E" + UUID.randomUUID().toString().replace("-", "").toUpperCase();
+            var outcome = EngineOutcomes.await(walletEngine.submit(WalletEnginePort.Command.transfer(
+                sourceWallet.id(), destinationWallet.id(), command.amount(), command.idempotencyKey(), endToEndId)));
+
+            return switch (outcome.result()) {
+                case APPLIED -> {
+                    ObservabilityContext.setEndToEndId(endToEndId);
+                    metricsService.recordTransferCreated();
+                    metricsService.recordTransferCreation(metricsTimer);
+                    log.info("PIX transfer accepted by wallet engine",
+                             kv("endToEndId", endToEndId),
+                             kv("fromWallet", sourceWallet.id()),
+                             kv("toWallet", destinationWallet.id()),
+                             kv("amount", command.amount()));
+                    yield new Result(endToEndId, "PENDING");
+                }
+                case DUPLICATE -> {
+                    // Accepted moments ago, not projected yet
+                    ObservabilityContext.setEndToEndId(outcome.endToEndId());
+                    yield new Result(outcome.endToEndId(), "PENDING");
+                }
+                case INSUFFICIENT_FUNDS ->
+                    throw new InsufficientFundsException(outcome.availableBalance(), command.amount());
+            };
+        } catch (InsufficientFundsException e) {
+            metricsService.recordTransferCreationError(metricsTimer, "insufficient_balance");
+            throw e;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            metricsService.recordTransferCreationError(metricsTimer, "business_error");
+            throw e;
+        } finally {
+            ObservabilityContext.clear();
+        }
+    }
+
+    private void validateCommand(Command command) {
+        if (command.amount() == null || command.amount().signum() <= 0) {
+            throw new IllegalArgumentException("Amount must be > 0");
+        }
+        if (command.idempotencyKey() == null || command.idempotencyKey().isBlank()) {
+            throw new IllegalArgumentException("Idempotency-Key required");
+        }
+        if (command.toPixKey() == null || command.toPixKey().isBlank()) {
+            throw new IllegalArgumentException("PIX key is required");
+        }
+        if (command.fromWalletId() == null) {
+            throw new IllegalArgumentException("Source wallet ID is required");
+        }
+    }
+}
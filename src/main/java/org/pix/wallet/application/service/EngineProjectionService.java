@@ -0,0 +1,69 @@
+package org.pix.wallet.application.service;
+
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.application.port.out.OutboxRepositoryPort;
+import org.pix.wallet.application.port.out.TransferRepositoryPort;
+import org.pix.wallet.application.port.out.WalletEnginePort;
+import org.pix.wallet.domain.model.enums.TransferEventType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes commands accepted by the wallet engine to the database, one transaction each,
+ * with the same rows the DB-bound services write. Commands already present (replayed
+ * after a restart) are skipped by their idempotency key.
+ */
+@Service
+@ConditionalOnProperty(name = "pix.engine.enabled", havingValue = "true")
+public class EngineProjectionService implements WalletEnginePort.Projection {
+
+    private final LedgerEntryRepositoryPort ledgerPort;
+    private final TransferRepositoryPort transferRepositoryPort;
+    private final OutboxRepositoryPort outboxRepositoryPort;
+    private final TransactionTemplate transaction;
+
+    public EngineProjectionService(LedgerEntryRepositoryPort ledgerPort,
+                                   TransferRepositoryPort transferRepositoryPort,
+                                   OutboxRepositoryPort outboxRepositoryPort,
+                                   PlatformTransactionManager transactionManager) {
+        this.ledgerPort = ledgerPort;
+        this.transferRepositoryPort = transferRepositoryPort;
+        this.outboxRepositoryPort = outboxRepositoryPort;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void project(WalletEnginePort.Command command) {
+        String walletId = command.walletId().toString();
+        transaction.executeWithoutResult(status -> {
+            switch (command.type()) {
+                case DEPOSIT -> {
+                    if (!ledgerPort.existsByIdempotencyKey(command.idempotencyKey())) {
+                        ledgerPort.deposit(walletId, command.amount(), command.idempotencyKey());
+                    }
+                }
+                case WITHDRAW -> {
+                    if (!ledgerPort.existsByIdempotencyKey(command.idempotencyKey())) {
+                        ledgerPort.withdraw(walletId, command.amount(), command.idempotencyKey());
+                    }
+                }
+                case TRANSFER -> {
+                    if (!transferRepositoryPort.existsByIdempotencyKey(command.idempotencyKey())) {
+                        ledgerPort.reserve(walletId, command.amount(), command.endToEndId() + "-reserve");
+                        var transfer = transferRepositoryPort.save(new TransferRepositoryPort.TransferCommand(
+                            command.endToEndId(),
+                            walletId,
+                            command.toWalletId().toString(),
+                            command.amount(),
+                            "BRL",
+                            "PENDING",
+                            command.idempotencyKey()));
+                        outboxRepositoryPort.append(TransferEvents.of(TransferEventType.TRANSFER_CREATED, transfer, transfer.status()));
+                    }
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package org.pix.wallet.application.service;
+
+import org.pix.wallet.application.port.in.WithdrawUseCase;
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.application.port.out.WalletEnginePort;
+import org.pix.wallet.domain.exception.InsufficientFundsException;
+import org.pix.wallet.domain.model.Wallet;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link WithdrawUseCase} on the in-memory wallet engine ({@code pix.engine.enabled}).
+ * The funds check runs against the engine's balance, serialised per wallet by its shard.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "pix.engine.enabled", havingValue = "true")
+public class EngineWithdrawService implements WithdrawUseCase {
+
+    private final WalletOperationValidator validator;
+    private final LedgerEntryRepositoryPort ledgerPort;
+    private final WalletEnginePort walletEngine;
+    private final MetricsService metricsService;
+
+    public EngineWithdrawService(WalletOperationValidator validator,
+                                 LedgerEntryRepositoryPort ledgerPort,
+                                 WalletEnginePort walletEngine,
+                                 MetricsService metricsService) {
+        this.validator = validator;
+        this.ledgerPort = ledgerPort;
+        this.walletEngine = walletEngine;
+        this.metricsService = metricsService;
+    }
+
+    @Override
+    public Result execute(Command command) {
+        validator.validateAmount(command.amount());
+        validator.validateIdempotencyKey(command.idempotencyKey());
+
+        Wallet wallet = validator.validateAndGetActiveWallet(command.walletId());
+
+        if (ledgerPort.existsByIdempotencyKey(command.idempotencyKey())) {
+            return new Result(wallet.id(), command.idempotencyKey());
+        }
+
+        var outcome = EngineOutcomes.await(walletEngine.submit(
+            WalletEnginePort.Command.withdraw(wallet.id(), command.amount(), command.idempotencyKey())));
+
+        switch (outcome.result()) {
+            case APPLIED -> metricsService.recordWithdrawalCompleted();
+            case INSUFFICIENT_FUNDS -> throw new InsufficientFundsException(outcome.availableBalance(), command.amount());
+            case DUPLICATE -> { }
+        }
+
+        return new Result(wallet.id(), command.idempotencyKey());
+    }
+}
@@ -5,7 +5,9 @@ import java.math.BigDecimal;
 import org.pix.wallet.application.port.in.GetBalanceUseCase;
 import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
 import org.pix.wallet.application.port.out.WalletRepositoryPort;
+import org.pix.wallet.infrastructure.persistence.datasource.ReplicaRead;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class GetBalanceService implements GetBalanceUseCase {
@@ -20,6 +22,8 @@ public class GetBalanceService implements GetBalanceUseCase {
     }
     
   @Override
+  @Transactional(readOnly = true)
+  @ReplicaRead("balance")
   public Result execute(Command command) {
     var wallet = walletPort.findById(command.walletId())
         .orElseThrow(() -> new IllegalArgumentException("Wallet not found"));
@@ -0,0 +1,64 @@
+package org.pix.wallet.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.in.ProcessPixWebhookUseCase;
+import org.pix.wallet.application.port.out.WebhookJournalPort;
+import org.pix.wallet.domain.validator.TransferValidator;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * {@link ProcessPixWebhookUseCase} that acknowledges a webhook once it is in the local
+ * journal ({@code pix.webhook.journal.enabled}), so the PSP gets its answer while the
+ * database is slow or down. {@link PixWebhookService} applies it later.
+ *
+ * <p>Malformed events are still rejected here; when the journal is full or unwritable the
+ * event is processed inline, exactly as without the journal.</p>
+ */
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(name = "pix.webhook.journal.enabled", havingValue = "true")
+public class JournaledWebhookService implements ProcessPixWebhookUseCase {
+
+    private final WebhookJournalPort journal;
+    private final ProcessPixWebhookUseCase inline;
+    private final TransferValidator transferValidator;
+    private final MetricsService metricsService;
+
+    public JournaledWebhookService(WebhookJournalPort journal,
+                                   @Qualifier("pixWebhookService") ProcessPixWebhookUseCase inline,
+                                   TransferValidator transferValidator,
+                                   MetricsService metricsService) {
+        this.journal = journal;
+        this.inline = inline;
+        this.transferValidator = transferValidator;
+        this.metricsService = metricsService;
+    }
+
+    @Override
+    public void execute(Command command) {
+        transferValidator.validateWebhookEvent(
+            command.endToEndId(),
+            command.eventId(),
+            command.eventType(),
+            command.occurredAt()
+        );
+
+        if (journal.append(command)) {
+            metricsService.recordWebhookJournalAppend("journaled");
+            return;
+        }
+
+        log.warn("Webhook journal unavailable, processing inline",
+                 kv("eventId", command.eventId()),
+                 kv("endToEndId", command.endToEndId()));
+        metricsService.recordWebhookJournalAppend("inline");
+        inline.execute(command);
+    }
+}
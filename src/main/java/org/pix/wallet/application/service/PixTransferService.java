@@ -1,29 +1,44 @@
 package org.pix.wallet.application.service;
 
 import io.micrometer.core.instrument.Timer;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.pix.wallet.application.port.in.ProcessPixTransferUseCase;
 import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.application.port.out.OutboxRepositoryPort;
 import org.pix.wallet.application.port.out.PixKeyRepositoryPort;
 import org.pix.wallet.application.port.out.TransferRepositoryPort;
 import org.pix.wallet.application.port.out.WalletRepositoryPort;
+import org.pix.wallet.domain.exception.InsufficientFundsException;
 import org.pix.wallet.domain.model.PixKey;
+import org.pix.wallet.domain.model.Wallet;
+import org.pix.wallet.domain.model.enums.TransferEventType;
+import org.pix.wallet.infrastructure.cache.RecentTransferCache;
+import org.pix.wallet.infrastructure.concurrency.LookupFanOut;
 import org.pix.wallet.infrastructure.observability.ObservabilityContext;
 import org.pix.wallet.infrastructure.observability.MetricsService;
 import org.pix.wallet.infrastructure.observability.Traced;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 import java.util.UUID;
 
 import static net.logstash.logback.argument.StructuredArguments.kv;
 
+/**
+ * Creates PIX transfers in two phases. The resolution phase (idempotency lookup, wallets,
+ * PIX key, available balance) runs outside any transaction, so each lookup borrows a
+ * connection only for its own query and can be answered from a cache. The write phase is
+ * one short READ COMMITTED transaction holding only the reservation, the transfer insert
+ * and its outbox event; the reservation re-checks the balance, so a stale read in the
+ * resolution phase can never overdraw the wallet. The idempotency, source wallet and PIX key
+ * lookups are independent and can run concurrently (see {@link #resolve}).
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PixTransferService implements ProcessPixTransferUseCase {
 
     private final WalletRepositoryPort walletRepositoryPort;
@@ -32,10 +47,37 @@ public class PixTransferService implements ProcessPixTransferUseCase {
     private final LedgerEntryRepositoryPort ledgerEntryRepositoryPort;
     private final MetricsService metricsService;
     private final FundsValidator fundsValidator;
+    private final OutboxRepositoryPort outboxRepositoryPort;
+    private final TransactionTemplate writeTransaction;
+    private final LookupFanOut lookupFanOut;
+    private final RecentTransferCache recentTransferCache;
+    
+    public PixTransferService(
+            WalletRepositoryPort walletRepositoryPort,
+            PixKeyRepositoryPort pixKeyRepositoryPort,
+            TransferRepositoryPort transferRepositoryPort,
+            LedgerEntryRepositoryPort ledgerEntryRepositoryPort,
+            MetricsService metricsService,
+            FundsValidator fundsValidator,
+            OutboxRepositoryPort outboxRepositoryPort,
+            PlatformTransactionManager transactionManager,
+            LookupFanOut lookupFanOut,
+            RecentTransferCache recentTransferCache) {
+        this.walletRepositoryPort = walletRepositoryPort;
+        this.pixKeyRepositoryPort = pixKeyRepositoryPort;
+        this.transferRepositoryPort = transferRepositoryPort;
+        this.ledgerEntryRepositoryPort = ledgerEntryRepositoryPort;
+        this.metricsService = metricsService;
+        this.fundsValidator = fundsValidator;
+        this.outboxRepositoryPort = outboxRepositoryPort;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.lookupFanOut = lookupFanOut;
+        this.recentTransferCache = recentTransferCache;
+    }
     
     @Override
     @Traced(operation = "pix.transfer.create", description = "Create PIX transfer")
-    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Result execute(Command command) {
         ObservabilityContext.setOperation("PIX_TRANSFER_CREATE");
         ObservabilityContext.setWalletId(UUID.fromString(command.fromWalletId()));
@@ -51,13 +93,19 @@ public class PixTransferService implements ProcessPixTransferUseCase {
             
             validateCommand(command);
             
-            if (transferRepositoryPort.existsByIdempotencyKey(command.idempotencyKey())) {
+            Optional<Result> singleCall = createInSingleCall(command, metricsTimer);
+            if (singleCall.isPresent()) {
+                return singleCall.get();
+            }
+            
+            Resolution resolution = resolve(command);
+            
+            if (resolution.existingTransfer().isPresent()) {
                 log.info("Transfer already processed (idempotency check)", 
                          kv("idempotencyKey", command.idempotencyKey()),
                          kv("reason", "duplicate_request"));
                 
-                var existingTransfer = transferRepositoryPort.findByIdempotencyKey(command.idempotencyKey())
-                    .orElseThrow(() -> new IllegalStateException("Transfer exists but not found"));
+                var existingTransfer = resolution.existingTransfer().get();
                 
                 ObservabilityContext.setEndToEndId(existingTransfer.endToEndId());
                 
@@ -68,7 +116,7 @@ public class PixTransferService implements ProcessPixTransferUseCase {
                 return new Result(existingTransfer.endToEndId(), existingTransfer.status());
             }
             
-            var sourceWallet = walletRepositoryPort.findById(UUID.fromString(command.fromWalletId()))
+            var sourceWallet = resolution.sourceWallet().get()
                 .orElseThrow(() -> {
                     log.error("Source wallet not found", 
                               kv("walletId", command.fromWalletId()),
@@ -80,7 +128,7 @@ public class PixTransferService implements ProcessPixTransferUseCase {
                       kv("walletId", sourceWallet.id()),
                       kv("walletStatus", "active"));
             
-            PixKey pixKey = pixKeyRepositoryPort.findByValueAndActive(command.toPixKey())
+            PixKey pixKey = resolution.pixKey().get()
                 .orElseThrow(() -> {
                     log.error("PIX key not found or inactive", 
                               kv("pixKey", command.toPixKey()),
@@ -126,18 +174,6 @@ public class PixTransferService implements ProcessPixTransferUseCase {
             log.debug("Generated End-to-End ID", 
                       kv("endToEndId", endToEndId));
             
-            String reserveIdempotencyKey = endToEndId + "-reserve";
-            ledgerEntryRepositoryPort.reserve(
-                command.fromWalletId(),
-                command.amount(),
-                reserveIdempotencyKey
-            );
-            
-            log.info("Funds reserved for transfer", 
-                     kv("endToEndId", endToEndId),
-                     kv("amount", command.amount()),
-                     kv("walletId", command.fromWalletId()));
-            
             var transferCommand = new TransferRepositoryPort.TransferCommand(
                 endToEndId,
                 command.fromWalletId(),
@@ -148,21 +184,17 @@ public class PixTransferService implements ProcessPixTransferUseCase {
                 command.idempotencyKey()
             );
             
-            TransferRepositoryPort.TransferResult transfer = transferRepositoryPort.save(transferCommand);
+            TransferRepositoryPort.TransferResult transfer = writeTransaction.execute(status -> {
+                ledgerEntryRepositoryPort.reserve(command.fromWalletId(), command.amount(), endToEndId + "-reserve");
+                return appendCreatedEvent(transferRepositoryPort.save(transferCommand));
+            });
             
-            metricsService.recordTransferCreated();
-            metricsService.recordTransferCreation(metricsTimer);
-            
-            log.info("PIX transfer created successfully", 
-                     kv("endToEndId", transfer.endToEndId()),
-                     kv("status", transfer.status()),
-                     kv("fromWallet", transfer.fromWalletId()),
-                     kv("toWallet", transfer.toWalletId()),
-                     kv("amount", transfer.amount()),
-                     kv("currency", transfer.currency()),
-                     kv("fundsReserved", true));
+            log.info("Funds reserved for transfer", 
+                     kv("endToEndId", endToEndId),
+                     kv("amount", command.amount()),
+                     kv("walletId", command.fromWalletId()));
             
-            return new Result(transfer.endToEndId(), transfer.status());
+            return created(transfer, metricsTimer);
             
         } catch (IllegalArgumentException | IllegalStateException e) {
             String errorType = determineErrorType(e);
@@ -180,6 +212,120 @@ public class PixTransferService implements ProcessPixTransferUseCase {
         }
     }
     
+    /**
+     * Single database call path ({@code pix.transfer.single-call.enabled}). Empty when the
+     * adapter has no such path or hands the request back to the step-by-step flow.
+     */
+    private Optional<Result> createInSingleCall(Command command, Timer.Sample metricsTimer) {
+        if (!transferRepositoryPort.supportsCreatePending()) {
+            return Optional.empty();
+        }
+        String endToEndId = generateEndToEndId();
+        var pending = new TransferRepositoryPort.CreatePendingCommand(
+            endToEndId,
+            command.fromWalletId(),
+            command.toPixKey(),
+            command.amount(),
+            "BRL",
+            command.idempotencyKey(),
+            endToEndId + "-reserve"
+        );
+        var outcome = writeTransaction.execute(status -> {
+            var result = transferRepositoryPort.createPending(pending);
+            result.filter(o -> o.code() == TransferRepositoryPort.CreateResultCode.CREATED)
+                .ifPresent(o -> appendCreatedEvent(o.transfer()));
+            return result;
+        });
+        if (outcome.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        metricsService.recordTransferSingleCall(outcome.get().code().name());
+        TransferRepositoryPort.TransferResult transfer = outcome.get().transfer();
+        return switch (outcome.get().code()) {
+            case CREATED -> {
+                ObservabilityContext.setEndToEndId(transfer.endToEndId());
+                yield Optional.of(created(transfer, metricsTimer));
+            }
+            case DUPLICATE -> {
+                log.info("Transfer already processed (idempotency check)", 
+                         kv("idempotencyKey", command.idempotencyKey()),
+                         kv("reason", "duplicate_request"));
+                ObservabilityContext.setEndToEndId(transfer.endToEndId());
+                yield Optional.of(new Result(transfer.endToEndId(), transfer.status()));
+            }
+            case SOURCE_WALLET_NOT_FOUND ->
+                throw new IllegalArgumentException("Source wallet not found: " + command.fromWalletId());
+            case SAME_WALLET -> throw new IllegalArgumentException("Cannot transfer to the same wallet");
+            case INSUFFICIENT_FUNDS ->
+                throw new InsufficientFundsException(outcome.get().availableBalance(), command.amount());
+            case PIX_KEY_NOT_FOUND, NOT_APPLICABLE -> {
+                log.debug("Falling back to step-by-step transfer creation", 
+                          kv("reason", outcome.get().code()));
+                yield Optional.empty();
+            }
+        };
+    }
+    
+    /**
+     * Independent lookups of the resolution phase, forked on {@link LookupFanOut}: with
+     * {@code pix.transfer.parallel-lookups.enabled} they run concurrently and the slowest one
+     * sets the latency; otherwise each runs when first read, so a duplicate request still
+     * stops after the idempotency lookup.
+     */
+    private Resolution resolve(Command command) {
+        try (LookupFanOut.Scope scope = lookupFanOut.open()) {
+            var existingTransfer = scope.fork("idempotency", () -> findExisting(command.idempotencyKey()));
+            var sourceWallet = scope.fork("source_wallet",
+                () -> walletRepositoryPort.findById(UUID.fromString(command.fromWalletId())));
+            var pixKey = scope.fork("pix_key", () -> pixKeyRepositoryPort.findByValueAndActive(command.toPixKey()));
+            scope.join();
+            return new Resolution(existingTransfer.get(), sourceWallet, pixKey);
+        }
+    }
+    
+    private Optional<TransferRepositoryPort.TransferResult> findExisting(String idempotencyKey) {
+        if (!transferRepositoryPort.existsByIdempotencyKey(idempotencyKey)) {
+            return Optional.empty();
+        }
+        return Optional.of(transferRepositoryPort.findByIdempotencyKey(idempotencyKey)
+            .orElseThrow(() -> new IllegalStateException("Transfer exists but not found")));
+    }
+    
+    private record Resolution(
+            Optional<TransferRepositoryPort.TransferResult> existingTransfer,
+            LookupFanOut.Subtask<Optional<Wallet>> sourceWallet,
+            LookupFanOut.Subtask<Optional<PixKey>> pixKey) {
+    }
+    
+    /**
+     * Called inside the write transaction: the event exists iff the transfer does.
+     */
+    private TransferRepositoryPort.TransferResult appendCreatedEvent(TransferRepositoryPort.TransferResult transfer) {
+        outboxRepositoryPort.append(TransferEvents.of(TransferEventType.TRANSFER_CREATED, transfer, transfer.status()));
+        return transfer;
+    }
+    
+    /**
+     * Called after the write transaction committed.
+     */
+    private Result created(TransferRepositoryPort.TransferResult transfer, Timer.Sample metricsTimer) {
+        recentTransferCache.remember(transfer);
+        metricsService.recordTransferCreated();
+        metricsService.recordTransferCreation(metricsTimer);
+        
+        log.info("PIX transfer created successfully", 
+                 kv("endToEndId", transfer.endToEndId()),
+                 kv("status", transfer.status()),
+                 kv("fromWallet", transfer.fromWalletId()),
+                 kv("toWallet", transfer.toWalletId()),
+                 kv("amount", transfer.amount()),
+                 kv("currency", transfer.currency()),
+                 kv("fundsReserved", true));
+        
+        return new Result(transfer.endToEndId(), transfer.status());
+    }
+    
     private String determineErrorType(Exception e) {
         String message = e.getMessage();
         if (message == null) return "unknown";
@@ -4,9 +4,13 @@ import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.pix.wallet.application.port.in.ProcessPixWebhookUseCase;
 import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.application.port.out.OutboxRepositoryPort;
 import org.pix.wallet.application.port.out.TransferRepositoryPort;
 import org.pix.wallet.application.port.out.WebhookInboxRepositoryPort;
+import org.pix.wallet.domain.model.enums.TransferEventType;
+import org.pix.wallet.domain.model.enums.TransferStatus;
 import org.pix.wallet.domain.validator.TransferValidator;
+import org.pix.wallet.infrastructure.cache.RecentTransferCache;
 import org.pix.wallet.infrastructure.observability.ObservabilityContext;
 import org.pix.wallet.domain.exception.InvalidTransferStatusTransitionException;
 import org.pix.wallet.infrastructure.observability.MetricsService;
@@ -29,18 +33,24 @@ public class PixWebhookService implements ProcessPixWebhookUseCase {
     private final LedgerEntryRepositoryPort ledgerEntryRepositoryPort;
     private final TransferValidator transferValidator;
     private final MetricsService metricsService;
+    private final OutboxRepositoryPort outboxRepositoryPort;
+    private final RecentTransferCache recentTransferCache;
     
     public PixWebhookService(
             WebhookInboxRepositoryPort webhookInboxRepositoryPort,
             TransferRepositoryPort transferRepositoryPort,
             LedgerEntryRepositoryPort ledgerEntryRepositoryPort,
             TransferValidator transferValidator,
-            MetricsService metricsService) {
+            MetricsService metricsService,
+            OutboxRepositoryPort outboxRepositoryPort,
+            RecentTransferCache recentTransferCache) {
         this.webhookInboxRepositoryPort = webhookInboxRepositoryPort;
         this.transferRepositoryPort = transferRepositoryPort;
         this.ledgerEntryRepositoryPort = ledgerEntryRepositoryPort;
         this.transferValidator = transferValidator;
         this.metricsService = metricsService;
+        this.outboxRepositoryPort = outboxRepositoryPort;
+        this.recentTransferCache = recentTransferCache;
     }
     
     @Override
@@ -82,7 +92,8 @@ public class PixWebhookService implements ProcessPixWebhookUseCase {
                 return;
             }
             
-            TransferRepositoryPort.TransferResult transfer = transferRepositoryPort.findByEndToEndId(command.endToEndId())
+            TransferRepositoryPort.TransferResult transfer = recentTransferCache.find(command.endToEndId())
+                .or(() -> transferRepositoryPort.findByEndToEndId(command.endToEndId()))
                 .orElseThrow(() -> {
                     log.error("Transfer not found for webhook", 
                               kv("endToEndId", command.endToEndId()),
@@ -103,6 +114,11 @@ public class PixWebhookService implements ProcessPixWebhookUseCase {
             
             String newStatus = processWebhookEvent(command.eventType(), transfer);
             
+            // The update bumps the version whatever the status, so the cached copy is stale
+            // from here on; if the transaction rolls back, the retry reads the database
+            recentTransferCache.forget(command.endToEndId(),
+                TransferStatus.valueOf(newStatus) == TransferStatus.PENDING ? "updated" : "terminal");
+            
             try {
                 transferRepositoryPort.updateStatus(command.endToEndId(), newStatus, transfer.version());
                 log.info("Transfer status updated", 
@@ -133,6 +149,8 @@ public class PixWebhookService implements ProcessPixWebhookUseCase {
                 throw new RuntimeException("Failed to update transfer status", e);
             }
             
+            publishLifecycleEvent(transfer, newStatus);
+            
             var webhookEvent = new WebhookInboxRepositoryPort.WebhookEvent(
                 UUID.randomUUID(),
                 command.endToEndId(),
@@ -170,6 +188,18 @@ public class PixWebhookService implements ProcessPixWebhookUseCase {
         }
     }
     
+    /**
+     * Appends CONFIRMED/REJECTED lifecycle events to the outbox, in the same transaction
+     * as the status update. Repeated or non-terminal events produce nothing.
+     */
+    private void publishLifecycleEvent(TransferRepositoryPort.TransferResult transfer, String newStatus) {
+        TransferStatus target = TransferStatus.valueOf(newStatus);
+        if (target == TransferStatus.PENDING || newStatus.equals(transfer.status())) {
+            return;
+        }
+        outboxRepositoryPort.append(TransferEvents.of(TransferEventType.fromTerminalStatus(target), transfer, newStatus));
+    }
+    
     private String determineWebhookErrorType(Exception e) {
         String message = e.getMessage();
         if (message == null) return "unknown";
@@ -0,0 +1,52 @@
+package org.pix.wallet.application.service;
+
+import java.math.BigDecimal;
+
+import org.pix.wallet.application.port.in.GetBalanceUseCase;
+import org.pix.wallet.application.port.in.ReactiveReadUseCase;
+import org.pix.wallet.application.port.out.ReactiveBalanceQueryPort;
+import org.pix.wallet.application.port.out.ReactiveTransferQueryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive twin of {@link GetBalanceService} plus transfer status lookup.
+ * Mirrors the blocking semantics so both read stacks return the same answers.
+ */
+@Service
+@ConditionalOnProperty(name = "pix.reactive-read.enabled", havingValue = "true")
+public class ReactiveReadService implements ReactiveReadUseCase {
+
+  private final ReactiveBalanceQueryPort balancePort;
+  private final ReactiveTransferQueryPort transferPort;
+
+  public ReactiveReadService(ReactiveBalanceQueryPort balancePort,
+                             ReactiveTransferQueryPort transferPort) {
+    this.balancePort = balancePort;
+    this.transferPort = transferPort;
+  }
+
+  @Override
+  public Mono<GetBalanceUseCase.Result> balance(GetBalanceUseCase.Command command) {
+    var walletId = command.walletId();
+    return balancePort.walletExists(walletId)
+        .flatMap(exists -> {
+          if (!exists) {
+            return Mono.error(new IllegalArgumentException("Wallet not found"));
+          }
+          var balance = command.at() != null
+              ? balancePort.getBalanceAsOf(walletId, command.at())
+              : balancePort.getCurrentBalance(walletId);
+          return balance.defaultIfEmpty(BigDecimal.ZERO)
+              .map(value -> new GetBalanceUseCase.Result(walletId, value));
+        });
+  }
+
+  @Override
+  public Mono<TransferStatusView> transferStatus(String endToEndId) {
+    return transferPort.findByEndToEndId(endToEndId)
+        .map(t -> new TransferStatusView(t.endToEndId(), t.status(), t.amount(), t.currency(), t.createdAt()));
+  }
+}
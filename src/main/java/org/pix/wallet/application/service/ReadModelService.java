@@ -0,0 +1,101 @@
+package org.pix.wallet.application.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.pix.wallet.application.port.in.ReadModelQueryUseCase;
+import org.pix.wallet.application.port.in.RebuildBalancesUseCase;
+import org.pix.wallet.application.port.in.RebuildReadModelUseCase;
+import org.pix.wallet.application.port.out.BalanceRebuildPort;
+import org.pix.wallet.application.port.out.ReadModelQueryPort;
+import org.pix.wallet.application.port.out.ReadModelRebuildPort;
+import org.pix.wallet.infrastructure.persistence.datasource.ReplicaRead;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Query side of the read model. Never touches {@code ledger_entry} or {@code transfer};
+ * the projection and its checkpoint are read in the same transaction, so a replica
+ * that lags simply reports older freshness.
+ */
+@Service
+@ConditionalOnProperty(name = "pix.read-model.enabled", havingValue = "true")
+public class ReadModelService implements ReadModelQueryUseCase, RebuildReadModelUseCase, RebuildBalancesUseCase {
+
+  private final ReadModelQueryPort queryPort;
+  private final ReadModelRebuildPort rebuildPort;
+  private final BalanceRebuildPort balanceRebuildPort;
+  private final int maxHistoryLimit;
+  private final int maxRebuildParallelism;
+
+  public ReadModelService(ReadModelQueryPort queryPort,
+                          ReadModelRebuildPort rebuildPort,
+                          BalanceRebuildPort balanceRebuildPort,
+                          @Value("${pix.read-model.max-history-limit:200}") int maxHistoryLimit,
+                          @Value("${pix.read-model.rebuild.max-parallelism:16}") int maxRebuildParallelism) {
+    this.queryPort = queryPort;
+    this.rebuildPort = rebuildPort;
+    this.balanceRebuildPort = balanceRebuildPort;
+    this.maxHistoryLimit = maxHistoryLimit;
+    this.maxRebuildParallelism = maxRebuildParallelism;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  @ReplicaRead("read-model")
+  public BalanceView balance(UUID walletId) {
+    var freshness = queryPort.freshness(walletId);
+    var balances = queryPort.balance(walletId)
+        .orElse(new ReadModelQueryPort.Balances(BigDecimal.ZERO, BigDecimal.ZERO));
+    return new BalanceView(walletId, balances.balance(), balances.availableBalance(), freshness);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  @ReplicaRead("read-model")
+  public TransferHistoryView transfers(UUID walletId, int limit, Instant before) {
+    if (limit < 1 || limit > maxHistoryLimit) {
+      throw new IllegalArgumentException("limit must be between 1 and " + maxHistoryLimit);
+    }
+    var freshness = queryPort.freshness(walletId);
+    return new TransferHistoryView(walletId, queryPort.transfers(walletId, limit, before), freshness);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  @ReplicaRead("read-model")
+  public DailyTotalsView dailyTotals(UUID walletId, LocalDate from, LocalDate to) {
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("from must not be after to");
+    }
+    var freshness = queryPort.freshness(walletId);
+    return new DailyTotalsView(walletId, queryPort.dailyTotals(walletId, from, to), freshness);
+  }
+
+  @Override
+  public RebuildReadModelUseCase.Result execute(RebuildReadModelUseCase.Command command) {
+    validateParallelism(command.parallelism());
+    return rebuildPort.rebuild(command.parallelism());
+  }
+
+  @Override
+  public Status start(RebuildBalancesUseCase.Command command) {
+    validateParallelism(command.parallelism());
+    return balanceRebuildPort.start(command.parallelism(), command.dryRun());
+  }
+
+  @Override
+  public Status status() {
+    return balanceRebuildPort.status();
+  }
+
+  private void validateParallelism(int parallelism) {
+    if (parallelism < 1 || parallelism > maxRebuildParallelism) {
+      throw new IllegalArgumentException("parallelism must be between 1 and " + maxRebuildParallelism);
+    }
+  }
+}
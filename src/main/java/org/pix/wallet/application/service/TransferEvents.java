@@ -0,0 +1,33 @@
+package org.pix.wallet.application.service;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.pix.wallet.application.port.out.OutboxRepositoryPort.OutboxEvent;
+import org.pix.wallet.application.port.out.TransferRepositoryPort.TransferResult;
+import org.pix.wallet.domain.model.enums.TransferEventType;
+
+/**
+ * Builds outbox events for the transfer lifecycle.
+ * Keeps the payload shape identical across the services that emit them.
+ */
+final class TransferEvents {
+
+    static final String AGGREGATE_TYPE = "TRANSFER";
+
+    private TransferEvents() {
+    }
+
+    static OutboxEvent of(TransferEventType type, TransferResult transfer, String status) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("transferId", String.valueOf(transfer.id()));
+        payload.put("endToEndId", transfer.endToEndId());
+        payload.put("fromWalletId", transfer.fromWalletId());
+        payload.put("toWalletId", transfer.toWalletId());
+        payload.put("amount", transfer.amount().toPlainString());
+        payload.put("currency", transfer.currency());
+        payload.put("status", status);
+        payload.put("occurredAt", Instant.now().toString());
+        return new OutboxEvent(AGGREGATE_TYPE, transfer.endToEndId(), type.name(), payload);
+    }
+}
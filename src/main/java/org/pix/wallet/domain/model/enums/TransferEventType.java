@@ -0,0 +1,19 @@
+package org.pix.wallet.domain.model.enums;
+
+/** Transfer lifecycle events published to downstream systems through the outbox. */
+public enum TransferEventType {
+    TRANSFER_CREATED,
+    TRANSFER_CONFIRMED,
+    TRANSFER_REJECTED;
+
+    /**
+     * Maps a terminal transfer status to its lifecycle event.
+     */
+    public static TransferEventType fromTerminalStatus(TransferStatus status) {
+        return switch (status) {
+            case CONFIRMED -> TRANSFER_CONFIRMED;
+            case REJECTED -> TRANSFER_REJECTED;
+            case PENDING -> throw new IllegalArgumentException("PENDING is not a terminal status");
+        };
+    }
+}
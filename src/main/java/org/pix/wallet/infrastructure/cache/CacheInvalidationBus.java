@@ -0,0 +1,19 @@
+package org.pix.wallet.infrastructure.cache;
+
+/**
+ * Propagates cache invalidations to the other application instances
+ * (opt-in via {@code pix.cache.invalidation.enabled}).
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Makes {@code cache} receive the invalidations other instances publish for its name.
+     */
+    void register(InvalidatableCache cache);
+
+    /**
+     * Tells the other instances to drop {@code key} from {@code cacheName}: after the current
+     * transaction commits, or right away outside one. The caller evicts its own copy.
+     */
+    void publish(String cacheName, String key);
+}
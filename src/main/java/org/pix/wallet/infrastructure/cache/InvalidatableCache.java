@@ -0,0 +1,24 @@
+package org.pix.wallet.infrastructure.cache;
+
+/**
+ * In-process cache whose entries other instances can invalidate through the
+ * {@link CacheInvalidationBus}.
+ */
+public interface InvalidatableCache {
+
+    /**
+     * Name carried by invalidation messages; unique per cache.
+     */
+    String cacheName();
+
+    /**
+     * Drops one entry; {@code key} is the text form the writer published.
+     */
+    void evict(String key);
+
+    /**
+     * Drops everything, including loads already in flight. Called when invalidations may
+     * have been missed (the bus reconnected).
+     */
+    void evictAll();
+}
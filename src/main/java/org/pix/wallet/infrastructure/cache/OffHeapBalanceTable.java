@@ -0,0 +1,372 @@
+package org.pix.wallet.infrastructure.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Open-addressing hash table from wallet id (two longs) to balance cents, reserved cents
+ * and load time, kept in direct memory so tens of millions of wallets add nothing to the
+ * heap the collector has to trace.
+ *
+ * <p>Each slot is one 64-byte line: key state, id, a version word, the two amounts, the
+ * load time and a valid flag. The version is a per-slot seqlock: writers take it by CAS
+ * from even to odd and release it at the next even value, readers never block and retry
+ * when it moved under them. A key, once placed, keeps its slot; invalidation only clears
+ * the valid flag, so probes never see holes and the table holds at most {@code maxEntries}
+ * distinct wallets (load factor at most 0.75). Past that, new wallets are not cached.</p>
+ *
+ * <p>Loads are guarded by the version: {@link #stamp} is taken before reading the database
+ * and {@link #putIfUnchanged} stores only if no invalidation happened since.</p>
+ */
+public final class OffHeapBalanceTable {
+
+    static final int SLOT_BYTES = 64;
+
+    private static final int STATE = 0;
+    private static final int MSB = 8;
+    private static final int LSB = 16;
+    private static final int VERSION = 24;
+    private static final int BALANCE = 32;
+    private static final int RESERVED = 40;
+    private static final int LOADED_AT = 48;
+    private static final int VALID = 56;
+
+    private static final long EMPTY = 0;
+    private static final long CLAIMING = 1;
+    private static final long USED = 2;
+
+    /** 2^24 slots of 64 bytes: one GiB, the most a single buffer can address. */
+    private static final int SEGMENT_SHIFT = 24;
+
+    private static final int SNAPSHOT_MAGIC = 0x50495842; // "PIXB"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    /**
+     * @param loadedAtMillis wall-clock time the amounts were read from the database
+     */
+    public record Balance(long balanceCents, long reservedCents, long loadedAtMillis) {
+
+        public long availableCents() {
+            return balanceCents - reservedCents;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(long idMsb, long idLsb, Balance balance);
+    }
+
+    private final ByteBuffer[] segments;
+    private final long mask;
+    private final long maxEntries;
+    private final AtomicLong size = new AtomicLong();
+
+    public OffHeapBalanceTable(long maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        long capacity = Long.highestOneBit(Math.max(16, maxEntries * 4 / 3) - 1) << 1;
+        long segmentSlots = Math.min(capacity, 1L << SEGMENT_SHIFT);
+        this.segments = new ByteBuffer[(int) (capacity / segmentSlots)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect((int) (segmentSlots * SLOT_BYTES)).order(ByteOrder.nativeOrder());
+        }
+        this.mask = capacity - 1;
+        this.maxEntries = maxEntries;
+    }
+
+    public long capacity() {
+        return mask + 1;
+    }
+
+    public long maxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Distinct wallets placed so far, valid or not.
+     */
+    public long size() {
+        return size.get();
+    }
+
+    public long offHeapBytes() {
+        return capacity() * SLOT_BYTES;
+    }
+
+    /**
+     * @return the cached amounts, or {@code null} when the wallet is absent or invalidated
+     */
+    public Balance get(long idMsb, long idLsb) {
+        long slot = find(idMsb, idLsb);
+        if (slot < 0) {
+            return null;
+        }
+        ByteBuffer segment = segment(slot);
+        int base = offset(slot);
+        while (true) {
+            long before = (long) LONGS.getAcquire(segment, base + VERSION);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long valid = (long) LONGS.getOpaque(segment, base + VALID);
+            long balance = (long) LONGS.getOpaque(segment, base + BALANCE);
+            long reserved = (long) LONGS.getOpaque(segment, base + RESERVED);
+            long loadedAt = (long) LONGS.getOpaque(segment, base + LOADED_AT);
+            VarHandle.loadLoadFence();
+            if ((long) LONGS.getOpaque(segment, base + VERSION) == before) {
+                return valid != 0 ? new Balance(balance, reserved, loadedAt) : null;
+            }
+        }
+    }
+
+    /**
+     * Places the wallet if needed and returns its current version, to be passed to
+     * {@link #putIfUnchanged} once the amounts are read; -1 when the table is full or the
+     * slot is being written (the caller then does not cache).
+     */
+    public long stamp(long idMsb, long idLsb) {
+        long slot = findOrClaim(idMsb, idLsb);
+        if (slot < 0) {
+            return -1;
+        }
+        long version = (long) LONGS.getAcquire(segment(slot), offset(slot) + VERSION);
+        return (version & 1) == 0 ? version : -1;
+    }
+
+    /**
+     * Stores the amounts if the slot was not written or invalidated since {@code stamp}.
+     */
+    public boolean putIfUnchanged(long idMsb, long idLsb, long stamp, long balanceCents, long reservedCents,
+                                  long loadedAtMillis) {
+        if (stamp < 0) {
+            return false;
+        }
+        long slot = find(idMsb, idLsb);
+        if (slot < 0) {
+            return false;
+        }
+        ByteBuffer segment = segment(slot);
+        int base = offset(slot);
+        if (!LONGS.compareAndSet(segment, base + VERSION, stamp, stamp + 1)) {
+            return false;
+        }
+        LONGS.setOpaque(segment, base + BALANCE, balanceCents);
+        LONGS.setOpaque(segment, base + RESERVED, reservedCents);
+        LONGS.setOpaque(segment, base + LOADED_AT, loadedAtMillis);
+        LONGS.setOpaque(segment, base + VALID, 1L);
+        LONGS.setRelease(segment, base + VERSION, stamp + 2);
+        return true;
+    }
+
+    /**
+     * Clears the wallet's amounts and moves its version, so loads stamped earlier are dropped.
+     */
+    public void invalidate(long idMsb, long idLsb) {
+        long slot = find(idMsb, idLsb);
+        if (slot >= 0) {
+            invalidateSlot(slot);
+        }
+    }
+
+    public void invalidateAll() {
+        for (long slot = 0; slot <= mask; slot++) {
+            if ((long) LONGS.getAcquire(segment(slot), offset(slot) + STATE) == USED) {
+                invalidateSlot(slot);
+            }
+        }
+    }
+
+    /**
+     * Visits every valid entry; entries written meanwhile may or may not be seen.
+     */
+    public void forEach(Visitor visitor) {
+        for (long slot = 0; slot <= mask; slot++) {
+            ByteBuffer segment = segment(slot);
+            int base = offset(slot);
+            if ((long) LONGS.getAcquire(segment, base + STATE) == USED) {
+                long idMsb = (long) LONGS.getOpaque(segment, base + MSB);
+                long idLsb = (long) LONGS.getOpaque(segment, base + LSB);
+                Balance balance = get(idMsb, idLsb);
+                if (balance != null) {
+                    visitor.visit(idMsb, idLsb, balance);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the valid entries to a temporary file, forces it and renames it over
+     * {@code file}, so a crash leaves the previous snapshot or the new one.
+     *
+     * @return entries written
+     */
+    public long writeSnapshot(Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        long[] written = new long[1];
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            IOException[] failure = new IOException[1];
+            forEach((idMsb, idLsb, balance) -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    out.writeLong(idMsb);
+                    out.writeLong(idLsb);
+                    out.writeLong(balance.balanceCents());
+                    out.writeLong(balance.reservedCents());
+                    out.writeLong(balance.loadedAtMillis());
+                    written[0]++;
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written[0];
+    }
+
+    /**
+     * Restores the entries of {@code file} loaded at or after {@code notBeforeMillis}; older
+     * ones would be expired anyway. A missing file restores nothing.
+     *
+     * @return entries restored
+     */
+    public long loadSnapshot(Path file, long notBeforeMillis) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        long restored = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Not a balance table snapshot: " + file);
+            }
+            while (in.available() > 0) {
+                long idMsb = in.readLong();
+                long idLsb = in.readLong();
+                long balance = in.readLong();
+                long reserved = in.readLong();
+                long loadedAt = in.readLong();
+                if (loadedAt >= notBeforeMillis
+                        && putIfUnchanged(idMsb, idLsb, stamp(idMsb, idLsb), balance, reserved, loadedAt)) {
+                    restored++;
+                }
+            }
+        }
+        return restored;
+    }
+
+    private void invalidateSlot(long slot) {
+        ByteBuffer segment = segment(slot);
+        int base = offset(slot);
+        while (true) {
+            long version = (long) LONGS.getAcquire(segment, base + VERSION);
+            if ((version & 1) == 0 && LONGS.compareAndSet(segment, base + VERSION, version, version + 1)) {
+                LONGS.setOpaque(segment, base + VALID, 0L);
+                LONGS.setRelease(segment, base + VERSION, version + 2);
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * @return the wallet's slot, or -1 when it was never placed
+     */
+    private long find(long idMsb, long idLsb) {
+        for (long slot = home(idMsb, idLsb); ; slot = (slot + 1) & mask) {
+            long state = awaitPlaced(slot);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (matches(slot, idMsb, idLsb)) {
+                return slot;
+            }
+        }
+    }
+
+    private long findOrClaim(long idMsb, long idLsb) {
+        for (long slot = home(idMsb, idLsb); ; slot = (slot + 1) & mask) {
+            long state = awaitPlaced(slot);
+            if (state == EMPTY) {
+                if (size.get() >= maxEntries) {
+                    return -1;
+                }
+                ByteBuffer segment = segment(slot);
+                int base = offset(slot);
+                if (!LONGS.compareAndSet(segment, base + STATE, EMPTY, CLAIMING)) {
+                    // Taken meanwhile: look at it again
+                    slot = (slot - 1) & mask;
+                    continue;
+                }
+                LONGS.setOpaque(segment, base + MSB, idMsb);
+                LONGS.setOpaque(segment, base + LSB, idLsb);
+                LONGS.setRelease(segment, base + STATE, USED);
+                size.incrementAndGet();
+                return slot;
+            }
+            if (matches(slot, idMsb, idLsb)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * State of the slot, waiting out a key being written into it.
+     */
+    private long awaitPlaced(long slot) {
+        ByteBuffer segment = segment(slot);
+        int base = offset(slot);
+        long state;
+        while ((state = (long) LONGS.getAcquire(segment, base + STATE)) == CLAIMING) {
+            Thread.onSpinWait();
+        }
+        return state;
+    }
+
+    private boolean matches(long slot, long idMsb, long idLsb) {
+        ByteBuffer segment = segment(slot);
+        int base = offset(slot);
+        return (long) LONGS.getOpaque(segment, base + MSB) == idMsb
+            && (long) LONGS.getOpaque(segment, base + LSB) == idLsb;
+    }
+
+    private long home(long idMsb, long idLsb) {
+        long h = (idMsb ^ idLsb) * 0x9E3779B97F4A7C15L;
+        return (h ^ (h >>> 32)) & mask;
+    }
+
+    private ByteBuffer segment(long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)];
+    }
+
+    private static int offset(long slot) {
+        return (int) (slot & ((1L << SEGMENT_SHIFT) - 1)) * SLOT_BYTES;
+    }
+}
@@ -0,0 +1,214 @@
+package org.pix.wallet.infrastructure.cache;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link CacheInvalidationBus} over Postgres {@code LISTEN/NOTIFY} on the
+ * {@value #CHANNEL} channel, so several instances can keep in-process caches without Redis.
+ *
+ * <p>Writers send {@code pg_notify} once their transaction has committed, on a connection of
+ * their own so the notification never joins a transaction. Each instance keeps one dedicated
+ * listening connection, polled by a single thread that evicts from the registered caches.</p>
+ *
+ * <p>Postgres does not queue notifications for a listener that is gone, so every (re)connect
+ * bumps the epoch and empties every registered cache: whatever was missed while
+ * disconnected is reloaded. Messages from this instance are skipped; it evicted already.</p>
+ */
+@Slf4j
+public class PgNotifyInvalidationBus implements CacheInvalidationBus, SmartLifecycle {
+
+    public static final String CHANNEL = "pix_cache_invalidation";
+
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+
+    /**
+     * Listening connections are opened through this, one at a time.
+     */
+    @FunctionalInterface
+    public interface Connector {
+        Connection open() throws SQLException;
+    }
+
+    /**
+     * @param version per-origin sequence, increasing with every message the origin sends
+     * @param sentAt  epoch millis when the origin sent it (invalidation lag)
+     */
+    record Invalidation(String cache, String key, String origin, long version, long sentAt) {
+    }
+
+    private final Connector connector;
+    private final JdbcTemplate publisher;
+    private final ObjectMapper objectMapper;
+    private final MetricsService metricsService;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, InvalidatableCache> caches = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong epoch = new AtomicLong();
+    private volatile boolean running;
+    private Thread listener;
+
+    public PgNotifyInvalidationBus(Connector connector, JdbcTemplate publisher, ObjectMapper objectMapper,
+                                   MetricsService metricsService) {
+        this.connector = connector;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.metricsService = metricsService;
+        metricsService.registerCacheInvalidationEpoch(epoch::get);
+    }
+
+    @Override
+    public void register(InvalidatableCache cache) {
+        caches.put(cache.cacheName(), cache);
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        send(cacheName, key);
+                    }
+                }
+            });
+        } else {
+            send(cacheName, key);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = new Thread(this::listenLoop, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            try {
+                listener.join(POLL_TIMEOUT_MS * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    long epoch() {
+        return epoch.get();
+    }
+
+    private void send(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new Invalidation(cacheName, key, instanceId,
+                version.incrementAndGet(), System.currentTimeMillis()));
+            publisher.queryForList("SELECT pg_notify(?, ?)", CHANNEL, payload);
+            metricsService.recordCacheInvalidationPublished(cacheName);
+        } catch (JsonProcessingException | DataAccessException e) {
+            // Other instances keep the entry until it expires
+            log.warn("Cannot publish invalidation of {} in {}", key, cacheName, e);
+            metricsService.recordCacheInvalidationPublishFailure(cacheName);
+            if (publisher.getDataSource() instanceof SingleConnectionDataSource dataSource) {
+                dataSource.resetConnection();
+            }
+        }
+    }
+
+    private void listenLoop() {
+        Duration backoff = Duration.ofMillis(100);
+        while (running) {
+            try (Connection connection = connector.open()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                resync();
+                backoff = Duration.ofMillis(100);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, reconnecting in {}", backoff, e);
+                metricsService.recordCacheInvalidationReconnect();
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException ie) {
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    /**
+     * Starts a new epoch: invalidations sent while no connection was listening are lost, so
+     * nothing cached before this point can be trusted.
+     */
+    void resync() {
+        long current = epoch.incrementAndGet();
+        caches.values().forEach(InvalidatableCache::evictAll);
+        log.info("Cache invalidation listener connected, epoch {} ({} caches emptied)", current, caches.size());
+    }
+
+    void dispatch(String payload) {
+        Invalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(payload, Invalidation.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+        if (instanceId.equals(invalidation.origin())) {
+            return;
+        }
+        InvalidatableCache cache = caches.get(invalidation.cache());
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evict(invalidation.key());
+        } catch (RuntimeException e) {
+            log.warn("Cannot apply invalidation of {} in {}", invalidation.key(), invalidation.cache(), e);
+            return;
+        }
+        metricsService.recordCacheInvalidationReceived(invalidation.cache(),
+            Duration.ofMillis(Math.max(0, System.currentTimeMillis() - invalidation.sentAt())));
+    }
+}
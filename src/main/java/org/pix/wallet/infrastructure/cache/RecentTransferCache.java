@@ -0,0 +1,155 @@
+package org.pix.wallet.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.pix.wallet.application.port.out.TransferRepositoryPort.TransferResult;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+
+/**
+ * PENDING transfers created by this instance in the last {@code window}, by end-to-end id, so
+ * the settlement webhook that usually follows within seconds skips the lookup by
+ * {@code end_to_end_id}.
+ *
+ * <p>Entries are added once the creating transaction has committed and kept in insertion
+ * order, which is also age order: expired entries are dropped from the head on every access,
+ * and at {@code maxSize} the oldest one makes room. The webhook drops the entry before it
+ * changes the transfer, whatever the outcome, because every status update bumps the version;
+ * a retry then reads the database. With the {@link CacheInvalidationBus} the other instances
+ * drop their copy too; without it, an entry that went stale elsewhere fails the optimistic
+ * version check and is dropped the same way.</p>
+ */
+public class RecentTransferCache implements InvalidatableCache {
+
+    static final String CACHE_NAME = "transfer";
+
+    private record Entry(TransferResult transfer, long storedAt) {
+    }
+
+    private final int maxSize;
+    private final long windowNanos;
+    private final MetricsService metricsService;
+    private final CacheInvalidationBus bus;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public RecentTransferCache(int maxSize, Duration window, MetricsService metricsService, CacheInvalidationBus bus) {
+        this.maxSize = maxSize;
+        this.windowNanos = window.toNanos();
+        this.metricsService = metricsService;
+        this.bus = bus;
+        if (metricsService != null) {
+            metricsService.registerRecentTransferCacheSize(this::size);
+        }
+        if (bus != null) {
+            bus.register(this);
+        }
+    }
+
+    /**
+     * Keeps nothing; every lookup goes to the database.
+     */
+    public static RecentTransferCache disabled() {
+        return new RecentTransferCache(0, Duration.ZERO, null, null);
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Called after the transfer's transaction committed; only PENDING transfers are kept.
+     */
+    public void remember(TransferResult transfer) {
+        if (!isEnabled() || !"PENDING".equals(transfer.status())) {
+            return;
+        }
+        long now = System.nanoTime();
+        synchronized (entries) {
+            expire(now);
+            if (entries.size() >= maxSize && !entries.containsKey(transfer.endToEndId())) {
+                removeEldest("capacity");
+            }
+            entries.put(transfer.endToEndId(), new Entry(transfer, now));
+        }
+    }
+
+    public Optional<TransferResult> find(String endToEndId) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Entry entry;
+        synchronized (entries) {
+            expire(System.nanoTime());
+            entry = entries.get(endToEndId);
+        }
+        metricsService.recordRecentTransferLookup(entry != null ? "hit" : "miss");
+        return entry != null ? Optional.of(entry.transfer()) : Optional.empty();
+    }
+
+    /**
+     * Drops the transfer here and, through the bus, on the other instances once the current
+     * transaction commits. {@code reason} tags the eviction metric.
+     */
+    public void forget(String endToEndId, String reason) {
+        if (!isEnabled()) {
+            return;
+        }
+        remove(endToEndId, reason);
+        if (bus != null) {
+            bus.publish(CACHE_NAME, endToEndId);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evict(String endToEndId) {
+        remove(endToEndId, "remote");
+    }
+
+    @Override
+    public void evictAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private void remove(String endToEndId, String reason) {
+        Entry removed;
+        synchronized (entries) {
+            removed = entries.remove(endToEndId);
+        }
+        if (removed != null) {
+            metricsService.recordRecentTransferEviction(reason);
+        }
+    }
+
+    private void expire(long now) {
+        Iterator<Map.Entry<String, Entry>> oldest = entries.entrySet().iterator();
+        while (oldest.hasNext() && now - oldest.next().getValue().storedAt() > windowNanos) {
+            oldest.remove();
+            metricsService.recordRecentTransferEviction("expired");
+        }
+    }
+
+    private void removeEldest(String reason) {
+        Iterator<String> oldest = entries.keySet().iterator();
+        if (oldest.hasNext()) {
+            oldest.next();
+            oldest.remove();
+            metricsService.recordRecentTransferEviction(reason);
+        }
+    }
+}
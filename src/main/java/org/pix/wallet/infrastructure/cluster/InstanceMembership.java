@@ -0,0 +1,118 @@
+package org.pix.wallet.infrastructure.cluster;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardMap;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Membership ring of application instances, kept in the {@code app_instance} table.
+ *
+ * <p>Every heartbeat upserts this instance and reloads the members seen within the TTL;
+ * wallets are then assigned to instances with the same consistent-hash ring used for
+ * database shards, so an instance joining or leaving only moves its share of wallets.
+ * Members disagree only for about one heartbeat after a change; the affinity filter
+ * tolerates that by never forwarding a request twice.</p>
+ */
+@Slf4j
+public class InstanceMembership implements DisposableBean {
+
+    // Only this instance writes its own row, so update-then-insert cannot race
+    private static final String TOUCH_SQL = "UPDATE app_instance SET base_url = ?, heartbeat_at = ? WHERE instance_id = ?";
+    private static final String REGISTER_SQL = "INSERT INTO app_instance (instance_id, base_url, heartbeat_at) VALUES (?, ?, ?)";
+    private static final String PRUNE_SQL = "DELETE FROM app_instance WHERE heartbeat_at < ?";
+
+    private static final String MEMBERS_SQL = """
+        SELECT instance_id, base_url
+        FROM app_instance
+        WHERE heartbeat_at >= ?
+        ORDER BY instance_id
+        """;
+
+    private record Ring(ShardMap map, Map<String, String> urls) {}
+
+    private final JdbcTemplate jdbc;
+    private final String instanceId;
+    private final String baseUrl;
+    private final Duration memberTtl;
+    private final int virtualNodes;
+    private final Clock clock;
+    private volatile Ring ring;
+
+    public InstanceMembership(JdbcTemplate jdbc, String instanceId, String baseUrl, Duration memberTtl,
+                              int virtualNodes, MetricsService metricsService, Clock clock) {
+        this.jdbc = jdbc;
+        this.instanceId = instanceId;
+        this.baseUrl = baseUrl;
+        this.memberTtl = memberTtl;
+        this.virtualNodes = virtualNodes;
+        this.clock = clock;
+        this.ring = new Ring(new ShardMap(List.of(instanceId), virtualNodes), Map.of(instanceId, baseUrl));
+        metricsService.registerAffinityMembers(() -> ring.urls().size());
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    @Scheduled(fixedDelayString = "${pix.affinity.heartbeat-interval-ms:1000}")
+    public void heartbeat() {
+        Instant now = clock.instant();
+        try {
+            if (jdbc.update(TOUCH_SQL, baseUrl, Timestamp.from(now), instanceId) == 0) {
+                jdbc.update(REGISTER_SQL, instanceId, baseUrl, Timestamp.from(now));
+            }
+            jdbc.update(PRUNE_SQL, Timestamp.from(now.minus(memberTtl.multipliedBy(10))));
+            Map<String, String> members = jdbc.query(MEMBERS_SQL,
+                    (rs, i) -> Map.entry(rs.getString("instance_id"), rs.getString("base_url")),
+                    Timestamp.from(now.minus(memberTtl)))
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, TreeMap::new));
+            members.putIfAbsent(instanceId, baseUrl);
+            if (!members.equals(ring.urls())) {
+                log.info("Affinity ring changed", kv("instanceId", instanceId), kv("members", members.keySet()));
+                ring = new Ring(new ShardMap(List.copyOf(members.keySet()), virtualNodes), Map.copyOf(members));
+            }
+        } catch (RuntimeException e) {
+            // Keep the last known ring; requests are still served locally when in doubt
+            log.warn("Affinity heartbeat failed", kv("instanceId", instanceId), kv("errorMessage", e.getMessage()));
+        }
+    }
+
+    public boolean isOwner(UUID walletId) {
+        return instanceId.equals(ring.map().shardFor(walletId));
+    }
+
+    /**
+     * @return the owner's base URL, or empty when this instance owns the wallet
+     */
+    public Optional<String> ownerUrl(UUID walletId) {
+        Ring current = ring;
+        String owner = current.map().shardFor(walletId);
+        return instanceId.equals(owner) ? Optional.empty() : Optional.ofNullable(current.urls().get(owner));
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            jdbc.update("DELETE FROM app_instance WHERE instance_id = ?", instanceId);
+        } catch (RuntimeException e) {
+            log.debug("Could not deregister instance {}: {}", instanceId, e.getMessage());
+        }
+    }
+}
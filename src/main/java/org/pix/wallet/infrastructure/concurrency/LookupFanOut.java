@@ -0,0 +1,162 @@
+package org.pix.wallet.infrastructure.concurrency;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.pix.wallet.infrastructure.observability.ObservabilityContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Runs the independent lookups of one request concurrently, so the slowest one sets the
+ * latency instead of their sum.
+ *
+ * <p>A {@link Scope} is the Java 17 counterpart of {@code StructuredTaskScope.ShutdownOnFailure}:
+ * subtasks are forked, {@link Scope#join()} waits for all of them and rethrows the first
+ * failure, and the first failure (or closing the scope) cancels whatever is still running.
+ * Each subtask runs with the caller's MDC, under its own {@code pix.lookup} span parented to
+ * the caller's, and borrows its own pooled connection, so it must not rely on the caller's
+ * transaction.</p>
+ *
+ * <p>Without an executor ({@link #sequential}) subtasks run lazily on the caller's thread
+ * when first read, in the order the caller reads them.</p>
+ */
+public class LookupFanOut {
+
+    private final AsyncTaskExecutor executor;
+    private final ObservationRegistry observationRegistry;
+
+    public LookupFanOut(AsyncTaskExecutor executor, ObservationRegistry observationRegistry) {
+        this.executor = executor;
+        this.observationRegistry = observationRegistry;
+    }
+
+    public static LookupFanOut sequential(ObservationRegistry observationRegistry) {
+        return new LookupFanOut(null, observationRegistry);
+    }
+
+    public boolean isParallel() {
+        return executor != null;
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    /**
+     * Result of a forked lookup; read it only after {@link Scope#join()}.
+     */
+    @FunctionalInterface
+    public interface Subtask<T> {
+        T get();
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final List<Future<?>> tasks = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        private final Observation parent = observationRegistry.getCurrentObservation();
+
+        private Scope() {
+        }
+
+        public <T> Subtask<T> fork(String lookup, Supplier<T> work) {
+            if (executor == null) {
+                return new Lazy<>(() -> observed(lookup, work));
+            }
+            Future<T> future = executor.submit(ObservabilityContext.wrap(() -> {
+                try {
+                    return observed(lookup, work);
+                } catch (RuntimeException | Error e) {
+                    if (firstFailure.compareAndSet(null, e)) {
+                        cancelAll();
+                    }
+                    throw e;
+                }
+            }));
+            tasks.add(future);
+            if (firstFailure.get() != null) {
+                future.cancel(true);
+            }
+            return () -> resultOf(future);
+        }
+
+        /**
+         * Waits for every subtask; rethrows the first failure.
+         */
+        public void join() {
+            for (Future<?> task : tasks) {
+                try {
+                    task.get();
+                } catch (ExecutionException | CancellationException e) {
+                    // The cause is in firstFailure
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelAll();
+                    throw new IllegalStateException("Interrupted while waiting for lookups", e);
+                }
+            }
+            Throwable failure = firstFailure.get();
+            if (failure instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            tasks.forEach(task -> task.cancel(true));
+        }
+
+        private <T> T observed(String lookup, Supplier<T> work) {
+            return Observation.createNotStarted("pix.lookup", observationRegistry)
+                .parentObservation(parent)
+                .lowCardinalityKeyValue("lookup", lookup)
+                .observe(work);
+        }
+
+        private <T> T resultOf(Future<T> future) {
+            if (!future.isDone()) {
+                throw new IllegalStateException("Subtask read before join()");
+            }
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class Lazy<T> implements Subtask<T> {
+
+        private Supplier<T> work;
+        private T value;
+
+        private Lazy(Supplier<T> work) {
+            this.work = work;
+        }
+
+        @Override
+        public T get() {
+            if (work != null) {
+                value = work.get();
+                work = null;
+            }
+            return value;
+        }
+    }
+}
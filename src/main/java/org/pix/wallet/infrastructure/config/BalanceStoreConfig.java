@@ -0,0 +1,82 @@
+package org.pix.wallet.infrastructure.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.infrastructure.cache.OffHeapBalanceTable;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Off-heap balance store (opt-in via {@code pix.ledger.balance-store.enabled}).
+ *
+ * <p>The table takes {@code capacity} x 64 bytes x 4/3 of direct memory, rounded up to a
+ * power of two (10M wallets: 1 GiB), allocated up front; size {@code -XX:MaxDirectMemorySize}
+ * for it. When {@code snapshot-file} is set the valid entries are written there on shutdown
+ * and read back on start, keeping their original load time, so a quick restart does not
+ * begin cold and nothing older than {@code ttl} is served.</p>
+ *
+ * <p>Not combined with group commit, whose deposits commit on the writer thread and would
+ * not invalidate the table, nor with the wallet engine, which owns balances and must load
+ * them from the database.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "pix.ledger.balance-store.enabled", havingValue = "true")
+public class BalanceStoreConfig implements DisposableBean {
+
+    private OffHeapBalanceTable table;
+    private Path snapshotFile;
+
+    @Bean
+    OffHeapBalanceTable offHeapBalanceTable(
+            Environment environment,
+            MetricsService metricsService,
+            @Value("${pix.ledger.balance-store.capacity:1000000}") long capacity,
+            @Value("${pix.ledger.balance-store.ttl:5s}") Duration ttl,
+            @Value("${pix.ledger.balance-store.snapshot-file:}") String snapshotFile) {
+        for (String conflicting : List.of("pix.ledger.group-commit.enabled", "pix.engine.enabled")) {
+            if (environment.getProperty(conflicting, Boolean.class, false)) {
+                throw new IllegalStateException("pix.ledger.balance-store.enabled cannot be combined with " + conflicting);
+            }
+        }
+        this.table = new OffHeapBalanceTable(capacity);
+        metricsService.registerBalanceStore(table::size, table::offHeapBytes);
+        if (!snapshotFile.isBlank()) {
+            this.snapshotFile = Path.of(snapshotFile);
+            try {
+                long restored = table.loadSnapshot(this.snapshotFile, System.currentTimeMillis() - ttl.toMillis());
+                log.info("Balance store restored {} entries from {}", restored, this.snapshotFile);
+            } catch (IOException e) {
+                log.warn("Balance store snapshot {} unreadable, starting cold", this.snapshotFile, e);
+            }
+        }
+        return table;
+    }
+
+    @Override
+    public void destroy() {
+        if (table == null || snapshotFile == null) {
+            return;
+        }
+        try {
+            Path parent = snapshotFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            long written = table.writeSnapshot(snapshotFile);
+            log.info("Balance store wrote {} entries to {}", written, snapshotFile);
+        } catch (IOException e) {
+            log.warn("Balance store snapshot {} not written", snapshotFile, e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.pix.wallet.infrastructure.config;
+
+import java.sql.DriverManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.pix.wallet.infrastructure.cache.PgNotifyInvalidationBus;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Cross-instance cache invalidation over Postgres {@code LISTEN/NOTIFY}
+ * (opt-in via {@code pix.cache.invalidation.enabled}).
+ *
+ * <p>Both connections are physical ones outside Hikari, as for the group-commit writer: the
+ * listener holds its connection for good, and notifications are sent after the writer's
+ * transaction completes, when its pooled connection is still bound but must not be reused.
+ * The channel lives on the primary database (shard-0), which every instance reaches.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "pix.cache.invalidation.enabled", havingValue = "true")
+public class CacheInvalidationConfig implements DisposableBean {
+
+    private SingleConnectionDataSource publisherConnection;
+
+    @Bean
+    PgNotifyInvalidationBus cacheInvalidationBus(DataSourceProperties dataSourceProperties,
+                                                 ObjectMapper objectMapper,
+                                                 MetricsService metricsService) {
+        String url = dataSourceProperties.determineUrl();
+        String username = dataSourceProperties.determineUsername();
+        String password = dataSourceProperties.determinePassword();
+        this.publisherConnection = new SingleConnectionDataSource(url, username, password, true);
+        return new PgNotifyInvalidationBus(() -> DriverManager.getConnection(url, username, password),
+            new JdbcTemplate(publisherConnection), objectMapper, metricsService);
+    }
+
+    @Override
+    public void destroy() {
+        if (publisherConnection != null) {
+            publisherConnection.destroy();
+        }
+    }
+}
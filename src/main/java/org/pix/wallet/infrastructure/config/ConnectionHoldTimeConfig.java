@@ -0,0 +1,64 @@
+package org.pix.wallet.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.datasource.ConnectionHoldTimeDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps the application's pooled DataSources with {@link ConnectionHoldTimeDataSource}
+ * ({@code pix.datasource.hold-time.enabled}, on by default).
+ *
+ * <p>The post-processor is deliberately unordered, so it runs after the ordered connection
+ * limiter ({@link VirtualThreadConfig}) and the measured time excludes the limiter wait.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "pix.datasource.hold-time.enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionHoldTimeConfig {
+
+    @Bean
+    static BeanPostProcessor connectionHoldTimePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || isWrapperFor(dataSource, ConnectionHoldTimeDataSource.class)
+                        || !isWrapperFor(dataSource, HikariDataSource.class)) {
+                    return bean;
+                }
+                log.info("Recording connection hold time for DataSource '{}'", beanName);
+                return new ConnectionHoldTimeDataSource(dataSource);
+            }
+        };
+    }
+
+    @Bean
+    SmartInitializingSingleton connectionHoldTimeMetricsBinder(ObjectProvider<DataSource> dataSources,
+                                                               MetricsService metricsService) {
+        return () -> dataSources.orderedStream().forEach(dataSource -> {
+            try {
+                if (dataSource.isWrapperFor(ConnectionHoldTimeDataSource.class)) {
+                    dataSource.unwrap(ConnectionHoldTimeDataSource.class).bindMetrics(metricsService);
+                }
+            } catch (SQLException e) {
+                log.warn("Could not bind connection hold-time metrics: {}", e.getMessage());
+            }
+        });
+    }
+
+    private static boolean isWrapperFor(DataSource dataSource, Class<?> type) {
+        try {
+            return type.isInstance(dataSource) || dataSource.isWrapperFor(type);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
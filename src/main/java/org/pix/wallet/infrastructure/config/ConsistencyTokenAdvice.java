@@ -0,0 +1,59 @@
+package org.pix.wallet.infrastructure.config;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Anexa o token de consistência às respostas de escrita bem-sucedidas.
+ *
+ * <p>Executa depois que o caso de uso retornou (transação já commitada) e antes do
+ * corpo ser escrito, quando os headers ainda podem ser alterados. Custa uma consulta
+ * {@code pg_current_wal_lsn()} no primário por escrita.</p>
+ */
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnProperty(name = "pix.datasource.replicas.enabled", havingValue = "true")
+public class ConsistencyTokenAdvice implements ResponseBodyAdvice<Object> {
+
+    private final JdbcTemplate primary;
+
+    public ConsistencyTokenAdvice(DataSource dataSource) {
+        this.primary = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod())) {
+            return body;
+        }
+        if (response instanceof ServletServerHttpResponse servlet && servlet.getServletResponse().getStatus() >= 300) {
+            return body;
+        }
+        try {
+            String lsn = primary.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+            response.getHeaders().set(ConsistencyTokenFilter.CONSISTENCY_TOKEN_HEADER, lsn);
+        } catch (RuntimeException e) {
+            log.warn("Could not read primary WAL position for consistency token: {}", e.getMessage());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,48 @@
+package org.pix.wallet.infrastructure.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.infrastructure.persistence.datasource.ReplicaRoutingContext;
+import org.pix.wallet.infrastructure.persistence.datasource.WalPosition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Lê o token de consistência ("read your writes") enviado pelo cliente.
+ *
+ * <p>Após uma escrita, {@link ConsistencyTokenAdvice} devolve no header
+ * <b>X-Consistency-Token</b> a posição do WAL do primário. Quando o cliente reenvia
+ * esse header numa leitura, a réplica só é usada se já tiver aplicado essa posição;
+ * caso contrário a leitura vai para o primário.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pix.datasource.replicas.enabled", havingValue = "true")
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    public static final String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = request.getHeader(CONSISTENCY_TOKEN_HEADER);
+        if (token != null && !token.isBlank()) {
+            try {
+                ReplicaRoutingContext.setMinPosition(WalPosition.parse(token.trim()));
+            } catch (IllegalArgumentException e) {
+                log.debug("Ignoring invalid consistency token: {}", token);
+            }
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.pix.wallet.infrastructure.config;
+
+import java.time.Duration;
+
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.ledger.GroupCommitLedgerWriter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Group-commit ledger writer (opt-in via {@code pix.ledger.group-commit.enabled}).
+ *
+ * <p>The writer gets its own physical connection instead of borrowing from Hikari:
+ * callers block on their future inside their own transaction, so a writer that had to
+ * wait for a pooled connection could deadlock with them when the pool is exhausted.
+ * The connection is not published as a {@code DataSource} bean so the primary pool
+ * auto-configuration is unaffected.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "pix.ledger.group-commit.enabled", havingValue = "true")
+public class LedgerGroupCommitConfig implements DisposableBean {
+
+    private SingleConnectionDataSource writerConnection;
+
+    @Bean
+    GroupCommitLedgerWriter groupCommitLedgerWriter(
+            DataSourceProperties dataSourceProperties,
+            MetricsService metricsService,
+            @Value("${pix.ledger.group-commit.queue-capacity:4096}") int queueCapacity,
+            @Value("${pix.ledger.group-commit.max-batch-size:256}") int maxBatchSize,
+            @Value("${pix.ledger.group-commit.max-delay:2ms}") Duration maxDelay) {
+        this.writerConnection = new SingleConnectionDataSource(
+            dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword(),
+            true);
+        return new GroupCommitLedgerWriter(new JdbcTemplate(writerConnection), metricsService,
+            queueCapacity, maxBatchSize, maxDelay);
+    }
+
+    @Override
+    public void destroy() {
+        if (writerConnection != null) {
+            writerConnection.destroy();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.pix.wallet.infrastructure.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.pix.wallet.infrastructure.concurrency.LookupFanOut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Concurrent lookups in the transfer resolution phase (opt-in via
+ * {@code pix.transfer.parallel-lookups.enabled}).
+ *
+ * <p>Subtasks run on Spring Boot's application task executor: a platform thread pool sized
+ * by {@code spring.task.execution.pool.*}, or one virtual thread per subtask when
+ * {@code spring.threads.virtual.enabled=true} (JDK 21+). Each subtask borrows its own pooled
+ * connection, so a request can hold up to three at once instead of one; size the Hikari pool
+ * accordingly. Disabled, the lookups run one after another on the request thread.</p>
+ */
+@Configuration
+public class LookupFanOutConfig {
+
+    @Bean
+    LookupFanOut lookupFanOut(
+            @Value("${pix.transfer.parallel-lookups.enabled:false}") boolean enabled,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+            ObjectProvider<AsyncTaskExecutor> applicationTaskExecutor,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        ObservationRegistry registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+        return enabled
+            ? new LookupFanOut(applicationTaskExecutor.getObject(), registry)
+            : LookupFanOut.sequential(registry);
+    }
+}
@@ -0,0 +1,71 @@
+package org.pix.wallet.infrastructure.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * R2DBC connection pool for the reactive read path.
+ *
+ * <p>The pool is deliberately not exposed as a {@code ConnectionFactory} bean: doing so
+ * would make Boot's JDBC {@code DataSource} auto-configuration back off and take the
+ * JPA write path down with it. Only the {@link DatabaseClient} is published, and the
+ * pool is disposed together with this configuration.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "pix.reactive-read.enabled", havingValue = "true")
+public class ReactiveReadConfig implements DisposableBean {
+
+    private ConnectionPool pool;
+
+    @Bean
+    DatabaseClient reactiveReadDatabaseClient(
+            @Value("${pix.reactive-read.r2dbc.url}") String url,
+            @Value("${pix.reactive-read.r2dbc.username:${spring.datasource.username:}}") String username,
+            @Value("${pix.reactive-read.r2dbc.password:${spring.datasource.password:}}") String password,
+            @Value("${pix.reactive-read.r2dbc.pool.initial-size:2}") int initialSize,
+            @Value("${pix.reactive-read.r2dbc.pool.max-size:4}") int maxSize,
+            @Value("${pix.reactive-read.r2dbc.pool.max-acquire-time:2s}") Duration maxAcquireTime,
+            MetricsService metricsService) {
+
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isBlank()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isBlank()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration
+            .builder(ConnectionFactories.get(options.build()))
+            .name("pix-reactive-read")
+            .initialSize(initialSize)
+            .maxSize(maxSize)
+            .maxAcquireTime(maxAcquireTime)
+            .maxIdleTime(Duration.ofMinutes(10))
+            .build();
+
+        this.pool = new ConnectionPool(configuration);
+        pool.getMetrics().ifPresent(metrics -> metricsService.registerR2dbcPool("pix-reactive-read", metrics));
+        log.info("Reactive read path enabled (r2dbc pool initialSize={}, maxSize={})", initialSize, maxSize);
+        return DatabaseClient.create(pool);
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.pix.wallet.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.datasource.ReplicaLagMonitor;
+import org.pix.wallet.infrastructure.persistence.datasource.ReplicaReadAspect;
+import org.pix.wallet.infrastructure.persistence.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Read-replica routing (opt-in via {@code pix.datasource.replicas.enabled}).
+ *
+ * <p>The Boot-managed primary {@code dataSource} is wrapped as
+ * {@code LazyConnectionDataSourceProxy(ReplicaRoutingDataSource(primary, replicas))},
+ * so JPA, Flyway and the health checks keep seeing a single {@code DataSource}.
+ * Replica pools are owned by the {@link ReplicaLagMonitor} and are not beans.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "pix.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    static final String MAX_LAG_PREFIX = "pix.datasource.replicas.max-lag.";
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(Environment environment, MeterRegistry meterRegistry, MetricsService metricsService) {
+        List<String> urls = List.of(environment.getRequiredProperty("pix.datasource.replicas.urls", String[].class));
+        String username = environment.getProperty("pix.datasource.replicas.username",
+            environment.getProperty("spring.datasource.username", ""));
+        String password = environment.getProperty("pix.datasource.replicas.password",
+            environment.getProperty("spring.datasource.password", ""));
+        int poolSize = environment.getProperty("pix.datasource.replicas.pool-size", Integer.class, 10);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(urls.get(i).trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            // Do not fail startup when a replica is down; the monitor keeps it out of rotation
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(name, replica);
+        }
+        log.info("Read replicas configured: {}", replicas.keySet());
+        return new ReplicaLagMonitor(replicas, metricsService, Clock.systemUTC());
+    }
+
+    @Bean
+    static ReplicaReadAspect replicaReadAspect() {
+        return new ReplicaReadAspect();
+    }
+
+    @Bean
+    static BeanPostProcessor replicaRoutingPostProcessor(Environment environment,
+                                                         ObjectProvider<ReplicaLagMonitor> monitor,
+                                                         ObjectProvider<MetricsService> metricsService) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)) {
+                    return bean;
+                }
+                Duration defaultMaxLag = environment.getProperty("pix.datasource.replicas.default-max-lag",
+                    Duration.class, Duration.ofSeconds(1));
+                Duration staleAfter = environment.getProperty("pix.datasource.replicas.stale-after",
+                    Duration.class, Duration.ofSeconds(3));
+                ReplicaLagMonitor lagMonitor = monitor.getObject();
+                ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                    primary,
+                    lagMonitor.replicas(),
+                    lagMonitor,
+                    route -> environment.getProperty(MAX_LAG_PREFIX + route, Duration.class, defaultMaxLag),
+                    staleAfter,
+                    metricsService.getObject(),
+                    Clock.systemUTC());
+                return new LazyConnectionDataSourceProxy(routing);
+            }
+        };
+    }
+}
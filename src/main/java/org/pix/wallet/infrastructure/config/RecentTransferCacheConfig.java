@@ -0,0 +1,36 @@
+package org.pix.wallet.infrastructure.config;
+
+import java.time.Duration;
+
+import org.pix.wallet.infrastructure.cache.CacheInvalidationBus;
+import org.pix.wallet.infrastructure.cache.RecentTransferCache;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Recently created transfers kept for the webhook path (opt-in via
+ * {@code pix.transfer.recent-cache.enabled}).
+ *
+ * <p>Memory is bounded by {@code max-size}: an entry is one {@code TransferResult} plus its
+ * key, roughly half a kilobyte, so the default 20 000 entries stay around 10 MB. The
+ * {@code window} should cover the usual delay between creation and settlement; webhooks
+ * arriving later read the database as before. Disabled, the cache keeps nothing.</p>
+ */
+@Configuration
+public class RecentTransferCacheConfig {
+
+    @Bean
+    RecentTransferCache recentTransferCache(
+            @Value("${pix.transfer.recent-cache.enabled:false}") boolean enabled,
+            @Value("${pix.transfer.recent-cache.max-size:20000}") int maxSize,
+            @Value("${pix.transfer.recent-cache.window:60s}") Duration window,
+            MetricsService metricsService,
+            ObjectProvider<CacheInvalidationBus> bus) {
+        return enabled
+            ? new RecentTransferCache(maxSize, window, metricsService, bus.getIfAvailable())
+            : RecentTransferCache.disabled();
+    }
+}
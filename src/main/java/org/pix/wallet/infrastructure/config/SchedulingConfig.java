@@ -0,0 +1,29 @@
+package org.pix.wallet.infrastructure.config;
+
+import org.pix.wallet.infrastructure.observability.ObservabilityContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (outbox relay) and {@code @Async} work.
+ *
+ * <p>Executors are the ones auto-configured by Spring Boot: platform thread pools by
+ * default, or virtual threads when {@code spring.threads.virtual.enabled=true}
+ * (JDK 21+). Either way the decorator below carries the caller's MDC and the
+ * current observation (trace/span) into the task.</p>
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class SchedulingConfig {
+
+    @Bean
+    TaskDecorator observabilityTaskDecorator() {
+        ContextPropagatingTaskDecorator contextPropagation = new ContextPropagatingTaskDecorator();
+        return runnable -> contextPropagation.decorate(ObservabilityContext.wrap(runnable));
+    }
+}
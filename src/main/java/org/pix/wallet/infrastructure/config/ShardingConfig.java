@@ -0,0 +1,128 @@
+package org.pix.wallet.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.sharding.ConsistentHashShardRouter;
+import org.pix.wallet.infrastructure.persistence.sharding.CrossShardCreditRelay;
+import org.pix.wallet.infrastructure.persistence.sharding.PixKeyDirectory;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardMap;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardPools;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Horizontal sharding of wallets across databases (opt-in via {@code pix.sharding.enabled}).
+ *
+ * <p>{@code shard-0} is the Boot-managed {@code dataSource} and also hosts the global PIX
+ * key directory; {@code pix.sharding.urls} adds {@code shard-1..N}. The primary bean is
+ * wrapped as {@code LazyConnectionDataSourceProxy(ShardRoutingDataSource(shards))} so JPA
+ * keeps a single {@code DataSource}. Flyway runs on {@code shard-0} through Boot and on
+ * the other shards here.</p>
+ *
+ * <p>Not combinable with read replicas (both wrap {@code dataSource}) or with the ledger
+ * group commit (its writer connection only reaches {@code shard-0}).</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "pix.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    static final String DIRECTORY_SHARD = "shard-0";
+
+    @Bean
+    ShardPools shardPools(Environment environment, MeterRegistry meterRegistry) {
+        List<String> urls = List.of(environment.getProperty("pix.sharding.urls", String[].class, new String[0]));
+        String username = environment.getProperty("pix.sharding.username",
+            environment.getProperty("spring.datasource.username", ""));
+        String password = environment.getProperty("pix.sharding.password",
+            environment.getProperty("spring.datasource.password", ""));
+        int poolSize = environment.getProperty("pix.sharding.pool-size", Integer.class, 10);
+        boolean migrate = environment.getProperty("spring.flyway.enabled", Boolean.class, true);
+
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "shard-" + (i + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(urls.get(i).trim());
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setMaximumPoolSize(poolSize);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            if (migrate) {
+                Flyway.configure()
+                    .dataSource(pool)
+                    .locations(environment.getProperty("spring.flyway.locations", "classpath:db/migration"))
+                    .baselineOnMigrate(true)
+                    .load()
+                    .migrate();
+            }
+            pools.put(name, pool);
+        }
+        return new ShardPools(pools);
+    }
+
+    @Bean
+    ConsistentHashShardRouter shardRouter(DataSource dataSource, Environment environment,
+                                          MetricsService metricsService) throws SQLException {
+        ShardRoutingDataSource routing = dataSource.unwrap(ShardRoutingDataSource.class);
+        ShardMap shardMap = new ShardMap(List.copyOf(routing.shards().keySet()),
+            environment.getProperty("pix.sharding.virtual-nodes", Integer.class, 128));
+        log.info("Wallet sharding enabled: {}", shardMap.shards());
+        return new ConsistentHashShardRouter(shardMap, routing.shards(), dataSource, metricsService);
+    }
+
+    @Bean
+    PixKeyDirectory pixKeyDirectory(ConsistentHashShardRouter shardRouter) {
+        return new PixKeyDirectory(shardRouter.jdbc(DIRECTORY_SHARD));
+    }
+
+    @Bean
+    CrossShardCreditRelay crossShardCreditRelay(ConsistentHashShardRouter shardRouter,
+                                                LedgerEntryRepositoryPort ledgerEntryRepositoryPort,
+                                                TransactionTemplate transactionTemplate,
+                                                MetricsService metricsService,
+                                                Environment environment) {
+        return new CrossShardCreditRelay(shardRouter, ledgerEntryRepositoryPort, transactionTemplate,
+            metricsService, environment.getProperty("pix.sharding.credit-relay.batch-size", Integer.class, 200));
+    }
+
+    @Bean
+    static BeanPostProcessor shardRoutingPostProcessor(Environment environment, ObjectProvider<ShardPools> shardPools) {
+        for (String conflicting : List.of("pix.datasource.replicas.enabled", "pix.ledger.group-commit.enabled")) {
+            if (environment.getProperty(conflicting, Boolean.class, false)) {
+                throw new IllegalStateException("pix.sharding.enabled cannot be combined with " + conflicting);
+            }
+        }
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)) {
+                    return bean;
+                }
+                Map<String, DataSource> shards = new LinkedHashMap<>();
+                shards.put(DIRECTORY_SHARD, primary);
+                shards.putAll(shardPools.getObject().pools());
+                return new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(DIRECTORY_SHARD, shards));
+            }
+        };
+    }
+}
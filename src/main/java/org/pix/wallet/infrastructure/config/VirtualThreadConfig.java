@@ -0,0 +1,71 @@
+package org.pix.wallet.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.datasource.ConnectionLimitingDataSource;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * Support for the opt-in virtual-thread execution mode.
+ *
+ * <p>Tomcat, {@code @Async} and {@code @Scheduled} executors switch to virtual threads
+ * through Spring Boot's {@code spring.threads.virtual.enabled} (effective on JDK 21+).
+ * This configuration adds the connection concurrency limiter that keeps an unbounded
+ * number of virtual threads from stampeding the Hikari pool. The limiter is enabled
+ * by default together with virtual threads and can be toggled independently with
+ * {@code pix.datasource.concurrency-limit.enabled}.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("${pix.datasource.concurrency-limit.enabled:${spring.threads.virtual.enabled:false}}")
+public class VirtualThreadConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimiterPostProcessor(Environment environment) {
+        // Ordered so it runs before wrappers that hide the Hikari type (e.g. replica routing)
+        class LimiterPostProcessor implements BeanPostProcessor, Ordered {
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int permits = environment.getProperty("pix.datasource.concurrency-limit.max-concurrent",
+                    Integer.class, hikari.getMaximumPoolSize());
+                Duration timeout = environment.getProperty("pix.datasource.concurrency-limit.acquire-timeout",
+                    Duration.class, Duration.ofSeconds(2));
+                log.info("Wrapping DataSource '{}' with connection limiter (permits={}, acquireTimeout={})",
+                    beanName, permits, timeout);
+                return new ConnectionLimitingDataSource(hikari, permits, timeout);
+            }
+        }
+        return new LimiterPostProcessor();
+    }
+
+    @Bean
+    SmartInitializingSingleton connectionLimiterMetricsBinder(DataSource dataSource, MetricsService metricsService) {
+        return () -> {
+            try {
+                if (dataSource.isWrapperFor(ConnectionLimitingDataSource.class)) {
+                    dataSource.unwrap(ConnectionLimitingDataSource.class).bindMetrics(metricsService);
+                }
+            } catch (SQLException e) {
+                log.warn("Could not bind connection limiter metrics: {}", e.getMessage());
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package org.pix.wallet.infrastructure.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.pix.wallet.infrastructure.cluster.InstanceMembership;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Wallet-affinity routing across application instances (opt-in via {@code pix.affinity.enabled}).
+ *
+ * <p>Each instance must advertise a URL reachable by its peers
+ * ({@code pix.affinity.advertised-url}); the instance id defaults to a random value
+ * per process, so a restarted instance simply joins as a new member.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "pix.affinity.enabled", havingValue = "true")
+public class WalletAffinityConfig {
+
+    @Bean
+    InstanceMembership instanceMembership(DataSource dataSource, Environment environment, MetricsService metricsService) {
+        String instanceId = environment.getProperty("pix.affinity.instance-id", "");
+        if (instanceId.isBlank()) {
+            instanceId = UUID.randomUUID().toString();
+        }
+        String advertisedUrl = environment.getProperty("pix.affinity.advertised-url",
+            "http://localhost:" + environment.getProperty("server.port", "8080"));
+        InstanceMembership membership = new InstanceMembership(
+            new JdbcTemplate(dataSource),
+            instanceId,
+            advertisedUrl,
+            environment.getProperty("pix.affinity.member-ttl", Duration.class, Duration.ofSeconds(5)),
+            environment.getProperty("pix.affinity.virtual-nodes", Integer.class, 128),
+            metricsService,
+            Clock.systemUTC());
+        membership.heartbeat();
+        return membership;
+    }
+}
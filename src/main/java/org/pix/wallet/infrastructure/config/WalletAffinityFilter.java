@@ -0,0 +1,256 @@
+package org.pix.wallet.infrastructure.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.infrastructure.cluster.InstanceMembership;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Roteamento por afinidade de carteira entre instâncias da aplicação.
+ *
+ * <p>Cada carteira tem uma instância dona no anel de {@link InstanceMembership}. Uma
+ * requisição que chega a outra instância é:</p>
+ * <ul>
+ *   <li><b>forward</b>: repassada internamente para a dona (resposta devolvida como veio);
+ *       se a dona não responder, é atendida localmente — o banco continua sendo a fonte da verdade.</li>
+ *   <li><b>hint</b>: atendida localmente, com o header <b>X-Wallet-Owner</b> indicando a dona
+ *       para que clientes/balanceadores passem a enviar direto para ela.</li>
+ * </ul>
+ * <p>A carteira vem do path ({@code /wallets/{id}/...}) ou, em {@code POST /pix/transfers},
+ * do campo {@code fromWalletId}. Requisições já repassadas (header <b>X-Affinity-Forwarded</b>)
+ * nunca são repassadas de novo, evitando loops enquanto o anel converge.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "pix.affinity.enabled", havingValue = "true")
+public class WalletAffinityFilter extends OncePerRequestFilter {
+
+    public static final String OWNER_HEADER = "X-Wallet-Owner";
+    public static final String FORWARDED_HEADER = "X-Affinity-Forwarded";
+
+    public enum Mode { FORWARD, HINT }
+
+    private static final Pattern WALLET_PATH = Pattern.compile("^/wallets/([0-9a-fA-F-]{36})(/.*)?$");
+    private static final String TRANSFERS_PATH = "/pix/transfers";
+
+    // Managed by HttpClient itself or hop-by-hop; must not be copied
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+        "host", "connection", "content-length", "transfer-encoding", "upgrade", "expect", "keep-alive");
+
+    private final InstanceMembership membership;
+    private final MetricsService metricsService;
+    private final ObjectMapper objectMapper;
+    private final Mode mode;
+    private final Duration forwardTimeout;
+    private final HttpClient httpClient;
+
+    public WalletAffinityFilter(InstanceMembership membership,
+                                MetricsService metricsService,
+                                ObjectMapper objectMapper,
+                                @Value("${pix.affinity.mode:FORWARD}") Mode mode,
+                                @Value("${pix.affinity.forward-timeout:2s}") Duration forwardTimeout) {
+        this.membership = membership;
+        this.metricsService = metricsService;
+        this.objectMapper = objectMapper;
+        this.mode = mode;
+        this.forwardTimeout = forwardTimeout;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(forwardTimeout)
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (request.getHeader(FORWARDED_HEADER) != null) {
+            metricsService.recordAffinityRequest("forwarded_in");
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest effective = request;
+        Optional<UUID> walletId = walletFromPath(request.getRequestURI());
+        if (walletId.isEmpty() && isTransferCreation(request)) {
+            BufferedRequest buffered = new BufferedRequest(request);
+            effective = buffered;
+            walletId = walletFromTransferBody(buffered.body);
+        }
+
+        Optional<String> owner = walletId.flatMap(membership::ownerUrl);
+        if (owner.isEmpty()) {
+            metricsService.recordAffinityRequest("local");
+            filterChain.doFilter(effective, response);
+            return;
+        }
+
+        if (mode == Mode.HINT) {
+            metricsService.recordAffinityRequest("hinted");
+            response.setHeader(OWNER_HEADER, owner.get());
+            filterChain.doFilter(effective, response);
+            return;
+        }
+
+        BufferedRequest buffered = effective instanceof BufferedRequest b ? b : new BufferedRequest(effective);
+        if (forward(buffered, response, owner.get())) {
+            metricsService.recordAffinityRequest("forwarded");
+            return;
+        }
+        metricsService.recordAffinityRequest("forward_failed");
+        response.setHeader(OWNER_HEADER, owner.get());
+        filterChain.doFilter(buffered, response);
+    }
+
+    private boolean forward(BufferedRequest request, HttpServletResponse response, String ownerUrl) throws IOException {
+        String target = ownerUrl + request.getRequestURI()
+            + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+        HttpRequest.Builder outbound = HttpRequest.newBuilder(URI.create(target))
+            .timeout(forwardTimeout)
+            .method(request.getMethod(), request.body.length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(request.body))
+            .header(FORWARDED_HEADER, membership.instanceId());
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                for (String value : Collections.list(request.getHeaders(name))) {
+                    outbound.header(name, value);
+                }
+            }
+        }
+
+        HttpResponse<byte[]> reply;
+        try {
+            reply = httpClient.send(outbound.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            log.warn("Affinity forward failed; serving locally", kv("owner", ownerUrl), kv("errorMessage", e.getMessage()));
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        response.setStatus(reply.statusCode());
+        reply.headers().map().forEach((name, values) -> {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase()) && !name.startsWith(":") && !values.isEmpty()) {
+                response.setHeader(name, values.get(0));
+                values.stream().skip(1).forEach(value -> response.addHeader(name, value));
+            }
+        });
+        response.setHeader(OWNER_HEADER, ownerUrl);
+        response.getOutputStream().write(reply.body());
+        return true;
+    }
+
+    private static boolean isTransferCreation(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && TRANSFERS_PATH.equals(request.getRequestURI());
+    }
+
+    static Optional<UUID> walletFromPath(String path) {
+        Matcher matcher = WALLET_PATH.matcher(path);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return parse(matcher.group(1));
+    }
+
+    private Optional<UUID> walletFromTransferBody(byte[] body) {
+        try {
+            JsonNode from = objectMapper.readTree(body).get("fromWalletId");
+            return from != null && from.isTextual() ? parse(from.asText()) : Optional.empty();
+        } catch (IOException e) {
+            // Malformed body: let the controller produce the validation error
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<UUID> parse(String value) {
+        try {
+            return Optional.of(UUID.fromString(value));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Keeps the body so it can be inspected, forwarded, and still read by the controller.
+     */
+    private static final class BufferedRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.pix.wallet.infrastructure.config;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.application.port.out.WalletEnginePort;
+import org.pix.wallet.infrastructure.engine.WalletEngine;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-memory wallet engine (opt-in via {@code pix.engine.enabled}). Replaces the deposit,
+ * withdraw and transfer-creation use cases with engine-backed ones.
+ *
+ * <p>The journal directory must be on durable local storage and owned by exactly one
+ * instance: two instances sharing wallets would each hold their own balances. Run it
+ * single-node, or combine it with wallet affinity so each wallet has one owner.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "pix.engine.enabled", havingValue = "true")
+public class WalletEngineConfig {
+
+    @Bean
+    WalletEngine walletEngine(
+            @Value("${pix.engine.directory:./data/engine}") Path directory,
+            @Value("${pix.engine.shards:4}") int shards,
+            @Value("${pix.engine.queue-capacity:8192}") int queueCapacity,
+            @Value("${pix.engine.max-batch-size:512}") int maxBatchSize,
+            @Value("${pix.engine.snapshot-every:100000}") long snapshotEvery,
+            @Value("${pix.engine.key-retention:5m}") Duration keyRetention,
+            @Value("${pix.engine.submit-timeout:1s}") Duration submitTimeout,
+            @Value("${pix.engine.projection-drain-timeout:10s}") Duration projectionDrainTimeout,
+            LedgerEntryRepositoryPort ledgerEntryRepositoryPort,
+            WalletEnginePort.Projection projection,
+            MetricsService metricsService) {
+        return new WalletEngine(directory, shards,
+            new WalletEngine.Settings(queueCapacity, maxBatchSize, snapshotEvery, keyRetention, submitTimeout),
+            projectionDrainTimeout, ledgerEntryRepositoryPort, projection, metricsService, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,50 @@
+package org.pix.wallet.infrastructure.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.pix.wallet.application.port.in.ProcessPixWebhookUseCase;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.webhook.MappedWebhookJournal;
+import org.pix.wallet.infrastructure.webhook.WebhookJournalDrainer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Local write-ahead journal for PIX webhooks (opt-in via {@code pix.webhook.journal.enabled}).
+ * {@code POST /pix/webhook} answers once the event is journaled and the drainer applies it
+ * through {@code PixWebhookService}, so webhooks keep being accepted while the database is degraded.
+ *
+ * <p>Like the wallet engine journal, the directory must be on durable local storage owned by
+ * one instance.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "pix.webhook.journal.enabled", havingValue = "true")
+public class WebhookJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    MappedWebhookJournal webhookJournal(
+            @Value("${pix.webhook.journal.directory:./data/webhook-journal}") Path directory,
+            @Value("${pix.webhook.journal.segment-size:64MB}") DataSize segmentSize,
+            @Value("${pix.webhook.journal.max-segments:16}") int maxSegments,
+            @Value("${pix.webhook.journal.fsync-policy:ALWAYS}") MappedWebhookJournal.FsyncPolicy fsyncPolicy,
+            @Value("${pix.webhook.journal.fsync-interval:10ms}") Duration fsyncInterval,
+            MetricsService metricsService) {
+        return new MappedWebhookJournal(directory, Math.toIntExact(segmentSize.toBytes()), maxSegments,
+            fsyncPolicy, fsyncInterval, metricsService);
+    }
+
+    @Bean
+    WebhookJournalDrainer webhookJournalDrainer(
+            MappedWebhookJournal webhookJournal,
+            @Qualifier("pixWebhookService") ProcessPixWebhookUseCase pixWebhookService,
+            @Value("${pix.webhook.journal.max-attempts:5}") int maxAttempts,
+            @Value("${pix.webhook.journal.max-backoff:5s}") Duration maxBackoff,
+            MetricsService metricsService) {
+        return new WebhookJournalDrainer(webhookJournal, pixWebhookService, maxAttempts, maxBackoff, metricsService);
+    }
+}
@@ -0,0 +1,392 @@
+package org.pix.wallet.infrastructure.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.application.port.out.WalletEnginePort.Command;
+import org.pix.wallet.application.port.out.WalletEnginePort.Outcome;
+import org.pix.wallet.application.port.out.WalletEnginePort.Projection;
+import org.pix.wallet.application.port.out.WalletEnginePort.Result;
+import org.pix.wallet.application.port.out.WalletEnginePort.Type;
+import org.pix.wallet.infrastructure.engine.EngineSnapshot.AppliedKey;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryCodec;
+
+/**
+ * One partition of the wallet engine: every wallet hashes to exactly one shard, and only
+ * the shard's applier thread touches its balances.
+ *
+ * <p>The applier drains a batch from the inbound queue, decides each command against the
+ * in-memory state, journals the accepted ones with a single fsync and only then completes
+ * the callers' futures. Accepted entries are handed to the projector thread, which writes
+ * them to Postgres in journal order and records how far it got in {@code projected.seq}.</p>
+ *
+ * <p>A wallet is loaded from the database the first time the shard sees it, and reloaded
+ * when a debit would be rejected but every engine event of that wallet is already
+ * projected: credits made outside the engine (incoming transfers confirmed by webhook,
+ * released reservations) become visible then. Both reads are journaled as
+ * {@link JournalEntry.Kind#LOADED}, so replay never reads the database.</p>
+ */
+@Slf4j
+final class EngineShard {
+
+    private static final String SNAPSHOT = "snapshot.bin";
+    private static final String PROJECTED = "projected.seq";
+    private static final long MAX_RETRY_BACKOFF_MS = 5_000;
+
+    private final int id;
+    private final Path dir;
+    private final EngineJournal journal;
+    private final LedgerEntryRepositoryPort ledger;
+    private final Projection projection;
+    private final MetricsService metricsService;
+    private final WalletEngine.Settings settings;
+    private final Clock clock;
+
+    private final BlockingQueue<Pending> inbound;
+    private final BlockingQueue<JournalEntry> outbound;
+    private final AtomicLong journaledSeq = new AtomicLong();
+    private final AtomicLong projectedSeq = new AtomicLong();
+
+    // Owned by the applier thread (by the starting thread during recovery)
+    private WalletBalanceMap balances = new WalletBalanceMap(1024);
+    private LinkedHashMap<String, AppliedKey> keys = new LinkedHashMap<>();
+    private long seq;
+    private long snapshotSeq;
+    private long recoveredSeq;
+
+    private volatile boolean running;
+    private volatile boolean failed;
+    private Thread applier;
+    private Thread projector;
+    private FileChannel projectedFile;
+
+    private record Pending(Command command, CompletableFuture<Outcome> result) {
+    }
+
+    EngineShard(int id, Path dir, LedgerEntryRepositoryPort ledger, Projection projection,
+                MetricsService metricsService, WalletEngine.Settings settings, Clock clock) throws IOException {
+        this.id = id;
+        this.dir = Files.createDirectories(dir);
+        this.journal = new EngineJournal(dir);
+        this.ledger = ledger;
+        this.projection = projection;
+        this.metricsService = metricsService;
+        this.settings = settings;
+        this.clock = clock;
+        this.inbound = new ArrayBlockingQueue<>(settings.queueCapacity());
+        this.outbound = new ArrayBlockingQueue<>(settings.queueCapacity());
+        metricsService.registerEngineProjectionLag(id, () -> journaledSeq.get() - projectedSeq.get());
+    }
+
+    CompletableFuture<Outcome> submit(Command command) {
+        if (!running || failed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Wallet engine shard " + id + " is not running"));
+        }
+        Pending pending = new Pending(command, new CompletableFuture<>());
+        try {
+            if (!inbound.offer(pending, settings.submitTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Wallet engine shard " + id + " is saturated"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        return pending.result();
+    }
+
+    /**
+     * Restores the state from the snapshot and the journal, then starts both threads.
+     */
+    void start() throws IOException {
+        EngineSnapshot.readFrom(dir.resolve(SNAPSHOT)).ifPresent(snapshot -> {
+            balances = snapshot.balances();
+            keys = snapshot.keys();
+            seq = snapshot.appliedSeq();
+            snapshotSeq = snapshot.appliedSeq();
+        });
+        long fromSnapshot = seq;
+        seq = journal.recover(seq, this::apply);
+        recoveredSeq = seq;
+        journaledSeq.set(seq);
+        journal.roll(seq + 1);
+
+        projectedFile = FileChannel.open(dir.resolve(PROJECTED),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        projectedSeq.set(readProjectedSeq());
+
+        log.info("Wallet engine shard {} recovered (snapshotSeq={}, replayed={}, wallets={}, unprojected={})",
+            id, fromSnapshot, seq - fromSnapshot, balances.size(), seq - projectedSeq.get());
+
+        running = true;
+        projector = new Thread(this::projectLoop, "wallet-engine-projector-" + id);
+        projector.setDaemon(true);
+        projector.start();
+        applier = new Thread(this::applyLoop, "wallet-engine-shard-" + id);
+        applier.setDaemon(true);
+        applier.start();
+    }
+
+    void stop(Duration projectionDrainTimeout) {
+        running = false;
+        join(applier, Duration.ofSeconds(5));
+        join(projector, projectionDrainTimeout);
+        if (projector != null && projector.isAlive()) {
+            projector.interrupt();
+            join(projector, Duration.ofSeconds(1));
+        }
+        try {
+            if (!failed && applier != null && !applier.isAlive()) {
+                snapshot();
+            }
+            writeProjectedSeq();
+            journal.close();
+            if (projectedFile != null) {
+                projectedFile.close();
+            }
+        } catch (IOException e) {
+            log.warn("Wallet engine shard {} did not shut down cleanly: {}", id, e.getMessage());
+        }
+    }
+
+    long journaledSeq() {
+        return journaledSeq.get();
+    }
+
+    long projectedSeq() {
+        return projectedSeq.get();
+    }
+
+    // Applier
+
+    private void applyLoop() {
+        List<Pending> batch = new ArrayList<>(settings.maxBatchSize());
+        while (running || !inbound.isEmpty()) {
+            try {
+                Pending first = inbound.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    inbound.drainTo(batch, settings.maxBatchSize() - 1);
+                    process(batch);
+                }
+                pruneKeys();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(p -> p.result().completeExceptionally(e));
+                return;
+            } catch (IOException | RuntimeException e) {
+                // In-memory state may be ahead of the journal: only a restart (replay) is safe
+                failed = true;
+                log.error("Wallet engine shard {} failed; restart to recover from the journal", id, e);
+                batch.forEach(p -> p.result().completeExceptionally(e));
+                List<Pending> queued = new ArrayList<>();
+                inbound.drainTo(queued);
+                queued.forEach(p -> p.result().completeExceptionally(e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Pending> batch) throws IOException, InterruptedException {
+        List<JournalEntry> events = new ArrayList<>(batch.size() + 4);
+        Outcome[] outcomes = new Outcome[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            outcomes[i] = decide(batch.get(i).command(), events);
+        }
+        if (!events.isEmpty()) {
+            long start = System.nanoTime();
+            journal.append(events);
+            metricsService.recordEngineJournalFlush(events.size(), Duration.ofNanos(System.nanoTime() - start));
+            journaledSeq.set(seq);
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            metricsService.recordEngineCommand(batch.get(i).command().type().name(), outcomes[i].result().name());
+            batch.get(i).result().complete(outcomes[i]);
+        }
+        for (JournalEntry event : events) {
+            outbound.put(event);
+        }
+        if (seq - snapshotSeq >= settings.snapshotEvery()) {
+            snapshot();
+        }
+    }
+
+    private Outcome decide(Command command, List<JournalEntry> events) {
+        UUID walletId = command.walletId();
+        AppliedKey applied = keys.get(command.idempotencyKey());
+        long balance = balances.cents(walletId);
+        if (applied != null) {
+            return new Outcome(Result.DUPLICATE, applied.endToEndId(),
+                balance == WalletBalanceMap.MISSING ? null : LedgerEntryCodec.amount(balance));
+        }
+        if (balance == WalletBalanceMap.MISSING) {
+            balance = load(walletId, events);
+        }
+        long amount = LedgerEntryCodec.cents(command.amount());
+        if (command.type() != Type.DEPOSIT && balance < amount) {
+            if (balances.lastSeq(walletId) <= projectedSeq.get()) {
+                balance = reload(walletId, balance, events);
+            }
+            if (balance < amount) {
+                return new Outcome(Result.INSUFFICIENT_FUNDS, null, LedgerEntryCodec.amount(balance));
+            }
+        }
+        JournalEntry event = JournalEntry.accepted(++seq, command, clock.millis());
+        apply(event);
+        events.add(event);
+        return new Outcome(Result.APPLIED, command.endToEndId(), LedgerEntryCodec.amount(balances.cents(walletId)));
+    }
+
+    private long load(UUID walletId, List<JournalEntry> events) {
+        long cents = ledger.getAvailableBalance(walletId.toString()).map(LedgerEntryCodec::cents).orElse(0L);
+        JournalEntry loaded = JournalEntry.loaded(++seq, walletId, cents, clock.millis());
+        apply(loaded);
+        events.add(loaded);
+        return cents;
+    }
+
+    private long reload(UUID walletId, long current, List<JournalEntry> events) {
+        long cents = ledger.getAvailableBalance(walletId.toString()).map(LedgerEntryCodec::cents).orElse(0L);
+        return cents == current ? current : load(walletId, events);
+    }
+
+    private void apply(JournalEntry entry) {
+        if (entry.kind() == JournalEntry.Kind.LOADED) {
+            balances.put(entry.walletId(), entry.cents(), entry.seq());
+            return;
+        }
+        long current = balances.cents(entry.walletId());
+        balances.put(entry.walletId(), (current == WalletBalanceMap.MISSING ? 0 : current) + entry.delta(), entry.seq());
+        keys.put(entry.idempotencyKey(), new AppliedKey(entry.endToEndId(), entry.seq(), entry.appliedAtMillis()));
+    }
+
+    /**
+     * Keys stay in memory until they are projected (the database then answers the
+     * services' idempotency check) plus the retention, which covers requests that checked
+     * the database just before the projection.
+     */
+    private void pruneKeys() {
+        long cutoff = clock.millis() - settings.keyRetention().toMillis();
+        long projected = projectedSeq.get();
+        Iterator<Map.Entry<String, AppliedKey>> it = keys.entrySet().iterator();
+        while (it.hasNext()) {
+            AppliedKey key = it.next().getValue();
+            if (key.appliedAtMillis() >= cutoff || key.seq() > projected) {
+                return;
+            }
+            it.remove();
+        }
+    }
+
+    private void snapshot() throws IOException {
+        long start = System.nanoTime();
+        new EngineSnapshot(seq, balances, keys).writeTo(dir.resolve(SNAPSHOT));
+        snapshotSeq = seq;
+        journal.roll(seq + 1);
+        journal.deleteUpTo(Math.min(snapshotSeq, projectedSeq.get()));
+        metricsService.recordEngineSnapshot(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    // Projector
+
+    private void projectLoop() {
+        try {
+            // Accepted before the restart but not yet in the database
+            journal.read(projectedSeq.get(), recoveredSeq, this::project);
+            int sinceSaved = 0;
+            while (running || !outbound.isEmpty() || (applier != null && applier.isAlive())) {
+                JournalEntry entry = outbound.poll(100, TimeUnit.MILLISECONDS);
+                if (entry == null) {
+                    if (sinceSaved > 0) {
+                        writeProjectedSeq();
+                        sinceSaved = 0;
+                    }
+                    continue;
+                }
+                project(entry);
+                if (++sinceSaved >= 1024) {
+                    writeProjectedSeq();
+                    sinceSaved = 0;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Wallet engine shard {} projector stopped", id, e);
+        } catch (IllegalStateException e) {
+            // Interrupted while retrying; the entry is projected again after the restart
+            log.info("Wallet engine shard {} projector stopped: {}", id, e.getMessage());
+        }
+    }
+
+    private void project(JournalEntry entry) {
+        if (entry.kind() != JournalEntry.Kind.LOADED) {
+            long backoff = 100;
+            while (true) {
+                try {
+                    projection.project(entry.toCommand());
+                    break;
+                } catch (RuntimeException e) {
+                    metricsService.recordEngineProjectionFailure();
+                    log.warn("Wallet engine shard {} projection of seq {} failed, retrying in {}ms: {}",
+                        id, entry.seq(), backoff, e.getMessage());
+                    try {
+                        Thread.sleep(backoff);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Projection interrupted at seq " + entry.seq(), interrupted);
+                    }
+                    backoff = Math.min(MAX_RETRY_BACKOFF_MS, backoff * 2);
+                }
+            }
+        }
+        projectedSeq.set(entry.seq());
+    }
+
+    private long readProjectedSeq() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        return projectedFile.read(buffer, 0) == Long.BYTES ? buffer.flip().getLong() : 0;
+    }
+
+    private void writeProjectedSeq() {
+        try {
+            projectedFile.write(ByteBuffer.allocate(Long.BYTES).putLong(0, projectedSeq.get()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void join(Thread thread, Duration timeout) {
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
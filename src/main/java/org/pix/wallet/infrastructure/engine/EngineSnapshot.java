@@ -0,0 +1,97 @@
+package org.pix.wallet.infrastructure.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Point-in-time state of one engine shard: balances, recent idempotency keys and the
+ * sequence of the last journal entry included. Written to a temporary file, forced and
+ * atomically renamed, so a crash leaves either the previous snapshot or the new one.
+ */
+record EngineSnapshot(long appliedSeq, WalletBalanceMap balances, LinkedHashMap<String, AppliedKey> keys) {
+
+    private static final int MAGIC = 0x50495845; // "PIXE"
+    private static final int VERSION = 1;
+
+    /**
+     * Idempotency key of an accepted command; {@code endToEndId} is set for transfers.
+     */
+    record AppliedKey(String endToEndId, long seq, long appliedAtMillis) {
+    }
+
+    void writeTo(Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(appliedSeq);
+            out.writeInt(balances.size());
+            IOException[] failure = new IOException[1];
+            balances.forEach((msb, lsb, cents, seq) -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    out.writeLong(msb);
+                    out.writeLong(lsb);
+                    out.writeLong(cents);
+                    out.writeLong(seq);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            out.writeInt(keys.size());
+            for (Map.Entry<String, AppliedKey> key : keys.entrySet()) {
+                out.writeUTF(key.getKey());
+                out.writeUTF(key.getValue().endToEndId() == null ? "" : key.getValue().endToEndId());
+                out.writeLong(key.getValue().seq());
+                out.writeLong(key.getValue().appliedAtMillis());
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    static Optional<EngineSnapshot> readFrom(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a wallet engine snapshot: " + file);
+            }
+            long appliedSeq = in.readLong();
+            int wallets = in.readInt();
+            WalletBalanceMap balances = new WalletBalanceMap(wallets);
+            for (int i = 0; i < wallets; i++) {
+                balances.put(in.readLong(), in.readLong(), in.readLong(), in.readLong());
+            }
+            int keyCount = in.readInt();
+            LinkedHashMap<String, AppliedKey> keys = new LinkedHashMap<>(Math.max(16, keyCount * 2));
+            for (int i = 0; i < keyCount; i++) {
+                String key = in.readUTF();
+                String endToEndId = in.readUTF();
+                keys.put(key, new AppliedKey(endToEndId.isEmpty() ? null : endToEndId, in.readLong(), in.readLong()));
+            }
+            return Optional.of(new EngineSnapshot(appliedSeq, balances, keys));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.pix.wallet.infrastructure.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+import org.pix.wallet.application.port.out.WalletEnginePort;
+import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryCodec;
+
+/**
+ * One journaled event of an engine shard. {@link Kind#LOADED} records a balance read from
+ * the database, so replaying the journal never has to read it again; the other kinds are
+ * accepted commands.
+ */
+record JournalEntry(
+    long seq,
+    Kind kind,
+    UUID walletId,
+    long cents,
+    String idempotencyKey,
+    UUID toWalletId,
+    String endToEndId,
+    long appliedAtMillis
+) {
+
+    enum Kind { LOADED, DEPOSIT, WITHDRAW, TRANSFER }
+
+    static JournalEntry loaded(long seq, UUID walletId, long balanceCents, long appliedAtMillis) {
+        return new JournalEntry(seq, Kind.LOADED, walletId, balanceCents, null, null, null, appliedAtMillis);
+    }
+
+    static JournalEntry accepted(long seq, WalletEnginePort.Command command, long appliedAtMillis) {
+        return new JournalEntry(seq, Kind.valueOf(command.type().name()), command.walletId(),
+            LedgerEntryCodec.cents(command.amount()), command.idempotencyKey(), command.toWalletId(),
+            command.endToEndId(), appliedAtMillis);
+    }
+
+    /**
+     * Balance change of an accepted command (zero for {@link Kind#LOADED}).
+     */
+    long delta() {
+        return switch (kind) {
+            case DEPOSIT -> cents;
+            case WITHDRAW, TRANSFER -> -cents;
+            case LOADED -> 0;
+        };
+    }
+
+    WalletEnginePort.Command toCommand() {
+        return new WalletEnginePort.Command(WalletEnginePort.Type.valueOf(kind.name()), walletId,
+            LedgerEntryCodec.amount(cents), idempotencyKey, toWalletId, endToEndId);
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(seq);
+        out.writeByte(kind.ordinal());
+        out.writeLong(walletId.getMostSignificantBits());
+        out.writeLong(walletId.getLeastSignificantBits());
+        out.writeLong(cents);
+        out.writeLong(appliedAtMillis);
+        if (kind == Kind.LOADED) {
+            return;
+        }
+        out.writeUTF(idempotencyKey);
+        out.writeBoolean(toWalletId != null);
+        if (toWalletId != null) {
+            out.writeLong(toWalletId.getMostSignificantBits());
+            out.writeLong(toWalletId.getLeastSignificantBits());
+            out.writeUTF(endToEndId);
+        }
+    }
+
+    static JournalEntry readFrom(DataInput in) throws IOException {
+        long seq = in.readLong();
+        Kind kind = Kind.values()[in.readByte()];
+        UUID walletId = new UUID(in.readLong(), in.readLong());
+        long cents = in.readLong();
+        long appliedAt = in.readLong();
+        if (kind == Kind.LOADED) {
+            return loaded(seq, walletId, cents, appliedAt);
+        }
+        String key = in.readUTF();
+        UUID to = null;
+        String endToEndId = null;
+        if (in.readBoolean()) {
+            to = new UUID(in.readLong(), in.readLong());
+            endToEndId = in.readUTF();
+        }
+        return new JournalEntry(seq, kind, walletId, cents, key, to, endToEndId, appliedAt);
+    }
+}
@@ -0,0 +1,111 @@
+package org.pix.wallet.infrastructure.engine;
+
+import java.util.UUID;
+
+/**
+ * Open-addressing map from wallet id to available balance in cents, stored in parallel
+ * primitive arrays (no boxing, no per-entry objects). Also keeps the sequence of the last
+ * journal event that touched each wallet. Single-threaded: owned by one engine shard.
+ */
+final class WalletBalanceMap {
+
+    static final long MISSING = Long.MIN_VALUE;
+
+    private long[] msb;
+    private long[] lsb;
+    private long[] cents;
+    private long[] lastSeq;
+    private boolean[] used;
+    private int size;
+
+    WalletBalanceMap(int expectedWallets) {
+        allocate(Integer.highestOneBit(Math.max(16, expectedWallets * 2 - 1)) << 1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the balance in cents, or {@link #MISSING} when the wallet was never loaded
+     */
+    long cents(UUID walletId) {
+        int slot = find(walletId.getMostSignificantBits(), walletId.getLeastSignificantBits());
+        return used[slot] ? cents[slot] : MISSING;
+    }
+
+    long lastSeq(UUID walletId) {
+        int slot = find(walletId.getMostSignificantBits(), walletId.getLeastSignificantBits());
+        return used[slot] ? lastSeq[slot] : MISSING;
+    }
+
+    void put(UUID walletId, long balanceCents, long seq) {
+        put(walletId.getMostSignificantBits(), walletId.getLeastSignificantBits(), balanceCents, seq);
+    }
+
+    void put(long idMsb, long idLsb, long balanceCents, long seq) {
+        int slot = find(idMsb, idLsb);
+        if (!used[slot]) {
+            used[slot] = true;
+            msb[slot] = idMsb;
+            lsb[slot] = idLsb;
+            if (++size * 2 > used.length) {
+                cents[slot] = balanceCents;
+                lastSeq[slot] = seq;
+                grow();
+                return;
+            }
+        }
+        cents[slot] = balanceCents;
+        lastSeq[slot] = seq;
+    }
+
+    void forEach(Visitor visitor) {
+        for (int i = 0; i < used.length; i++) {
+            if (used[i]) {
+                visitor.visit(msb[i], lsb[i], cents[i], lastSeq[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long idMsb, long idLsb, long balanceCents, long seq);
+    }
+
+    private int find(long idMsb, long idLsb) {
+        int mask = used.length - 1;
+        long h = idMsb ^ idLsb;
+        int slot = (int) (h ^ (h >>> 32)) * 0x9E3779B9 & mask;
+        while (used[slot] && (msb[slot] != idMsb || lsb[slot] != idLsb)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        msb = new long[capacity];
+        lsb = new long[capacity];
+        cents = new long[capacity];
+        lastSeq = new long[capacity];
+        used = new boolean[capacity];
+    }
+
+    private void grow() {
+        long[] oldMsb = msb, oldLsb = lsb, oldCents = cents, oldSeq = lastSeq;
+        boolean[] oldUsed = used;
+        allocate(used.length * 2);
+        size = 0;
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                int slot = find(oldMsb[i], oldLsb[i]);
+                used[slot] = true;
+                msb[slot] = oldMsb[i];
+                lsb[slot] = oldLsb[i];
+                cents[slot] = oldCents[i];
+                lastSeq[slot] = oldSeq[i];
+                size++;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.pix.wallet.infrastructure.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.application.port.out.WalletEnginePort;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * In-memory wallet engine in the style of the LMAX architecture: commands go through a
+ * bounded queue to a single applier thread per shard, which owns the balances of its
+ * wallets, journals what it accepts and only then answers. Postgres is a projection
+ * written behind the journal (see {@link EngineShard}).
+ *
+ * <p>Wallets are spread over shards by id. Every command touches one wallet (a transfer
+ * only reserves funds on its source wallet), so shards never coordinate.</p>
+ *
+ * <p>On start each shard loads its latest snapshot, replays the journal written after it
+ * and re-projects whatever the database had not received; on stop it drains its queue,
+ * waits for the projection and writes a snapshot so the next start replays little.</p>
+ */
+@Slf4j
+public class WalletEngine implements WalletEnginePort, SmartLifecycle {
+
+    /**
+     * @param queueCapacity   commands waiting per shard (and journal entries waiting for the projection)
+     * @param maxBatchSize    commands decided per journal write
+     * @param snapshotEvery   journal entries between snapshots
+     * @param keyRetention    how long idempotency keys stay in memory once projected
+     * @param submitTimeout   how long a caller waits for room in a full queue
+     */
+    public record Settings(int queueCapacity, int maxBatchSize, long snapshotEvery, Duration keyRetention,
+                           Duration submitTimeout) {
+    }
+
+    private final List<EngineShard> shards = new ArrayList<>();
+    private final Duration projectionDrainTimeout;
+    private volatile boolean running;
+
+    public WalletEngine(Path directory, int shardCount, Settings settings, Duration projectionDrainTimeout,
+                        LedgerEntryRepositoryPort ledger, Projection projection, MetricsService metricsService,
+                        Clock clock) {
+        this.projectionDrainTimeout = projectionDrainTimeout;
+        try {
+            for (int i = 0; i < shardCount; i++) {
+                shards.add(new EngineShard(i, directory.resolve("shard-" + i), ledger, projection,
+                    metricsService, settings, clock));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open wallet engine directory " + directory, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Outcome> submit(Command command) {
+        return shardOf(command).submit(command);
+    }
+
+    @Override
+    public void start() {
+        try {
+            for (EngineShard shard : shards) {
+                shard.start();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Wallet engine recovery failed", e);
+        }
+        running = true;
+        log.info("Wallet engine started with {} shards", shards.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        shards.forEach(shard -> shard.stop(projectionDrainTimeout));
+        log.info("Wallet engine stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Journal events not yet written to the database, over all shards.
+     */
+    public long projectionLag() {
+        return shards.stream().mapToLong(s -> s.journaledSeq() - s.projectedSeq()).sum();
+    }
+
+    private EngineShard shardOf(Command command) {
+        return shards.get(Math.floorMod(command.walletId().hashCode(), shards.size()));
+    }
+}
@@ -0,0 +1,76 @@
+package org.pix.wallet.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.out.EventPublisherPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stand-in publisher that appends one JSON document per event to a local file
+ * (JSON Lines). Useful for local runs and for inspecting what downstream would receive.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "pix.outbox.publisher", name = "type", havingValue = "file")
+public class FileEventPublisher implements EventPublisherPort {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileEventPublisher(@Value("${pix.outbox.publisher.file-path:target/outbox-events.jsonl}") String filePath,
+                              ObjectMapper objectMapper) {
+        this.file = Path.of(filePath);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<EventMessage> events) {
+        StringBuilder lines = new StringBuilder();
+        for (EventMessage event : events) {
+            lines.append(toJson(event)).append('\n');
+        }
+        // ReentrantLock instead of synchronized: blocking file I/O must not pin virtual threads
+        lock.lock();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append outbox events to " + file, e);
+        } finally {
+            lock.unlock();
+        }
+        log.trace("Published {} events to {}", events.size(), file);
+    }
+
+    private String toJson(EventMessage event) {
+        try {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("sequence", event.sequence());
+            node.put("aggregateType", event.aggregateType());
+            node.put("aggregateId", event.aggregateId());
+            node.put("eventType", event.eventType());
+            node.put("createdAt", event.createdAt().toString());
+            node.set("payload", objectMapper.readTree(event.payload()));
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event " + event.sequence(), e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.pix.wallet.infrastructure.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.out.EventPublisherPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Stand-in publisher that keeps events in memory. Default when no broker is configured;
+ * also used by tests to assert what the relay delivered.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "pix.outbox.publisher", name = "type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryEventPublisher implements EventPublisherPort {
+
+    private final ConcurrentLinkedQueue<EventMessage> published = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void publish(List<EventMessage> events) {
+        published.addAll(events);
+        log.trace("Published {} events in memory", events.size());
+    }
+
+    public List<EventMessage> published() {
+        return List.copyOf(published);
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,119 @@
+package org.pix.wallet.infrastructure.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.out.EventPublisherPort;
+import org.pix.wallet.application.port.out.EventPublisherPort.EventMessage;
+import org.pix.wallet.application.port.out.OutboxRepositoryPort;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Drains the transactional outbox to the configured {@link EventPublisherPort}.
+ *
+ * <p>Each batch runs in its own transaction: rows are locked with
+ * {@code FOR UPDATE SKIP LOCKED}, published, then deleted (or marked as
+ * published) in one statement. If publishing fails the transaction rolls back
+ * and the batch is retried on the next poll, so delivery is at-least-once and
+ * consumers must deduplicate by {@code sequence}. With wallet sharding every shard has
+ * its own outbox (and its own sequence) and each poll drains them in turn.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "pix.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    public enum CleanupMode { DELETE, MARK }
+
+    private final OutboxRepositoryPort outboxRepositoryPort;
+    private final EventPublisherPort eventPublisherPort;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricsService metricsService;
+    private final ShardRouter shardRouter;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final CleanupMode cleanupMode;
+
+    public OutboxRelay(OutboxRepositoryPort outboxRepositoryPort,
+                       EventPublisherPort eventPublisherPort,
+                       TransactionTemplate transactionTemplate,
+                       MetricsService metricsService,
+                       ShardRouter shardRouter,
+                       @Value("${pix.outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${pix.outbox.relay.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                       @Value("${pix.outbox.relay.cleanup:DELETE}") CleanupMode cleanupMode) {
+        this.outboxRepositoryPort = outboxRepositoryPort;
+        this.eventPublisherPort = eventPublisherPort;
+        this.transactionTemplate = transactionTemplate;
+        this.metricsService = metricsService;
+        this.shardRouter = shardRouter;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.cleanupMode = cleanupMode;
+    }
+
+    @Scheduled(fixedDelayString = "${pix.outbox.relay.poll-interval-ms:500}")
+    public void poll() {
+        shardRouter.forEachShard(this::drain);
+    }
+
+    private void drain() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            int relayed;
+            try {
+                relayed = relayBatch();
+            } catch (RuntimeException e) {
+                metricsService.recordOutboxPublishFailure();
+                log.error("Outbox relay batch failed; will retry on next poll",
+                          kv("errorType", "outbox_publish_failed"),
+                          kv("errorMessage", e.getMessage()));
+                return;
+            }
+            if (relayed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Relays a single batch and returns how many events were published.
+     */
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<EventMessage> batch = outboxRepositoryPort.lockNextBatch(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            eventPublisherPort.publish(batch);
+
+            Instant now = Instant.now();
+            List<Long> ids = batch.stream().map(EventMessage::sequence).toList();
+            if (cleanupMode == CleanupMode.MARK) {
+                outboxRepositoryPort.markPublished(ids, now);
+            } else {
+                outboxRepositoryPort.delete(ids);
+            }
+
+            metricsService.recordOutboxBatchPublished(batch.size());
+            batch.forEach(e -> metricsService.recordOutboxPublishLag(Duration.between(e.createdAt(), now)));
+
+            log.debug("Outbox batch relayed",
+                      kv("batchSize", batch.size()),
+                      kv("firstSequence", ids.get(0)),
+                      kv("lastSequence", ids.get(ids.size() - 1)));
+            return batch.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+}
@@ -1,14 +1,18 @@
 package org.pix.wallet.infrastructure.observability;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import io.r2dbc.pool.PoolMetrics;
+import org.pix.wallet.infrastructure.persistence.datasource.ConnectionLimitingDataSource;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Serviço centralizado para gerenciamento de métricas customizadas da aplicação.
@@ -48,6 +52,133 @@ import java.util.concurrent.atomic.AtomicInteger;
  *   <li><code>pix.pixkeys.registered</code> - Total de chaves PIX registradas</li>
  * </ul>
  * 
+ * <h3>Métricas Outbox:</h3>
+ * <ul>
+ *   <li><code>pix.outbox.events.appended</code> - Eventos gravados no outbox (por eventType)</li>
+ *   <li><code>pix.outbox.events.published</code> - Eventos publicados pelo relay (throughput)</li>
+ *   <li><code>pix.outbox.batch.size</code> - Distribuição do tamanho dos lotes publicados</li>
+ *   <li><code>pix.outbox.publish.lag</code> - Tempo entre gravação no outbox e publicação</li>
+ *   <li><code>pix.outbox.publish.failures</code> - Lotes que falharam e serão reprocessados</li>
+ * </ul>
+ * 
+ * <h3>Métricas de Group Commit do Ledger:</h3>
+ * <ul>
+ *   <li><code>pix.ledger.group_commit.batch.size</code> - Lançamentos gravados por commit (distribuição)</li>
+ *   <li><code>pix.ledger.group_commit.queue.latency</code> - Latência adicionada pela fila (enfileiramento até commit)</li>
+ *   <li><code>pix.ledger.group_commit.queue.depth</code> - Lançamentos aguardando o writer (gauge)</li>
+ *   <li><code>pix.ledger.group_commit.overflow</code> - Fila cheia; gravação feita diretamente</li>
+ *   <li><code>pix.ledger.group_commit.failures</code> - Grupos que falharam (todos os chamadores recebem erro)</li>
+ * </ul>
+ * 
+ * <h3>Métricas de Carteiras Particionadas (balance buckets):</h3>
+ * <ul>
+ *   <li><code>pix.wallet.buckets.debit.fallback</code> - Débitos que precisaram travar todos os buckets</li>
+ * </ul>
+ * 
+ * <h3>Métricas de Sharding Horizontal:</h3>
+ * <ul>
+ *   <li><code>pix.sharding.cross_shard_credit.deferred</code> - Créditos entre shards registrados na liquidação</li>
+ *   <li><code>pix.sharding.cross_shard_credit.lag</code> - Tempo até o crédito ser aplicado no shard de destino</li>
+ *   <li><code>pix.sharding.scatter.lookups</code> - Consultas feitas shard a shard (busca por end-to-end id / event id)</li>
+ *   <li><code>pix.sharding.foreign.reads</code> - Leituras de carteiras de outro shard fora da transação</li>
+ * </ul>
+ * 
+ * <h3>Métricas de Afinidade de Carteira:</h3>
+ * <ul>
+ *   <li><code>pix.affinity.requests</code> - Decisões por requisição (tag outcome: local, forwarded, hinted, forward_failed, forwarded_in)</li>
+ *   <li><code>pix.affinity.members</code> - Instâncias vivas no anel (gauge)</li>
+ * </ul>
+ * 
+ * <h3>Métricas do Read Model (CQRS):</h3>
+ * <ul>
+ *   <li><code>pix.read_model.events.projected</code> - Lançamentos do ledger aplicados às projeções</li>
+ *   <li><code>pix.read_model.projection.lag</code> - Tempo entre o lançamento e sua projeção</li>
+ *   <li><code>pix.read_model.gaps.skipped</code> - Buracos na sequência do ledger dados como rollback após o timeout</li>
+ *   <li><code>pix.read_model.batch.failures</code> - Lotes do projetor que falharam (reprocessados no próximo ciclo)</li>
+ *   <li><code>pix.read_model.rebuild</code> - Duração das reconstruções completas</li>
+ *   <li><code>pix.read_model.balance_rebuild.progress</code> - Fração do ledger já agregada pela reconstrução de saldos (gauge)</li>
+ *   <li><code>pix.read_model.balance_rebuild.eta</code> - Tempo restante estimado em segundos (gauge)</li>
+ *   <li><code>pix.read_model.balance_rebuild.entries</code> - Lançamentos agregados</li>
+ *   <li><code>pix.read_model.balance_rebuild.differences</code> - Divergências encontradas (tag kind: mismatched, missing, extra)</li>
+ * </ul>
+ * 
+ * <h3>Métricas de Criação de Transferência em Chamada Única:</h3>
+ * <ul>
+ *   <li><code>pix.transfer.single_call</code> - Resultados da função <code>pix_create_transfer</code> (tag outcome: CREATED, DUPLICATE, INSUFFICIENT_FUNDS, PIX_KEY_NOT_FOUND, NOT_APPLICABLE, ...)</li>
+ * </ul>
+ * 
+ * <h3>Métricas do Motor de Carteiras em Memória:</h3>
+ * <ul>
+ *   <li><code>pix.engine.commands</code> - Comandos processados (tags type: DEPOSIT, WITHDRAW, TRANSFER; result: APPLIED, DUPLICATE, INSUFFICIENT_FUNDS)</li>
+ *   <li><code>pix.engine.journal.batch.size</code> - Eventos gravados por flush do journal (distribuição)</li>
+ *   <li><code>pix.engine.journal.flush</code> - Duração do write + fsync de cada lote do journal</li>
+ *   <li><code>pix.engine.projection.lag</code> - Eventos do journal ainda não projetados no Postgres (gauge, tag shard)</li>
+ *   <li><code>pix.engine.projection.failures</code> - Falhas da projeção (o evento é reprocessado)</li>
+ *   <li><code>pix.engine.snapshot</code> - Duração da gravação de snapshots</li>
+ * </ul>
+ * 
+ * <h3>Métricas do Journal Local de Webhooks:</h3>
+ * <ul>
+ *   <li><code>pix.webhook.journal.appends</code> - Webhooks confirmados a partir do journal (tag outcome: journaled) ou processados inline (inline)</li>
+ *   <li><code>pix.webhook.journal.drained</code> - Webhooks drenados do journal (tag outcome: processed, rejected) - a taxa é a vazão de drenagem</li>
+ *   <li><code>pix.webhook.journal.retries</code> - Tentativas de drenagem que falharam e serão repetidas</li>
+ *   <li><code>pix.webhook.journal.fsync</code> - Duração do fsync dos registros do journal</li>
+ *   <li><code>pix.webhook.journal.depth</code> - Webhooks no journal ainda não drenados (gauge)</li>
+ *   <li><code>pix.webhook.journal.segments</code> / <code>pix.webhook.journal.segment.usage</code> - Segmentos em uso e fração de max-segments (gauges)</li>
+ * </ul>
+ * 
+ * <h3>Métricas do Cache de Chaves PIX:</h3>
+ * <ul>
+ *   <li><code>pix.pixkey.cache.lookups</code> - Resoluções de chave PIX (tag result: hit, negative_hit, miss) - base do hit ratio</li>
+ *   <li><code>pix.pixkey.cache.load</code> - Latência da carga no banco em caso de miss</li>
+ *   <li><code>pix.pixkey.cache.size</code> - Entradas no cache (gauge, tag kind: positive, negative)</li>
+ * </ul>
+ * 
+ * <h3>Métricas do Near Cache de Status de Carteira:</h3>
+ * <ul>
+ *   <li><code>pix.wallet.cache.lookups</code> - Leituras de carteira (tags result: request_hit, hit, miss; operation) - request_hit + hit = queries economizadas</li>
+ *   <li><code>pix.wallet.cache.size</code> - Carteiras no near cache (gauge)</li>
+ * </ul>
+ * 
+ * <h3>Métricas de Invalidação de Cache entre Instâncias:</h3>
+ * <ul>
+ *   <li><code>pix.cache.invalidation.published</code> / <code>pix.cache.invalidation.publish.failures</code> - Invalidações enviadas via pg_notify (tag cache)</li>
+ *   <li><code>pix.cache.invalidation.lag</code> - Tempo entre o envio e a remoção local (tag cache)</li>
+ *   <li><code>pix.cache.invalidation.reconnects</code> - Reconexões do listener (cada uma esvazia todos os caches)</li>
+ *   <li><code>pix.cache.invalidation.epoch</code> - Época atual do listener (gauge)</li>
+ * </ul>
+ * 
+ * <h3>Métricas do Cache de Transferências Recentes:</h3>
+ * <ul>
+ *   <li><code>pix.transfer.recent.lookups</code> - Buscas do webhook por end-to-end id (tag result: hit, miss) - hit = leitura do banco economizada</li>
+ *   <li><code>pix.transfer.recent.evictions</code> - Entradas removidas (tag reason: updated, terminal, expired, capacity, remote)</li>
+ *   <li><code>pix.transfer.recent.size</code> - Transferências PENDING em memória (gauge)</li>
+ * </ul>
+ * 
+ * <h3>Métricas do Armazenamento de Saldos Off-Heap:</h3>
+ * <ul>
+ *   <li><code>pix.balance.store.lookups</code> - Leituras de saldo (tag result: hit, miss, expired, uncached) - hit = queries economizadas</li>
+ *   <li><code>pix.balance.store.entries</code> - Carteiras na tabela off-heap (gauge)</li>
+ *   <li><code>pix.balance.store.off_heap.bytes</code> - Memória direta reservada pela tabela (gauge)</li>
+ * </ul>
+ * 
+ * <h3>Métricas de Roteamento para Réplicas:</h3>
+ * <ul>
+ *   <li><code>pix.datasource.route</code> - Decisões de roteamento de leituras (tags: route, target, reason)</li>
+ *   <li><code>pix.datasource.replica.lag</code> - Lag observado por réplica em segundos (gauge)</li>
+ * </ul>
+ * 
+ * <h3>Métricas de Execução (virtual threads / pool JDBC):</h3>
+ * <ul>
+ *   <li><code>pix.datasource.limiter.waiting</code> - Threads aguardando permissão de conexão (gauge)</li>
+ *   <li><code>pix.datasource.limiter.available</code> - Permissões de conexão livres (gauge)</li>
+ *   <li><code>pix.datasource.limiter.wait</code> - Tempo de espera por permissão de conexão</li>
+ *   <li><code>pix.datasource.limiter.rejected</code> - Requisições que excederam o timeout do limitador</li>
+ *   <li><code>pix.datasource.connection.hold</code> - Tempo entre obter e devolver a conexão, por caso de uso (histograma, tag use_case)</li>
+ *   <li><code>pix.virtual_threads.pinned</code> - Ocorrências (e duração) de pinning de carrier threads</li>
+ *   <li><code>pix.r2dbc.pool.acquired</code> / <code>idle</code> / <code>pending</code> - Pool R2DBC do caminho de leitura reativo (gauges, tag <code>pool</code>)</li>
+ * </ul>
+ * 
  * <h3>Uso em Dashboards:</h3>
  * <p>Estas métricas são projetadas para alimentar dashboards Grafana que mostram:</p>
  * <ul>
@@ -117,6 +248,58 @@ public class MetricsService {
     
     private final Counter withdrawalsCompleted;
     
+    // Outbox Metrics
+    
+    private final Counter outboxEventsPublished;
+    
+    private final Counter outboxPublishFailures;
+    
+    private final DistributionSummary outboxBatchSize;
+    
+    private final Timer outboxPublishLag;
+    
+    // Ledger Group Commit Metrics
+    
+    private final DistributionSummary ledgerGroupCommitBatchSize;
+    
+    private final Timer ledgerGroupCommitLatency;
+    
+    private final Counter ledgerGroupCommitOverflow;
+    
+    private final Counter ledgerGroupCommitFailures;
+    
+    private final Counter balanceBucketFallback;
+    
+    // Sharding Metrics
+    
+    private final Counter crossShardCreditDeferred;
+    
+    private final Timer crossShardCreditLag;
+    
+    private final Counter shardScatterLookups;
+    
+    private final Counter shardForeignReads;
+    
+    // Read Model Metrics
+    
+    private final Counter readModelEventsProjected;
+    
+    private final Timer readModelProjectionLag;
+    
+    private final Counter readModelGapsSkipped;
+    
+    private final Counter readModelBatchFailures;
+    
+    private final Timer readModelRebuild;
+    
+    // Execution Metrics
+    
+    private final Timer connectionLimiterWait;
+    
+    private final Counter connectionLimiterRejected;
+    
+    private final Timer virtualThreadPinned;
+    
     /**
      * Construtor que inicializa todas as métricas no MeterRegistry.
      * 
@@ -220,6 +403,114 @@ public class MetricsService {
             .tag("type", "withdrawal")
             .register(registry);
         
+    // Outbox
+        
+        this.outboxEventsPublished = Counter.builder("pix.outbox.events.published")
+            .description("Total number of outbox events published by the relay")
+            .tag("type", "outbox")
+            .register(registry);
+        
+        this.outboxPublishFailures = Counter.builder("pix.outbox.publish.failures")
+            .description("Number of outbox batches that failed to publish and were rolled back")
+            .tag("type", "outbox")
+            .register(registry);
+        
+        this.outboxBatchSize = DistributionSummary.builder("pix.outbox.batch.size")
+            .description("Number of events published per relay batch")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry);
+        
+        this.outboxPublishLag = Timer.builder("pix.outbox.publish.lag")
+            .description("Time between an event being written to the outbox and being published")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(registry);
+        
+        // Ledger Group Commit
+        
+        this.ledgerGroupCommitBatchSize = DistributionSummary.builder("pix.ledger.group_commit.batch.size")
+            .description("Ledger entries written per group commit")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry);
+        
+        this.ledgerGroupCommitLatency = Timer.builder("pix.ledger.group_commit.queue.latency")
+            .description("Latency added by the group-commit queue, from submit to commit")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry);
+        
+        this.ledgerGroupCommitOverflow = Counter.builder("pix.ledger.group_commit.overflow")
+            .description("Ledger writes that bypassed the group-commit queue because it was full")
+            .tag("type", "ledger")
+            .register(registry);
+        
+        this.ledgerGroupCommitFailures = Counter.builder("pix.ledger.group_commit.failures")
+            .description("Group commits that failed")
+            .tag("type", "ledger")
+            .register(registry);
+        
+        this.balanceBucketFallback = Counter.builder("pix.wallet.buckets.debit.fallback")
+            .description("Debits on sharded wallets that needed the aggregate lock over all buckets")
+            .tag("type", "wallet")
+            .register(registry);
+        
+        // Sharding
+        
+        this.crossShardCreditDeferred = Counter.builder("pix.sharding.cross_shard_credit.deferred")
+            .description("Destination credits recorded on the source shard for later settlement")
+            .register(registry);
+        
+        this.crossShardCreditLag = Timer.builder("pix.sharding.cross_shard_credit.lag")
+            .description("Time between settling on the source shard and crediting the destination shard")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry);
+        
+        this.shardScatterLookups = Counter.builder("pix.sharding.scatter.lookups")
+            .description("Per-shard probes for rows not keyed by wallet (transfer, webhook)")
+            .register(registry);
+        
+        this.shardForeignReads = Counter.builder("pix.sharding.foreign.reads")
+            .description("Reads of a wallet on another shard than the current transaction")
+            .register(registry);
+        
+        // Read Model
+        
+        this.readModelEventsProjected = Counter.builder("pix.read_model.events.projected")
+            .description("Ledger entries applied to the read-model projections")
+            .register(registry);
+        
+        this.readModelProjectionLag = Timer.builder("pix.read_model.projection.lag")
+            .description("Time between a ledger entry being written and being projected")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry);
+        
+        this.readModelGapsSkipped = Counter.builder("pix.read_model.gaps.skipped")
+            .description("Ledger sequence gaps given up on as rolled back after the gap timeout")
+            .register(registry);
+        
+        this.readModelBatchFailures = Counter.builder("pix.read_model.batch.failures")
+            .description("Projector batches that failed and will be retried")
+            .register(registry);
+        
+        this.readModelRebuild = Timer.builder("pix.read_model.rebuild")
+            .description("Duration of full read-model rebuilds")
+            .register(registry);
+        
+        // Execution
+        
+        this.connectionLimiterWait = Timer.builder("pix.datasource.limiter.wait")
+            .description("Time spent waiting for a connection permit before reaching the pool")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry);
+        
+        this.connectionLimiterRejected = Counter.builder("pix.datasource.limiter.rejected")
+            .description("Connection requests rejected after the limiter acquire timeout")
+            .tag("type", "datasource")
+            .register(registry);
+        
+        this.virtualThreadPinned = Timer.builder("pix.virtual_threads.pinned")
+            .description("Virtual thread pinning events above the monitoring threshold")
+            .register(registry);
+        
         log.info("Custom metrics initialized successfully");
     }
     
@@ -333,6 +624,432 @@ public class MetricsService {
         log.trace("Metric recorded: withdrawal completed");
     }
     
+    // Outbox
+    
+    public void recordOutboxEventAppended(String eventType) {
+        registry.counter("pix.outbox.events.appended", "eventType", eventType).increment();
+        log.trace("Metric recorded: outbox event appended (type: {})", eventType);
+    }
+    
+    public void recordOutboxBatchPublished(int batchSize) {
+        outboxBatchSize.record(batchSize);
+        outboxEventsPublished.increment(batchSize);
+        log.trace("Metric recorded: outbox batch published (size: {})", batchSize);
+    }
+    
+    public void recordOutboxPublishLag(Duration lag) {
+        outboxPublishLag.record(lag);
+    }
+    
+    public void recordOutboxPublishFailure() {
+        outboxPublishFailures.increment();
+        log.trace("Metric recorded: outbox publish failure");
+    }
+    
+    // Ledger Group Commit
+    
+    public void registerLedgerGroupCommitQueue(Supplier<Number> depth) {
+        Gauge.builder("pix.ledger.group_commit.queue.depth", depth)
+            .description("Ledger entries waiting for the group-commit writer")
+            .register(registry);
+    }
+    
+    public void recordLedgerGroupCommit(int batchSize) {
+        ledgerGroupCommitBatchSize.record(batchSize);
+    }
+    
+    public void recordLedgerGroupCommitLatency(Duration latency) {
+        ledgerGroupCommitLatency.record(latency);
+    }
+    
+    public void recordLedgerGroupCommitOverflow() {
+        ledgerGroupCommitOverflow.increment();
+        log.trace("Metric recorded: ledger group commit overflow");
+    }
+    
+    public void recordLedgerGroupCommitFailure() {
+        ledgerGroupCommitFailures.increment();
+        log.trace("Metric recorded: ledger group commit failure");
+    }
+    
+    public void recordBalanceBucketFallback() {
+        balanceBucketFallback.increment();
+        log.trace("Metric recorded: balance bucket debit fallback");
+    }
+    
+    // Sharding
+    
+    public void recordCrossShardCreditDeferred() {
+        crossShardCreditDeferred.increment();
+        log.trace("Metric recorded: cross-shard credit deferred");
+    }
+    
+    public void recordCrossShardCreditApplied(Duration lag) {
+        crossShardCreditLag.record(lag);
+    }
+    
+    public void recordShardScatterLookup() {
+        shardScatterLookups.increment();
+    }
+    
+    public void recordShardForeignRead() {
+        shardForeignReads.increment();
+    }
+    
+    // Read Model
+    
+    public void recordReadModelProjected(int events, Duration lag) {
+        readModelEventsProjected.increment(events);
+        readModelProjectionLag.record(lag);
+    }
+    
+    public void recordReadModelGapSkipped() {
+        readModelGapsSkipped.increment();
+    }
+    
+    public void recordReadModelBatchFailure() {
+        readModelBatchFailures.increment();
+    }
+    
+    public void recordReadModelRebuild(Duration took) {
+        readModelRebuild.record(took);
+    }
+    
+    public void registerBalanceRebuildProgress(Supplier<Number> progress, Supplier<Number> etaSeconds) {
+        Gauge.builder("pix.read_model.balance_rebuild.progress", progress)
+            .description("Fraction of the ledger aggregated by the running balance rebuild")
+            .register(registry);
+        Gauge.builder("pix.read_model.balance_rebuild.eta", etaSeconds)
+            .description("Estimated seconds left in the running balance rebuild")
+            .baseUnit("seconds")
+            .register(registry);
+    }
+    
+    public void recordBalanceRebuildEntries(long entries) {
+        Counter.builder("pix.read_model.balance_rebuild.entries")
+            .description("Ledger entries aggregated by balance rebuilds")
+            .register(registry)
+            .increment(entries);
+    }
+    
+    public void recordBalanceRebuildMismatches(String kind, long count) {
+        Counter.builder("pix.read_model.balance_rebuild.differences")
+            .description("Stored balances found to differ from the ledger")
+            .tag("kind", kind)
+            .register(registry)
+            .increment(count);
+    }
+    
+    // Single-call Transfer Creation
+    
+    public void recordTransferSingleCall(String outcome) {
+        Counter.builder("pix.transfer.single_call")
+            .description("Transfer creations through the pix_create_transfer database function")
+            .tag("outcome", outcome)
+            .register(registry)
+            .increment();
+    }
+    
+    // Wallet Engine
+    
+    public void recordEngineCommand(String type, String result) {
+        Counter.builder("pix.engine.commands")
+            .description("Commands processed by the in-memory wallet engine")
+            .tag("type", type)
+            .tag("result", result)
+            .register(registry)
+            .increment();
+    }
+    
+    public void recordEngineJournalFlush(int events, Duration duration) {
+        DistributionSummary.builder("pix.engine.journal.batch.size")
+            .description("Events written per wallet engine journal flush")
+            .register(registry)
+            .record(events);
+        Timer.builder("pix.engine.journal.flush")
+            .description("Write and fsync of one wallet engine journal batch")
+            .register(registry)
+            .record(duration);
+    }
+    
+    public void registerEngineProjectionLag(int shard, Supplier<Number> lag) {
+        Gauge.builder("pix.engine.projection.lag", lag)
+            .description("Wallet engine journal events not yet projected to the database")
+            .tag("shard", String.valueOf(shard))
+            .register(registry);
+    }
+    
+    public void recordEngineProjectionFailure() {
+        Counter.builder("pix.engine.projection.failures")
+            .description("Wallet engine projection attempts that failed and will be retried")
+            .register(registry)
+            .increment();
+    }
+    
+    public void recordEngineSnapshot(Duration duration) {
+        Timer.builder("pix.engine.snapshot")
+            .description("Time to write a wallet engine shard snapshot")
+            .register(registry)
+            .record(duration);
+    }
+    
+    // Webhook Journal
+    
+    public void recordWebhookJournalAppend(String outcome) {
+        Counter.builder("pix.webhook.journal.appends")
+            .description("Webhooks acknowledged from the local journal (journaled) or processed inline")
+            .tag("outcome", outcome)
+            .register(registry)
+            .increment();
+    }
+    
+    public void recordWebhookJournalDrained(String outcome) {
+        Counter.builder("pix.webhook.journal.drained")
+            .description("Journaled webhooks handed to the webhook use case and committed")
+            .tag("outcome", outcome)
+            .register(registry)
+            .increment();
+    }
+    
+    public void recordWebhookJournalRetry() {
+        Counter.builder("pix.webhook.journal.retries")
+            .description("Journaled webhook attempts that failed and will be retried")
+            .register(registry)
+            .increment();
+    }
+    
+    public void recordWebhookJournalFsync(Duration duration) {
+        Timer.builder("pix.webhook.journal.fsync")
+            .description("Time to force webhook journal records to disk")
+            .register(registry)
+            .record(duration);
+    }
+    
+    public void registerWebhookJournal(Supplier<Number> depth, Supplier<Number> segments, Supplier<Number> usage) {
+        Gauge.builder("pix.webhook.journal.depth", depth)
+            .description("Journaled webhooks not yet drained")
+            .register(registry);
+        Gauge.builder("pix.webhook.journal.segments", segments)
+            .description("Webhook journal segment files in use")
+            .register(registry);
+        Gauge.builder("pix.webhook.journal.segment.usage", usage)
+            .description("Webhook journal segments in use over max-segments")
+            .register(registry);
+    }
+    
+    // PIX Key Cache
+    
+    public void recordPixKeyCacheLookup(String result) {
+        Counter.builder("pix.pixkey.cache.lookups")
+            .description("PIX key resolutions by cache result")
+            .tag("result", result)
+            .register(registry)
+            .increment();
+    }
+    
+    public void recordPixKeyCacheLoad(Duration duration) {
+        Timer.builder("pix.pixkey.cache.load")
+            .description("Database resolution of a PIX key missing from the cache")
+            .register(registry)
+            .record(duration);
+    }
+    
+    public void registerPixKeyCacheSize(Supplier<Number> keys, Supplier<Number> unknown) {
+        Gauge.builder("pix.pixkey.cache.size", keys)
+            .description("PIX keys held in the cache")
+            .tag("kind", "positive")
+            .register(registry);
+        Gauge.builder("pix.pixkey.cache.size", unknown)
+            .description("PIX keys held in the cache")
+            .tag("kind", "negative")
+            .register(registry);
+    }
+    
+    // Wallet Status Cache
+    
+    public void recordWalletCacheLookup(String result, String operation) {
+        Counter.builder("pix.wallet.cache.lookups")
+            .description("Wallet lookups by cache result; request_hit and hit are queries saved")
+            .tag("result", result)
+            .tag("operation", operation)
+            .register(registry)
+            .increment();
+    }
+    
+    public void registerWalletCacheSize(Supplier<Number> size) {
+        Gauge.builder("pix.wallet.cache.size", size)
+            .description("Wallets held in the status near cache")
+            .register(registry);
+    }
+    
+    // Cache Invalidation
+    
+    public void recordCacheInvalidationPublished(String cache) {
+        Counter.builder("pix.cache.invalidation.published")
+            .description("Cache invalidations sent to the other instances")
+            .tag("cache", cache)
+            .register(registry)
+            .increment();
+    }
+    
+    public void recordCacheInvalidationPublishFailure(String cache) {
+        Counter.builder("pix.cache.invalidation.publish.failures")
+            .description("Cache invalidations that could not be sent (entries expire by TTL)")
+            .tag("cache", cache)
+            .register(registry)
+            .increment();
+    }
+    
+    public void recordCacheInvalidationReceived(String cache, Duration lag) {
+        Timer.builder("pix.cache.invalidation.lag")
+            .description("Time from an invalidation being sent to its eviction on this instance")
+            .tag("cache", cache)
+            .register(registry)
+            .record(lag);
+    }
+    
+    public void recordCacheInvalidationReconnect() {
+        Counter.builder("pix.cache.invalidation.reconnects")
+            .description("Reconnects of the cache invalidation listener (each empties every cache)")
+            .register(registry)
+            .increment();
+    }
+    
+    public void registerCacheInvalidationEpoch(Supplier<Number> epoch) {
+        Gauge.builder("pix.cache.invalidation.epoch", epoch)
+            .description("Listener connections made so far; caches are emptied when it changes")
+            .register(registry);
+    }
+    
+    // Recent Transfer Cache
+    
+    public void recordRecentTransferLookup(String result) {
+        Counter.builder("pix.transfer.recent.lookups")
+            .description("Webhook transfer lookups by recent transfer cache result; hit is a query saved")
+            .tag("result", result)
+            .register(registry)
+            .increment();
+    }
+    
+    public void recordRecentTransferEviction(String reason) {
+        Counter.builder("pix.transfer.recent.evictions")
+            .description("Transfers dropped from the recent transfer cache")
+            .tag("reason", reason)
+            .register(registry)
+            .increment();
+    }
+    
+    public void registerRecentTransferCacheSize(Supplier<Number> size) {
+        Gauge.builder("pix.transfer.recent.size", size)
+            .description("PENDING transfers held in the recent transfer cache")
+            .register(registry);
+    }
+    
+    // Off-heap Balance Store
+    
+    public void recordBalanceStoreLookup(String result) {
+        Counter.builder("pix.balance.store.lookups")
+            .description("Balance reads by off-heap store result; hit is a query saved, a miss costs two")
+            .tag("result", result)
+            .register(registry)
+            .increment();
+    }
+    
+    public void registerBalanceStore(Supplier<Number> entries, Supplier<Number> offHeapBytes) {
+        Gauge.builder("pix.balance.store.entries", entries)
+            .description("Wallets placed in the off-heap balance table")
+            .register(registry);
+        Gauge.builder("pix.balance.store.off_heap.bytes", offHeapBytes)
+            .description("Direct memory allocated by the off-heap balance table")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+    
+    // Wallet Affinity
+    
+    public void recordAffinityRequest(String outcome) {
+        Counter.builder("pix.affinity.requests")
+            .description("Wallet-affinity routing decisions per request")
+            .tag("outcome", outcome)
+            .register(registry)
+            .increment();
+    }
+    
+    public void registerAffinityMembers(Supplier<Number> members) {
+        Gauge.builder("pix.affinity.members", members)
+            .description("Live application instances in the wallet-affinity ring")
+            .register(registry);
+    }
+    
+    // Replica Routing
+    
+    public void recordDataSourceRoute(String route, String target, String reason) {
+        Counter.builder("pix.datasource.route")
+            .description("Read-only transaction routing decisions")
+            .tag("route", route)
+            .tag("target", target)
+            .tag("reason", reason)
+            .register(registry)
+            .increment();
+    }
+    
+    public void registerReplicaLag(String replica, Supplier<Number> lagSeconds) {
+        Gauge.builder("pix.datasource.replica.lag", lagSeconds)
+            .description("Last observed replica replay lag in seconds")
+            .tag("replica", replica)
+            .baseUnit("seconds")
+            .register(registry);
+    }
+    
+    // Execution
+    
+    public void registerConnectionLimiter(ConnectionLimitingDataSource limiter) {
+        Gauge.builder("pix.datasource.limiter.waiting", limiter, ConnectionLimitingDataSource::getWaiting)
+            .description("Threads waiting for a connection permit")
+            .register(registry);
+        Gauge.builder("pix.datasource.limiter.available", limiter, ConnectionLimitingDataSource::getAvailablePermits)
+            .description("Free connection permits")
+            .tag("max", String.valueOf(limiter.getMaxPermits()))
+            .register(registry);
+    }
+    
+    public void registerR2dbcPool(String poolName, PoolMetrics pool) {
+        Gauge.builder("pix.r2dbc.pool.acquired", pool, PoolMetrics::acquiredSize)
+            .description("R2DBC connections currently in use")
+            .tag("pool", poolName)
+            .register(registry);
+        Gauge.builder("pix.r2dbc.pool.idle", pool, PoolMetrics::idleSize)
+            .description("Idle R2DBC connections")
+            .tag("pool", poolName)
+            .register(registry);
+        Gauge.builder("pix.r2dbc.pool.pending", pool, PoolMetrics::pendingAcquireSize)
+            .description("Subscribers waiting for an R2DBC connection")
+            .tag("pool", poolName)
+            .register(registry);
+    }
+    
+    public void recordConnectionLimiterWait(Duration wait) {
+        connectionLimiterWait.record(wait);
+    }
+    
+    public void recordConnectionLimiterRejected() {
+        connectionLimiterRejected.increment();
+        log.trace("Metric recorded: connection limiter rejected");
+    }
+    
+    public void recordVirtualThreadPinned(Duration pinnedFor) {
+        virtualThreadPinned.record(pinnedFor);
+    }
+    
+    public void recordConnectionHold(String useCase, Duration heldFor) {
+        Timer.builder("pix.datasource.connection.hold")
+            .description("Time a pooled connection is held, from checkout to close, per use case")
+            .tag("use_case", useCase)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(heldFor);
+    }
+    
     // Utility
     
     public int getPendingTransfersCount() {
@@ -3,7 +3,9 @@ package org.pix.wallet.infrastructure.observability;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 
 /**
  * Utilitário para gerenciar contexto de observabilidade via MDC (Mapped Diagnostic Context).
@@ -42,9 +44,10 @@ import java.util.UUID;
  * quando o {@link org.pix.wallet.infrastructure.observability.TracingAspect} está ativo.</p>
  * 
  * <h3>Thread Safety:</h3>
- * <p>MDC é thread-safe e mantém contexto por thread. Em ambientes assíncronos,
- * use {@code MDC.getCopyOfContextMap()} e {@code MDC.setContextMap()} para
- * propagar contexto entre threads.</p>
+ * <p>MDC é thread-safe e mantém contexto por thread (inclusive virtual threads,
+ * que possuem ThreadLocals próprios). Em ambientes assíncronos, use
+ * {@link #wrap(Runnable)} / {@link #wrap(Callable)} para propagar o contexto
+ * da thread chamadora para a thread executora.</p>
  * 
  * @author PIX Wallet Team
  * @see org.slf4j.MDC
@@ -284,4 +287,55 @@ public final class ObservabilityContext {
     public static String getUserId() {
         return MDC.get(USER_ID_KEY);
     }
+    
+    /**
+     * Captura o MDC da thread atual e devolve um {@link Runnable} que o restaura
+     * na thread executora, recolocando o MDC anterior dessa thread ao final.
+     * 
+     * <p>Necessário para {@code @Async}, executores customizados e virtual threads,
+     * pois nenhum deles herda o MDC da thread que submeteu a tarefa.</p>
+     * 
+     * @param task tarefa a ser executada em outra thread
+     * @return tarefa que executa com o MDC capturado
+     */
+    public static Runnable wrap(Runnable task) {
+        Map<String, String> captured = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            restore(captured);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+    
+    /**
+     * Variante de {@link #wrap(Runnable)} para tarefas com retorno.
+     * 
+     * @param task tarefa a ser executada em outra thread
+     * @param <T> tipo do resultado
+     * @return tarefa que executa com o MDC capturado
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        Map<String, String> captured = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            restore(captured);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+    
+    private static void restore(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
 }
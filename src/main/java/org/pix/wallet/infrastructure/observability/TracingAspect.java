@@ -133,9 +133,11 @@ public class TracingAspect {
                 joinPoint.getTarget().getClass().getSimpleName(), 
                 joinPoint.getSignature().getName());
         
-        // Executar método dentro do contexto do span
-        try {
-            observation.start();
+        // Executar método dentro do contexto do span. O scope torna o span "corrente"
+        // apenas na thread que executa o método (ThreadLocal), o que é correto tanto em
+        // platform threads quanto em virtual threads; é sempre fechado na mesma thread.
+        observation.start();
+        try (Observation.Scope scope = observation.openScope()) {
             Object result = joinPoint.proceed();
             logger.debug("Span completed successfully: {}", operationName);
             return result;
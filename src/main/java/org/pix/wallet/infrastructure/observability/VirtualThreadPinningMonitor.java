@@ -0,0 +1,110 @@
+package org.pix.wallet.infrastructure.observability;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Guarda contra <i>pinning</i> de carrier threads quando virtual threads estão habilitadas.
+ * 
+ * <p>Uma virtual thread que bloqueia dentro de um bloco {@code synchronized} (ou em código
+ * nativo) fica presa à carrier thread, reduzindo o paralelismo efetivo ao tamanho do
+ * ForkJoinPool. Os caminhos JDBC são os mais expostos a isso.</p>
+ * 
+ * <ul>
+ *   <li>Na inicialização, verifica se o driver PostgreSQL é 42.6+ (versões anteriores usam
+ *       {@code synchronized} em {@code PgConnection}/{@code QueryExecutorImpl})</li>
+ *   <li>Em runtime, assina o evento JFR {@code jdk.VirtualThreadPinned} e registra cada
+ *       ocorrência acima do limiar na métrica {@code pix.virtual_threads.pinned} com log
+ *       dos frames do topo da pilha</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MIN_SAFE_DRIVER_MAJOR = 42;
+    private static final int MIN_SAFE_DRIVER_MINOR = 6;
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MetricsService metricsService;
+    private final DataSource dataSource;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MetricsService metricsService,
+                                       DataSource dataSource,
+                                       @Value("${pix.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        this.metricsService = metricsService;
+        this.dataSource = dataSource;
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started", kv("threshold", threshold));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void verifyJdbcDriver() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData meta = connection.getMetaData();
+            int major = meta.getDriverMajorVersion();
+            int minor = meta.getDriverMinorVersion();
+            boolean safe = major > MIN_SAFE_DRIVER_MAJOR
+                || (major == MIN_SAFE_DRIVER_MAJOR && minor >= MIN_SAFE_DRIVER_MINOR);
+            if (!safe) {
+                log.warn("JDBC driver uses synchronized I/O paths and will pin carrier threads",
+                         kv("driver", meta.getDriverName()),
+                         kv("driverVersion", meta.getDriverVersion()),
+                         kv("minimumRecommended", MIN_SAFE_DRIVER_MAJOR + "." + MIN_SAFE_DRIVER_MINOR));
+            }
+        } catch (SQLException e) {
+            log.warn("Could not verify JDBC driver version for virtual threads", kv("errorMessage", e.getMessage()));
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        metricsService.recordVirtualThreadPinned(event.getDuration());
+        String frames = event.getStackTrace() == null ? "" : event.getStackTrace().getFrames().stream()
+            .limit(LOGGED_FRAMES)
+            .map(VirtualThreadPinningMonitor::format)
+            .collect(Collectors.joining(" <- "));
+        log.warn("Virtual thread pinned its carrier thread",
+                 kv("durationMs", event.getDuration().toMillis()),
+                 kv("stack", frames));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
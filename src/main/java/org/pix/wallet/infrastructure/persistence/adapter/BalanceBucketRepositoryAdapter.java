@@ -0,0 +1,108 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.out.BalanceBucketRepositoryPort;
+import org.pix.wallet.domain.exception.InsufficientFundsException;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.entity.WalletEntity;
+import org.pix.wallet.infrastructure.persistence.repository.LedgerEntryJpaRepository;
+import org.pix.wallet.infrastructure.persistence.repository.WalletBalanceBucketJpaRepository;
+import org.pix.wallet.infrastructure.persistence.repository.WalletJpaRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Available balance of sharded ("hot") wallets, kept in {@code wallet_balance_bucket}
+ * next to the ledger and updated in the same transaction as each ledger entry.
+ *
+ * <p>Credits add to a random bucket, so concurrent credits touch different rows.
+ * Debits first try to take the whole amount from one unlocked bucket that covers it;
+ * when none does, they lock all buckets in order and drain them (aggregate fallback).</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceBucketRepositoryAdapter implements BalanceBucketRepositoryPort {
+
+    private final WalletBalanceBucketJpaRepository bucketRepo;
+    private final WalletJpaRepository walletRepo;
+    private final LedgerEntryJpaRepository ledgerRepo;
+    private final MetricsService metricsService;
+
+    public static boolean isSharded(WalletEntity wallet) {
+        return wallet.getBalanceBuckets() > 1;
+    }
+
+    @Override
+    public void configure(UUID walletId, int buckets) {
+        // Wallet row lock serializes reconfiguration against itself
+        WalletEntity wallet = walletRepo.lockById(walletId)
+            .orElseThrow(() -> new IllegalArgumentException("Wallet not found"));
+
+        bucketRepo.deleteAllForWallet(walletId);
+        int effective = buckets <= 1 ? 0 : buckets;
+        if (effective > 0) {
+            BigDecimal available = ledgerRepo.findAvailableBalance(walletId).orElse(BigDecimal.ZERO);
+            BigDecimal share = available.divide(BigDecimal.valueOf(effective), 2, RoundingMode.DOWN);
+            BigDecimal remainder = available.subtract(share.multiply(BigDecimal.valueOf(effective)));
+            for (int bucket = 0; bucket < effective; bucket++) {
+                bucketRepo.insert(walletId, bucket, bucket == 0 ? share.add(remainder) : share);
+            }
+        }
+        wallet.setBalanceBuckets(effective);
+        walletRepo.save(wallet);
+        log.info("Wallet {} balance buckets set to {}", walletId, effective);
+    }
+
+    public void credit(WalletEntity wallet, BigDecimal amount) {
+        credit(wallet.getId(), wallet.getBalanceBuckets(), amount);
+    }
+
+    public void credit(UUID walletId, int balanceBuckets, BigDecimal amount) {
+        int bucket = ThreadLocalRandom.current().nextInt(balanceBuckets);
+        bucketRepo.credit(walletId, bucket, amount);
+    }
+
+    public void debit(WalletEntity wallet, BigDecimal amount) {
+        debit(wallet.getId(), amount);
+    }
+
+    public void debit(UUID walletId, BigDecimal amount) {
+        List<Number> covering = bucketRepo.lockBucketCovering(walletId, amount);
+        if (!covering.isEmpty()) {
+            bucketRepo.debit(walletId, covering.get(0).intValue(), amount);
+            return;
+        }
+
+        metricsService.recordBalanceBucketFallback();
+        List<Object[]> buckets = bucketRepo.lockAll(walletId);
+        BigDecimal total = buckets.stream()
+            .map(row -> (BigDecimal) row[1])
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (total.compareTo(amount) < 0) {
+            throw new InsufficientFundsException(total, amount);
+        }
+
+        BigDecimal remaining = amount;
+        for (Object[] row : buckets) {
+            if (remaining.signum() == 0) {
+                break;
+            }
+            BigDecimal take = remaining.min((BigDecimal) row[1]);
+            if (take.signum() > 0) {
+                bucketRepo.debit(walletId, ((Number) row[0]).intValue(), take);
+                remaining = remaining.subtract(take);
+            }
+        }
+    }
+
+    public BigDecimal available(UUID walletId) {
+        return bucketRepo.sumBalance(walletId);
+    }
+}
@@ -0,0 +1,189 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.out.PixKeyRepositoryPort;
+import org.pix.wallet.domain.model.PixKey;
+import org.pix.wallet.domain.model.enums.PixKeyStatus;
+import org.pix.wallet.domain.model.enums.PixKeyType;
+import org.pix.wallet.infrastructure.cache.CacheInvalidationBus;
+import org.pix.wallet.infrastructure.cache.InvalidatableCache;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link PixKeyRepositoryPort} that keeps PIX key resolutions in memory
+ * ({@code pix.pix-key.cache.enabled}) and delegates to the direct adapter on a miss.
+ *
+ * <p>Active keys are kept for {@code ttl}; values that resolved to nothing are kept apart,
+ * for the much shorter {@code negative-ttl} and under their own bound, so probing for
+ * unknown keys neither reaches the database repeatedly nor evicts real keys.</p>
+ *
+ * <p>{@link #save} (key creation, or a {@link PixKey#deactivate() deactivated} key being
+ * stored) drops the value now and again after the transaction completes; a lookup that
+ * overlapped an invalidation is not cached. Other instances drop it when the
+ * {@link CacheInvalidationBus} is enabled, and otherwise once their entry expires.</p>
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "pix.pix-key.cache.enabled", havingValue = "true")
+public class CachingPixKeyRepositoryAdapter implements PixKeyRepositoryPort, InvalidatableCache {
+
+    static final String CACHE_NAME = "pix-key";
+
+    private record CachedKey(UUID id, UUID walletId, PixKeyType type, PixKeyStatus status,
+                             OffsetDateTime createdAt) {
+
+        PixKey toPixKey(String value) {
+            return new PixKey(id, walletId, type, value, status, createdAt);
+        }
+    }
+
+    private final PixKeyRepositoryPort delegate;
+    private final MetricsService metricsService;
+    private final int maxSize;
+    private final int warmUpSize;
+    private final NearCache<String, CachedKey> keys;
+    private final NearCache<String, Boolean> unknown;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final CacheInvalidationBus bus;
+
+    public CachingPixKeyRepositoryAdapter(@Qualifier("directPixKeyRepository") PixKeyRepositoryPort delegate,
+                                          MetricsService metricsService,
+                                          ObjectProvider<CacheInvalidationBus> bus,
+                                          @Value("${pix.pix-key.cache.max-size:100000}") int maxSize,
+                                          @Value("${pix.pix-key.cache.ttl:5m}") Duration ttl,
+                                          @Value("${pix.pix-key.cache.negative-max-size:10000}") int negativeMaxSize,
+                                          @Value("${pix.pix-key.cache.negative-ttl:5s}") Duration negativeTtl,
+                                          @Value("${pix.pix-key.cache.warm-up-size:0}") int warmUpSize) {
+        this.delegate = delegate;
+        this.metricsService = metricsService;
+        this.maxSize = maxSize;
+        this.warmUpSize = warmUpSize;
+        this.keys = new NearCache<>(maxSize, ttl.toNanos());
+        this.unknown = new NearCache<>(negativeMaxSize, negativeTtl.toNanos());
+        metricsService.registerPixKeyCacheSize(keys::size, unknown::size);
+        this.bus = bus.getIfAvailable();
+        if (this.bus != null) {
+            this.bus.register(this);
+        }
+    }
+
+    @Override
+    public PixKey save(PixKey key) {
+        PixKey saved = delegate.save(key);
+        invalidate(key.value());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(key.value());
+                }
+            });
+        }
+        if (bus != null) {
+            bus.publish(CACHE_NAME, key.value());
+        }
+        return saved;
+    }
+
+    @Override
+    public boolean existsByValue(String value) {
+        // Registration checks must see keys created a moment ago on any instance
+        return delegate.existsByValue(value);
+    }
+
+    @Override
+    public Optional<PixKey> findByValueAndActive(String value) {
+        CachedKey cached = keys.get(value);
+        if (cached != null) {
+            metricsService.recordPixKeyCacheLookup("hit");
+            return Optional.of(cached.toPixKey(value));
+        }
+        if (unknown.get(value) != null) {
+            metricsService.recordPixKeyCacheLookup("negative_hit");
+            return Optional.empty();
+        }
+
+        long epoch = invalidations.get();
+        long started = System.nanoTime();
+        Optional<PixKey> loaded = delegate.findByValueAndActive(value);
+        metricsService.recordPixKeyCacheLookup("miss");
+        metricsService.recordPixKeyCacheLoad(Duration.ofNanos(System.nanoTime() - started));
+
+        if (invalidations.get() == epoch) {
+            if (loaded.isPresent()) {
+                put(loaded.get());
+            } else {
+                unknown.put(value, Boolean.TRUE);
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public List<PixKey> findMostUsedActive(int limit) {
+        return delegate.findMostUsedActive(limit);
+    }
+
+    /**
+     * Preloads the keys of the most credited wallets ({@code warm-up-size}, 0 to skip).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (warmUpSize <= 0) {
+            return;
+        }
+        try {
+            List<PixKey> hottest = delegate.findMostUsedActive(Math.min(warmUpSize, maxSize));
+            hottest.forEach(this::put);
+            log.info("PIX key cache warmed up with {} keys", hottest.size());
+        } catch (RuntimeException e) {
+            log.warn("PIX key cache warm-up failed, starting cold", e);
+        }
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evict(String value) {
+        invalidate(value);
+    }
+
+    @Override
+    public void evictAll() {
+        invalidations.incrementAndGet();
+        keys.clear();
+        unknown.clear();
+    }
+
+    void invalidate(String value) {
+        invalidations.incrementAndGet();
+        keys.remove(value);
+        unknown.remove(value);
+    }
+
+    private void put(PixKey key) {
+        keys.put(key.value(), new CachedKey(key.id(), key.walletId(), key.type(), key.status(), key.createdAt()));
+        unknown.remove(key.value());
+    }
+}
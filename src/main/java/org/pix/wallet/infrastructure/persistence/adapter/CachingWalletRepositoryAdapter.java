@@ -0,0 +1,172 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.pix.wallet.application.port.out.WalletRepositoryPort;
+import org.pix.wallet.domain.model.Wallet;
+import org.pix.wallet.domain.model.enums.WalletStatus;
+import org.pix.wallet.infrastructure.cache.CacheInvalidationBus;
+import org.pix.wallet.infrastructure.cache.InvalidatableCache;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.observability.ObservabilityContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * {@link WalletRepositoryPort} that answers wallet lookups from memory
+ * ({@code pix.wallet.status-cache.enabled}): first from a per-request identity map, so one
+ * request never reads the same wallet twice, then from a process-wide near cache of
+ * id -> (status, creation time) kept for {@code ttl}.
+ *
+ * <p>{@link #save} (creation or a status change) drops the wallet now and again after the
+ * transaction completes, and a lookup that overlapped an invalidation is not cached. Other
+ * instances drop it through the {@link CacheInvalidationBus} when that is enabled. Status
+ * changes made directly in the database are seen once the entry expires, so {@code ttl}
+ * bounds how long a blocked wallet can keep operating.</p>
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "pix.wallet.status-cache.enabled", havingValue = "true")
+public class CachingWalletRepositoryAdapter implements WalletRepositoryPort, InvalidatableCache {
+
+    static final String CACHE_NAME = "wallet";
+
+    private static final String REQUEST_WALLETS = CachingWalletRepositoryAdapter.class.getName() + ".wallets";
+
+    private record CachedWallet(WalletStatus status, Instant createdAt) {
+    }
+
+    private final WalletRepositoryPort delegate;
+    private final MetricsService metricsService;
+    private final NearCache<UUID, CachedWallet> wallets;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final CacheInvalidationBus bus;
+
+    public CachingWalletRepositoryAdapter(@Qualifier("directWalletRepository") WalletRepositoryPort delegate,
+                                          MetricsService metricsService,
+                                          ObjectProvider<CacheInvalidationBus> bus,
+                                          @Value("${pix.wallet.status-cache.max-size:100000}") int maxSize,
+                                          @Value("${pix.wallet.status-cache.ttl:30s}") Duration ttl) {
+        this.delegate = delegate;
+        this.metricsService = metricsService;
+        this.wallets = new NearCache<>(maxSize, ttl.toNanos());
+        metricsService.registerWalletCacheSize(wallets::size);
+        this.bus = bus.getIfAvailable();
+        if (this.bus != null) {
+            this.bus.register(this);
+        }
+    }
+
+    @Override
+    public Wallet save(Wallet wallet) {
+        Wallet saved = delegate.save(wallet);
+        invalidate(wallet.id());
+        Map<UUID, Wallet> scoped = requestScoped();
+        if (scoped != null) {
+            scoped.remove(wallet.id());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(wallet.id());
+                }
+            });
+        }
+        if (bus != null) {
+            bus.publish(CACHE_NAME, wallet.id().toString());
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Wallet> findById(UUID id) {
+        Map<UUID, Wallet> scoped = requestScoped();
+        if (scoped != null && scoped.containsKey(id)) {
+            record("request_hit");
+            return Optional.of(scoped.get(id));
+        }
+
+        Wallet wallet;
+        CachedWallet cached = wallets.get(id);
+        if (cached != null) {
+            record("hit");
+            wallet = Wallet.builder().id(id).status(cached.status()).createdAt(cached.createdAt()).build();
+        } else {
+            long epoch = invalidations.get();
+            Optional<Wallet> loaded = delegate.findById(id);
+            record("miss");
+            if (loaded.isEmpty()) {
+                // Not cached: the wallet may be created a moment later
+                return loaded;
+            }
+            wallet = loaded.get();
+            if (invalidations.get() == epoch) {
+                wallets.put(id, new CachedWallet(wallet.status(), wallet.createdAt()));
+            }
+        }
+
+        if (scoped != null) {
+            scoped.put(id, wallet);
+        }
+        return Optional.of(wallet);
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evict(String id) {
+        invalidate(UUID.fromString(id));
+    }
+
+    @Override
+    public void evictAll() {
+        invalidations.incrementAndGet();
+        wallets.clear();
+    }
+
+    void invalidate(UUID id) {
+        invalidations.incrementAndGet();
+        wallets.remove(id);
+    }
+
+    private void record(String result) {
+        String operation = ObservabilityContext.getOperation();
+        metricsService.recordWalletCacheLookup(result, operation != null ? operation : "unknown");
+    }
+
+    /**
+     * Wallets already read by the current HTTP request, or {@code null} outside one
+     * (background threads, parallel lookups on executor threads).
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<UUID, Wallet> requestScoped() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<UUID, Wallet> scoped = (Map<UUID, Wallet>) attributes.getAttribute(REQUEST_WALLETS, RequestAttributes.SCOPE_REQUEST);
+        if (scoped == null) {
+            scoped = new HashMap<>();
+            attributes.setAttribute(REQUEST_WALLETS, scoped, RequestAttributes.SCOPE_REQUEST);
+        }
+        return scoped;
+    }
+}
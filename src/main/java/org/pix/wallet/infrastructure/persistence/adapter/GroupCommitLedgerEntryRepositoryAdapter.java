@@ -0,0 +1,125 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.domain.model.enums.OperationType;
+import org.pix.wallet.infrastructure.persistence.entity.WalletEntity;
+import org.pix.wallet.infrastructure.persistence.ledger.GroupCommitLedgerWriter;
+import org.pix.wallet.infrastructure.persistence.repository.WalletJpaRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link LedgerEntryRepositoryPort} that routes deposits through the group-commit writer
+ * and delegates everything else to the direct adapter selected by {@code pix.persistence.adapter}
+ * ({@link LedgerEntryRepositoryAdapter} or {@link JdbcLedgerEntryRepositoryAdapter}).
+ *
+ * <p>Only credits are coalesced. Debits (withdraw, reserve) keep their synchronous
+ * balance check in the caller's transaction; a deposit still sitting in the queue is
+ * simply not counted yet, which can only under-state the balance, never over-state it.
+ * Unreserve stays synchronous because it must commit or roll back together with the
+ * transfer status change in the webhook transaction.</p>
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "pix.ledger.group-commit.enabled", havingValue = "true")
+public class GroupCommitLedgerEntryRepositoryAdapter implements LedgerEntryRepositoryPort {
+
+    private final LedgerEntryRepositoryPort delegate;
+    private final WalletJpaRepository walletRepo;
+    private final GroupCommitLedgerWriter writer;
+    private final Duration commitTimeout;
+
+    public GroupCommitLedgerEntryRepositoryAdapter(@Qualifier("directLedgerEntryRepository") LedgerEntryRepositoryPort delegate,
+                                                   WalletJpaRepository walletRepo,
+                                                   GroupCommitLedgerWriter writer,
+                                                   @Value("${pix.ledger.group-commit.commit-timeout:5s}") Duration commitTimeout) {
+        this.delegate = delegate;
+        this.walletRepo = walletRepo;
+        this.writer = writer;
+        this.commitTimeout = commitTimeout;
+    }
+
+    @Override
+    public boolean existsByIdempotencyKey(String key) {
+        return delegate.existsByIdempotencyKey(key);
+    }
+
+    @Override
+    public String deposit(String walletId, BigDecimal amount, String idempotencyKey) {
+        UUID id = UUID.fromString(walletId);
+        // Checked up front: a missing wallet would violate the FK and fail the whole group
+        WalletEntity wallet = walletRepo.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Wallet not found"));
+        if (BalanceBucketRepositoryAdapter.isSharded(wallet)) {
+            // Bucket credit must share the caller's transaction with the ledger row
+            return delegate.deposit(walletId, amount, idempotencyKey);
+        }
+
+        Optional<CompletableFuture<String>> pending = writer.submit(id, OperationType.DEPOSIT, amount, idempotencyKey);
+        if (pending.isEmpty()) {
+            // Queue full or writer stopped: fall back to a direct insert
+            return delegate.deposit(walletId, amount, idempotencyKey);
+        }
+        return await(pending.get());
+    }
+
+    @Override
+    public String withdraw(String walletId, BigDecimal amount, String idempotencyKey) {
+        return delegate.withdraw(walletId, amount, idempotencyKey);
+    }
+
+    @Override
+    public String reserve(String walletId, BigDecimal amount, String idempotencyKey) {
+        return delegate.reserve(walletId, amount, idempotencyKey);
+    }
+
+    @Override
+    public String unreserve(String walletId, BigDecimal amount, String idempotencyKey) {
+        return delegate.unreserve(walletId, amount, idempotencyKey);
+    }
+
+    @Override
+    public Optional<BigDecimal> getBalanceAsOf(String walletId, Instant asOf) {
+        return delegate.getBalanceAsOf(walletId, asOf);
+    }
+
+    @Override
+    public Optional<BigDecimal> getCurrentBalance(String walletId) {
+        return delegate.getCurrentBalance(walletId);
+    }
+
+    @Override
+    public Optional<BigDecimal> getAvailableBalance(String walletId) {
+        return delegate.getAvailableBalance(walletId);
+    }
+
+    private String await(CompletableFuture<String> result) {
+        try {
+            return result.get(commitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Outcome unknown; a retry with the same idempotency key is safe
+            throw new IllegalStateException("Ledger group commit timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for ledger group commit", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Ledger group commit failed", e.getCause());
+        }
+    }
+}
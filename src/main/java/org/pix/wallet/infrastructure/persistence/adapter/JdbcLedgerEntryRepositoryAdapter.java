@@ -0,0 +1,179 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.domain.exception.InsufficientFundsException;
+import org.pix.wallet.domain.model.enums.OperationType;
+import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryCodec;
+import org.pix.wallet.infrastructure.persistence.entity.OperationTypeCodeConverter;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link LedgerEntryRepositoryPort} on plain {@link JdbcClient} prepared statements
+ * ({@code pix.persistence.adapter=jdbc}); same semantics as {@link LedgerEntryRepositoryAdapter}.
+ *
+ * <p>There is no persistence context: the wallet is read as one column instead of a managed
+ * entity, the entry is a single INSERT (Hibernate's {@code save} on an assigned id merges,
+ * i.e. SELECTs the row first) and nothing is dirty-checked at commit. Statements per call:</p>
+ * <pre>
+ *                       JPA   JDBC
+ *   deposit              3     2   wallet, [merge select], insert
+ *   withdraw / reserve   4     2   wallet, balance, [merge select], insert (wallet + balance in one)
+ *   unreserve            3     2
+ *   available balance    2     1   wallet, balance (one statement with a CASE on balance_buckets)
+ * </pre>
+ * <p>Bucket-sharded wallets add the same bucket statements in both adapters.</p>
+ */
+@Component
+@Qualifier("directLedgerEntryRepository")
+@ConditionalOnProperty(name = "pix.persistence.adapter", havingValue = "jdbc")
+public class JdbcLedgerEntryRepositoryAdapter implements LedgerEntryRepositoryPort {
+
+    // Operation codes as in OperationTypeCodeConverter: 0 DEPOSIT, 1 WITHDRAW, 5 RESERVED, 6 UNRESERVED
+    private static final String AVAILABLE_SUM = """
+        COALESCE(SUM(CASE WHEN operation_code IN (0, 6) THEN amount_cents
+                          WHEN operation_code IN (1, 5) THEN -amount_cents
+                          ELSE 0 END), 0) * 0.01""";
+    private static final String REAL_SUM = """
+        COALESCE(SUM(CASE WHEN operation_code = 0 THEN amount_cents
+                          WHEN operation_code = 1 THEN -amount_cents
+                          ELSE 0 END), 0) * 0.01""";
+
+    private static final String WALLET_BUCKETS = "SELECT balance_buckets FROM wallet WHERE id = ?";
+    private static final String WALLET_BUCKETS_AND_AVAILABLE =
+        "SELECT w.balance_buckets, (SELECT " + AVAILABLE_SUM + " FROM ledger_entry l WHERE l.wallet_id = w.id) "
+            + "FROM wallet w WHERE w.id = ?";
+    private static final String AVAILABLE_BALANCE =
+        "SELECT CASE WHEN w.balance_buckets > 1 "
+            + "THEN (SELECT COALESCE(SUM(b.balance), 0) FROM wallet_balance_bucket b WHERE b.wallet_id = w.id) "
+            + "ELSE (SELECT " + AVAILABLE_SUM + " FROM ledger_entry l WHERE l.wallet_id = w.id) END "
+            + "FROM wallet w WHERE w.id = ?";
+    private static final String INSERT = """
+        INSERT INTO ledger_entry (id, wallet_id, operation_code, amount_cents, created_at, idempotency_hash, end_to_end_id)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcClient jdbc;
+    private final BalanceBucketRepositoryAdapter buckets;
+    private final ShardRouter router;
+
+    public JdbcLedgerEntryRepositoryAdapter(JdbcClient jdbc, BalanceBucketRepositoryAdapter buckets, ShardRouter router) {
+        this.jdbc = jdbc;
+        this.buckets = buckets;
+        this.router = router;
+    }
+
+    @Override
+    public boolean existsByIdempotencyKey(String key) {
+        return jdbc.sql("SELECT 1 FROM ledger_entry WHERE idempotency_hash = ? LIMIT 1")
+            .param(LedgerEntryCodec.idempotencyHash(key))
+            .query(Integer.class)
+            .optional()
+            .isPresent();
+    }
+
+    @Override
+    public String deposit(String walletId, BigDecimal amount, String idempotencyKey) {
+        UUID id = UUID.fromString(walletId);
+        if (!router.isLocal(id)) {
+            return router.deferCredit(id, amount, idempotencyKey);
+        }
+        return router.onShard(id, () -> credit(id, OperationType.DEPOSIT, amount, idempotencyKey));
+    }
+
+    @Override
+    public String withdraw(String walletId, BigDecimal amount, String idempotencyKey) {
+        UUID id = UUID.fromString(walletId);
+        return router.onShard(id, () -> debit(id, OperationType.WITHDRAW, amount, idempotencyKey));
+    }
+
+    @Override
+    public String reserve(String walletId, BigDecimal amount, String idempotencyKey) {
+        UUID id = UUID.fromString(walletId);
+        return router.onShard(id, () -> debit(id, OperationType.RESERVED, amount, idempotencyKey));
+    }
+
+    @Override
+    public String unreserve(String walletId, BigDecimal amount, String idempotencyKey) {
+        UUID id = UUID.fromString(walletId);
+        return router.onShard(id, () -> credit(id, OperationType.UNRESERVED, amount, idempotencyKey));
+    }
+
+    @Override
+    public Optional<BigDecimal> getBalanceAsOf(String walletId, Instant asOf) {
+        UUID id = UUID.fromString(walletId);
+        return router.onShard(id, () -> jdbc.sql(
+                "SELECT " + AVAILABLE_SUM + " FROM ledger_entry WHERE wallet_id = ? AND created_at <= ?")
+            .params(id, Timestamp.from(asOf))
+            .query(BigDecimal.class)
+            .optional());
+    }
+
+    @Override
+    public Optional<BigDecimal> getCurrentBalance(String walletId) {
+        UUID id = UUID.fromString(walletId);
+        return router.onShard(id, () -> jdbc.sql("SELECT " + REAL_SUM + " FROM ledger_entry WHERE wallet_id = ?")
+            .param(id)
+            .query(BigDecimal.class)
+            .optional());
+    }
+
+    @Override
+    public Optional<BigDecimal> getAvailableBalance(String walletId) {
+        UUID id = UUID.fromString(walletId);
+        return router.onShard(id, () -> Optional.of(jdbc.sql(AVAILABLE_BALANCE)
+            .param(id)
+            .query(BigDecimal.class)
+            .optional()
+            // Unknown wallet: same answer as an empty ledger
+            .orElse(BigDecimal.ZERO)));
+    }
+
+    private String credit(UUID walletId, OperationType type, BigDecimal amount, String idempotencyKey) {
+        int balanceBuckets = jdbc.sql(WALLET_BUCKETS)
+            .param(walletId)
+            .query(Integer.class)
+            .optional()
+            .orElseThrow(() -> new IllegalArgumentException("Wallet not found"));
+        if (balanceBuckets > 1) {
+            buckets.credit(walletId, balanceBuckets, amount);
+        }
+        return insert(walletId, type, amount, idempotencyKey);
+    }
+
+    private String debit(UUID walletId, OperationType type, BigDecimal amount, String idempotencyKey) {
+        WalletFunds wallet = jdbc.sql(WALLET_BUCKETS_AND_AVAILABLE)
+            .param(walletId)
+            .query((rs, i) -> new WalletFunds(rs.getInt(1), rs.getBigDecimal(2)))
+            .optional()
+            .orElseThrow(() -> new IllegalArgumentException("Wallet not found"));
+        if (wallet.balanceBuckets() > 1) {
+            buckets.debit(walletId, amount);
+        } else if (wallet.available().compareTo(amount) < 0) {
+            throw new InsufficientFundsException(wallet.available(), amount);
+        }
+        return insert(walletId, type, amount, idempotencyKey);
+    }
+
+    private String insert(UUID walletId, OperationType type, BigDecimal amount, String idempotencyKey) {
+        UUID id = UUID.randomUUID();
+        jdbc.sql(INSERT)
+            .params(id, walletId, OperationTypeCodeConverter.code(type), LedgerEntryCodec.cents(amount),
+                Timestamp.from(Instant.now()), LedgerEntryCodec.idempotencyHash(idempotencyKey),
+                LedgerEntryCodec.endToEndId(idempotencyKey))
+            .update();
+        return id.toString();
+    }
+
+    private record WalletFunds(int balanceBuckets, BigDecimal available) {
+    }
+}
@@ -0,0 +1,154 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.pix.wallet.application.port.out.TransferRepositoryPort;
+import org.pix.wallet.domain.model.enums.TransferStatus;
+import org.pix.wallet.domain.validator.TransferStatusTransitionValidator;
+import org.pix.wallet.infrastructure.persistence.entity.EndToEndIds;
+import org.pix.wallet.infrastructure.persistence.entity.TransferStatusCodeConverter;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link TransferRepositoryPort} on plain {@link JdbcClient} prepared statements
+ * ({@code pix.persistence.adapter=jdbc}); same semantics as {@link TransferRepositoryAdapter}.
+ *
+ * <p>The optimistic version check moves into the UPDATE's WHERE clause instead of a
+ * managed entity flushed at commit. Statements per call:</p>
+ * <pre>
+ *                       JPA   JDBC
+ *   save                 1     1   insert
+ *   find                 1     1
+ *   updateStatus         2     2   select, update (JPA flushes the update at commit)
+ * </pre>
+ */
+@Component
+@Qualifier("directTransferRepository")
+@ConditionalOnProperty(name = "pix.persistence.adapter", havingValue = "jdbc")
+public class JdbcTransferRepositoryAdapter implements TransferRepositoryPort {
+
+    // Transfers live on the source wallet's shard
+    private static final String LOCATE_BY_IDEMPOTENCY_KEY = "SELECT from_wallet_id FROM transfer WHERE idempotency_key = ?";
+    private static final String LOCATE_BY_END_TO_END_ID = "SELECT from_wallet_id FROM transfer WHERE end_to_end_id = ?";
+    private static final String COLUMNS = """
+        SELECT id, end_to_end_id, from_wallet_id, to_wallet_id, amount_cents, currency, status_code, version, initiated_at
+        FROM transfer
+        """;
+    private static final String INSERT = """
+        INSERT INTO transfer (id, end_to_end_id, idempotency_key, from_wallet_id, to_wallet_id, amount_cents,
+                              currency, status_code, version, initiated_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+        """;
+    private static final String UPDATE_STATUS = """
+        UPDATE transfer SET status_code = ?, version = version + 1, updated_at = ?
+        WHERE end_to_end_id = ? AND version = ?
+        """;
+    private static final BigDecimal CENTS = new BigDecimal("100");
+
+    private final JdbcClient jdbc;
+    private final TransferStatusTransitionValidator transferStatusTransitionValidator;
+    private final ShardRouter router;
+
+    public JdbcTransferRepositoryAdapter(JdbcClient jdbc,
+                                         TransferStatusTransitionValidator transferStatusTransitionValidator,
+                                         ShardRouter router) {
+        this.jdbc = jdbc;
+        this.transferStatusTransitionValidator = transferStatusTransitionValidator;
+        this.router = router;
+    }
+
+    @Override
+    public boolean existsByIdempotencyKey(String idempotencyKey) {
+        return findByIdempotencyKey(idempotencyKey).isPresent();
+    }
+
+    @Override
+    public Optional<TransferResult> findByIdempotencyKey(String idempotencyKey) {
+        return router.onOwningShard(LOCATE_BY_IDEMPOTENCY_KEY, idempotencyKey,
+            () -> jdbc.sql(COLUMNS + "WHERE idempotency_key = ?")
+                .param(idempotencyKey)
+                .query(this::toResult)
+                .optional());
+    }
+
+    @Override
+    public Optional<TransferResult> findByEndToEndId(String endToEndId) {
+        return EndToEndIds.toKey(endToEndId).flatMap(this::find);
+    }
+
+    @Override
+    public TransferResult save(TransferCommand command) {
+        UUID endToEndKey = EndToEndIds.toKey(command.endToEndId())
+            .orElseThrow(() -> new IllegalArgumentException("Malformed end-to-end id: " + command.endToEndId()));
+        UUID id = UUID.randomUUID();
+        UUID from = UUID.fromString(command.fromWalletId());
+        long amountCents = command.amount().multiply(CENTS).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        TransferStatus status = TransferStatus.valueOf(command.status());
+        Instant now = Instant.now();
+
+        router.onShard(from, () -> jdbc.sql(INSERT)
+            .params(id, endToEndKey, command.idempotencyKey(), from, UUID.fromString(command.toWalletId()),
+                amountCents, command.currency(), TransferStatusCodeConverter.code(status),
+                Timestamp.from(now), Timestamp.from(now))
+            .update());
+
+        return new TransferResult(id, EndToEndIds.toText(endToEndKey), command.fromWalletId(), command.toWalletId(),
+            BigDecimal.valueOf(amountCents, 2), command.currency(), status.name(), 0, now);
+    }
+
+    @Override
+    public void updateStatus(String endToEndId, String status, int currentVersion) {
+        UUID endToEndKey = EndToEndIds.toKey(endToEndId)
+            .orElseThrow(() -> new IllegalArgumentException("Transfer not found: " + endToEndId));
+        TransferResult transfer = find(endToEndKey)
+            .orElseThrow(() -> new IllegalArgumentException("Transfer not found: " + endToEndId));
+
+        if (transfer.version() != currentVersion) {
+            throw new IllegalStateException("Transfer version mismatch - concurrent modification detected");
+        }
+
+        TransferStatus target = TransferStatus.valueOf(status);
+        transferStatusTransitionValidator.validate(TransferStatus.valueOf(transfer.status()), target);
+
+        // The shard is already pinned by find()
+        int updated = jdbc.sql(UPDATE_STATUS)
+            .params(TransferStatusCodeConverter.code(target), Timestamp.from(Instant.now()), endToEndKey, currentVersion)
+            .update();
+        if (updated == 0) {
+            throw new IllegalStateException("Transfer version mismatch - concurrent modification detected");
+        }
+    }
+
+    private Optional<TransferResult> find(UUID endToEndKey) {
+        return router.onOwningShard(LOCATE_BY_END_TO_END_ID, endToEndKey,
+            () -> jdbc.sql(COLUMNS + "WHERE end_to_end_id = ?")
+                .param(endToEndKey)
+                .query(this::toResult)
+                .optional());
+    }
+
+    private TransferResult toResult(ResultSet rs, int rowNum) throws SQLException {
+        return new TransferResult(
+            rs.getObject("id", UUID.class),
+            EndToEndIds.toText(rs.getObject("end_to_end_id", UUID.class)),
+            rs.getObject("from_wallet_id", UUID.class).toString(),
+            rs.getObject("to_wallet_id", UUID.class).toString(),
+            BigDecimal.valueOf(rs.getLong("amount_cents"), 2),
+            rs.getString("currency"),
+            TransferStatusCodeConverter.fromCode(rs.getShort("status_code")).name(),
+            rs.getInt("version"),
+            rs.getTimestamp("initiated_at").toInstant()
+        );
+    }
+}
@@ -7,117 +7,164 @@ import java.util.UUID;
 import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
 import org.pix.wallet.domain.exception.InsufficientFundsException;
 import org.pix.wallet.domain.model.enums.OperationType;
+import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryCodec;
 import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryEntity;
 import org.pix.wallet.infrastructure.persistence.entity.WalletEntity;
 import org.pix.wallet.infrastructure.persistence.repository.LedgerEntryJpaRepository;
 import org.pix.wallet.infrastructure.persistence.repository.WalletJpaRepository;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@Qualifier("directLedgerEntryRepository")
+@ConditionalOnProperty(name = "pix.persistence.adapter", havingValue = "jpa", matchIfMissing = true)
 public class LedgerEntryRepositoryAdapter implements LedgerEntryRepositoryPort {
 
     private final LedgerEntryJpaRepository repo;
     private final WalletJpaRepository walletRepo;
+    private final BalanceBucketRepositoryAdapter buckets;
+    private final ShardRouter router;
 
-    public LedgerEntryRepositoryAdapter(LedgerEntryJpaRepository repo, WalletJpaRepository walletRepo) {
+    public LedgerEntryRepositoryAdapter(LedgerEntryJpaRepository repo, WalletJpaRepository walletRepo,
+                                        BalanceBucketRepositoryAdapter buckets, ShardRouter router) {
         this.repo = repo;
         this.walletRepo = walletRepo;
+        this.buckets = buckets;
+        this.router = router;
     }
 
+    /**
+     * Checked on the shard the current transaction is pinned to: callers look up the
+     * wallet first, and idempotency keys are scoped to that wallet's operations.
+     */
     @Override
     public boolean existsByIdempotencyKey(String key) {
-        return repo.existsByIdempotencyKey(key);
+        return repo.existsByIdempotencyHash(LedgerEntryCodec.idempotencyHash(key));
     }
 
+    /**
+     * Credits to a wallet on another shard (a transfer's destination) are deferred and
+     * applied on that shard after commit; see {@link ShardRouter#deferCredit}.
+     */
     @Override
     public String deposit(String walletId, BigDecimal amount, String idempotencyKey) {
+        UUID id = UUID.fromString(walletId);
+        if (!router.isLocal(id)) {
+            return router.deferCredit(id, amount, idempotencyKey);
+        }
+        return router.onShard(id, () -> doDeposit(walletId, amount, idempotencyKey));
+    }
 
+    private String doDeposit(String walletId, BigDecimal amount, String idempotencyKey) {
         WalletEntity wallet = walletRepo.findById(UUID.fromString(walletId))
             .orElseThrow(() -> new IllegalArgumentException("Wallet not found"));
 
-        LedgerEntryEntity e = new LedgerEntryEntity();
-        e.setId(UUID.randomUUID());
-        e.setWallet(wallet);
-        e.setOperationType(OperationType.DEPOSIT);
-        e.setAmount(amount);
-        e.setCreatedAt(Instant.now());
-        e.setIdempotencyKey(idempotencyKey);
-        repo.save(e);
-        return e.getId().toString();
+        if (BalanceBucketRepositoryAdapter.isSharded(wallet)) {
+            buckets.credit(wallet, amount);
+        }
+
+        return append(wallet, OperationType.DEPOSIT, amount, idempotencyKey);
     }
 
     @Override
     public String withdraw(String walletId, BigDecimal amount, String idempotencyKey) {
+        return router.onShard(UUID.fromString(walletId), () -> doWithdraw(walletId, amount, idempotencyKey));
+    }
+
+    private String doWithdraw(String walletId, BigDecimal amount, String idempotencyKey) {
         WalletEntity wallet = walletRepo.findById(UUID.fromString(walletId))
             .orElseThrow(() -> new IllegalArgumentException("Wallet not found"));
 
-        BigDecimal current = repo.findAvailableBalance(wallet.getId())
-            .orElse(BigDecimal.ZERO);
-        if (current.compareTo(amount) < 0) {
-            throw new InsufficientFundsException(current, amount);
+        if (BalanceBucketRepositoryAdapter.isSharded(wallet)) {
+            buckets.debit(wallet, amount);
+        } else {
+            BigDecimal current = repo.findAvailableBalance(wallet.getId())
+                .orElse(BigDecimal.ZERO);
+            if (current.compareTo(amount) < 0) {
+                throw new InsufficientFundsException(current, amount);
+            }
         }
 
-        LedgerEntryEntity e = new LedgerEntryEntity();
-        e.setId(UUID.randomUUID());
-        e.setWallet(wallet);
-        e.setOperationType(OperationType.WITHDRAW);
-        e.setAmount(amount);
-        e.setCreatedAt(Instant.now());
-        e.setIdempotencyKey(idempotencyKey);
-        repo.save(e);
-        return e.getId().toString();
+        return append(wallet, OperationType.WITHDRAW, amount, idempotencyKey);
     }
 
     @Override
     public Optional<BigDecimal> getBalanceAsOf(String walletId, Instant asOf) {
-        return repo.findHistoricalBalance(UUID.fromString(walletId), asOf);
+        UUID id = UUID.fromString(walletId);
+        return router.onShard(id, () -> repo.findHistoricalBalance(id, asOf));
     }
 
     @Override
     public Optional<BigDecimal> getCurrentBalance(String walletId) {
-        return repo.findCurrentBalanceByWalletId(UUID.fromString(walletId));
+        UUID id = UUID.fromString(walletId);
+        return router.onShard(id, () -> repo.findCurrentBalanceByWalletId(id));
     }
 
     @Override
     public String reserve(String walletId, BigDecimal amount, String idempotencyKey) {
+        return router.onShard(UUID.fromString(walletId), () -> doReserve(walletId, amount, idempotencyKey));
+    }
+
+    private String doReserve(String walletId, BigDecimal amount, String idempotencyKey) {
         WalletEntity wallet = walletRepo.findById(UUID.fromString(walletId))
             .orElseThrow(() -> new IllegalArgumentException("Wallet not found"));
 
-        BigDecimal available = repo.findAvailableBalance(wallet.getId())
-            .orElse(BigDecimal.ZERO);
-        if (available.compareTo(amount) < 0) {
-            throw new InsufficientFundsException(available, amount);
+        if (BalanceBucketRepositoryAdapter.isSharded(wallet)) {
+            buckets.debit(wallet, amount);
+        } else {
+            BigDecimal available = repo.findAvailableBalance(wallet.getId())
+                .orElse(BigDecimal.ZERO);
+            if (available.compareTo(amount) < 0) {
+                throw new InsufficientFundsException(available, amount);
+            }
         }
 
-        LedgerEntryEntity e = new LedgerEntryEntity();
-        e.setId(UUID.randomUUID());
-        e.setWallet(wallet);
-        e.setOperationType(OperationType.RESERVED);
-        e.setAmount(amount);
-        e.setCreatedAt(Instant.now());
-        e.setIdempotencyKey(idempotencyKey);
-        repo.save(e);
-        return e.getId().toString();
+        return append(wallet, OperationType.RESERVED, amount, idempotencyKey);
     }
 
     @Override
     public String unreserve(String walletId, BigDecimal amount, String idempotencyKey) {
+        return router.onShard(UUID.fromString(walletId), () -> doUnreserve(walletId, amount, idempotencyKey));
+    }
+
+    private String doUnreserve(String walletId, BigDecimal amount, String idempotencyKey) {
         WalletEntity wallet = walletRepo.findById(UUID.fromString(walletId))
             .orElseThrow(() -> new IllegalArgumentException("Wallet not found"));
 
+        if (BalanceBucketRepositoryAdapter.isSharded(wallet)) {
+            buckets.credit(wallet, amount);
+        }
+
+        return append(wallet, OperationType.UNRESERVED, amount, idempotencyKey);
+    }
+
+    @Override
+    public Optional<BigDecimal> getAvailableBalance(String walletId) {
+        UUID id = UUID.fromString(walletId);
+        return router.onShard(id, () -> doGetAvailableBalance(id));
+    }
+
+    private String append(WalletEntity wallet, OperationType type, BigDecimal amount, String idempotencyKey) {
         LedgerEntryEntity e = new LedgerEntryEntity();
         e.setId(UUID.randomUUID());
         e.setWallet(wallet);
-        e.setOperationType(OperationType.UNRESERVED);
-        e.setAmount(amount);
+        e.setOperationType(type);
+        e.setAmountCents(LedgerEntryCodec.cents(amount));
         e.setCreatedAt(Instant.now());
-        e.setIdempotencyKey(idempotencyKey);
+        e.setIdempotencyHash(LedgerEntryCodec.idempotencyHash(idempotencyKey));
+        e.setEndToEndId(LedgerEntryCodec.endToEndId(idempotencyKey));
         repo.save(e);
         return e.getId().toString();
     }
 
-    @Override
-    public Optional<BigDecimal> getAvailableBalance(String walletId) {
-        return repo.findAvailableBalance(UUID.fromString(walletId));
+    private Optional<BigDecimal> doGetAvailableBalance(UUID id) {
+        // Sharded wallets: sum of a few bucket rows instead of the whole ledger range
+        Optional<WalletEntity> wallet = walletRepo.findById(id);
+        if (wallet.isPresent() && BalanceBucketRepositoryAdapter.isSharded(wallet.get())) {
+            return Optional.of(buckets.available(id));
+        }
+        return repo.findAvailableBalance(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.infrastructure.cache.CacheInvalidationBus;
+import org.pix.wallet.infrastructure.cache.InvalidatableCache;
+import org.pix.wallet.infrastructure.cache.OffHeapBalanceTable;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link LedgerEntryRepositoryPort} that answers current and available balances from the
+ * {@link OffHeapBalanceTable} ({@code pix.ledger.balance-store.enabled}) and delegates
+ * everything else to the direct adapter.
+ *
+ * <p>A miss reads both balances from the database, so one load serves either question
+ * afterwards. Every ledger write through this adapter invalidates the wallet now and again
+ * after the transaction completes, and other instances through the
+ * {@link CacheInvalidationBus}; the next read loads the committed amounts. Writes that do not
+ * go through the port (the single-call transfer function, manual fixes) are seen once the
+ * entry is older than {@code ttl}. Reservations re-check the balance in the database, so a
+ * stale entry can mislead a pre-check or a balance query, never overdraw a wallet.</p>
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "pix.ledger.balance-store.enabled", havingValue = "true")
+public class OffHeapBalanceLedgerEntryRepositoryAdapter implements LedgerEntryRepositoryPort, InvalidatableCache {
+
+    static final String CACHE_NAME = "balance";
+
+    private final LedgerEntryRepositoryPort delegate;
+    private final OffHeapBalanceTable table;
+    private final MetricsService metricsService;
+    private final long ttlMillis;
+    private final CacheInvalidationBus bus;
+
+    public OffHeapBalanceLedgerEntryRepositoryAdapter(@Qualifier("directLedgerEntryRepository") LedgerEntryRepositoryPort delegate,
+                                                      OffHeapBalanceTable table,
+                                                      MetricsService metricsService,
+                                                      ObjectProvider<CacheInvalidationBus> bus,
+                                                      @Value("${pix.ledger.balance-store.ttl:5s}") Duration ttl) {
+        this.delegate = delegate;
+        this.table = table;
+        this.metricsService = metricsService;
+        this.ttlMillis = ttl.toMillis();
+        this.bus = bus.getIfAvailable();
+        if (this.bus != null) {
+            this.bus.register(this);
+        }
+    }
+
+    @Override
+    public boolean existsByIdempotencyKey(String key) {
+        return delegate.existsByIdempotencyKey(key);
+    }
+
+    @Override
+    public String deposit(String walletId, BigDecimal amount, String idempotencyKey) {
+        return written(walletId, delegate.deposit(walletId, amount, idempotencyKey));
+    }
+
+    @Override
+    public String withdraw(String walletId, BigDecimal amount, String idempotencyKey) {
+        return written(walletId, delegate.withdraw(walletId, amount, idempotencyKey));
+    }
+
+    @Override
+    public String reserve(String walletId, BigDecimal amount, String idempotencyKey) {
+        return written(walletId, delegate.reserve(walletId, amount, idempotencyKey));
+    }
+
+    @Override
+    public String unreserve(String walletId, BigDecimal amount, String idempotencyKey) {
+        return written(walletId, delegate.unreserve(walletId, amount, idempotencyKey));
+    }
+
+    @Override
+    public Optional<BigDecimal> getBalanceAsOf(String walletId, Instant asOf) {
+        return delegate.getBalanceAsOf(walletId, asOf);
+    }
+
+    @Override
+    public Optional<BigDecimal> getCurrentBalance(String walletId) {
+        UUID id = UUID.fromString(walletId);
+        OffHeapBalanceTable.Balance cached = cached(id);
+        if (cached != null) {
+            return Optional.of(BigDecimal.valueOf(cached.balanceCents(), 2));
+        }
+        return load(id).current();
+    }
+
+    @Override
+    public Optional<BigDecimal> getAvailableBalance(String walletId) {
+        UUID id = UUID.fromString(walletId);
+        OffHeapBalanceTable.Balance cached = cached(id);
+        if (cached != null) {
+            return Optional.of(BigDecimal.valueOf(cached.availableCents(), 2));
+        }
+        return load(id).available();
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evict(String walletId) {
+        invalidate(UUID.fromString(walletId));
+    }
+
+    @Override
+    public void evictAll() {
+        table.invalidateAll();
+    }
+
+    private record Loaded(Optional<BigDecimal> current, Optional<BigDecimal> available) {
+    }
+
+    private OffHeapBalanceTable.Balance cached(UUID id) {
+        OffHeapBalanceTable.Balance balance = table.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (balance == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - balance.loadedAtMillis() > ttlMillis) {
+            metricsService.recordBalanceStoreLookup("expired");
+            return null;
+        }
+        metricsService.recordBalanceStoreLookup("hit");
+        return balance;
+    }
+
+    private Loaded load(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        long stamp = table.stamp(msb, lsb);
+        long loadedAt = System.currentTimeMillis();
+        Optional<BigDecimal> current = delegate.getCurrentBalance(id.toString());
+        Optional<BigDecimal> available = delegate.getAvailableBalance(id.toString());
+        metricsService.recordBalanceStoreLookup(stamp < 0 ? "uncached" : "miss");
+
+        if (current.isPresent() && available.isPresent()) {
+            try {
+                long balanceCents = current.get().movePointRight(2).longValueExact();
+                long availableCents = available.get().movePointRight(2).longValueExact();
+                table.putIfUnchanged(msb, lsb, stamp, balanceCents, balanceCents - availableCents, loadedAt);
+            } catch (ArithmeticException e) {
+                // Sub-cent amount: leave it to the database
+            }
+        }
+        return new Loaded(current, available);
+    }
+
+    private String written(String walletId, String entryId) {
+        UUID id = UUID.fromString(walletId);
+        invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id);
+                }
+            });
+        }
+        if (bus != null) {
+            bus.publish(CACHE_NAME, walletId);
+        }
+        return entryId;
+    }
+
+    private void invalidate(UUID id) {
+        table.invalidate(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,70 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.pix.wallet.application.port.out.EventPublisherPort.EventMessage;
+import org.pix.wallet.application.port.out.OutboxRepositoryPort;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.entity.OutboxEventEntity;
+import org.pix.wallet.infrastructure.persistence.repository.OutboxEventJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxRepositoryAdapter implements OutboxRepositoryPort {
+
+    private final OutboxEventJpaRepository outboxJpaRepository;
+    private final ObjectMapper objectMapper;
+    private final MetricsService metricsService;
+
+    @Override
+    public void append(OutboxEvent event) {
+        OutboxEventEntity entity = OutboxEventEntity.builder()
+            .aggregateType(event.aggregateType())
+            .aggregateId(event.aggregateId())
+            .eventType(event.eventType())
+            .payload(toJson(event))
+            .createdAt(Instant.now())
+            .build();
+
+        outboxJpaRepository.save(entity);
+        metricsService.recordOutboxEventAppended(event.eventType());
+    }
+
+    @Override
+    public List<EventMessage> lockNextBatch(int limit) {
+        return outboxJpaRepository.lockNextBatch(limit).stream()
+            .map(e -> new EventMessage(
+                e.getId(),
+                e.getAggregateType(),
+                e.getAggregateId(),
+                e.getEventType(),
+                e.getPayload(),
+                e.getCreatedAt()))
+            .toList();
+    }
+
+    @Override
+    public int markPublished(List<Long> ids, Instant publishedAt) {
+        if (ids.isEmpty()) return 0;
+        return outboxJpaRepository.markPublished(ids, publishedAt);
+    }
+
+    @Override
+    public int delete(List<Long> ids) {
+        if (ids.isEmpty()) return 0;
+        return outboxJpaRepository.deleteByIds(ids);
+    }
+
+    private String toJson(OutboxEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.payload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload for " + event.eventType(), e);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package org.pix.wallet.infrastructure.persistence.adapter;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.pix.wallet.application.port.out.PixKeyRepositoryPort;
@@ -10,46 +13,77 @@ import org.pix.wallet.infrastructure.persistence.entity.PixKeyEntity;
 import org.pix.wallet.infrastructure.persistence.entity.WalletEntity;
 import org.pix.wallet.infrastructure.persistence.repository.PixKeyJpaRepository;
 import org.pix.wallet.infrastructure.persistence.repository.WalletJpaRepository;
+import org.pix.wallet.infrastructure.persistence.sharding.PixKeyDirectory;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
 
 @Component
+@Qualifier("directPixKeyRepository")
 public class PixKeyRepositoryAdapter implements PixKeyRepositoryPort {
 
     private final PixKeyJpaRepository pixKeyJpa;
     private final WalletJpaRepository walletJpa;
+    private final ShardRouter router;
+    private final PixKeyDirectory directory;
 
-    public PixKeyRepositoryAdapter(PixKeyJpaRepository pixKeyJpa, WalletJpaRepository walletJpa) {
+    public PixKeyRepositoryAdapter(PixKeyJpaRepository pixKeyJpa, WalletJpaRepository walletJpa,
+                                   ShardRouter router, ObjectProvider<PixKeyDirectory> directory) {
         this.pixKeyJpa = pixKeyJpa;
         this.walletJpa = walletJpa;
+        this.router = router;
+        this.directory = directory.getIfAvailable();
     }
 
     @Override
     public PixKey save(PixKey key) {
+        if (directory != null) {
+            directory.claim(key);
+        }
 
-        Optional<WalletEntity> wallet = walletJpa.findById(key.walletId());
+        return router.onShard(key.walletId(), () -> {
+            // Only the FK is needed: callers have already checked the wallet exists
+            WalletEntity wallet = walletJpa.getReferenceById(key.walletId());
 
-        PixKeyEntity e = PixKeyEntity.builder().id(key.id()).wallet(wallet.orElseThrow()).type(key.type())
-        .value(key.value()).status(key.status()).createdAt(key.createdAt()).build();
-        
-        PixKeyEntity saved = pixKeyJpa.save(e);
-        return new PixKey(saved.getId(), saved.getWallet().getId(), saved.getType(),
-                saved.getValue(), saved.getStatus(), saved.getCreatedAt());
+            PixKeyEntity e = PixKeyEntity.builder().id(key.id()).wallet(wallet).type(key.type())
+            .value(key.value()).status(key.status()).createdAt(key.createdAt()).build();
+
+            PixKeyEntity saved = pixKeyJpa.save(e);
+            return new PixKey(saved.getId(), saved.getWallet().getId(), saved.getType(),
+                    saved.getValue(), saved.getStatus(), saved.getCreatedAt());
+        });
     }
 
     @Override
     public boolean existsByValue(String value) {
+        if (directory != null) {
+            return directory.exists(value);
+        }
         return pixKeyJpa.existsByValue(value);
     }
 
     @Override
     public Optional<PixKey> findByValueAndActive(String value) {
+        if (directory != null) {
+            return directory.find(value);
+        }
         return pixKeyJpa.findByValueAndStatus(value, org.pix.wallet.domain.model.enums.PixKeyStatus.ACTIVE)
-            .map(entity -> new PixKey(
-                entity.getId(),
-                entity.getWallet().getId(),
-                entity.getType(),
-                entity.getValue(),
-                entity.getStatus(),
-                entity.getCreatedAt()
-            ));
+            .map(PixKeyRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public List<PixKey> findMostUsedActive(int limit) {
+        return pixKeyJpa.findActiveOfMostCreditedWallets(limit).stream()
+            .map(PixKeyRepositoryAdapter::toDomain)
+            .toList();
+    }
+
+    private static PixKey toDomain(PixKeyEntity entity) {
+        return new PixKey(
+            entity.getId(),
+            entity.getWallet().getId(),
+            entity.getType(),
+            entity.getValue(),
+            entity.getStatus(),
+            entity.getCreatedAt()
+        );
     }
 }
@@ -0,0 +1,79 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+import org.pix.wallet.application.port.out.ReactiveBalanceQueryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC implementation of the balance queries. The SQL mirrors
+ * {@code LedgerEntryJpaRepository} so both read stacks agree.
+ */
+@Component
+@ConditionalOnProperty(name = "pix.reactive-read.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class R2dbcBalanceQueryAdapter implements ReactiveBalanceQueryPort {
+
+    private static final String CURRENT_BALANCE_SQL = """
+        SELECT
+            COALESCE(SUM(
+                CASE
+                    WHEN operation_code = 0 THEN amount_cents
+                    WHEN operation_code = 1 THEN -amount_cents
+                    ELSE 0
+                END
+            ), 0) * 0.01 AS real_balance
+        FROM ledger_entry
+        WHERE wallet_id = :walletId
+        """;
+
+    private static final String HISTORICAL_BALANCE_SQL = """
+        SELECT
+            COALESCE(SUM(
+                CASE
+                    WHEN operation_code = 0 THEN amount_cents
+                    WHEN operation_code = 1 THEN -amount_cents
+                    WHEN operation_code = 5 THEN -amount_cents
+                    WHEN operation_code = 6 THEN amount_cents
+                    ELSE 0
+                END
+            ), 0) * 0.01 AS available_balance
+        FROM ledger_entry
+        WHERE wallet_id = :walletId AND created_at <= :asOf
+        """;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Boolean> walletExists(UUID walletId) {
+        return databaseClient.sql("SELECT 1 FROM wallet WHERE id = :walletId")
+            .bind("walletId", walletId)
+            .map(row -> Boolean.TRUE)
+            .first()
+            .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    @Override
+    public Mono<BigDecimal> getCurrentBalance(UUID walletId) {
+        return databaseClient.sql(CURRENT_BALANCE_SQL)
+            .bind("walletId", walletId)
+            .map(row -> row.get(0, BigDecimal.class))
+            .first();
+    }
+
+    @Override
+    public Mono<BigDecimal> getBalanceAsOf(UUID walletId, Instant asOf) {
+        return databaseClient.sql(HISTORICAL_BALANCE_SQL)
+            .bind("walletId", walletId)
+            .bind("asOf", asOf)
+            .map(row -> row.get(0, BigDecimal.class))
+            .first();
+    }
+}
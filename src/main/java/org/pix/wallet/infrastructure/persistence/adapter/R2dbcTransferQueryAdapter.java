@@ -0,0 +1,47 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+import org.pix.wallet.application.port.out.ReactiveTransferQueryPort;
+import org.pix.wallet.application.port.out.TransferRepositoryPort.TransferResult;
+import org.pix.wallet.infrastructure.persistence.entity.EndToEndIds;
+import org.pix.wallet.infrastructure.persistence.entity.TransferStatusCodeConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "pix.reactive-read.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class R2dbcTransferQueryAdapter implements ReactiveTransferQueryPort {
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<TransferResult> findByEndToEndId(String endToEndId) {
+        return Mono.justOrEmpty(EndToEndIds.toKey(endToEndId))
+            .flatMap(key -> databaseClient.sql("""
+                SELECT id, from_wallet_id, to_wallet_id, amount_cents, currency,
+                       status_code, version, initiated_at
+                FROM transfer
+                WHERE end_to_end_id = :endToEndId
+                """)
+            .bind("endToEndId", key)
+            .map(row -> new TransferResult(
+                row.get("id", UUID.class),
+                EndToEndIds.toText(key),
+                row.get("from_wallet_id", UUID.class).toString(),
+                row.get("to_wallet_id", UUID.class).toString(),
+                BigDecimal.valueOf(row.get("amount_cents", Long.class), 2),
+                row.get("currency", String.class),
+                TransferStatusCodeConverter.fromCode(row.get("status_code", Short.class)).name(),
+                row.get("version", Integer.class),
+                row.get("initiated_at", Instant.class)))
+            .first());
+    }
+}
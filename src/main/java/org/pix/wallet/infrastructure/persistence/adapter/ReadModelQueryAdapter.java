@@ -0,0 +1,90 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.pix.wallet.application.port.in.ReadModelQueryUseCase.DailyTotal;
+import org.pix.wallet.application.port.in.ReadModelQueryUseCase.Freshness;
+import org.pix.wallet.application.port.in.ReadModelQueryUseCase.TransferHistoryItem;
+import org.pix.wallet.application.port.out.ReadModelQueryPort;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the {@code read_model} schema on the wallet's shard.
+ */
+@Component
+@ConditionalOnProperty(name = "pix.read-model.enabled", havingValue = "true")
+public class ReadModelQueryAdapter implements ReadModelQueryPort {
+
+    private final JdbcTemplate jdbc;
+    private final ShardRouter router;
+
+    public ReadModelQueryAdapter(JdbcTemplate jdbc, ShardRouter router) {
+        this.jdbc = jdbc;
+        this.router = router;
+    }
+
+    @Override
+    public Freshness freshness(UUID walletId) {
+        return router.onShard(walletId, () -> jdbc.queryForObject(
+            "SELECT position, last_event_at, refreshed_at FROM read_model.projection_checkpoint WHERE projection = 'ledger'",
+            (rs, i) -> {
+                Instant projectedThrough = instant(rs.getTimestamp(2));
+                Instant refreshedAt = instant(rs.getTimestamp(3));
+                long staleness = refreshedAt == null ? -1
+                    : Math.max(0, Duration.between(refreshedAt, Instant.now()).toMillis());
+                return new Freshness(rs.getLong(1), projectedThrough, refreshedAt, staleness);
+            }));
+    }
+
+    @Override
+    public Optional<Balances> balance(UUID walletId) {
+        return router.onShard(walletId, () -> jdbc.query(
+                "SELECT balance, available_balance FROM read_model.wallet_balance_view WHERE wallet_id = ?",
+                (rs, i) -> new Balances(rs.getBigDecimal(1), rs.getBigDecimal(2)),
+                walletId)
+            .stream().findFirst());
+    }
+
+    @Override
+    public List<TransferHistoryItem> transfers(UUID walletId, int limit, Instant before) {
+        String sql = "SELECT end_to_end_id, direction, counterparty_wallet_id, amount, status, initiated_at, updated_at "
+            + "FROM read_model.wallet_transfer_history WHERE wallet_id = ? "
+            + (before != null ? "AND initiated_at < ? " : "")
+            + "ORDER BY initiated_at DESC, end_to_end_id DESC LIMIT ?";
+        Object[] args = before != null
+            ? new Object[] {walletId, Timestamp.from(before), limit}
+            : new Object[] {walletId, limit};
+        return router.onShard(walletId, () -> jdbc.query(sql,
+            (rs, i) -> new TransferHistoryItem(
+                rs.getString(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getBigDecimal(4),
+                rs.getString(5),
+                instant(rs.getTimestamp(6)),
+                instant(rs.getTimestamp(7))),
+            args));
+    }
+
+    @Override
+    public List<DailyTotal> dailyTotals(UUID walletId, LocalDate from, LocalDate to) {
+        return router.onShard(walletId, () -> jdbc.query(
+            "SELECT entry_date, credits, debits, entries FROM read_model.daily_wallet_totals "
+                + "WHERE wallet_id = ? AND entry_date BETWEEN ? AND ? ORDER BY entry_date",
+            (rs, i) -> new DailyTotal(rs.getDate(1).toLocalDate(), rs.getBigDecimal(2), rs.getBigDecimal(3), rs.getInt(4)),
+            walletId, Date.valueOf(from), Date.valueOf(to)));
+    }
+
+    private static Instant instant(Timestamp ts) {
+        return ts == null ? null : ts.toInstant();
+    }
+}
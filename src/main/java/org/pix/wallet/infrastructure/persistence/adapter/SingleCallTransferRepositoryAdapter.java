@@ -0,0 +1,111 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.pix.wallet.application.port.out.TransferRepositoryPort;
+import org.pix.wallet.infrastructure.persistence.entity.EndToEndIds;
+import org.pix.wallet.infrastructure.persistence.entity.TransferStatusCodeConverter;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link TransferRepositoryPort} that creates transfers through the {@code pix_create_transfer}
+ * database function (V9) and delegates everything else to the direct adapter selected by
+ * {@code pix.persistence.adapter}.
+ *
+ * <p>The function runs on the source wallet's shard and only sees that shard's PIX keys; a key
+ * it cannot find, or a bucket-sharded source wallet, is reported back and the service falls
+ * back to the step-by-step flow.</p>
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "pix.transfer.single-call.enabled", havingValue = "true")
+public class SingleCallTransferRepositoryAdapter implements TransferRepositoryPort {
+
+    private static final String CREATE = "SELECT * FROM pix_create_transfer(?, ?, ?, ?, ?, ?, ?)";
+    private static final BigDecimal CENTS = new BigDecimal("100");
+
+    private final TransferRepositoryPort delegate;
+    private final JdbcClient jdbc;
+    private final ShardRouter router;
+
+    public SingleCallTransferRepositoryAdapter(@Qualifier("directTransferRepository") TransferRepositoryPort delegate,
+                                               JdbcClient jdbc, ShardRouter router) {
+        this.delegate = delegate;
+        this.jdbc = jdbc;
+        this.router = router;
+    }
+
+    @Override
+    public boolean existsByIdempotencyKey(String idempotencyKey) {
+        return delegate.existsByIdempotencyKey(idempotencyKey);
+    }
+
+    @Override
+    public Optional<TransferResult> findByIdempotencyKey(String idempotencyKey) {
+        return delegate.findByIdempotencyKey(idempotencyKey);
+    }
+
+    @Override
+    public Optional<TransferResult> findByEndToEndId(String endToEndId) {
+        return delegate.findByEndToEndId(endToEndId);
+    }
+
+    @Override
+    public TransferResult save(TransferCommand command) {
+        return delegate.save(command);
+    }
+
+    @Override
+    public void updateStatus(String endToEndId, String status, int currentVersion) {
+        delegate.updateStatus(endToEndId, status, currentVersion);
+    }
+
+    @Override
+    public boolean supportsCreatePending() {
+        return true;
+    }
+
+    @Override
+    public Optional<CreateOutcome> createPending(CreatePendingCommand command) {
+        UUID from = UUID.fromString(command.fromWalletId());
+        UUID endToEndKey = EndToEndIds.toKey(command.endToEndId())
+            .orElseThrow(() -> new IllegalArgumentException("Malformed end-to-end id: " + command.endToEndId()));
+        long amountCents = command.amount().multiply(CENTS).setScale(0, RoundingMode.HALF_UP).longValueExact();
+
+        return Optional.of(router.onShard(from, () -> jdbc.sql(CREATE)
+            .params(command.idempotencyKey(), from, command.toPixKey(), amountCents, command.currency(),
+                endToEndKey, command.reserveIdempotencyKey())
+            .query(this::toOutcome)
+            .single()));
+    }
+
+    private CreateOutcome toOutcome(ResultSet rs, int rowNum) throws SQLException {
+        CreateResultCode code = CreateResultCode.values()[rs.getShort("result_code")];
+        TransferResult transfer = null;
+        if (code == CreateResultCode.CREATED || code == CreateResultCode.DUPLICATE) {
+            transfer = new TransferResult(
+                rs.getObject("transfer_id", UUID.class),
+                EndToEndIds.toText(rs.getObject("transfer_end_to_end_id", UUID.class)),
+                rs.getObject("transfer_from_wallet_id", UUID.class).toString(),
+                rs.getObject("transfer_to_wallet_id", UUID.class).toString(),
+                BigDecimal.valueOf(rs.getLong("transfer_amount_cents"), 2),
+                rs.getString("transfer_currency").trim(),
+                TransferStatusCodeConverter.fromCode(rs.getShort("transfer_status_code")).name(),
+                rs.getInt("transfer_version"),
+                rs.getTimestamp("transfer_initiated_at").toInstant());
+        }
+        long available = rs.getLong("available_cents");
+        BigDecimal availableBalance = rs.wasNull() ? null : BigDecimal.valueOf(available, 2);
+        return new CreateOutcome(code, transfer, availableBalance);
+    }
+}
@@ -4,56 +4,73 @@ import lombok.RequiredArgsConstructor;
 import org.pix.wallet.application.port.out.TransferRepositoryPort;
 import org.pix.wallet.domain.model.enums.TransferStatus;
 import org.pix.wallet.domain.validator.TransferStatusTransitionValidator;
+import org.pix.wallet.infrastructure.persistence.entity.EndToEndIds;
 import org.pix.wallet.infrastructure.persistence.entity.TransferEntity;
 import org.pix.wallet.infrastructure.persistence.repository.TransferJpaRepository;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Optional;
+import java.util.UUID;
 
 @Component
+@Qualifier("directTransferRepository")
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "pix.persistence.adapter", havingValue = "jpa", matchIfMissing = true)
 public class TransferRepositoryAdapter implements TransferRepositoryPort {
 
+    // Transfers live on the source wallet's shard
+    private static final String LOCATE_BY_IDEMPOTENCY_KEY = "SELECT from_wallet_id FROM transfer WHERE idempotency_key = ?";
+    private static final String LOCATE_BY_END_TO_END_ID = "SELECT from_wallet_id FROM transfer WHERE end_to_end_id = ?";
+    private static final BigDecimal CENTS = new BigDecimal("100");
+
     private final TransferJpaRepository transferJpaRepository;
     private final TransferStatusTransitionValidator transferStatusTransitionValidator;
+    private final ShardRouter router;
 
     @Override
     public boolean existsByIdempotencyKey(String idempotencyKey) {
-        return transferJpaRepository.findByIdempotencyKey(idempotencyKey).isPresent();
+        return findByIdempotencyKey(idempotencyKey).isPresent();
     }
 
     @Override
     public Optional<TransferResult> findByIdempotencyKey(String idempotencyKey) {
-        return transferJpaRepository.findByIdempotencyKey(idempotencyKey).map(this::toResult);
+        return router.onOwningShard(LOCATE_BY_IDEMPOTENCY_KEY, idempotencyKey,
+            () -> transferJpaRepository.findByIdempotencyKey(idempotencyKey).map(this::toResult));
     }
 
     @Override
     public Optional<TransferResult> findByEndToEndId(String endToEndId) {
-        return transferJpaRepository.findByEndToEndId(endToEndId)
-            .map(this::toResult);
+        return EndToEndIds.toKey(endToEndId).flatMap(key -> findEntity(key).map(this::toResult));
     }
 
     @Override
     public TransferResult save(TransferCommand command) {
         TransferEntity entity = TransferEntity.builder()
-            .endToEndId(command.endToEndId())
+            .endToEndId(EndToEndIds.toKey(command.endToEndId())
+                .orElseThrow(() -> new IllegalArgumentException("Malformed end-to-end id: " + command.endToEndId())))
             .idempotencyKey(command.idempotencyKey())
-            .fromWallet(command.fromWalletId())
-            .toWallet(command.toWalletId())
-            .amount(command.amount().multiply(new BigDecimal("100")))
+            .fromWallet(UUID.fromString(command.fromWalletId()))
+            .toWallet(UUID.fromString(command.toWalletId()))
+            .amountCents(command.amount().multiply(CENTS).setScale(0, RoundingMode.HALF_UP).longValueExact())
             .currency(command.currency())
             .status(TransferStatus.valueOf(command.status()))
             .version(0)
             .build();
         
-        TransferEntity saved = transferJpaRepository.save(entity);
+        TransferEntity saved = router.onShard(entity.getFromWallet(),
+            () -> transferJpaRepository.save(entity));
         return toResult(saved);
     }
 
     @Override
     public void updateStatus(String endToEndId, String status, int currentVersion) {
-        TransferEntity entity = transferJpaRepository.findByEndToEndId(endToEndId)
+        TransferEntity entity = EndToEndIds.toKey(endToEndId)
+            .flatMap(this::findEntity)
             .orElseThrow(() -> new IllegalArgumentException("Transfer not found: " + endToEndId));
         
         if (entity.getVersion() != currentVersion) {
@@ -67,15 +84,18 @@ public class TransferRepositoryAdapter implements TransferRepositoryPort {
         transferJpaRepository.save(entity);
     }
 
+    private Optional<TransferEntity> findEntity(UUID endToEndKey) {
+        return router.onOwningShard(LOCATE_BY_END_TO_END_ID, endToEndKey,
+            () -> transferJpaRepository.findByEndToEndId(endToEndKey));
+    }
+
     private TransferResult toResult(TransferEntity entity) {
-        BigDecimal amount = entity.getAmount().divide(new BigDecimal("100"));
-        
         return new TransferResult(
             entity.getId(),
-            entity.getEndToEndId(),
-            entity.getFromWallet(),
-            entity.getToWallet(),
-            amount,
+            EndToEndIds.toText(entity.getEndToEndId()),
+            entity.getFromWallet().toString(),
+            entity.getToWallet().toString(),
+            BigDecimal.valueOf(entity.getAmountCents(), 2),
             entity.getCurrency(),
             entity.getStatus().name(),
             entity.getVersion(),
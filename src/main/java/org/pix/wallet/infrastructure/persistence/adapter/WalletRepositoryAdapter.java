@@ -5,17 +5,23 @@ import java.util.UUID;
 
 import org.pix.wallet.application.port.out.WalletRepositoryPort;
 import org.pix.wallet.domain.model.Wallet;
+import org.pix.wallet.domain.model.enums.WalletStatus;
 import org.pix.wallet.infrastructure.persistence.entity.WalletEntity;
 import org.pix.wallet.infrastructure.persistence.repository.WalletJpaRepository;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 @Component
+@Qualifier("directWalletRepository")
 public class WalletRepositoryAdapter implements WalletRepositoryPort {
 
     private final WalletJpaRepository jpa;
+    private final ShardRouter router;
 
-    public WalletRepositoryAdapter(WalletJpaRepository jpa) {
+    public WalletRepositoryAdapter(WalletJpaRepository jpa, ShardRouter router) {
         this.jpa = jpa;
+        this.router = router;
     }
 
     @Override
@@ -25,17 +31,28 @@ public class WalletRepositoryAdapter implements WalletRepositoryPort {
                 .status(wallet.status())
                 .createdAt(wallet.createdAt())
                 .build();
-        jpa.save(entity);
+        router.onShard(wallet.id(), () -> jpa.save(entity));
         return wallet;
     }
 
     @Override
     public Optional<Wallet> findById(UUID id) {
-        return jpa.findById(id)
+        if (!router.isLocal(id)) {
+            // e.g. a transfer's destination: read it without joining the source shard's transaction
+            return router.readFrom(id, jdbc -> jdbc.query(
+                    "SELECT id, status, created_at FROM wallet WHERE id = ?",
+                    (rs, i) -> Wallet.builder()
+                            .id(rs.getObject("id", UUID.class))
+                            .status(WalletStatus.valueOf(rs.getString("status")))
+                            .createdAt(rs.getTimestamp("created_at").toInstant())
+                            .build(),
+                    id).stream().findFirst());
+        }
+        return router.onShard(id, () -> jpa.findById(id)
                 .map(e -> Wallet.builder()
                         .id(e.getId())
                         .status(e.getStatus())
                         .createdAt(e.getCreatedAt())
-                        .build());
+                        .build()));
     }
-}
\ No newline at end of file
+}
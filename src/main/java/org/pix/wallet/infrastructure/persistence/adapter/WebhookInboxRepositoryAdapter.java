@@ -4,17 +4,32 @@ import lombok.RequiredArgsConstructor;
 import org.pix.wallet.application.port.out.WebhookInboxRepositoryPort;
 import org.pix.wallet.infrastructure.persistence.entity.WebhookInboxEntity;
 import org.pix.wallet.infrastructure.persistence.repository.WebhookInboxJpaRepository;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 public class WebhookInboxRepositoryAdapter implements WebhookInboxRepositoryPort {
 
+    // Inbox rows are saved next to their transfer, on the source wallet's shard. They are only
+    // saved once the transfer was found, so their end-to-end id always has the issued format.
+    private static final String LOCATE_BY_EVENT_ID = """
+        SELECT t.from_wallet_id
+        FROM webhook_inbox w
+        JOIN transfer t ON t.end_to_end_id = CAST(SUBSTRING(w.end_to_end_id, 2) AS UUID)
+        WHERE w.event_id = ?
+        """;
+
     private final WebhookInboxJpaRepository webhookInboxJpaRepository;
+    private final ShardRouter router;
 
     @Override
     public boolean existsByEventId(String eventId) {
-        return webhookInboxJpaRepository.existsByEventId(eventId);
+        return router.onOwningShard(LOCATE_BY_EVENT_ID, eventId,
+            () -> webhookInboxJpaRepository.existsByEventId(eventId) ? Optional.of(eventId) : Optional.<String>empty())
+            .isPresent();
     }
 
     @Override
@@ -0,0 +1,102 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.observability.ObservabilityContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Records how long each connection is held, from checkout to close, tagged with the use
+ * case running on the checking-out thread ({@link ObservabilityContext#getOperation()}).
+ *
+ * <p>Hikari's own usage timer has no notion of who held the connection; this is what shows
+ * whether a use case keeps its connection across work that does not need it.</p>
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    static final String NO_USE_CASE = "none";
+
+    private volatile MetricsService metricsService;
+
+    public ConnectionHoldTimeDataSource(DataSource target) {
+        super(target);
+    }
+
+    public void bindMetrics(MetricsService metricsService) {
+        this.metricsService = metricsService;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection timed(Connection connection) {
+        String useCase = ObservabilityContext.getOperation();
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionHoldTimeDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new HoldTimeHandler(connection, useCase != null ? useCase : NO_USE_CASE, System.nanoTime()));
+    }
+
+    /** Records the hold time exactly once, on the first close(). */
+    private final class HoldTimeHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final String useCase;
+        private final long checkedOutAt;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private HoldTimeHandler(Connection target, String useCase, long checkedOutAt) {
+            this.target = target;
+            this.useCase = useCase;
+            this.checkedOutAt = checkedOutAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) return proxy;
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) return true;
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        MetricsService metrics = metricsService;
+                        if (recorded.compareAndSet(false, true) && metrics != null) {
+                            metrics.recordConnectionHold(useCase, Duration.ofNanos(System.nanoTime() - checkedOutAt));
+                        }
+                    }
+                    return null;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Probes each replica for replay lag and replayed WAL position.
+ *
+ * <p>Lag is zero when the replica has replayed everything it received (an idle primary
+ * would otherwise look infinitely behind through {@code pg_last_xact_replay_timestamp}).
+ * A failed probe drops the replica's status so it stops receiving reads until it
+ * answers again.</p>
+ */
+@Slf4j
+public class ReplicaLagMonitor implements ReplicaStatusProvider, DisposableBean {
+
+    private static final String PROBE_SQL = """
+        SELECT
+            CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END AS lag_ms,
+            (CASE WHEN pg_is_in_recovery() THEN pg_last_wal_replay_lsn() ELSE pg_current_wal_lsn() END)::text AS replayed
+        """;
+
+    private final Map<String, DataSource> replicas;
+    private final Map<String, JdbcTemplate> probes = new ConcurrentHashMap<>();
+    private final Map<String, ReplicaStatus> statuses = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, MetricsService metricsService, Clock clock) {
+        this.replicas = replicas;
+        this.clock = clock;
+        replicas.forEach((name, dataSource) -> {
+            probes.put(name, new JdbcTemplate(dataSource));
+            metricsService.registerReplicaLag(name, () -> {
+                ReplicaStatus status = statuses.get(name);
+                return status == null ? Double.NaN : status.lag().toMillis() / 1000.0;
+            });
+        });
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public ReplicaStatus status(String replica) {
+        return statuses.get(replica);
+    }
+
+    @Scheduled(fixedDelayString = "${pix.datasource.replicas.lag-poll-interval-ms:500}")
+    public void poll() {
+        probes.forEach((name, jdbc) -> {
+            try {
+                ReplicaStatus status = jdbc.queryForObject(PROBE_SQL, (rs, i) -> new ReplicaStatus(
+                    Duration.ofMillis(Math.round(rs.getDouble("lag_ms"))),
+                    WalPosition.parse(rs.getString("replayed")),
+                    clock.instant()));
+                statuses.put(name, status);
+            } catch (RuntimeException e) {
+                if (statuses.remove(name) != null) {
+                    log.warn("Replica {} probe failed, routing its reads to primary: {}", name, e.getMessage());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the replica route of a read-only use case. The route selects the tolerated
+ * replica lag ({@code pix.datasource.replicas.max-lag.<route>}); the method must also
+ * run in a {@code @Transactional(readOnly = true)} transaction to be routed at all.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReplicaRead {
+
+    String value();
+}
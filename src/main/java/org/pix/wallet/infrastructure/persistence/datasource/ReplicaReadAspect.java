@@ -0,0 +1,24 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Publishes the {@link ReplicaRead} route for the duration of the call. The routing
+ * decision happens lazily on the first statement, so ordering relative to the
+ * transaction interceptor does not matter.
+ */
+@Aspect
+public class ReplicaReadAspect {
+
+    @Around("@annotation(replicaRead)")
+    public Object route(ProceedingJoinPoint joinPoint, ReplicaRead replicaRead) throws Throwable {
+        String previous = ReplicaRoutingContext.enterRoute(replicaRead.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingContext.restoreRoute(previous);
+        }
+    }
+}
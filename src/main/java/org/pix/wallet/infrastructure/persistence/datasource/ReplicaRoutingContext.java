@@ -0,0 +1,51 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+/**
+ * Per-thread routing hints for {@link ReplicaRoutingDataSource}: the use-case route
+ * (selects the lag bound) and the client's read-your-writes position.
+ */
+public final class ReplicaRoutingContext {
+
+    public static final String DEFAULT_ROUTE = "default";
+
+    private static final ThreadLocal<String> ROUTE = new ThreadLocal<>();
+    private static final ThreadLocal<WalPosition> MIN_POSITION = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static String route() {
+        String route = ROUTE.get();
+        return route != null ? route : DEFAULT_ROUTE;
+    }
+
+    /**
+     * @return the previous route, to be restored with {@link #restoreRoute}
+     */
+    public static String enterRoute(String route) {
+        String previous = ROUTE.get();
+        ROUTE.set(route);
+        return previous;
+    }
+
+    public static void restoreRoute(String previous) {
+        if (previous == null) {
+            ROUTE.remove();
+        } else {
+            ROUTE.set(previous);
+        }
+    }
+
+    public static WalPosition minPosition() {
+        return MIN_POSITION.get();
+    }
+
+    public static void setMinPosition(WalPosition position) {
+        MIN_POSITION.set(position);
+    }
+
+    public static void clear() {
+        ROUTE.remove();
+        MIN_POSITION.remove();
+    }
+}
@@ -0,0 +1,88 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ *
+ * <p>A replica is eligible only when its last probe is fresh, its lag is within the
+ * bound of the current {@link ReplicaRead} route, and it has replayed at least the
+ * client's read-your-writes position. Otherwise the read falls back to the primary.
+ * Must be wrapped in a {@code LazyConnectionDataSourceProxy}: the transaction manager
+ * asks for a connection before the read-only flag is published, the proxy defers the
+ * lookup to the first statement.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicas;
+    private final ReplicaStatusProvider statusProvider;
+    private final Function<String, Duration> maxLagForRoute;
+    private final Duration staleAfter;
+    private final MetricsService metricsService;
+    private final Clock clock;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    ReplicaStatusProvider statusProvider,
+                                    Function<String, Duration> maxLagForRoute,
+                                    Duration staleAfter,
+                                    MetricsService metricsService,
+                                    Clock clock) {
+        this.replicas = List.copyOf(replicas.keySet());
+        this.statusProvider = statusProvider;
+        this.maxLagForRoute = maxLagForRoute;
+        this.staleAfter = staleAfter;
+        this.metricsService = metricsService;
+        this.clock = clock;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        String route = ReplicaRoutingContext.route();
+        Duration maxLag = maxLagForRoute.apply(route);
+        WalPosition minPosition = ReplicaRoutingContext.minPosition();
+        String reason = "no_replica";
+
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, replicas.size()));
+        for (int i = 0; i < replicas.size(); i++) {
+            String replica = replicas.get((start + i) % replicas.size());
+            ReplicaStatus status = statusProvider.status(replica);
+            if (status == null || status.observedAt().plus(staleAfter).isBefore(clock.instant())) {
+                reason = "unhealthy";
+            } else if (status.lag().compareTo(maxLag) > 0) {
+                reason = "lag";
+            } else if (minPosition != null && !status.replayed().isAtLeast(minPosition)) {
+                reason = "read_your_writes";
+            } else {
+                metricsService.recordDataSourceRoute(route, replica, "replica");
+                return replica;
+            }
+        }
+        metricsService.recordDataSourceRoute(route, PRIMARY, reason);
+        return PRIMARY;
+    }
+}
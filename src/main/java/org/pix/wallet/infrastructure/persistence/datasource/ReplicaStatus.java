@@ -0,0 +1,14 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Last observed state of a replica.
+ *
+ * @param lag        replay delay behind the primary
+ * @param replayed   WAL position already replayed (visible to queries)
+ * @param observedAt when the replica was last probed successfully
+ */
+public record ReplicaStatus(Duration lag, WalPosition replayed, Instant observedAt) {
+}
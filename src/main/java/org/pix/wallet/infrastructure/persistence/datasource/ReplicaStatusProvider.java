@@ -0,0 +1,14 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+/**
+ * Source of replica health for {@link ReplicaRoutingDataSource}.
+ */
+@FunctionalInterface
+public interface ReplicaStatusProvider {
+
+    /**
+     * @return last known status, or {@code null} if the replica has not been (or could
+     *         not be) probed
+     */
+    ReplicaStatus status(String replica);
+}
@@ -0,0 +1,31 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+/**
+ * Postgres WAL position (LSN), e.g. {@code 16/B374D848}, as an ordered 64-bit value.
+ */
+public record WalPosition(long value) implements Comparable<WalPosition> {
+
+    public static WalPosition parse(String lsn) {
+        int slash = lsn == null ? -1 : lsn.indexOf('/');
+        if (slash <= 0 || slash == lsn.length() - 1) {
+            throw new IllegalArgumentException("Invalid LSN: " + lsn);
+        }
+        long high = Long.parseLong(lsn.substring(0, slash), 16);
+        long low = Long.parseLong(lsn.substring(slash + 1), 16);
+        return new WalPosition((high << 32) | low);
+    }
+
+    public boolean isAtLeast(WalPosition other) {
+        return compareTo(other) >= 0;
+    }
+
+    @Override
+    public int compareTo(WalPosition other) {
+        return Long.compareUnsigned(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toHexString(value >>> 32).toUpperCase() + "/" + Long.toHexString(value & 0xFFFFFFFFL).toUpperCase();
+    }
+}
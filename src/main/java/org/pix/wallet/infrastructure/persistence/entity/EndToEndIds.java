@@ -0,0 +1,36 @@
+package org.pix.wallet.infrastructure.persistence.entity;
+
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Maps the textual end-to-end id ({@code "E"} followed by 32 uppercase hex digits, as issued
+ * by PixTransferService) to the UUID stored in {@code transfer.end_to_end_id}.
+ */
+public final class EndToEndIds {
+
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
+    private static final Pattern FORMAT = Pattern.compile("E[0-9A-Fa-f]{32}");
+
+    private EndToEndIds() {
+    }
+
+    /**
+     * @return the stored key, or empty when the id is not in the issued format and therefore
+     *         cannot belong to any transfer
+     */
+    public static Optional<UUID> toKey(String endToEndId) {
+        if (endToEndId == null || !FORMAT.matcher(endToEndId).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new UUID(
+            Long.parseUnsignedLong(endToEndId, 1, 17, 16),
+            Long.parseUnsignedLong(endToEndId, 17, 33, 16)));
+    }
+
+    public static String toText(UUID key) {
+        return "E" + HEX.toHexDigits(key.getMostSignificantBits()) + HEX.toHexDigits(key.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,61 @@
+package org.pix.wallet.infrastructure.persistence.entity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Column encodings of the compact {@code ledger_entry} layout.
+ *
+ * <p>The idempotency key is stored as its MD5 digest in a UUID column, the same value as
+ * {@code md5(key)::uuid} in Postgres. Keys are only ever compared for equality, so the text is
+ * not kept; the one thing read back from it, the transfer a step belongs to, gets its own
+ * {@code end_to_end_id} column.</p>
+ */
+public final class LedgerEntryCodec {
+
+    private static final Pattern TRANSFER_KEY =
+        Pattern.compile("^(E[0-9A-F]{32})-(reserve|apply-debit|apply-credit|unreserve)$");
+
+    private LedgerEntryCodec() {
+    }
+
+    public static long cents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public static BigDecimal amount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public static UUID idempotencyHash(String key) {
+        if (key == null) {
+            return null;
+        }
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(
+                MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8)));
+            return new UUID(digest.getLong(), digest.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is required on every JVM", e);
+        }
+    }
+
+    /**
+     * @return the transfer of a {@code {e2e}-reserve|apply-debit|apply-credit|unreserve} key,
+     *         or {@code null} for any other key
+     */
+    public static UUID endToEndId(String key) {
+        if (key == null) {
+            return null;
+        }
+        Matcher matcher = TRANSFER_KEY.matcher(key);
+        return matcher.matches() ? EndToEndIds.toKey(matcher.group(1)).orElse(null) : null;
+    }
+}
@@ -3,7 +3,6 @@ package org.pix.wallet.infrastructure.persistence.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -11,10 +10,9 @@ import org.pix.wallet.domain.model.enums.OperationType;
 
 @Entity
 @Table(name = "ledger_entry", indexes = {
-    @Index(name = "ix_ledger_wallet_time", columnList = "wallet_id,effective_at"),
-    @Index(name = "ix_ledger_wallet", columnList = "wallet_id"),
-    @Index(name = "ix_ledger_request", columnList = "wallet_id,request_id", unique = true)
-    // ATENÇÃO: idempotência condicional (wallet_id, request_id) WHERE request_id IS NOT NULL
+    // Cobre saldo atual e histórico (index-only scan); ver V8__compact_ledger_entry.sql
+    @Index(name = "ix_ledger_wallet_created", columnList = "wallet_id,created_at")
+    // ATENÇÃO: idempotência condicional (idempotency_hash, wallet_id) WHERE idempotency_hash IS NOT NULL
     // precisa ser índice parcial feito via Flyway para comportar NULL corretamente.
 })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
@@ -27,26 +25,26 @@ public class LedgerEntryEntity {
   @JoinColumn(name = "wallet_id", nullable = false)
   private WalletEntity wallet;
 
-  @Enumerated(EnumType.STRING)
-  @Column(name = "operation_type", nullable = false, length = 24)
+  @Convert(converter = OperationTypeCodeConverter.class)
+  @Column(name = "operation_code", nullable = false)
   private OperationType operationType;
 
-  @Column(name = "amount", nullable = false)
-  private BigDecimal amount; // positivo = crédito; negativo = débito
-
-  @Column(name = "effective_at", nullable = false)
-  private Instant effectiveAt;
+  @Column(name = "amount_cents", nullable = false)
+  private long amountCents; // sempre positivo; o sinal vem de operationType
 
   @Column(nullable = false)
   private Instant createdAt;
 
-  // para idempotência
-  @Column(name = "idempotency_key")
-  private String idempotencyKey;
+  // para idempotência: MD5 da chave (LedgerEntryCodec)
+  @Column(name = "idempotency_hash")
+  private UUID idempotencyHash;
+
+  // transferência à qual o lançamento pertence (chaves {e2e}-reserve etc.), para o read model
+  @Column(name = "end_to_end_id")
+  private UUID endToEndId;
 
   @PrePersist
   void prePersist() {
     if (createdAt == null) createdAt = Instant.now();
-    if (effectiveAt == null) effectiveAt = createdAt;
   }
 }
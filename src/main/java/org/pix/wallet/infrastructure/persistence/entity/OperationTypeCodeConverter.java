@@ -0,0 +1,50 @@
+package org.pix.wallet.infrastructure.persistence.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import org.pix.wallet.domain.model.enums.OperationType;
+
+/**
+ * Persists {@link OperationType} as the SMALLINT {@code ledger_entry.operation_code}. Codes are
+ * part of the schema (see V8__compact_ledger_entry.sql) and the balance queries use them as
+ * literals, so they must never be renumbered.
+ */
+@Converter
+public class OperationTypeCodeConverter implements AttributeConverter<OperationType, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(OperationType type) {
+        return type == null ? null : code(type);
+    }
+
+    @Override
+    public OperationType convertToEntityAttribute(Short code) {
+        return code == null ? null : fromCode(code);
+    }
+
+    public static short code(OperationType type) {
+        return switch (type) {
+            case DEPOSIT -> 0;
+            case WITHDRAW -> 1;
+            case PIX_OUT -> 2;
+            case PIX_IN -> 3;
+            case ADJUSTMENT -> 4;
+            case RESERVED -> 5;
+            case UNRESERVED -> 6;
+        };
+    }
+
+    public static OperationType fromCode(short code) {
+        return switch (code) {
+            case 0 -> OperationType.DEPOSIT;
+            case 1 -> OperationType.WITHDRAW;
+            case 2 -> OperationType.PIX_OUT;
+            case 3 -> OperationType.PIX_IN;
+            case 4 -> OperationType.ADJUSTMENT;
+            case 5 -> OperationType.RESERVED;
+            case 6 -> OperationType.UNRESERVED;
+            default -> throw new IllegalStateException("Unknown operation code: " + code);
+        };
+    }
+}
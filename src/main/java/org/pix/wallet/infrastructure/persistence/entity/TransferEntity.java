@@ -3,7 +3,6 @@ package org.pix.wallet.infrastructure.persistence.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -14,7 +13,7 @@ import org.pix.wallet.domain.model.enums.TransferStatus;
     @Index(name = "ix_transfer_from", columnList = "from_wallet_id"),
     @Index(name = "ix_transfer_to", columnList = "to_wallet_id"),
   @Index(name = "uq_transfer_e2e", columnList = "end_to_end_id", unique = true),
-  @Index(name = "uq_transfer_idempotency", columnList = "idempotency_key", unique = true)
+  @Index(name = "uq_transfer_idempotency_key", columnList = "idempotency_key", unique = true)
 })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class TransferEntity {
@@ -23,27 +22,28 @@ public class TransferEntity {
   @GeneratedValue
   private UUID id;
 
+  // UUID form of the "E..." text id, see EndToEndIds
   @Column(name = "end_to_end_id", nullable = false, unique = true)
-  private String endToEndId;
+  private UUID endToEndId;
 
   @Column(name = "idempotency_key", nullable = false, unique = true, length = 64)
   private String idempotencyKey;
 
-  @Column(name = "from_wallet_id", nullable = true)
-  private String fromWallet;
+  @Column(name = "from_wallet_id", nullable = false)
+  private UUID fromWallet;
 
   @Column(name = "to_wallet_id", nullable = false)
-  private String toWallet;
+  private UUID toWallet;
 
-  @Column(name = "amount", nullable = false)
-  private BigDecimal amount;
+  @Column(name = "amount_cents", nullable = false)
+  private long amountCents;
 
   @Column(length = 3, nullable = false)
   @Builder.Default
   private String currency = "BRL";
 
-  @Enumerated(EnumType.STRING)
-  @Column(nullable = false, length = 16)
+  @Convert(converter = TransferStatusCodeConverter.class)
+  @Column(name = "status_code", nullable = false)
   @Builder.Default
   private TransferStatus status = TransferStatus.PENDING;
 
@@ -0,0 +1,41 @@
+package org.pix.wallet.infrastructure.persistence.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import org.pix.wallet.domain.model.enums.TransferStatus;
+
+/**
+ * Persists {@link TransferStatus} as the SMALLINT {@code transfer.status_code}. Codes are part
+ * of the schema (see V7__compact_transfer.sql) and must never be renumbered.
+ */
+@Converter
+public class TransferStatusCodeConverter implements AttributeConverter<TransferStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TransferStatus status) {
+        return status == null ? null : code(status);
+    }
+
+    @Override
+    public TransferStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : fromCode(code);
+    }
+
+    public static short code(TransferStatus status) {
+        return switch (status) {
+            case PENDING -> 0;
+            case CONFIRMED -> 1;
+            case REJECTED -> 2;
+        };
+    }
+
+    public static TransferStatus fromCode(short code) {
+        return switch (code) {
+            case 0 -> TransferStatus.PENDING;
+            case 1 -> TransferStatus.CONFIRMED;
+            case 2 -> TransferStatus.REJECTED;
+            default -> throw new IllegalStateException("Unknown transfer status code: " + code);
+        };
+    }
+}
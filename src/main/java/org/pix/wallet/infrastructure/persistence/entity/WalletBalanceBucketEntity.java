@@ -0,0 +1,36 @@
+package org.pix.wallet.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * One shard of a hot wallet's available balance. Written only through the native
+ * queries in {@code WalletBalanceBucketJpaRepository}.
+ */
+@Entity
+@Table(name = "wallet_balance_bucket")
+@IdClass(WalletBalanceBucketEntity.Key.class)
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class WalletBalanceBucketEntity {
+
+  @Id
+  @Column(name = "wallet_id")
+  private UUID walletId;
+
+  @Id
+  @Column(name = "bucket")
+  private short bucket;
+
+  @Column(name = "balance", nullable = false)
+  private BigDecimal balance;
+
+  @Data @NoArgsConstructor @AllArgsConstructor
+  public static class Key implements Serializable {
+    private UUID walletId;
+    private short bucket;
+  }
+}
@@ -29,4 +29,8 @@ public class WalletEntity {
   @Version
   private Integer version;
 
+  // > 1 = available balance sharded across wallet_balance_bucket rows
+  @Column(name = "balance_buckets", nullable = false)
+  private int balanceBuckets;
+
 }
\ No newline at end of file
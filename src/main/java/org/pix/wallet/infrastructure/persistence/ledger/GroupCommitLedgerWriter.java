@@ -0,0 +1,223 @@
+package org.pix.wallet.infrastructure.persistence.ledger;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.domain.model.enums.OperationType;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryCodec;
+import org.pix.wallet.infrastructure.persistence.entity.OperationTypeCodeConverter;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Coalesces ledger inserts from many request threads into multi-row INSERTs.
+ *
+ * <p>Callers {@link #submit} an entry to a bounded queue (many producers, one consumer)
+ * and receive a future. A single writer thread waits for the first entry, keeps
+ * draining for at most {@code maxDelay} or until {@code maxBatchSize} entries, and
+ * writes the whole group with one auto-committed statement (one commit / one WAL
+ * flush per group). Each caller's future completes only after that commit.</p>
+ *
+ * <p>Duplicate idempotency keys are absorbed with {@code ON CONFLICT DO NOTHING}, so
+ * one retried request cannot fail the rest of the group; its future completes with the
+ * id of the row that already exists.</p>
+ */
+@Slf4j
+public class GroupCommitLedgerWriter implements SmartLifecycle {
+
+    private static final int COLUMNS = 7;
+    private static final String INSERT_PREFIX =
+        "INSERT INTO ledger_entry (id, wallet_id, operation_code, amount_cents, created_at, idempotency_hash, end_to_end_id) VALUES ";
+    private static final String INSERT_SUFFIX =
+        " ON CONFLICT (idempotency_hash, wallet_id) WHERE idempotency_hash IS NOT NULL DO NOTHING RETURNING id";
+    private static final String EXISTING_ID_SQL =
+        "SELECT id FROM ledger_entry WHERE idempotency_hash = ? AND wallet_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MetricsService metricsService;
+    private final BlockingQueue<PendingEntry> queue;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public GroupCommitLedgerWriter(JdbcTemplate jdbcTemplate,
+                                   MetricsService metricsService,
+                                   int queueCapacity,
+                                   int maxBatchSize,
+                                   Duration maxDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.metricsService = metricsService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        metricsService.registerLedgerGroupCommitQueue(queue::size);
+    }
+
+    /**
+     * Enqueues an entry for the next group commit.
+     *
+     * @return the future completed with the ledger entry id after commit, or empty when
+     *         the writer is stopped or the queue is full (caller should write directly)
+     */
+    public Optional<CompletableFuture<String>> submit(UUID walletId, OperationType operationType,
+                                                      BigDecimal amount, String idempotencyKey) {
+        if (!running) {
+            return Optional.empty();
+        }
+        PendingEntry entry = new PendingEntry(UUID.randomUUID(), walletId, operationType, amount,
+            idempotencyKey, Instant.now(), System.nanoTime(), new CompletableFuture<>());
+        if (!queue.offer(entry)) {
+            metricsService.recordLedgerGroupCommitOverflow();
+            return Optional.empty();
+        }
+        return Optional.of(entry.result());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runLoop, "ledger-group-commit");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Ledger group-commit writer started (maxBatchSize={}, maxDelay={}us)",
+            maxBatchSize, TimeUnit.NANOSECONDS.toMicros(maxDelayNanos));
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Anything still queued after shutdown is written by the stopping thread
+        List<PendingEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += maxBatchSize) {
+            flush(remaining.subList(from, Math.min(remaining.size(), from + maxBatchSize)));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runLoop() {
+        List<PendingEntry> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<PendingEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            Object[] args = new Object[batch.size() * COLUMNS];
+            int i = 0;
+            for (PendingEntry entry : batch) {
+                if (i > 0) sql.append(',');
+                sql.append("(?,?,?,?,?,?,?)");
+                args[i++] = entry.id();
+                args[i++] = entry.walletId();
+                args[i++] = OperationTypeCodeConverter.code(entry.operationType());
+                args[i++] = LedgerEntryCodec.cents(entry.amount());
+                args[i++] = Timestamp.from(entry.createdAt());
+                args[i++] = LedgerEntryCodec.idempotencyHash(entry.idempotencyKey());
+                args[i++] = LedgerEntryCodec.endToEndId(entry.idempotencyKey());
+            }
+            sql.append(INSERT_SUFFIX);
+
+            Set<UUID> inserted = new HashSet<>(jdbcTemplate.queryForList(sql.toString(), UUID.class, args));
+
+            long now = System.nanoTime();
+            metricsService.recordLedgerGroupCommit(batch.size());
+            for (PendingEntry entry : batch) {
+                String id = inserted.contains(entry.id()) ? entry.id().toString() : existingId(entry);
+                metricsService.recordLedgerGroupCommitLatency(Duration.ofNanos(now - entry.enqueuedNanos()));
+                entry.result().complete(id);
+            }
+        } catch (RuntimeException e) {
+            log.error("Ledger group commit failed for {} entries", batch.size(), e);
+            metricsService.recordLedgerGroupCommitFailure();
+            if (jdbcTemplate.getDataSource() instanceof SingleConnectionDataSource dataSource) {
+                dataSource.resetConnection();
+            }
+            batch.forEach(entry -> entry.result().completeExceptionally(e));
+        }
+    }
+
+    private String existingId(PendingEntry entry) {
+        return jdbcTemplate.queryForList(EXISTING_ID_SQL, UUID.class,
+                LedgerEntryCodec.idempotencyHash(entry.idempotencyKey()), entry.walletId())
+            .stream()
+            .findFirst()
+            .map(UUID::toString)
+            .orElse(entry.id().toString());
+    }
+
+    record PendingEntry(
+        UUID id,
+        UUID walletId,
+        OperationType operationType,
+        BigDecimal amount,
+        String idempotencyKey,
+        Instant createdAt,
+        long enqueuedNanos,
+        CompletableFuture<String> result
+    ) {}
+}
@@ -0,0 +1,434 @@
+package org.pix.wallet.infrastructure.persistence.readmodel;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.in.RebuildBalancesUseCase.Mismatch;
+import org.pix.wallet.application.port.in.RebuildBalancesUseCase.Report;
+import org.pix.wallet.application.port.in.RebuildBalancesUseCase.State;
+import org.pix.wallet.application.port.in.RebuildBalancesUseCase.Status;
+import org.pix.wallet.application.port.out.BalanceRebuildPort;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRoutingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recomputes wallet balances from {@code ledger_entry} and reconciles
+ * {@code read_model.wallet_balance_view} with them.
+ *
+ * <p>Per shard, wallets get a dense surrogate from {@link WalletDirectory} and are processed
+ * in passes of at most {@code wallets-per-pass}. In a pass, the ledger up to the projection
+ * checkpoint is cut into {@code seq} chunks that workers aggregate on their own connections
+ * with one {@code GROUP BY wallet_id} each, adding the partial sums (in cents) into shared
+ * {@code long} arrays indexed by surrogate. The heap is therefore bounded by the pass size,
+ * whatever the number of ledger rows.</p>
+ *
+ * <p>The pass is then reconciled under the checkpoint lock: entries the projector applied
+ * meanwhile are added, the stored balances are diffed against the result and, unless this is
+ * a dry run, only the differing rows are rewritten, so the projection stays consistent with
+ * its checkpoint.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pix.read-model.enabled", havingValue = "true")
+public class BalanceRebuildEngine implements BalanceRebuildPort {
+
+    // Operation codes as in OperationTypeCodeConverter: 0 DEPOSIT, 1 WITHDRAW, 5 RESERVED, 6 UNRESERVED
+    private static final String AGGREGATE = """
+        SELECT wallet_id,
+               SUM(CASE WHEN operation_code = 0 THEN amount_cents
+                        WHEN operation_code = 1 THEN -amount_cents
+                        ELSE 0 END),
+               SUM(CASE WHEN operation_code IN (0, 6) THEN amount_cents
+                        WHEN operation_code IN (1, 5) THEN -amount_cents
+                        ELSE 0 END),
+               COUNT(*), MAX(seq), MAX(created_at)
+        FROM ledger_entry
+        WHERE seq BETWEEN ? AND ? AND wallet_id BETWEEN ? AND ?
+        GROUP BY wallet_id
+        """;
+
+    private static final int WRITE_BATCH = 1000;
+    private static final int SAMPLE_SIZE = 20;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricsService metricsService;
+    private final ShardRouter shardRouter;
+    private final long chunkSize;
+    private final int walletsPerPass;
+    private final int fetchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong scanned = new AtomicLong();
+    private volatile long planned;
+    private volatile long startedNanos;
+    private volatile Status last = new Status(State.IDLE, 0, null, null, null);
+
+    public BalanceRebuildEngine(JdbcTemplate jdbc,
+                                TransactionTemplate transactionTemplate,
+                                MetricsService metricsService,
+                                ShardRouter shardRouter,
+                                @Value("${pix.read-model.balance-rebuild.chunk-size:1000000}") long chunkSize,
+                                @Value("${pix.read-model.balance-rebuild.wallets-per-pass:1000000}") int walletsPerPass,
+                                @Value("${pix.read-model.balance-rebuild.fetch-size:10000}") int fetchSize) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = transactionTemplate;
+        this.metricsService = metricsService;
+        this.shardRouter = shardRouter;
+        this.chunkSize = chunkSize;
+        this.walletsPerPass = walletsPerPass;
+        this.fetchSize = fetchSize;
+        metricsService.registerBalanceRebuildProgress(this::progress, () -> {
+            Long eta = etaSeconds();
+            return eta == null ? 0 : eta;
+        });
+    }
+
+    @Override
+    public Status start(int parallelism, boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Balance rebuild already running");
+        }
+        last = new Status(State.RUNNING, 0, null, null, null);
+        Thread thread = new Thread(() -> {
+            try {
+                last = new Status(State.SUCCEEDED, 1, 0L, run(parallelism, dryRun), null);
+            } catch (RuntimeException e) {
+                log.error("Balance rebuild failed",
+                          kv("errorType", "balance_rebuild_failed"),
+                          kv("errorMessage", e.getMessage()));
+                last = new Status(State.FAILED, progress(), null, null, e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        }, "balance-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return status();
+    }
+
+    @Override
+    public Status status() {
+        Status status = last;
+        if (status.state() == State.RUNNING) {
+            return new Status(State.RUNNING, progress(), etaSeconds(), null, null);
+        }
+        return status;
+    }
+
+    /**
+     * Runs the whole rebuild on the calling thread.
+     */
+    public Report run(int parallelism, boolean dryRun) {
+        startedNanos = System.nanoTime();
+        scanned.set(0);
+        AtomicLong plan = new AtomicLong();
+        shardRouter.forEachShard(() -> plan.addAndGet(plannedSpan()));
+        planned = plan.get();
+
+        Totals totals = new Totals();
+        shardRouter.forEachShard(() -> rebuildShard(parallelism, dryRun, totals));
+
+        Duration took = Duration.ofNanos(System.nanoTime() - startedNanos);
+        Report report = new Report(dryRun, totals.shards, totals.passes, totals.entries.get(), totals.wallets,
+            totals.mismatched, totals.missing, totals.extra, List.copyOf(totals.sample), took);
+        metricsService.recordBalanceRebuildMismatches("mismatched", report.mismatched());
+        metricsService.recordBalanceRebuildMismatches("missing", report.missing());
+        metricsService.recordBalanceRebuildMismatches("extra", report.extra());
+        log.info("Balance rebuild finished",
+                 kv("dryRun", dryRun),
+                 kv("entries", report.entries()),
+                 kv("wallets", report.wallets()),
+                 kv("mismatched", report.mismatched()),
+                 kv("missing", report.missing()),
+                 kv("extra", report.extra()),
+                 kv("tookMs", took.toMillis()));
+        return report;
+    }
+
+    private long plannedSpan() {
+        long position = checkpointPosition();
+        Long min = jdbc.queryForObject("SELECT MIN(seq) FROM ledger_entry", Long.class);
+        Long wallets = jdbc.queryForObject("SELECT COUNT(*) FROM wallet", Long.class);
+        if (min == null || wallets == null || wallets == 0 || position < min) {
+            return 0;
+        }
+        long passes = (wallets + walletsPerPass - 1) / walletsPerPass;
+        return (position - min + 1) * passes;
+    }
+
+    private void rebuildShard(int parallelism, boolean dryRun, Totals totals) {
+        String shard = ShardRoutingContext.current();
+        long position = checkpointPosition();
+        Long min = jdbc.queryForObject("SELECT MIN(seq) FROM ledger_entry", Long.class);
+        WalletDirectory wallets = WalletDirectory.load(jdbc, fetchSize);
+        totals.shards++;
+        totals.wallets += wallets.size();
+
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (int from = 0; from < wallets.size(); from += walletsPerPass) {
+                Pass pass = new Pass(wallets, from, Math.min(wallets.size(), from + walletsPerPass));
+                List<Future<?>> chunks = new ArrayList<>();
+                for (long lo = min == null ? position + 1 : min; lo <= position; lo += chunkSize) {
+                    long start = lo;
+                    long end = Math.min(position, lo + chunkSize - 1);
+                    chunks.add(workers.submit(() -> scanChunk(shard, pass, start, end, totals)));
+                }
+                for (Future<?> chunk : chunks) {
+                    chunk.get();
+                }
+                transactionTemplate.executeWithoutResult(status -> reconcile(pass, position, dryRun, totals));
+                totals.passes++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Balance rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Balance rebuild failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void scanChunk(String shard, Pass pass, long from, long to, Totals totals) {
+        String previous = ShardRoutingContext.enter(shard);
+        try {
+            transactionTemplate.executeWithoutResult(status -> aggregate(pass, from, to, totals));
+            scanned.addAndGet(to - from + 1);
+        } finally {
+            ShardRoutingContext.restore(previous);
+        }
+    }
+
+    private void aggregate(Pass pass, long from, long to, Totals totals) {
+        JdbcTemplate streaming = new JdbcTemplate(jdbc.getDataSource());
+        streaming.setFetchSize(fetchSize);
+        AtomicLong entries = new AtomicLong();
+        streaming.query(AGGREGATE, (RowCallbackHandler) rs -> {
+            int index = pass.indexOf(rs.getObject(1, UUID.class));
+            if (index >= 0) {
+                pass.add(index, rs.getLong(2), rs.getLong(3), rs.getLong(5), micros(rs.getTimestamp(6)));
+            }
+            entries.addAndGet(rs.getLong(4));
+        }, from, to, pass.first(), pass.last());
+        totals.entries.addAndGet(entries.get());
+        metricsService.recordBalanceRebuildEntries(entries.get());
+    }
+
+    private void reconcile(Pass pass, long scannedUpTo, boolean dryRun, Totals totals) {
+        long position = jdbc.queryForObject(
+            "SELECT position FROM read_model.projection_checkpoint WHERE projection = ? FOR UPDATE",
+            Long.class, ReadModelStore.PROJECTION);
+        if (position < scannedUpTo) {
+            throw new IllegalStateException("Read-model checkpoint moved back during the rebuild; run it again");
+        }
+        if (position > scannedUpTo) {
+            aggregate(pass, scannedUpTo + 1, position, totals);
+        }
+
+        BitSet stored = new BitSet(pass.size());
+        BitSet stale = new BitSet(pass.size());
+        List<UUID> extra = new ArrayList<>();
+        JdbcTemplate streaming = new JdbcTemplate(jdbc.getDataSource());
+        streaming.setFetchSize(fetchSize);
+        streaming.query("SELECT wallet_id, balance, available_balance FROM read_model.wallet_balance_view "
+                + "WHERE wallet_id BETWEEN ? AND ?",
+            (RowCallbackHandler) rs -> {
+                UUID walletId = rs.getObject(1, UUID.class);
+                int index = pass.indexOf(walletId);
+                BigDecimal balance = rs.getBigDecimal(2);
+                BigDecimal available = rs.getBigDecimal(3);
+                if (index < 0 || !pass.hasEntries(index)) {
+                    extra.add(walletId);
+                    totals.extra++;
+                    totals.sample(new Mismatch(walletId, BigDecimal.ZERO, balance, BigDecimal.ZERO, available));
+                    return;
+                }
+                stored.set(index);
+                if (cents(balance) != pass.balance(index) || cents(available) != pass.available(index)) {
+                    stale.set(index);
+                    totals.mismatched++;
+                    totals.sample(new Mismatch(walletId, money(pass.balance(index)), balance,
+                        money(pass.available(index)), available));
+                }
+            },
+            pass.first(), pass.last());
+
+        BitSet missing = new BitSet(pass.size());
+        for (int i = 0; i < pass.size(); i++) {
+            if (pass.hasEntries(i) && !stored.get(i)) {
+                missing.set(i);
+                totals.missing++;
+                totals.sample(new Mismatch(pass.walletId(i), money(pass.balance(i)), null, money(pass.available(i)), null));
+            }
+        }
+
+        if (!dryRun) {
+            write("UPDATE read_model.wallet_balance_view SET balance = ?, available_balance = ?, last_seq = ?, "
+                    + "updated_at = ? WHERE wallet_id = ?",
+                stale.stream().mapToObj(i -> new Object[] {
+                    money(pass.balance(i)), money(pass.available(i)), pass.lastSeq(i), pass.updatedAt(i), pass.walletId(i)})
+                    .toList());
+            write("INSERT INTO read_model.wallet_balance_view (balance, available_balance, last_seq, updated_at, wallet_id) "
+                    + "VALUES (?, ?, ?, ?, ?)",
+                missing.stream().mapToObj(i -> new Object[] {
+                    money(pass.balance(i)), money(pass.available(i)), pass.lastSeq(i), pass.updatedAt(i), pass.walletId(i)})
+                    .toList());
+            write("DELETE FROM read_model.wallet_balance_view WHERE wallet_id = ?",
+                extra.stream().map(id -> new Object[] {id}).toList());
+        }
+    }
+
+    private void write(String sql, List<Object[]> rows) {
+        for (int i = 0; i < rows.size(); i += WRITE_BATCH) {
+            jdbc.batchUpdate(sql, rows.subList(i, Math.min(rows.size(), i + WRITE_BATCH)));
+        }
+    }
+
+    private long checkpointPosition() {
+        return jdbc.queryForObject("SELECT position FROM read_model.projection_checkpoint WHERE projection = ?",
+            Long.class, ReadModelStore.PROJECTION);
+    }
+
+    double progress() {
+        long total = planned;
+        if (total <= 0) {
+            return running.get() ? 0 : 1;
+        }
+        return Math.min(1.0, (double) scanned.get() / total);
+    }
+
+    private Long etaSeconds() {
+        double progress = progress();
+        if (!running.get() || progress <= 0) {
+            return null;
+        }
+        double elapsed = (System.nanoTime() - startedNanos) / 1e9;
+        return Math.round(elapsed * (1 - progress) / progress);
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private static BigDecimal money(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static long micros(Timestamp ts) {
+        Instant instant = ts.toInstant();
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+
+    /**
+     * Running sums of one wallet range, indexed by surrogate minus {@code from}.
+     */
+    private static final class Pass {
+        private final WalletDirectory wallets;
+        private final int from;
+        private final int to;
+        private final AtomicLongArray balance;
+        private final AtomicLongArray available;
+        private final AtomicLongArray lastSeq;
+        private final AtomicLongArray updatedAtMicros;
+
+        Pass(WalletDirectory wallets, int from, int to) {
+            this.wallets = wallets;
+            this.from = from;
+            this.to = to;
+            this.balance = new AtomicLongArray(to - from);
+            this.available = new AtomicLongArray(to - from);
+            this.lastSeq = new AtomicLongArray(to - from);
+            this.updatedAtMicros = new AtomicLongArray(to - from);
+        }
+
+        int size() {
+            return to - from;
+        }
+
+        UUID first() {
+            return wallets.get(from);
+        }
+
+        UUID last() {
+            return wallets.get(to - 1);
+        }
+
+        int indexOf(UUID walletId) {
+            int index = wallets.indexOf(walletId);
+            return index >= from && index < to ? index - from : -1;
+        }
+
+        UUID walletId(int index) {
+            return wallets.get(from + index);
+        }
+
+        void add(int index, long balanceCents, long availableCents, long seq, long atMicros) {
+            balance.addAndGet(index, balanceCents);
+            available.addAndGet(index, availableCents);
+            lastSeq.accumulateAndGet(index, seq, Math::max);
+            updatedAtMicros.accumulateAndGet(index, atMicros, Math::max);
+        }
+
+        boolean hasEntries(int index) {
+            return lastSeq.get(index) > 0;
+        }
+
+        long balance(int index) {
+            return balance.get(index);
+        }
+
+        long available(int index) {
+            return available.get(index);
+        }
+
+        long lastSeq(int index) {
+            return lastSeq.get(index);
+        }
+
+        Timestamp updatedAt(int index) {
+            long micros = updatedAtMicros.get(index);
+            return Timestamp.from(Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000), Math.floorMod(micros, 1_000_000) * 1_000));
+        }
+    }
+
+    private static final class Totals {
+        int shards;
+        int passes;
+        long wallets;
+        long mismatched;
+        long missing;
+        long extra;
+        final AtomicLong entries = new AtomicLong();
+        final List<Mismatch> sample = new ArrayList<>();
+
+        void sample(Mismatch mismatch) {
+            if (sample.size() < SAMPLE_SIZE) {
+                sample.add(mismatch);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.pix.wallet.infrastructure.persistence.readmodel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import org.pix.wallet.domain.model.enums.OperationType;
+
+/**
+ * One {@code ledger_entry} row as seen by the projector, in {@code seq} order.
+ * {@code endToEndId} is set when the entry is a step of a transfer.
+ */
+record LedgerChange(
+    long seq,
+    UUID walletId,
+    OperationType operationType,
+    BigDecimal amount,
+    Instant createdAt,
+    String endToEndId) {
+}
@@ -0,0 +1,158 @@
+package org.pix.wallet.infrastructure.persistence.readmodel;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.readmodel.ReadModelStore.Checkpoint;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRoutingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the {@code read_model} projections up to date from the ledger change stream.
+ *
+ * <p>Each batch runs in one transaction that locks the checkpoint row
+ * ({@code FOR UPDATE SKIP LOCKED}, so one instance projects a shard at a time), applies the
+ * next entries after the checkpoint and moves it, so every entry is applied exactly once.
+ * A sequence value is taken before commit, so a hole in {@code seq} may be a transaction
+ * still in flight: the projector stops in front of it and only skips it as rolled back once
+ * it has stayed open for {@code gap-timeout}, which must therefore exceed the longest
+ * ledger-writing transaction. A rebuild repairs anything skipped in error.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pix.read-model.enabled", havingValue = "true")
+public class LedgerProjector {
+
+    private final ReadModelStore store;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricsService metricsService;
+    private final ShardRouter shardRouter;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration gapTimeout;
+    private final Map<String, Gap> gaps = new ConcurrentHashMap<>();
+
+    private record Gap(long seq, long firstSeenNanos) {
+    }
+
+    public LedgerProjector(ReadModelStore store,
+                           TransactionTemplate transactionTemplate,
+                           MetricsService metricsService,
+                           ShardRouter shardRouter,
+                           @Value("${pix.read-model.projector.batch-size:500}") int batchSize,
+                           @Value("${pix.read-model.projector.max-batches-per-poll:20}") int maxBatchesPerPoll,
+                           @Value("${pix.read-model.projector.gap-timeout:5s}") Duration gapTimeout) {
+        this.store = store;
+        this.transactionTemplate = transactionTemplate;
+        this.metricsService = metricsService;
+        this.shardRouter = shardRouter;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.gapTimeout = gapTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${pix.read-model.projector.poll-interval-ms:500}")
+    public void poll() {
+        shardRouter.forEachShard(this::catchUp);
+    }
+
+    private void catchUp() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            int projected;
+            try {
+                projected = projectBatch();
+            } catch (RuntimeException e) {
+                metricsService.recordReadModelBatchFailure();
+                log.error("Read-model projection batch failed; will retry on next poll",
+                          kv("errorType", "read_model_projection_failed"),
+                          kv("errorMessage", e.getMessage()));
+                return;
+            }
+            if (projected < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Projects the next batch on the selected shard and returns how many entries were applied.
+     */
+    public int projectBatch() {
+        Integer projected = transactionTemplate.execute(status -> {
+            Optional<Checkpoint> checkpoint = store.lockCheckpoint(true);
+            if (checkpoint.isEmpty()) {
+                return 0;
+            }
+            List<LedgerChange> changes = store.changesAfter(checkpoint.get().position(), batchSize);
+
+            ProjectionDelta delta = new ProjectionDelta();
+            long expected = checkpoint.get().position() + 1;
+            boolean blocked = false;
+            for (LedgerChange change : changes) {
+                if (change.seq() != expected && !gapExpired(expected)) {
+                    blocked = true;
+                    break;
+                }
+                delta.apply(change);
+                expected = change.seq() + 1;
+            }
+
+            Instant now = Instant.now();
+            boolean atHead = !blocked && changes.size() < batchSize;
+            if (delta.isEmpty()) {
+                if (atHead) {
+                    store.markRefreshed(now);
+                }
+                return 0;
+            }
+
+            store.resolveCounterparties(delta);
+            store.write(delta, false);
+            store.saveCheckpoint(delta.lastSeq(), delta.lastEventAt(), atHead ? now : checkpoint.get().refreshedAt());
+
+            metricsService.recordReadModelProjected((int) delta.events(), Duration.between(delta.lastEventAt(), now));
+            log.debug("Read-model batch projected",
+                      kv("events", delta.events()),
+                      kv("position", delta.lastSeq()),
+                      kv("atHead", atHead));
+            return (int) delta.events();
+        });
+        return projected == null ? 0 : projected;
+    }
+
+    /**
+     * Whether the hole starting at {@code seq} has been open for the whole gap timeout.
+     */
+    private boolean gapExpired(long seq) {
+        String shard = Objects.requireNonNullElse(ShardRoutingContext.current(), "default");
+        long now = System.nanoTime();
+        Gap gap = gaps.get(shard);
+        if (gap == null || gap.seq() != seq) {
+            gap = new Gap(seq, now);
+            gaps.put(shard, gap);
+        }
+        if (now - gap.firstSeenNanos() < gapTimeout.toNanos()) {
+            return false;
+        }
+        gaps.remove(shard);
+        metricsService.recordReadModelGapSkipped();
+        log.warn("Skipping ledger sequence gap after timeout",
+                 kv("shard", shard),
+                 kv("seq", seq),
+                 kv("gapTimeout", gapTimeout));
+        return true;
+    }
+}
@@ -0,0 +1,200 @@
+package org.pix.wallet.infrastructure.persistence.readmodel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Changes to the three projections produced by a run of ledger entries.
+ *
+ * <p>Everything here merges commutatively: balances and daily totals are sums, and a
+ * transfer's status only moves up {@code PENDING < REJECTED < CONFIRMED}. That is what
+ * lets the rebuild aggregate disjoint sequence ranges in parallel and merge the partials,
+ * and lets {@link ReadModelStore} apply a delta on top of existing rows.</p>
+ *
+ * <p>Transfers are recognised by the {@code end_to_end_id} the ledger stores for entries keyed
+ * {@code {e2e}-reserve|apply-debit|apply-credit|unreserve}; each step has its own operation
+ * type: RESERVED (created, source wallet), WITHDRAW and DEPOSIT (confirmed, source and
+ * destination) and UNRESERVED (rejected, unless the transfer was also confirmed).</p>
+ */
+final class ProjectionDelta {
+
+    static final String PENDING = "PENDING";
+    static final String CONFIRMED = "CONFIRMED";
+    static final String REJECTED = "REJECTED";
+    static final String OUT = "OUT";
+    static final String IN = "IN";
+
+    final Map<UUID, Balance> balances = new HashMap<>();
+    final Map<DayKey, DailyTotals> dailyTotals = new HashMap<>();
+    final Map<TransferKey, TransferEntry> transfers = new HashMap<>();
+
+    private long lastSeq;
+    private Instant lastEventAt;
+    private long events;
+
+    void apply(LedgerChange change) {
+        BigDecimal amount = change.amount();
+        Balance balance = balances.computeIfAbsent(change.walletId(), id -> new Balance());
+        DailyTotals daily = dailyTotals.computeIfAbsent(
+            new DayKey(change.walletId(), LocalDate.ofInstant(change.createdAt(), ZoneOffset.UTC)),
+            key -> new DailyTotals());
+
+        // Same arithmetic as LedgerEntryJpaRepository; legacy PIX_IN/PIX_OUT/ADJUSTMENT count for nothing
+        switch (change.operationType()) {
+            case DEPOSIT -> {
+                balance.balance = balance.balance.add(amount);
+                balance.available = balance.available.add(amount);
+                daily.credits = daily.credits.add(amount);
+            }
+            case WITHDRAW -> {
+                balance.balance = balance.balance.subtract(amount);
+                balance.available = balance.available.subtract(amount);
+                daily.debits = daily.debits.add(amount);
+            }
+            case RESERVED -> balance.available = balance.available.subtract(amount);
+            case UNRESERVED -> balance.available = balance.available.add(amount);
+            default -> { }
+        }
+        balance.seen(change.seq(), change.createdAt());
+        daily.entries++;
+
+        applyTransfer(change);
+
+        events++;
+        lastSeq = Math.max(lastSeq, change.seq());
+        if (lastEventAt == null || change.createdAt().isAfter(lastEventAt)) {
+            lastEventAt = change.createdAt();
+        }
+    }
+
+    private void applyTransfer(LedgerChange change) {
+        if (change.endToEndId() == null) {
+            return;
+        }
+        // Each transfer step writes one operation type: -reserve, -apply-debit, -apply-credit, -unreserve
+        String direction;
+        String status;
+        switch (change.operationType()) {
+            case RESERVED -> { direction = OUT; status = PENDING; }
+            case WITHDRAW -> { direction = OUT; status = CONFIRMED; }
+            case DEPOSIT -> { direction = IN; status = CONFIRMED; }
+            case UNRESERVED -> { direction = OUT; status = REJECTED; }
+            default -> { return; }
+        }
+        TransferEntry entry = new TransferEntry(direction, change.amount(), status, change.createdAt(), change.createdAt());
+        transfers.merge(new TransferKey(change.walletId(), change.endToEndId()), entry, TransferEntry::merge);
+    }
+
+    void merge(ProjectionDelta other) {
+        other.balances.forEach((id, b) -> balances.merge(id, b, Balance::merge));
+        other.dailyTotals.forEach((key, d) -> dailyTotals.merge(key, d, DailyTotals::merge));
+        other.transfers.forEach((key, t) -> transfers.merge(key, t, TransferEntry::merge));
+        events += other.events;
+        lastSeq = Math.max(lastSeq, other.lastSeq);
+        if (other.lastEventAt != null && (lastEventAt == null || other.lastEventAt.isAfter(lastEventAt))) {
+            lastEventAt = other.lastEventAt;
+        }
+    }
+
+    boolean isEmpty() {
+        return events == 0;
+    }
+
+    long events() {
+        return events;
+    }
+
+    long lastSeq() {
+        return lastSeq;
+    }
+
+    Instant lastEventAt() {
+        return lastEventAt;
+    }
+
+    static String higherStatus(String a, String b) {
+        if (CONFIRMED.equals(a) || CONFIRMED.equals(b)) {
+            return CONFIRMED;
+        }
+        if (REJECTED.equals(a) || REJECTED.equals(b)) {
+            return REJECTED;
+        }
+        return PENDING;
+    }
+
+    record DayKey(UUID walletId, LocalDate day) {
+    }
+
+    record TransferKey(UUID walletId, String endToEndId) {
+    }
+
+    static final class Balance {
+        BigDecimal balance = BigDecimal.ZERO;
+        BigDecimal available = BigDecimal.ZERO;
+        long lastSeq;
+        Instant updatedAt;
+
+        private void seen(long seq, Instant at) {
+            lastSeq = Math.max(lastSeq, seq);
+            if (updatedAt == null || at.isAfter(updatedAt)) {
+                updatedAt = at;
+            }
+        }
+
+        private Balance merge(Balance other) {
+            balance = balance.add(other.balance);
+            available = available.add(other.available);
+            seen(other.lastSeq, other.updatedAt);
+            return this;
+        }
+    }
+
+    static final class DailyTotals {
+        BigDecimal credits = BigDecimal.ZERO;
+        BigDecimal debits = BigDecimal.ZERO;
+        int entries;
+
+        private DailyTotals merge(DailyTotals other) {
+            credits = credits.add(other.credits);
+            debits = debits.add(other.debits);
+            entries += other.entries;
+            return this;
+        }
+    }
+
+    static final class TransferEntry {
+        final String direction;
+        final BigDecimal amount;
+        String status;
+        Instant initiatedAt;
+        Instant updatedAt;
+        String counterpartyWalletId;
+
+        private TransferEntry(String direction, BigDecimal amount, String status, Instant initiatedAt, Instant updatedAt) {
+            this.direction = direction;
+            this.amount = amount;
+            this.status = status;
+            this.initiatedAt = initiatedAt;
+            this.updatedAt = updatedAt;
+        }
+
+        private TransferEntry merge(TransferEntry other) {
+            status = higherStatus(status, other.status);
+            if (other.initiatedAt.isBefore(initiatedAt)) {
+                initiatedAt = other.initiatedAt;
+            }
+            if (other.updatedAt.isAfter(updatedAt)) {
+                updatedAt = other.updatedAt;
+            }
+            if (counterpartyWalletId == null) {
+                counterpartyWalletId = other.counterpartyWalletId;
+            }
+            return this;
+        }
+    }
+}
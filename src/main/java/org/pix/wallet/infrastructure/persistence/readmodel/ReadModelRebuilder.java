@@ -0,0 +1,132 @@
+package org.pix.wallet.infrastructure.persistence.readmodel;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.in.RebuildReadModelUseCase;
+import org.pix.wallet.application.port.out.ReadModelRebuildPort;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRouter;
+import org.pix.wallet.infrastructure.persistence.sharding.ShardRoutingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rebuilds the projections from scratch, shard by shard.
+ *
+ * <p>The ledger up to a safe head (see {@link ReadModelStore#safeHead}) is split into
+ * {@code parallelism} sequence ranges, each streamed on its own connection into a partial
+ * {@link ProjectionDelta}. The partials are merged and written in one transaction that holds
+ * the checkpoint lock (pausing {@link LedgerProjector} on that shard), truncates the
+ * projections and sets the checkpoint to the head, from where streaming resumes. The merged
+ * result is held in memory: one entry per wallet, wallet-day and wallet-transfer.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pix.read-model.enabled", havingValue = "true")
+public class ReadModelRebuilder implements ReadModelRebuildPort {
+
+    private final ReadModelStore store;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricsService metricsService;
+    private final ShardRouter shardRouter;
+    private final int fetchSize;
+    private final int headWindow;
+
+    public ReadModelRebuilder(ReadModelStore store,
+                              TransactionTemplate transactionTemplate,
+                              MetricsService metricsService,
+                              ShardRouter shardRouter,
+                              @Value("${pix.read-model.rebuild.fetch-size:5000}") int fetchSize,
+                              @Value("${pix.read-model.rebuild.head-window:1000}") int headWindow) {
+        this.store = store;
+        this.transactionTemplate = transactionTemplate;
+        this.metricsService = metricsService;
+        this.shardRouter = shardRouter;
+        this.fetchSize = fetchSize;
+        this.headWindow = headWindow;
+    }
+
+    @Override
+    public synchronized RebuildReadModelUseCase.Result rebuild(int parallelism) {
+        long started = System.nanoTime();
+        List<ProjectionDelta> shards = new ArrayList<>();
+        shardRouter.forEachShard(() -> shards.add(rebuildShard(parallelism)));
+
+        Duration took = Duration.ofNanos(System.nanoTime() - started);
+        metricsService.recordReadModelRebuild(took);
+        var result = new RebuildReadModelUseCase.Result(
+            shards.size(),
+            shards.stream().mapToLong(ProjectionDelta::events).sum(),
+            shards.stream().mapToLong(d -> d.balances.size()).sum(),
+            shards.stream().mapToLong(d -> d.transfers.size()).sum(),
+            took);
+        log.info("Read model rebuilt",
+                 kv("shards", result.shards()),
+                 kv("events", result.events()),
+                 kv("parallelism", parallelism),
+                 kv("tookMs", took.toMillis()));
+        return result;
+    }
+
+    private ProjectionDelta rebuildShard(int parallelism) {
+        String shard = ShardRoutingContext.current();
+        long head = store.safeHead(headWindow);
+        Optional<Long> min = store.minSeq();
+
+        ProjectionDelta total = new ProjectionDelta();
+        if (min.isPresent()) {
+            long step = Math.max(1, (head - min.get() + parallelism) / parallelism);
+            ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+            try {
+                List<Future<ProjectionDelta>> partials = new ArrayList<>();
+                for (long from = min.get(); from <= head; from += step) {
+                    long start = from;
+                    long end = Math.min(head, from + step - 1);
+                    partials.add(workers.submit(() -> scan(shard, start, end)));
+                }
+                for (Future<ProjectionDelta> partial : partials) {
+                    total.merge(partial.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Read-model rebuild interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Read-model rebuild failed: " + e.getCause().getMessage(), e.getCause());
+            } finally {
+                workers.shutdownNow();
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            store.lockCheckpoint(false);
+            store.truncate();
+            store.resolveCounterparties(total);
+            store.write(total, true);
+            store.saveCheckpoint(head, total.lastEventAt(), Instant.now());
+        });
+        return total;
+    }
+
+    private ProjectionDelta scan(String shard, long from, long to) {
+        String previous = ShardRoutingContext.enter(shard);
+        try {
+            ProjectionDelta partial = new ProjectionDelta();
+            transactionTemplate.executeWithoutResult(status -> store.scan(from, to, fetchSize, partial::apply));
+            return partial;
+        } finally {
+            ShardRoutingContext.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package org.pix.wallet.infrastructure.persistence.readmodel;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import org.pix.wallet.infrastructure.persistence.entity.EndToEndIds;
+import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryCodec;
+import org.pix.wallet.infrastructure.persistence.entity.OperationTypeCodeConverter;
+import org.pix.wallet.infrastructure.persistence.readmodel.ProjectionDelta.Balance;
+import org.pix.wallet.infrastructure.persistence.readmodel.ProjectionDelta.DailyTotals;
+import org.pix.wallet.infrastructure.persistence.readmodel.ProjectionDelta.DayKey;
+import org.pix.wallet.infrastructure.persistence.readmodel.ProjectionDelta.TransferEntry;
+import org.pix.wallet.infrastructure.persistence.readmodel.ProjectionDelta.TransferKey;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * JDBC access to the ledger change stream and the {@code read_model} schema, for the
+ * projector and the rebuild. Works on whichever shard the caller has selected.
+ *
+ * <p>Projection rows are upserted as "UPDATE, then INSERT what was missing" in two
+ * batches: safe because only the holder of the checkpoint lock writes, and portable
+ * across PostgreSQL and the H2 used in tests.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "pix.read-model.enabled", havingValue = "true")
+public class ReadModelStore {
+
+    static final String PROJECTION = "ledger";
+
+    private static final String CHANGE_COLUMNS =
+        "SELECT seq, wallet_id, operation_code, amount_cents, created_at, end_to_end_id FROM ledger_entry ";
+    private static final int IN_CLAUSE_CHUNK = 500;
+
+    private final JdbcTemplate jdbc;
+
+    public ReadModelStore(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    record Checkpoint(long position, Instant lastEventAt, Instant refreshedAt) {
+    }
+
+    /**
+     * Locks the checkpoint row for the current transaction. With {@code skipLocked} an
+     * instance that finds it locked gets nothing back and leaves the shard to the holder.
+     */
+    Optional<Checkpoint> lockCheckpoint(boolean skipLocked) {
+        List<Checkpoint> rows = jdbc.query(
+            "SELECT position, last_event_at, refreshed_at FROM read_model.projection_checkpoint "
+                + "WHERE projection = ? FOR UPDATE" + (skipLocked ? " SKIP LOCKED" : ""),
+            (rs, i) -> new Checkpoint(rs.getLong(1), instant(rs, 2), instant(rs, 3)),
+            PROJECTION);
+        return rows.stream().findFirst();
+    }
+
+    List<LedgerChange> changesAfter(long position, int limit) {
+        return jdbc.query(CHANGE_COLUMNS + "WHERE seq > ? ORDER BY seq LIMIT ?", this::change, position, limit);
+    }
+
+    /**
+     * Streams {@code [from, to]} in sequence order; run inside a transaction so the
+     * PostgreSQL driver honours the fetch size instead of buffering the whole range.
+     */
+    void scan(long from, long to, int fetchSize, Consumer<LedgerChange> consumer) {
+        JdbcTemplate streaming = new JdbcTemplate(jdbc.getDataSource());
+        streaming.setFetchSize(fetchSize);
+        streaming.query(CHANGE_COLUMNS + "WHERE seq BETWEEN ? AND ? ORDER BY seq",
+            (RowCallbackHandler) rs -> consumer.accept(change(rs, 0)), from, to);
+    }
+
+    Optional<Long> minSeq() {
+        return Optional.ofNullable(jdbc.queryForObject("SELECT MIN(seq) FROM ledger_entry", Long.class));
+    }
+
+    /**
+     * Highest sequence below which no entry can still be in flight: the position
+     * before the first hole among the newest {@code window} sequence numbers.
+     */
+    long safeHead(int window) {
+        Long max = jdbc.queryForObject("SELECT MAX(seq) FROM ledger_entry", Long.class);
+        if (max == null) {
+            return 0;
+        }
+        List<Long> tail = jdbc.queryForList(
+            "SELECT seq FROM ledger_entry WHERE seq > ? ORDER BY seq", Long.class, max - window);
+        long expected = tail.get(0);
+        for (long seq : tail) {
+            if (seq != expected) {
+                return expected - 1;
+            }
+            expected = seq + 1;
+        }
+        return max;
+    }
+
+    /**
+     * Fills in the other wallet of each transfer from the {@code transfer} row, when it
+     * lives on this shard (a cross-shard credit's transfer stays on the source shard).
+     */
+    void resolveCounterparties(ProjectionDelta delta) {
+        List<UUID> ids = delta.transfers.keySet().stream()
+            .map(TransferKey::endToEndId)
+            .distinct()
+            .flatMap(id -> EndToEndIds.toKey(id).stream())
+            .toList();
+        Map<String, String[]> wallets = new HashMap<>();
+        for (int i = 0; i < ids.size(); i += IN_CLAUSE_CHUNK) {
+            List<UUID> chunk = ids.subList(i, Math.min(ids.size(), i + IN_CLAUSE_CHUNK));
+            jdbc.query("SELECT end_to_end_id, from_wallet_id, to_wallet_id FROM transfer WHERE end_to_end_id IN ("
+                    + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")",
+                (RowCallbackHandler) rs -> wallets.put(EndToEndIds.toText(rs.getObject(1, UUID.class)),
+                    new String[] {rs.getString(2), rs.getString(3)}),
+                chunk.toArray());
+        }
+        delta.transfers.forEach((key, entry) -> {
+            String[] fromTo = wallets.get(key.endToEndId());
+            if (fromTo != null) {
+                entry.counterpartyWalletId = ProjectionDelta.OUT.equals(entry.direction) ? fromTo[1] : fromTo[0];
+            }
+        });
+    }
+
+    /**
+     * @param empty the projections were just truncated, so every row is an insert
+     */
+    void write(ProjectionDelta delta, boolean empty) {
+        writeBalances(delta.balances, empty);
+        writeDailyTotals(delta.dailyTotals, empty);
+        writeTransfers(delta.transfers, empty);
+    }
+
+    private void writeBalances(Map<UUID, Balance> balances, boolean empty) {
+        List<Map.Entry<UUID, Balance>> missing = empty ? new ArrayList<>(balances.entrySet()) : missing(
+            balances,
+            "UPDATE read_model.wallet_balance_view SET balance = balance + ?, available_balance = available_balance + ?, "
+                + "last_seq = GREATEST(last_seq, ?), updated_at = ? WHERE wallet_id = ?",
+            (id, b) -> new Object[] {b.balance, b.available, b.lastSeq, Timestamp.from(b.updatedAt), id});
+        jdbc.batchUpdate("INSERT INTO read_model.wallet_balance_view "
+                + "(wallet_id, balance, available_balance, last_seq, updated_at) VALUES (?, ?, ?, ?, ?)",
+            missing.stream().map(e -> new Object[] {
+                e.getKey(), e.getValue().balance, e.getValue().available, e.getValue().lastSeq,
+                Timestamp.from(e.getValue().updatedAt)}).toList());
+    }
+
+    private void writeDailyTotals(Map<DayKey, DailyTotals> totals, boolean empty) {
+        List<Map.Entry<DayKey, DailyTotals>> missing = empty ? new ArrayList<>(totals.entrySet()) : missing(
+            totals,
+            "UPDATE read_model.daily_wallet_totals SET credits = credits + ?, debits = debits + ?, entries = entries + ? "
+                + "WHERE wallet_id = ? AND entry_date = ?",
+            (k, d) -> new Object[] {d.credits, d.debits, d.entries, k.walletId(), Date.valueOf(k.day())});
+        jdbc.batchUpdate("INSERT INTO read_model.daily_wallet_totals (wallet_id, entry_date, credits, debits, entries) "
+                + "VALUES (?, ?, ?, ?, ?)",
+            missing.stream().map(e -> new Object[] {
+                e.getKey().walletId(), Date.valueOf(e.getKey().day()), e.getValue().credits, e.getValue().debits,
+                e.getValue().entries}).toList());
+    }
+
+    private void writeTransfers(Map<TransferKey, TransferEntry> transfers, boolean empty) {
+        // Status only moves up PENDING < REJECTED < CONFIRMED (see ProjectionDelta#higherStatus)
+        List<Map.Entry<TransferKey, TransferEntry>> missing = empty ? new ArrayList<>(transfers.entrySet()) : missing(
+            transfers,
+            "UPDATE read_model.wallet_transfer_history SET "
+                + "status = CASE WHEN status = 'CONFIRMED' OR ? = 'PENDING' THEN status ELSE ? END, "
+                + "initiated_at = LEAST(initiated_at, ?), updated_at = GREATEST(updated_at, ?), "
+                + "counterparty_wallet_id = COALESCE(counterparty_wallet_id, ?) "
+                + "WHERE wallet_id = ? AND end_to_end_id = ?",
+            (k, t) -> new Object[] {t.status, t.status, Timestamp.from(t.initiatedAt), Timestamp.from(t.updatedAt),
+                t.counterpartyWalletId, k.walletId(), k.endToEndId()});
+        jdbc.batchUpdate("INSERT INTO read_model.wallet_transfer_history (wallet_id, end_to_end_id, direction, "
+                + "counterparty_wallet_id, amount, status, initiated_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            missing.stream().map(e -> new Object[] {
+                e.getKey().walletId(), e.getKey().endToEndId(), e.getValue().direction,
+                e.getValue().counterpartyWalletId, e.getValue().amount, e.getValue().status,
+                Timestamp.from(e.getValue().initiatedAt), Timestamp.from(e.getValue().updatedAt)}).toList());
+    }
+
+    /**
+     * Runs the UPDATE batch and returns the entries that matched no row.
+     */
+    private <K, V> List<Map.Entry<K, V>> missing(Map<K, V> rows, String updateSql,
+                                                  BiFunction<K, V, Object[]> args) {
+        List<Map.Entry<K, V>> entries = new ArrayList<>(rows.entrySet());
+        int[] updated = jdbc.batchUpdate(updateSql,
+            entries.stream().map(e -> args.apply(e.getKey(), e.getValue())).toList());
+        List<Map.Entry<K, V>> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(entries.get(i));
+            }
+        }
+        return missing;
+    }
+
+    void saveCheckpoint(long position, Instant lastEventAt, Instant refreshedAt) {
+        jdbc.update("UPDATE read_model.projection_checkpoint SET position = ?, last_event_at = ?, refreshed_at = ? "
+                + "WHERE projection = ?",
+            position, timestamp(lastEventAt), timestamp(refreshedAt), PROJECTION);
+    }
+
+    void markRefreshed(Instant refreshedAt) {
+        jdbc.update("UPDATE read_model.projection_checkpoint SET refreshed_at = ? WHERE projection = ?",
+            Timestamp.from(refreshedAt), PROJECTION);
+    }
+
+    void truncate() {
+        for (String table : List.of("wallet_balance_view", "daily_wallet_totals", "wallet_transfer_history")) {
+            jdbc.execute("TRUNCATE TABLE read_model." + table);
+        }
+    }
+
+    private LedgerChange change(ResultSet rs, int rowNum) throws SQLException {
+        UUID endToEndId = rs.getObject("end_to_end_id", UUID.class);
+        return new LedgerChange(
+            rs.getLong("seq"),
+            rs.getObject("wallet_id", UUID.class),
+            OperationTypeCodeConverter.fromCode(rs.getShort("operation_code")),
+            LedgerEntryCodec.amount(rs.getLong("amount_cents")),
+            rs.getTimestamp("created_at").toInstant(),
+            endToEndId == null ? null : EndToEndIds.toText(endToEndId));
+    }
+
+    private static Instant instant(ResultSet rs, int column) throws SQLException {
+        Timestamp ts = rs.getTimestamp(column);
+        return ts == null ? null : ts.toInstant();
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
+}
@@ -0,0 +1,82 @@
+package org.pix.wallet.infrastructure.persistence.readmodel;
+
+import java.util.Arrays;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+/**
+ * Dense surrogate for wallet ids: the ids of one shard as two sorted {@code long[]}
+ * (16 bytes per wallet, no objects), where a wallet's surrogate is its array index.
+ *
+ * <p>Ids are kept in the database's {@code ORDER BY id} order, which for UUIDs is
+ * unsigned byte order, so index ranges map to {@code wallet_id BETWEEN} ranges.</p>
+ */
+final class WalletDirectory {
+
+    private long[] msb;
+    private long[] lsb;
+    private int size;
+
+    private WalletDirectory(int capacity) {
+        msb = new long[capacity];
+        lsb = new long[capacity];
+    }
+
+    static WalletDirectory load(JdbcTemplate jdbc, int fetchSize) {
+        WalletDirectory directory = new WalletDirectory(1024);
+        JdbcTemplate streaming = new JdbcTemplate(jdbc.getDataSource());
+        streaming.setFetchSize(fetchSize);
+        streaming.query("SELECT id FROM wallet ORDER BY id",
+            (RowCallbackHandler) rs -> directory.append(rs.getObject(1, UUID.class)));
+        return directory;
+    }
+
+    private void append(UUID id) {
+        if (size > 0 && compare(msb[size - 1], lsb[size - 1], id.getMostSignificantBits(), id.getLeastSignificantBits()) >= 0) {
+            throw new IllegalStateException("Wallet ids are not in unsigned byte order at " + id);
+        }
+        if (size == msb.length) {
+            msb = Arrays.copyOf(msb, size * 2);
+            lsb = Arrays.copyOf(lsb, size * 2);
+        }
+        msb[size] = id.getMostSignificantBits();
+        lsb[size] = id.getLeastSignificantBits();
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    UUID get(int index) {
+        return new UUID(msb[index], lsb[index]);
+    }
+
+    /**
+     * @return the surrogate, or -1 for an unknown wallet
+     */
+    int indexOf(UUID id) {
+        long hi = id.getMostSignificantBits();
+        long lo = id.getLeastSignificantBits();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(msb[mid], lsb[mid], hi, lo);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static int compare(long msbA, long lsbA, long msbB, long lsbB) {
+        int cmp = Long.compareUnsigned(msbA, msbB);
+        return cmp != 0 ? cmp : Long.compareUnsigned(lsbA, lsbB);
+    }
+}
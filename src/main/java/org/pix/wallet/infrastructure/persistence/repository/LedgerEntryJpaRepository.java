@@ -9,7 +9,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryEntity, UUID> {
-    boolean existsByIdempotencyKey(String idempotencyKey);
+    /** Served by the leading column of uq_ledger_entry_idempotency (idempotency_hash, wallet_id). */
+    boolean existsByIdempotencyHash(UUID idempotencyHash);
 
     /**
      * Calculates real/actual balance (accounting balance).
@@ -17,16 +18,18 @@ public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryEntit
      * 
      * Formula: SUM(DEPOSIT - WITHDRAW)
      * Note: RESERVED and UNRESERVED operations are IGNORED for accounting purposes
+     * Codes: see OperationTypeCodeConverter (0 DEPOSIT, 1 WITHDRAW, 5 RESERVED, 6 UNRESERVED).
+     * Answered from ix_ledger_wallet_created alone (index-only scan).
      */
     @Query(value = """
         SELECT 
             COALESCE(SUM(
                 CASE 
-                    WHEN operation_type = 'DEPOSIT' THEN amount
-                    WHEN operation_type = 'WITHDRAW' THEN -amount
+                    WHEN operation_code = 0 THEN amount_cents
+                    WHEN operation_code = 1 THEN -amount_cents
                     ELSE 0
                 END
-            ), 0) AS real_balance
+            ), 0) * 0.01 AS real_balance
         FROM ledger_entry
         WHERE wallet_id = :walletId;
     """, nativeQuery = true)
@@ -42,13 +45,13 @@ public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryEntit
         SELECT 
             COALESCE(SUM(
                 CASE 
-                    WHEN operation_type = 'DEPOSIT' THEN amount
-                    WHEN operation_type = 'WITHDRAW' THEN -amount
-                    WHEN operation_type = 'RESERVED' THEN -amount
-                    WHEN operation_type = 'UNRESERVED' THEN amount
+                    WHEN operation_code = 0 THEN amount_cents
+                    WHEN operation_code = 1 THEN -amount_cents
+                    WHEN operation_code = 5 THEN -amount_cents
+                    WHEN operation_code = 6 THEN amount_cents
                     ELSE 0
                 END
-            ), 0) AS available_balance
+            ), 0) * 0.01 AS available_balance
         FROM ledger_entry
         WHERE wallet_id = :walletId;
     """, nativeQuery = true)
@@ -64,13 +67,13 @@ public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryEntit
         SELECT 
             COALESCE(SUM(
                 CASE 
-                    WHEN operation_type = 'DEPOSIT' THEN amount
-                    WHEN operation_type = 'WITHDRAW' THEN -amount
-                    WHEN operation_type = 'RESERVED' THEN -amount
-                    WHEN operation_type = 'UNRESERVED' THEN amount
+                    WHEN operation_code = 0 THEN amount_cents
+                    WHEN operation_code = 1 THEN -amount_cents
+                    WHEN operation_code = 5 THEN -amount_cents
+                    WHEN operation_code = 6 THEN amount_cents
                     ELSE 0
                 END
-            ), 0) AS available_balance
+            ), 0) * 0.01 AS available_balance
         FROM ledger_entry
         WHERE wallet_id = :walletId AND created_at <= :asOf;
     """, nativeQuery = true)
@@ -1,12 +1,26 @@
 package org.pix.wallet.infrastructure.persistence.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.pix.wallet.domain.model.enums.PixKeyStatus;
 import org.pix.wallet.infrastructure.persistence.entity.PixKeyEntity;
 
 public interface PixKeyJpaRepository extends JpaRepository<PixKeyEntity, UUID> {
     boolean existsByValue(String value);
     Optional<PixKeyEntity> findByValueAndStatus(String value, PixKeyStatus status);
-}
\ No newline at end of file
+
+    @Query(value = """
+        SELECT k.* FROM pix_key k
+        JOIN (SELECT t.to_wallet_id, count(*) AS received FROM transfer t
+              WHERE t.initiated_at > now() - interval '1 day'
+              GROUP BY t.to_wallet_id ORDER BY received DESC LIMIT :limit) top
+          ON top.to_wallet_id = k.wallet_id
+        WHERE k.status = 'ACTIVE'
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<PixKeyEntity> findActiveOfMostCreditedWallets(@Param("limit") int limit);
+}
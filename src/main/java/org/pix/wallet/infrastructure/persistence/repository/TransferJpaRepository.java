@@ -16,11 +16,11 @@ import java.util.UUID;
 
 @Repository
 public interface TransferJpaRepository extends JpaRepository<TransferEntity, UUID> {
-  Optional<TransferEntity> findByEndToEndId(String endToEndId);
+  Optional<TransferEntity> findByEndToEndId(UUID endToEndId);
   Optional<TransferEntity> findByIdempotencyKey(String idempotencyKey);
 
-  Page<TransferEntity> findByFromWalletOrderByInitiatedAtDesc(String walletId, Pageable pageable);
-  Page<TransferEntity> findByToWalletOrderByInitiatedAtDesc(String walletId, Pageable pageable);
+  Page<TransferEntity> findByFromWalletOrderByInitiatedAtDesc(UUID walletId, Pageable pageable);
+  Page<TransferEntity> findByToWalletOrderByInitiatedAtDesc(UUID walletId, Pageable pageable);
 
   List<TransferEntity> findByStatus(TransferStatus status);
 
@@ -0,0 +1,76 @@
+package org.pix.wallet.infrastructure.persistence.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.pix.wallet.infrastructure.persistence.entity.WalletBalanceBucketEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface WalletBalanceBucketJpaRepository
+    extends JpaRepository<WalletBalanceBucketEntity, WalletBalanceBucketEntity.Key> {
+
+    @Modifying
+    @Query(value = """
+        UPDATE wallet_balance_bucket
+        SET balance = balance + :amount
+        WHERE wallet_id = :walletId AND bucket = :bucket
+        """, nativeQuery = true)
+    int credit(UUID walletId, int bucket, BigDecimal amount);
+
+    /**
+     * Locks one bucket that alone covers the amount. SKIP LOCKED makes concurrent debits
+     * pick different buckets instead of queueing on the same row; empty when no unlocked
+     * bucket has enough funds.
+     */
+    @Query(value = """
+        SELECT bucket
+        FROM wallet_balance_bucket
+        WHERE wallet_id = :walletId AND balance >= :amount
+        ORDER BY random()
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<Number> lockBucketCovering(UUID walletId, BigDecimal amount);
+
+    /**
+     * Locks every bucket of the wallet in a fixed order (no deadlock between fallbacks).
+     * Rows are [bucket, balance].
+     */
+    @Query(value = """
+        SELECT bucket, balance
+        FROM wallet_balance_bucket
+        WHERE wallet_id = :walletId
+        ORDER BY bucket
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<Object[]> lockAll(UUID walletId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE wallet_balance_bucket
+        SET balance = balance - :amount
+        WHERE wallet_id = :walletId AND bucket = :bucket
+        """, nativeQuery = true)
+    int debit(UUID walletId, int bucket, BigDecimal amount);
+
+    @Query(value = """
+        SELECT COALESCE(SUM(balance), 0)
+        FROM wallet_balance_bucket
+        WHERE wallet_id = :walletId
+        """, nativeQuery = true)
+    BigDecimal sumBalance(UUID walletId);
+
+    @Modifying
+    @Query(value = "DELETE FROM wallet_balance_bucket WHERE wallet_id = :walletId", nativeQuery = true)
+    int deleteAllForWallet(UUID walletId);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO wallet_balance_bucket (wallet_id, bucket, balance)
+        VALUES (:walletId, :bucket, :balance)
+        """, nativeQuery = true)
+    int insert(UUID walletId, int bucket, BigDecimal balance);
+}
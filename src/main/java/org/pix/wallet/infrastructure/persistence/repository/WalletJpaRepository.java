@@ -2,7 +2,17 @@ package org.pix.wallet.infrastructure.persistence.repository;
 
 import org.pix.wallet.infrastructure.persistence.entity.WalletEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface WalletJpaRepository extends JpaRepository<WalletEntity, UUID> {
-}
\ No newline at end of file
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select w from WalletEntity w where w.id = :id")
+  Optional<WalletEntity> lockById(@Param("id") UUID id);
+}
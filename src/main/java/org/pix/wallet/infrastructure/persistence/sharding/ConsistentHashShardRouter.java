@@ -0,0 +1,132 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link ShardRouter} over a {@link ShardMap}.
+ *
+ * <p>{@code dataSource} is the application's routed data source (so deferred credits
+ * join the current transaction); {@code shards} are the physical pools behind it.</p>
+ */
+public class ConsistentHashShardRouter implements ShardRouter {
+
+    private static final String DEFER_CREDIT_SQL = """
+        INSERT INTO cross_shard_credit (wallet_id, amount, idempotency_key)
+        VALUES (?, ?, ?)
+        ON CONFLICT (idempotency_key) DO NOTHING
+        """;
+
+    private final ShardMap shardMap;
+    private final Map<String, JdbcTemplate> shards = new LinkedHashMap<>();
+    private final JdbcTemplate routed;
+    private final MetricsService metricsService;
+
+    public ConsistentHashShardRouter(ShardMap shardMap, Map<String, DataSource> shards,
+                                     DataSource dataSource, MetricsService metricsService) {
+        this.shardMap = shardMap;
+        shardMap.shards().forEach(shard -> {
+            DataSource pool = shards.get(shard);
+            if (pool == null) {
+                throw new IllegalArgumentException("No data source for shard " + shard);
+            }
+            this.shards.put(shard, new JdbcTemplate(pool));
+        });
+        this.routed = new JdbcTemplate(dataSource);
+        this.metricsService = metricsService;
+    }
+
+    public List<String> shards() {
+        return shardMap.shards();
+    }
+
+    /**
+     * Direct access to one shard, outside any application transaction.
+     */
+    public JdbcTemplate jdbc(String shard) {
+        return shards.get(shard);
+    }
+
+    @Override
+    public String shardOf(UUID walletId) {
+        return shardMap.shardFor(walletId);
+    }
+
+    @Override
+    public boolean isLocal(UUID walletId) {
+        String pinned = ShardRoutingContext.current();
+        return pinned == null || pinned.equals(shardOf(walletId));
+    }
+
+    @Override
+    public <T> T onShard(UUID walletId, Supplier<T> work) {
+        String shard = shardOf(walletId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            ShardRoutingContext.pin(shard);
+            return work.get();
+        }
+        String previous = ShardRoutingContext.enter(shard);
+        try {
+            return work.get();
+        } finally {
+            ShardRoutingContext.restore(previous);
+        }
+    }
+
+    @Override
+    public <T> T readFrom(UUID walletId, Function<JdbcTemplate, T> query) {
+        metricsService.recordShardForeignRead();
+        return query.apply(shards.get(shardOf(walletId)));
+    }
+
+    @Override
+    public <T> Optional<T> onOwningShard(String locateSql, Object key, Supplier<Optional<T>> find) {
+        String pinned = ShardRoutingContext.current();
+        if (pinned != null) {
+            Optional<T> local = find.get();
+            if (local.isPresent()) {
+                return local;
+            }
+        }
+        for (Map.Entry<String, JdbcTemplate> shard : shards.entrySet()) {
+            if (shard.getKey().equals(pinned)) {
+                continue;
+            }
+            metricsService.recordShardScatterLookup();
+            List<String> owners = shard.getValue().queryForList(locateSql, String.class, key);
+            if (!owners.isEmpty()) {
+                return onShard(UUID.fromString(owners.get(0)), find);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String deferCredit(UUID walletId, BigDecimal amount, String idempotencyKey) {
+        routed.update(DEFER_CREDIT_SQL, walletId, amount, idempotencyKey);
+        metricsService.recordCrossShardCreditDeferred();
+        return idempotencyKey;
+    }
+
+    @Override
+    public void forEachShard(Runnable work) {
+        for (String shard : shardMap.shards()) {
+            String previous = ShardRoutingContext.enter(shard);
+            try {
+                work.run();
+            } finally {
+                ShardRoutingContext.restore(previous);
+            }
+        }
+    }
+}
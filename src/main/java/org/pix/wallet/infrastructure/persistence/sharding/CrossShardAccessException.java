@@ -0,0 +1,12 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+/**
+ * A local transaction already pinned to one shard tried to touch rows on another.
+ * Cross-shard effects must go through {@link ShardRouter#deferCredit}.
+ */
+public class CrossShardAccessException extends IllegalStateException {
+
+    public CrossShardAccessException(String pinned, String requested) {
+        super("Transaction is pinned to " + pinned + " and cannot access " + requested);
+    }
+}
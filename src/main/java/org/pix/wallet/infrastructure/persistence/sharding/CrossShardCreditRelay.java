@@ -0,0 +1,109 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Applies credits deferred by {@link ShardRouter#deferCredit} on the destination shard.
+ *
+ * <p>Settle half of the cross-shard transfer flow: the source shard commits debit,
+ * unreserve, status change and the pending credit atomically; this relay then deposits
+ * on the destination shard under the same ledger idempotency key and marks the row
+ * applied. A crash between the two steps replays the deposit, which the idempotency
+ * key turns into a no-op, so each credit lands exactly once without a distributed
+ * transaction.</p>
+ */
+@Slf4j
+public class CrossShardCreditRelay {
+
+    private static final String PENDING_SQL = """
+        SELECT id, wallet_id, amount, idempotency_key, created_at
+        FROM cross_shard_credit
+        WHERE applied_at IS NULL
+        ORDER BY id
+        LIMIT ?
+        """;
+
+    private record PendingCredit(long id, UUID walletId, BigDecimal amount, String idempotencyKey, Instant createdAt) {}
+
+    private final ConsistentHashShardRouter router;
+    private final LedgerEntryRepositoryPort ledgerPort;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricsService metricsService;
+    private final int batchSize;
+
+    public CrossShardCreditRelay(ConsistentHashShardRouter router,
+                                 LedgerEntryRepositoryPort ledgerPort,
+                                 TransactionTemplate transactionTemplate,
+                                 MetricsService metricsService,
+                                 int batchSize) {
+        this.router = router;
+        this.ledgerPort = ledgerPort;
+        this.transactionTemplate = transactionTemplate;
+        this.metricsService = metricsService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${pix.sharding.credit-relay.poll-interval-ms:200}")
+    public void poll() {
+        for (String shard : router.shards()) {
+            try {
+                relayFrom(shard);
+            } catch (RuntimeException e) {
+                log.error("Cross-shard credit relay failed; will retry on next poll",
+                          kv("shard", shard),
+                          kv("errorType", "cross_shard_credit_failed"),
+                          kv("errorMessage", e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Applies one batch of pending credits recorded on {@code sourceShard}.
+     *
+     * @return number of credits applied
+     */
+    public int relayFrom(String sourceShard) {
+        List<PendingCredit> pending = router.jdbc(sourceShard).query(PENDING_SQL, (rs, i) -> new PendingCredit(
+            rs.getLong("id"),
+            rs.getObject("wallet_id", UUID.class),
+            rs.getBigDecimal("amount"),
+            rs.getString("idempotency_key"),
+            rs.getTimestamp("created_at").toInstant()), batchSize);
+
+        for (PendingCredit credit : pending) {
+            apply(credit);
+            router.jdbc(sourceShard).update(
+                "UPDATE cross_shard_credit SET applied_at = now() WHERE id = ?", credit.id());
+            metricsService.recordCrossShardCreditApplied(Duration.between(credit.createdAt(), Instant.now()));
+        }
+        return pending.size();
+    }
+
+    private void apply(PendingCredit credit) {
+        String previous = ShardRoutingContext.enter(router.shardOf(credit.walletId()));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!ledgerPort.existsByIdempotencyKey(credit.idempotencyKey())) {
+                    ledgerPort.deposit(credit.walletId().toString(), credit.amount(), credit.idempotencyKey());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent relay applied it first
+            log.debug("Cross-shard credit already applied", kv("idempotencyKey", credit.idempotencyKey()));
+        } finally {
+            ShardRoutingContext.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.pix.wallet.domain.model.PixKey;
+import org.pix.wallet.domain.model.enums.PixKeyStatus;
+import org.pix.wallet.domain.model.enums.PixKeyType;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Global value → wallet index of active PIX keys, kept on the directory shard.
+ *
+ * <p>The {@code pix_key} rows live on their wallet's shard; this table is what makes
+ * values unique across shards and lets a transfer resolve a key without knowing where
+ * the destination wallet lives. A claim is written in its own autocommit statement
+ * before the shard row and removed again if the shard transaction rolls back.</p>
+ */
+public class PixKeyDirectory {
+
+    private static final String CLAIM_SQL = """
+        INSERT INTO pix_key_directory (value, key_id, wallet_id, type, created_at)
+        VALUES (?, ?, ?, ?, ?)
+        ON CONFLICT (value) DO NOTHING
+        """;
+
+    private static final String FIND_SQL = """
+        SELECT key_id, wallet_id, type, value, created_at
+        FROM pix_key_directory
+        WHERE value = ?
+        """;
+
+    private static final RowMapper<PixKey> MAPPER = (rs, i) -> new PixKey(
+        rs.getObject("key_id", java.util.UUID.class),
+        rs.getObject("wallet_id", java.util.UUID.class),
+        PixKeyType.valueOf(rs.getString("type")),
+        rs.getString("value"),
+        PixKeyStatus.ACTIVE,
+        rs.getTimestamp("created_at").toInstant().atOffset(ZoneOffset.UTC));
+
+    private final JdbcTemplate jdbc;
+
+    public PixKeyDirectory(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public void claim(PixKey key) {
+        int inserted = jdbc.update(CLAIM_SQL, key.value(), key.id(), key.walletId(), key.type().name(),
+            Timestamp.from(key.createdAt().toInstant()));
+        if (inserted == 0) {
+            throw new DataIntegrityViolationException("PIX key already registered: " + key.value());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        jdbc.update("DELETE FROM pix_key_directory WHERE value = ? AND key_id = ?",
+                            key.value(), key.id());
+                    }
+                }
+            });
+        }
+    }
+
+    public boolean exists(String value) {
+        return find(value).isPresent();
+    }
+
+    public Optional<PixKey> find(String value) {
+        return jdbc.query(FIND_SQL, MAPPER, value).stream().findFirst();
+    }
+}
@@ -0,0 +1,72 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Consistent-hash ring mapping wallet ids to shard names.
+ *
+ * <p>Each shard owns {@code virtualNodes} points on a 64-bit ring; a wallet belongs to
+ * the first point at or after its own hash. Appending a shard to the configured list
+ * moves only the wallets that land on the new shard's points (about 1/N of them);
+ * the order of the list does not matter.</p>
+ */
+public final class ShardMap {
+
+    private final List<String> shards;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public ShardMap(List<String> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be >= 1");
+        }
+        this.shards = List.copyOf(shards);
+        for (String shard : this.shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(pointOf(shard + "#" + i), shard);
+            }
+        }
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    public String shardFor(UUID walletId) {
+        Map.Entry<Long, String> owner = ring.ceilingEntry(hashOf(walletId));
+        return owner != null ? owner.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * splitmix64 finalizer over both halves; random (v4) UUIDs are already uniform,
+     * this keeps sequential or hand-made ids from clustering on one arc.
+     */
+    static long hashOf(UUID walletId) {
+        long z = walletId.getMostSignificantBits() ^ Long.rotateLeft(walletId.getLeastSignificantBits(), 32);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long pointOf(String virtualNode) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(virtualNode.getBytes(StandardCharsets.UTF_8));
+            long point = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                point = (point << 8) | (digest[i] & 0xff);
+            }
+            return point;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
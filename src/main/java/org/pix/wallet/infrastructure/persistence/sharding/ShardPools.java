@@ -0,0 +1,29 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Connection pools of the additional shards ({@code shard-1..N}); {@code shard-0} is the
+ * Boot-managed {@code dataSource}. Not exposed as {@code DataSource} beans so the primary
+ * pool auto-configuration is unaffected.
+ */
+public class ShardPools implements DisposableBean {
+
+    private final Map<String, HikariDataSource> pools;
+
+    public ShardPools(Map<String, HikariDataSource> pools) {
+        this.pools = pools;
+    }
+
+    public Map<String, ? extends DataSource> pools() {
+        return pools;
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,59 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Wallet-to-shard routing used by the persistence adapters.
+ *
+ * <p>A local transaction only ever spans one shard: the first wallet an adapter touches
+ * pins it. Reads of wallets on other shards go straight to that shard's pool, and the
+ * only cross-shard write, crediting a transfer's destination, is deferred through
+ * {@link #deferCredit}. With sharding disabled every method degenerates to a direct call.</p>
+ */
+public interface ShardRouter {
+
+    String shardOf(UUID walletId);
+
+    /**
+     * Whether the wallet's rows can be read and written in the current transaction.
+     */
+    boolean isLocal(UUID walletId);
+
+    /**
+     * Runs {@code work} on the wallet's shard, pinning the current transaction to it.
+     *
+     * @throws CrossShardAccessException if the transaction is pinned to another shard
+     */
+    <T> T onShard(UUID walletId, Supplier<T> work);
+
+    /**
+     * Reads from the wallet's shard outside the current transaction.
+     */
+    <T> T readFrom(UUID walletId, Function<JdbcTemplate, T> query);
+
+    /**
+     * Runs {@code find} on the shard that owns a row not keyed by wallet (a transfer by
+     * end-to-end id, a webhook by event id). {@code locateSql} takes {@code key} and
+     * returns the owning wallet id; it is only needed when the row is not on the shard
+     * the transaction is already pinned to.
+     */
+    <T> Optional<T> onOwningShard(String locateSql, Object key, Supplier<Optional<T>> find);
+
+    /**
+     * Records, in the current transaction, a credit to a wallet on another shard.
+     * It is applied on the wallet's shard after commit under the same idempotency key.
+     *
+     * @return the idempotency key, standing in for the ledger entry id
+     */
+    String deferCredit(UUID walletId, BigDecimal amount, String idempotencyKey);
+
+    /**
+     * Runs {@code work} once per shard with that shard selected (pollers such as the outbox relay).
+     */
+    void forEachShard(Runnable work);
+}
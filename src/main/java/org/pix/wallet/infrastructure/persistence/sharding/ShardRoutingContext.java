@@ -0,0 +1,63 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-thread shard selection for {@link ShardRoutingDataSource}.
+ *
+ * <p>Inside a transaction the shard is <em>pinned</em>: the first access decides it and
+ * it is cleared when the transaction completes. Asking for a different shard while
+ * pinned fails with {@link CrossShardAccessException} instead of silently reading or
+ * writing through the wrong connection.</p>
+ */
+public final class ShardRoutingContext {
+
+    private static final ThreadLocal<String> SHARD = new ThreadLocal<>();
+
+    private ShardRoutingContext() {
+    }
+
+    public static String current() {
+        return SHARD.get();
+    }
+
+    /**
+     * Pins the current transaction to {@code shard}. Without an active transaction
+     * this is a no-op; use {@link #enter}/{@link #restore} to scope the shard instead.
+     */
+    public static void pin(String shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String pinned = SHARD.get();
+        if (pinned == null) {
+            SHARD.set(shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    SHARD.remove();
+                }
+            });
+        } else if (!pinned.equals(shard)) {
+            throw new CrossShardAccessException(pinned, shard);
+        }
+    }
+
+    /**
+     * @return the previous shard, to be restored with {@link #restore}
+     */
+    public static String enter(String shard) {
+        String previous = SHARD.get();
+        SHARD.set(shard);
+        return previous;
+    }
+
+    public static void restore(String previous) {
+        if (previous == null) {
+            SHARD.remove();
+        } else {
+            SHARD.set(previous);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes each connection to the shard in {@link ShardRoutingContext}.
+ *
+ * <p>Work that never named a shard goes to the default shard, and a transaction that
+ * starts there is pinned to it so a later wallet access on another shard fails loudly.
+ * Must be wrapped in a {@code LazyConnectionDataSourceProxy} so the lookup happens at
+ * the first statement, after the adapters have pinned the transaction.</p>
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final String defaultShard;
+    private final Map<String, DataSource> shards;
+
+    public ShardRoutingDataSource(String defaultShard, Map<String, DataSource> shards) {
+        this.defaultShard = defaultShard;
+        this.shards = new LinkedHashMap<>(shards);
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(defaultShard));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * The physical shard pools, for work that must bypass the current transaction
+     * (scatter lookups, foreign-shard reads, the cross-shard credit relay).
+     */
+    public Map<String, DataSource> shards() {
+        return shards;
+    }
+
+    public String defaultShard() {
+        return defaultShard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = ShardRoutingContext.current();
+        if (shard != null) {
+            return shard;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            ShardRoutingContext.pin(defaultShard);
+        }
+        return defaultShard;
+    }
+}
@@ -0,0 +1,55 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default router: one database, every wallet is local.
+ */
+@Component
+@ConditionalOnProperty(name = "pix.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class SingleShardRouter implements ShardRouter {
+
+    static final String SHARD = "default";
+
+    @Override
+    public String shardOf(UUID walletId) {
+        return SHARD;
+    }
+
+    @Override
+    public boolean isLocal(UUID walletId) {
+        return true;
+    }
+
+    @Override
+    public <T> T onShard(UUID walletId, Supplier<T> work) {
+        return work.get();
+    }
+
+    @Override
+    public <T> T readFrom(UUID walletId, Function<JdbcTemplate, T> query) {
+        throw new UnsupportedOperationException("All wallets are local with a single shard");
+    }
+
+    @Override
+    public <T> Optional<T> onOwningShard(String locateSql, Object key, Supplier<Optional<T>> find) {
+        return find.get();
+    }
+
+    @Override
+    public String deferCredit(UUID walletId, BigDecimal amount, String idempotencyKey) {
+        throw new UnsupportedOperationException("All wallets are local with a single shard");
+    }
+
+    @Override
+    public void forEachShard(Runnable work) {
+        work.run();
+    }
+}
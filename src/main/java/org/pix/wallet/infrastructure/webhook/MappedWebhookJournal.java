@@ -0,0 +1,401 @@
+package org.pix.wallet.infrastructure.webhook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.in.ProcessPixWebhookUseCase.Command;
+import org.pix.wallet.application.port.out.WebhookJournalPort;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+
+/**
+ * Webhook journal on memory-mapped, preallocated segment files ({@code webhook-<index>.seg}).
+ *
+ * <p>Each record is framed as {@code [length][crc32][event]}; a zero length marks the unused
+ * rest of a segment. A position is {@code segment index << 32 | offset}, so positions grow
+ * monotonically across segments. One consumer reads from the checkpointed position and moves
+ * it forward with {@link #commit}; segments it has left behind are deleted.</p>
+ *
+ * <p>Durability follows the {@link FsyncPolicy}. On open the journal resumes from the
+ * checkpoint, re-counts what is still unconsumed and zeroes a torn tail, so the events
+ * replayed are exactly those acknowledged and not yet committed.</p>
+ */
+@Slf4j
+public class MappedWebhookJournal implements WebhookJournalPort, Closeable {
+
+    public enum FsyncPolicy {
+        /** Every append is forced to disk before it is acknowledged. */
+        ALWAYS,
+        /** A background thread forces appended records every {@code fsync-interval}. */
+        INTERVAL,
+        /** Left to the operating system; survives a process crash, not a host crash. */
+        NONE
+    }
+
+    /**
+     * One unconsumed event and the position right after it.
+     */
+    public record Entry(Command command, long next) {
+    }
+
+    private static final String PREFIX = "webhook-";
+    private static final String SUFFIX = ".seg";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final int HEADER = 8;
+
+    private final Path dir;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final FsyncPolicy fsyncPolicy;
+    private final MetricsService metricsService;
+    private final ConcurrentSkipListMap<Long, MappedByteBuffer> segments = new ConcurrentSkipListMap<>();
+    private final MappedByteBuffer checkpoint;
+    private final AtomicLong depth = new AtomicLong();
+    private final Object writeLock = new Object();
+    private final Object appended = new Object();
+    private final Thread flusher;
+
+    private long writeSegment;
+    private int writeOffset;
+    private volatile long writePosition;
+    private volatile long readPosition;
+    private volatile long forcedPosition;
+    private volatile boolean closed;
+
+    public MappedWebhookJournal(Path dir, int segmentSize, int maxSegments, FsyncPolicy fsyncPolicy,
+                                Duration fsyncInterval, MetricsService metricsService) {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.fsyncPolicy = fsyncPolicy;
+        this.metricsService = metricsService;
+        try {
+            Files.createDirectories(dir);
+            checkpoint = map(dir.resolve(CHECKPOINT), Long.BYTES);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open webhook journal " + dir, e);
+        }
+        metricsService.registerWebhookJournal(depth::get, segments::size,
+            () -> (double) segments.size() / maxSegments);
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            flusher = new Thread(() -> flushLoop(fsyncInterval), "webhook-journal-fsync");
+            flusher.setDaemon(true);
+            flusher.start();
+        } else {
+            flusher = null;
+        }
+    }
+
+    @Override
+    public boolean append(Command command) {
+        byte[] event = encode(command);
+        int length = HEADER + event.length;
+        if (length > segmentSize) {
+            log.warn("Webhook event of {} bytes does not fit a journal segment", event.length);
+            return false;
+        }
+        synchronized (writeLock) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (writeOffset + length > segments.get(writeSegment).capacity()) {
+                    if (segments.size() >= maxSegments) {
+                        return false;
+                    }
+                    roll();
+                }
+                MappedByteBuffer segment = segments.get(writeSegment);
+                CRC32 crc = new CRC32();
+                crc.update(event);
+                segment.put(writeOffset + HEADER, event);
+                segment.putInt(writeOffset + Integer.BYTES, (int) crc.getValue());
+                // Written last: a reader never sees a length before the bytes it covers
+                segment.putInt(writeOffset, event.length);
+                if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                    long started = System.nanoTime();
+                    segment.force(writeOffset, length);
+                    metricsService.recordWebhookJournalFsync(Duration.ofNanos(System.nanoTime() - started));
+                }
+                writeOffset += length;
+                writePosition = position(writeSegment, writeOffset);
+                depth.incrementAndGet();
+            } catch (IOException | UncheckedIOException e) {
+                log.error("Webhook journal append failed", e);
+                return false;
+            }
+        }
+        synchronized (appended) {
+            appended.notifyAll();
+        }
+        return true;
+    }
+
+    /**
+     * The oldest unconsumed event, or {@code null} when the consumer has caught up.
+     * Single consumer only.
+     */
+    public Entry peek() {
+        long position = readPosition;
+        while (position < writePosition) {
+            MappedByteBuffer segment = segments.get(segmentOf(position));
+            int offset = offsetOf(position);
+            int length = offset + HEADER <= segment.capacity() ? segment.getInt(offset) : 0;
+            if (length == 0) {
+                position = position(segmentOf(position) + 1, 0);
+                continue;
+            }
+            byte[] event = new byte[length];
+            segment.get(offset + HEADER, event);
+            return new Entry(decode(event), position(segmentOf(position), offset + HEADER + length));
+        }
+        return null;
+    }
+
+    /**
+     * Marks everything before {@code entry.next()} consumed, checkpoints it and deletes the
+     * segments the consumer has left.
+     */
+    public void commit(Entry entry) {
+        readPosition = entry.next();
+        checkpoint.putLong(0, entry.next());
+        depth.decrementAndGet();
+        long current = segmentOf(entry.next());
+        for (Map.Entry<Long, MappedByteBuffer> segment : segments.headMap(current).entrySet()) {
+            segments.remove(segment.getKey());
+            try {
+                Files.deleteIfExists(segmentPath(segment.getKey()));
+            } catch (IOException e) {
+                log.warn("Cannot delete consumed webhook journal segment {}", segment.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * Waits up to {@code timeout} for an event past the consumer's position.
+     */
+    public void awaitAppend(Duration timeout) throws InterruptedException {
+        synchronized (appended) {
+            if (readPosition >= writePosition && !closed) {
+                appended.wait(Math.max(1, timeout.toMillis()));
+            }
+        }
+    }
+
+    /**
+     * Wakes a consumer blocked in {@link #awaitAppend}.
+     */
+    public void wakeUp() {
+        synchronized (appended) {
+            appended.notifyAll();
+        }
+    }
+
+    /**
+     * Events acknowledged and not yet committed by the consumer.
+     */
+    public long depth() {
+        return depth.get();
+    }
+
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            closed = true;
+        }
+        if (flusher != null) {
+            flusher.interrupt();
+        }
+        if (fsyncPolicy != FsyncPolicy.NONE) {
+            force();
+        }
+        checkpoint.force();
+        wakeUp();
+    }
+
+    private void flushLoop(Duration interval) {
+        while (!closed) {
+            try {
+                Thread.sleep(interval.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                force();
+            } catch (UncheckedIOException e) {
+                log.error("Webhook journal fsync failed", e);
+            }
+        }
+    }
+
+    /**
+     * Forces every segment written since the last call; appends carry on meanwhile.
+     */
+    private void force() {
+        long target = writePosition;
+        if (target == forcedPosition) {
+            return;
+        }
+        long started = System.nanoTime();
+        for (MappedByteBuffer segment : segments.subMap(segmentOf(forcedPosition), true, segmentOf(target), true).values()) {
+            segment.force();
+        }
+        forcedPosition = target;
+        metricsService.recordWebhookJournalFsync(Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private void roll() throws IOException {
+        writeSegment++;
+        writeOffset = 0;
+        segments.put(writeSegment, map(segmentPath(writeSegment), segmentSize));
+    }
+
+    private void recover() throws IOException {
+        long start = checkpoint.getLong(0);
+        List<Long> existing;
+        try (Stream<Path> files = Files.list(dir)) {
+            existing = files.map(p -> p.getFileName().toString())
+                .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                .map(name -> Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())))
+                .sorted()
+                .toList();
+        }
+        for (long index : existing) {
+            if (index < segmentOf(start)) {
+                Files.delete(segmentPath(index));
+            } else {
+                segments.put(index, map(segmentPath(index), 0));
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.put(segmentOf(start), map(segmentPath(segmentOf(start)), segmentSize));
+        }
+        if (segmentOf(start) < segments.firstKey()) {
+            start = position(segments.firstKey(), 0);
+        }
+
+        long position = start;
+        long count = 0;
+        while (true) {
+            MappedByteBuffer segment = segments.get(segmentOf(position));
+            int offset = offsetOf(position);
+            int length = offset + HEADER <= segment.capacity() ? segment.getInt(offset) : 0;
+            if (length == 0) {
+                if (segments.higherKey(segmentOf(position)) == null) {
+                    break;
+                }
+                position = position(segments.higherKey(segmentOf(position)), 0);
+                continue;
+            }
+            if (!intact(segment, offset, length)) {
+                log.warn("Truncating torn webhook journal tail at segment {} offset {}", segmentOf(position), offset);
+                for (int i = offset; i < segment.capacity(); i++) {
+                    segment.put(i, (byte) 0);
+                }
+                segment.force();
+                for (long later : segments.tailMap(segmentOf(position), false).keySet()) {
+                    segments.remove(later);
+                    Files.delete(segmentPath(later));
+                }
+                break;
+            }
+            position = position(segmentOf(position), offset + HEADER + length);
+            count++;
+        }
+
+        readPosition = start;
+        writePosition = position;
+        forcedPosition = position;
+        writeSegment = segmentOf(position);
+        writeOffset = offsetOf(position);
+        depth.set(count);
+        if (count > 0) {
+            log.info("Webhook journal resumed with {} events to replay", count);
+        }
+    }
+
+    private static boolean intact(MappedByteBuffer segment, int offset, int length) {
+        if (length < 0 || offset + HEADER + length > segment.capacity()) {
+            return false;
+        }
+        byte[] event = new byte[length];
+        segment.get(offset + HEADER, event);
+        CRC32 crc = new CRC32();
+        crc.update(event);
+        return (int) crc.getValue() == segment.getInt(offset + Integer.BYTES);
+    }
+
+    /**
+     * Maps a file read-write, growing it to {@code minSize}; an existing larger file keeps its size.
+     */
+    private static MappedByteBuffer map(Path path, int minSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(minSize, channel.size()));
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return dir.resolve(PREFIX + String.format("%020d", index) + SUFFIX);
+    }
+
+    private static long position(long segment, int offset) {
+        return segment << 32 | offset;
+    }
+
+    private static long segmentOf(long position) {
+        return position >>> 32;
+    }
+
+    private static int offsetOf(long position) {
+        return (int) position;
+    }
+
+    private static byte[] encode(Command command) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(command.endToEndId());
+            out.writeUTF(command.eventId());
+            out.writeUTF(command.eventType());
+            out.writeBoolean(command.occurredAt() != null);
+            if (command.occurredAt() != null) {
+                out.writeLong(command.occurredAt().getEpochSecond());
+                out.writeInt(command.occurredAt().getNano());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Command decode(byte[] event) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(event))) {
+            String endToEndId = in.readUTF();
+            String eventId = in.readUTF();
+            String eventType = in.readUTF();
+            Instant occurredAt = in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+            return new Command(endToEndId, eventId, eventType, occurredAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.pix.wallet.infrastructure.webhook;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.in.ProcessPixWebhookUseCase;
+import org.pix.wallet.domain.exception.InvalidTransferStatusTransitionException;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.context.SmartLifecycle;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Single consumer of the {@link MappedWebhookJournal}: hands each event, in journal order,
+ * to the webhook use case and commits the journal position once it went through.
+ *
+ * <p>While the database is failing the same event is retried with exponential backoff
+ * (capped at {@code maxBackoff}) and nothing behind it moves, so events of one transfer keep
+ * their order. An event the use case rejects (transfer not found, invalid transition) is
+ * retried {@code maxAttempts} times, because the transfer may not be written yet, and then
+ * skipped with an error log; the PSP already had its acknowledgement.</p>
+ *
+ * <p>Stopping leaves unconsumed events in the journal; they are replayed on the next start.
+ * Events already applied are recognised by the webhook inbox.</p>
+ */
+@Slf4j
+public class WebhookJournalDrainer implements SmartLifecycle {
+
+    private static final Duration IDLE_WAIT = Duration.ofMillis(500);
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(50);
+
+    private final MappedWebhookJournal journal;
+    private final ProcessPixWebhookUseCase delegate;
+    private final int maxAttempts;
+    private final Duration maxBackoff;
+    private final MetricsService metricsService;
+    private volatile boolean running;
+    private Thread worker;
+
+    public WebhookJournalDrainer(MappedWebhookJournal journal, ProcessPixWebhookUseCase delegate,
+                                 int maxAttempts, Duration maxBackoff, MetricsService metricsService) {
+        this.journal = journal;
+        this.delegate = delegate;
+        this.maxAttempts = maxAttempts;
+        this.maxBackoff = maxBackoff;
+        this.metricsService = metricsService;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "webhook-journal-drainer");
+        worker.start();
+        log.info("Webhook journal drainer started with {} events to replay", journal.depth());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        journal.wakeUp();
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxBackoff.toMillis() + IDLE_WAIT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Webhook journal drainer stopped with {} events left", journal.depth());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        int rejections = 0;
+        Duration backoff = INITIAL_BACKOFF;
+        while (running) {
+            MappedWebhookJournal.Entry entry = journal.peek();
+            if (entry == null) {
+                try {
+                    journal.awaitAppend(IDLE_WAIT);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                continue;
+            }
+            ProcessPixWebhookUseCase.Command command = entry.command();
+            try {
+                delegate.execute(command);
+                metricsService.recordWebhookJournalDrained("processed");
+            } catch (IllegalArgumentException | InvalidTransferStatusTransitionException e) {
+                if (++rejections < maxAttempts) {
+                    backoff = retryLater(backoff);
+                    continue;
+                }
+                log.error("Journaled webhook rejected, skipping it",
+                          kv("eventId", command.eventId()),
+                          kv("endToEndId", command.endToEndId()),
+                          kv("attempts", rejections),
+                          kv("errorMessage", e.getMessage()));
+                metricsService.recordWebhookJournalDrained("rejected");
+            } catch (RuntimeException e) {
+                log.warn("Journaled webhook failed, retrying",
+                         kv("eventId", command.eventId()),
+                         kv("errorMessage", e.getMessage()));
+                backoff = retryLater(backoff);
+                continue;
+            }
+            journal.commit(entry);
+            rejections = 0;
+            backoff = INITIAL_BACKOFF;
+        }
+    }
+
+    private Duration retryLater(Duration backoff) {
+        metricsService.recordWebhookJournalRetry();
+        LockSupport.parkNanos(backoff.toNanos());
+        Duration next = backoff.multipliedBy(2);
+        return next.compareTo(maxBackoff) > 0 ? maxBackoff : next;
+    }
+}
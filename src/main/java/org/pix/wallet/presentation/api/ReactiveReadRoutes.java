@@ -0,0 +1,86 @@
+package org.pix.wallet.presentation.api;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pix.wallet.application.port.in.GetBalanceUseCase;
+import org.pix.wallet.application.port.in.ReactiveReadUseCase;
+import org.pix.wallet.infrastructure.config.RestExceptionHandler.ErrorResponse;
+import org.pix.wallet.presentation.dto.BalanceResponse;
+import org.pix.wallet.presentation.dto.TransferStatusResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Functional (non-blocking) read endpoints backed by R2DBC.
+ *
+ * <p>Runs alongside the MVC controllers under a separate prefix (default {@code /reactive}):
+ * the servlet thread is released as soon as the handler returns, and the response is
+ * written when the R2DBC query completes, so in-flight reads are bounded by the small
+ * R2DBC pool instead of servlet threads plus Hikari connections.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "pix.reactive-read.enabled", havingValue = "true")
+public class ReactiveReadRoutes {
+
+    private final ReactiveReadUseCase reactiveRead;
+
+    public ReactiveReadRoutes(ReactiveReadUseCase reactiveRead) {
+        this.reactiveRead = reactiveRead;
+    }
+
+    @Bean
+    RouterFunction<ServerResponse> reactiveReadRouter(
+            @Value("${pix.reactive-read.path-prefix:/reactive}") String prefix) {
+        return RouterFunctions.route()
+            .GET(prefix + "/wallets/{id}/balance", this::balance)
+            .GET(prefix + "/pix/transfers/{endToEndId}", this::transferStatus)
+            .build();
+    }
+
+    ServerResponse balance(ServerRequest request) {
+        UUID walletId;
+        Instant at;
+        try {
+            walletId = UUID.fromString(request.pathVariable("id"));
+            at = request.param("at").map(Instant::parse).orElse(null);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            return error(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", "Invalid request: " + ex.getMessage());
+        }
+
+        Mono<ServerResponse> response = reactiveRead.balance(new GetBalanceUseCase.Command(walletId, at))
+            .map(result -> ServerResponse.ok().body(new BalanceResponse(result.walletId(), result.balance())))
+            .onErrorResume(IllegalArgumentException.class, ex -> {
+                log.warn("Validation error: {}", ex.getMessage());
+                return Mono.just(error(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", ex.getMessage()));
+            });
+        return ServerResponse.async(response);
+    }
+
+    ServerResponse transferStatus(ServerRequest request) {
+        String endToEndId = request.pathVariable("endToEndId");
+        Mono<ServerResponse> response = reactiveRead.transferStatus(endToEndId)
+            .map(view -> ServerResponse.ok().body(new TransferStatusResponse(
+                view.endToEndId(), view.status(), view.amount(), view.currency(), view.initiatedAt())))
+            .switchIfEmpty(Mono.fromSupplier(
+                () -> error(HttpStatus.NOT_FOUND, "NOT_FOUND", "Transfer not found: " + endToEndId)));
+        return ServerResponse.async(response);
+    }
+
+    private static ServerResponse error(HttpStatus status, String code, String message) {
+        return ServerResponse.status(status)
+            .body(new ErrorResponse(code, message, status.value(), Instant.now()));
+    }
+}
@@ -0,0 +1,107 @@
+package org.pix.wallet.presentation.api;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.pix.wallet.application.port.in.ReadModelQueryUseCase;
+import org.pix.wallet.application.port.in.RebuildBalancesUseCase;
+import org.pix.wallet.application.port.in.RebuildReadModelUseCase;
+import org.pix.wallet.presentation.dto.BalanceRebuildStatusResponse;
+import org.pix.wallet.presentation.dto.ReadModelBalanceResponse;
+import org.pix.wallet.presentation.dto.ReadModelDailyTotalsResponse;
+import org.pix.wallet.presentation.dto.ReadModelFreshness;
+import org.pix.wallet.presentation.dto.ReadModelRebuildResponse;
+import org.pix.wallet.presentation.dto.ReadModelTransfersResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Query endpoints served from the CQRS read model only, plus the operational rebuild.
+ * Answers are eventually consistent; each carries its {@link ReadModelFreshness}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/read-model")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "pix.read-model.enabled", havingValue = "true")
+public class ReadModelController {
+
+    private final ReadModelQueryUseCase readModel;
+    private final RebuildReadModelUseCase rebuildReadModel;
+    private final RebuildBalancesUseCase rebuildBalances;
+
+    @GetMapping("/wallets/{id}/balance")
+    public ResponseEntity<ReadModelBalanceResponse> balance(@PathVariable UUID id) {
+        var view = readModel.balance(id);
+        return ResponseEntity.ok(new ReadModelBalanceResponse(
+            view.walletId(), view.balance(), view.availableBalance(), ReadModelFreshness.of(view.freshness())));
+    }
+
+    @GetMapping("/wallets/{id}/transfers")
+    public ResponseEntity<ReadModelTransfersResponse> transfers(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) @Parameter(description = "Only transfers initiated before this instant") Instant before) {
+        var view = readModel.transfers(id, limit, before);
+        var items = view.items().stream()
+            .map(t -> new ReadModelTransfersResponse.Item(t.endToEndId(), t.direction(), t.counterpartyWalletId(),
+                t.amount(), t.status(), t.initiatedAt(), t.updatedAt()))
+            .toList();
+        return ResponseEntity.ok(new ReadModelTransfersResponse(view.walletId(), items, ReadModelFreshness.of(view.freshness())));
+    }
+
+    @GetMapping("/wallets/{id}/daily-totals")
+    public ResponseEntity<ReadModelDailyTotalsResponse> dailyTotals(
+            @PathVariable UUID id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end.minusDays(30);
+        var view = readModel.dailyTotals(id, start, end);
+        var days = view.days().stream()
+            .map(d -> new ReadModelDailyTotalsResponse.Day(d.day(), d.credits(), d.debits(), d.entries()))
+            .toList();
+        return ResponseEntity.ok(new ReadModelDailyTotalsResponse(view.walletId(), days, ReadModelFreshness.of(view.freshness())));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ReadModelRebuildResponse> rebuild(@RequestParam(defaultValue = "4") int parallelism) {
+        log.info("Read-model rebuild requested - parallelism: {}", parallelism);
+
+        var result = rebuildReadModel.execute(new RebuildReadModelUseCase.Command(parallelism));
+        return ResponseEntity.ok(new ReadModelRebuildResponse(
+            result.shards(), result.events(), result.wallets(), result.transfers(), result.took().toMillis()));
+    }
+
+    /**
+     * Starts a balance rebuild in the background; poll {@code GET} for progress and the report.
+     */
+    @PostMapping("/balances/rebuild")
+    public ResponseEntity<BalanceRebuildStatusResponse> rebuildBalances(
+            @RequestParam(defaultValue = "4") int parallelism,
+            @RequestParam(defaultValue = "true") @Parameter(description = "Only report differences") boolean dryRun) {
+        log.info("Balance rebuild requested - parallelism: {}, dryRun: {}", parallelism, dryRun);
+
+        var status = rebuildBalances.start(new RebuildBalancesUseCase.Command(parallelism, dryRun));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(BalanceRebuildStatusResponse.of(status));
+    }
+
+    @GetMapping("/balances/rebuild")
+    public ResponseEntity<BalanceRebuildStatusResponse> balanceRebuildStatus() {
+        return ResponseEntity.ok(BalanceRebuildStatusResponse.of(rebuildBalances.status()));
+    }
+}
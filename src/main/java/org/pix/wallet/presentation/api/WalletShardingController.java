@@ -0,0 +1,40 @@
+package org.pix.wallet.presentation.api;
+
+import java.util.UUID;
+
+import org.pix.wallet.application.port.in.ConfigureBalanceBucketsUseCase;
+import org.pix.wallet.presentation.dto.BalanceBucketsRequest;
+import org.pix.wallet.presentation.dto.BalanceBucketsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Operational endpoint to shard the balance of hot (merchant) wallets.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/wallets")
+@RequiredArgsConstructor
+public class WalletShardingController {
+
+    private final ConfigureBalanceBucketsUseCase configureBalanceBuckets;
+
+    @PutMapping("/{id}/balance-buckets")
+    public ResponseEntity<BalanceBucketsResponse> configure(
+            @PathVariable UUID id,
+            @Valid @RequestBody BalanceBucketsRequest body) {
+
+        log.info("Configuring balance buckets - walletId: {}, buckets: {}", id, body.buckets());
+
+        var result = configureBalanceBuckets.execute(new ConfigureBalanceBucketsUseCase.Command(id, body.buckets()));
+        return ResponseEntity.ok(new BalanceBucketsResponse(result.walletId(), result.buckets()));
+    }
+}
@@ -0,0 +1,8 @@
+package org.pix.wallet.presentation.dto;
+
+import jakarta.validation.constraints.Min;
+
+public record BalanceBucketsRequest(
+        @Min(value = 1, message = "Buckets must be >= 1")
+        int buckets
+) { }
@@ -0,0 +1,5 @@
+package org.pix.wallet.presentation.dto;
+
+import java.util.UUID;
+
+public record BalanceBucketsResponse(UUID walletId, int buckets) { }
@@ -0,0 +1,49 @@
+package org.pix.wallet.presentation.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.pix.wallet.application.port.in.RebuildBalancesUseCase;
+
+public record BalanceRebuildStatusResponse(
+        String state,
+        double progress,
+        Long etaSeconds,
+        Report report,
+        String error
+) {
+    public record Report(
+            boolean dryRun,
+            int shards,
+            int passes,
+            long entries,
+            long wallets,
+            long mismatched,
+            long missing,
+            long extra,
+            List<Difference> sample,
+            long tookMillis
+    ) {}
+
+    public record Difference(
+            UUID walletId,
+            BigDecimal expectedBalance,
+            BigDecimal actualBalance,
+            BigDecimal expectedAvailable,
+            BigDecimal actualAvailable
+    ) {}
+
+    public static BalanceRebuildStatusResponse of(RebuildBalancesUseCase.Status status) {
+        var r = status.report();
+        Report report = r == null ? null : new Report(r.dryRun(), r.shards(), r.passes(), r.entries(), r.wallets(),
+            r.mismatched(), r.missing(), r.extra(),
+            r.sample().stream()
+                .map(m -> new Difference(m.walletId(), m.expectedBalance(), m.actualBalance(),
+                    m.expectedAvailable(), m.actualAvailable()))
+                .toList(),
+            r.took().toMillis());
+        return new BalanceRebuildStatusResponse(status.state().name(), status.progress(), status.etaSeconds(),
+            report, status.error());
+    }
+}
@@ -0,0 +1,11 @@
+package org.pix.wallet.presentation.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ReadModelBalanceResponse(
+        UUID walletId,
+        BigDecimal balance,
+        BigDecimal availableBalance,
+        ReadModelFreshness freshness
+) {}
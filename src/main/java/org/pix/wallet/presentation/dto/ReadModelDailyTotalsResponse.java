@@ -0,0 +1,14 @@
+package org.pix.wallet.presentation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record ReadModelDailyTotalsResponse(
+        UUID walletId,
+        List<Day> days,
+        ReadModelFreshness freshness
+) {
+    public record Day(LocalDate day, BigDecimal credits, BigDecimal debits, int entries) {}
+}
@@ -0,0 +1,20 @@
+package org.pix.wallet.presentation.dto;
+
+import java.time.Instant;
+
+import org.pix.wallet.application.port.in.ReadModelQueryUseCase;
+
+/**
+ * How current a read-model answer is: the ledger position it reflects, the time of that
+ * entry, and how long ago the projector was last seen caught up ({@code -1} if never).
+ */
+public record ReadModelFreshness(
+        long position,
+        Instant projectedThrough,
+        Instant refreshedAt,
+        long stalenessMillis
+) {
+    public static ReadModelFreshness of(ReadModelQueryUseCase.Freshness f) {
+        return new ReadModelFreshness(f.position(), f.projectedThrough(), f.refreshedAt(), f.stalenessMillis());
+    }
+}
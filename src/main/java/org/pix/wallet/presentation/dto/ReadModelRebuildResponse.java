@@ -0,0 +1,9 @@
+package org.pix.wallet.presentation.dto;
+
+public record ReadModelRebuildResponse(
+        int shards,
+        long events,
+        long wallets,
+        long transfers,
+        long tookMillis
+) {}
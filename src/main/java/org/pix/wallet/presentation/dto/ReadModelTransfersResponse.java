@@ -0,0 +1,22 @@
+package org.pix.wallet.presentation.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record ReadModelTransfersResponse(
+        UUID walletId,
+        List<Item> items,
+        ReadModelFreshness freshness
+) {
+    public record Item(
+            String endToEndId,
+            String direction,
+            String counterpartyWalletId,
+            BigDecimal amount,
+            String status,
+            Instant initiatedAt,
+            Instant updatedAt
+    ) {}
+}
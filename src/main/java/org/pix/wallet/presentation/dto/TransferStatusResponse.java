@@ -0,0 +1,12 @@
+package org.pix.wallet.presentation.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record TransferStatusResponse(
+        String endToEndId,
+        String status,
+        BigDecimal amount,
+        String currency,
+        Instant initiatedAt
+) {}
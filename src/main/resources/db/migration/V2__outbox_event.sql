@@ -0,0 +1,16 @@
+-- Transactional outbox for transfer lifecycle events.
+-- Rows are written in the same transaction as the transfer/ledger change and
+-- drained by OutboxRelay in id order using FOR UPDATE SKIP LOCKED.
+CREATE TABLE IF NOT EXISTS outbox_event (
+  id              BIGSERIAL PRIMARY KEY,
+  aggregate_type  VARCHAR(32) NOT NULL,
+  aggregate_id    TEXT NOT NULL,
+  event_type      VARCHAR(32) NOT NULL,
+  payload         JSONB NOT NULL,
+  created_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+  published_at    TIMESTAMPTZ
+);
+
+-- Only unpublished rows are polled; keep the index small as rows get published.
+CREATE INDEX IF NOT EXISTS ix_outbox_unpublished ON outbox_event(id)
+  WHERE published_at IS NULL;
@@ -0,0 +1,12 @@
+-- Opt-in balance sharding for hot wallets.
+-- wallet.balance_buckets <= 1 means the wallet is not sharded (available balance = SUM over ledger).
+ALTER TABLE wallet ADD COLUMN IF NOT EXISTS balance_buckets SMALLINT NOT NULL DEFAULT 0;
+
+-- Available balance of a sharded wallet spread over N rows; credits hit a random bucket,
+-- debits take one bucket with enough funds. The ledger stays the source of truth.
+CREATE TABLE IF NOT EXISTS wallet_balance_bucket (
+  wallet_id  UUID NOT NULL REFERENCES wallet(id),
+  bucket     SMALLINT NOT NULL,
+  balance    NUMERIC(15,2) NOT NULL DEFAULT 0 CHECK (balance >= 0),
+  PRIMARY KEY (wallet_id, bucket)
+) WITH (fillfactor = 70); -- leave room for HOT updates on the hot rows
@@ -0,0 +1,25 @@
+-- Wallet sharding (pix.sharding.enabled). Applied to every shard; only shard-0
+-- (the directory shard) ever has rows in pix_key_directory.
+
+-- Destination credits of cross-shard transfers, written on the source shard in the
+-- settling transaction and applied on the destination shard by CrossShardCreditRelay.
+CREATE TABLE IF NOT EXISTS cross_shard_credit (
+  id               BIGSERIAL PRIMARY KEY,
+  wallet_id        UUID NOT NULL,
+  amount           NUMERIC(15,2) NOT NULL CHECK (amount > 0),
+  idempotency_key  VARCHAR(64) NOT NULL UNIQUE,
+  created_at       TIMESTAMPTZ NOT NULL DEFAULT now(),
+  applied_at       TIMESTAMPTZ
+);
+
+CREATE INDEX IF NOT EXISTS ix_cross_shard_credit_pending ON cross_shard_credit(id)
+  WHERE applied_at IS NULL;
+
+-- Global index of active PIX keys: value -> owning wallet (and therefore shard).
+CREATE TABLE IF NOT EXISTS pix_key_directory (
+  value       VARCHAR(255) PRIMARY KEY,
+  key_id      UUID NOT NULL,
+  wallet_id   UUID NOT NULL,
+  type        VARCHAR(16) NOT NULL,
+  created_at  TIMESTAMPTZ NOT NULL DEFAULT now()
+);
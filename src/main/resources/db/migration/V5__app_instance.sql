@@ -0,0 +1,8 @@
+-- Membership ring for wallet-affinity routing (pix.affinity.enabled).
+-- Each application instance upserts its row on every heartbeat; rows older than
+-- pix.affinity.member-ttl are ignored and eventually pruned.
+CREATE TABLE IF NOT EXISTS app_instance (
+  instance_id   TEXT PRIMARY KEY,
+  base_url      TEXT NOT NULL,
+  heartbeat_at  TIMESTAMPTZ NOT NULL DEFAULT now()
+);
@@ -0,0 +1,57 @@
+-- CQRS read model (pix.read-model.enabled), maintained by LedgerProjector.
+
+-- Change stream: ledger_entry is append-only, so a sequence gives the projector a
+-- monotonic position. Transfer lifecycle changes always write ledger entries keyed by
+-- end-to-end id (-reserve, -apply-debit, -apply-credit, -unreserve), so the same stream
+-- carries them. Adding the column rewrites ledger_entry once.
+ALTER TABLE ledger_entry ADD COLUMN IF NOT EXISTS seq BIGSERIAL;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_ledger_entry_seq ON ledger_entry(seq);
+
+CREATE SCHEMA IF NOT EXISTS read_model;
+
+-- balance = DEPOSIT - WITHDRAW; available_balance also subtracts open reservations
+CREATE TABLE IF NOT EXISTS read_model.wallet_balance_view (
+  wallet_id          UUID PRIMARY KEY,
+  balance            NUMERIC(17,2) NOT NULL,
+  available_balance  NUMERIC(17,2) NOT NULL,
+  last_seq           BIGINT NOT NULL,
+  updated_at         TIMESTAMPTZ NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS read_model.wallet_transfer_history (
+  wallet_id               UUID NOT NULL,
+  end_to_end_id           TEXT NOT NULL,
+  direction               VARCHAR(3) NOT NULL,
+  counterparty_wallet_id  TEXT,
+  amount                  NUMERIC(15,2) NOT NULL,
+  status                  VARCHAR(16) NOT NULL,
+  initiated_at            TIMESTAMPTZ NOT NULL,
+  updated_at              TIMESTAMPTZ NOT NULL,
+  PRIMARY KEY (wallet_id, end_to_end_id)
+);
+
+CREATE INDEX IF NOT EXISTS ix_transfer_history_wallet_time
+  ON read_model.wallet_transfer_history(wallet_id, initiated_at DESC);
+
+-- Days are UTC
+CREATE TABLE IF NOT EXISTS read_model.daily_wallet_totals (
+  wallet_id  UUID NOT NULL,
+  entry_date DATE NOT NULL,
+  credits    NUMERIC(17,2) NOT NULL,
+  debits     NUMERIC(17,2) NOT NULL,
+  entries    INT NOT NULL,
+  PRIMARY KEY (wallet_id, entry_date)
+);
+
+-- position = last projected ledger_entry.seq; refreshed_at = last time the projection
+-- was seen at the head of the stream
+CREATE TABLE IF NOT EXISTS read_model.projection_checkpoint (
+  projection     VARCHAR(64) PRIMARY KEY,
+  position       BIGINT NOT NULL,
+  last_event_at  TIMESTAMPTZ,
+  refreshed_at   TIMESTAMPTZ
+);
+
+INSERT INTO read_model.projection_checkpoint (projection, position)
+VALUES ('ledger', 0)
+ON CONFLICT (projection) DO NOTHING;
@@ -0,0 +1,117 @@
+-- Compact transfer layout:
+--   end_to_end_id   UUID     the 32 hex digits behind the "E..." text id (16 B instead of 34 B)
+--   from/to_wallet  UUID     instead of TEXT; the source wallet gets a FK (it always lives on
+--                            the transfer's shard, the destination may not)
+--   amount_cents    BIGINT   instead of NUMERIC(15,2) holding amount x100
+--   status_code     SMALLINT 0 PENDING, 1 CONFIRMED, 2 REJECTED (TransferStatusCodeConverter)
+-- Columns are ordered widest-alignment first to avoid padding.
+--
+-- Estimated sizes for a typical row (36-char idempotency key):
+--   heap tuple        ~240 B -> ~160 B
+--   ix_transfer_from    48 B ->   24 B per entry (same for ix_transfer_to and uq_transfer_e2e)
+-- Actual table/index sizes before and after are written to the migration log (NOTICE).
+--
+-- Online rewrite, so this script runs outside a transaction (see .sql.conf):
+--   1. transfer_compact is created and a trigger mirrors every write on transfer into it,
+--      so the previous version keeps serving while existing rows are copied;
+--   2. existing rows are copied in keyset chunks of 5000, committing each chunk;
+--   3. secondary indexes are built concurrently, then the tables are swapped under a brief
+--      ACCESS EXCLUSIVE lock and the legacy table is dropped. Instances still running the
+--      previous version must be drained before the swap: they write the old column types.
+-- If interrupted before the swap, run flyway repair and migrate again: the copy resumes
+-- idempotently. The swap is a single atomic statement.
+
+CREATE TABLE IF NOT EXISTS transfer_compact (
+  id               UUID PRIMARY KEY,
+  amount_cents     BIGINT NOT NULL CHECK (amount_cents > 0),
+  initiated_at     TIMESTAMPTZ NOT NULL DEFAULT now(),
+  updated_at       TIMESTAMPTZ NOT NULL DEFAULT now(),
+  end_to_end_id    UUID NOT NULL,
+  from_wallet_id   UUID NOT NULL REFERENCES wallet(id),
+  to_wallet_id     UUID NOT NULL,
+  version          INT NOT NULL DEFAULT 0,
+  status_code      SMALLINT NOT NULL CHECK (status_code BETWEEN 0 AND 2),
+  currency         CHAR(3) NOT NULL DEFAULT 'BRL',
+  idempotency_key  VARCHAR(64)
+);
+
+CREATE OR REPLACE FUNCTION transfer_status_code(status TEXT) RETURNS SMALLINT
+  LANGUAGE sql IMMUTABLE AS $$
+    SELECT CASE status WHEN 'PENDING' THEN 0 WHEN 'CONFIRMED' THEN 1 WHEN 'REJECTED' THEN 2 END::SMALLINT
+  $$;
+
+CREATE OR REPLACE FUNCTION transfer_compact_mirror() RETURNS trigger
+  LANGUAGE plpgsql AS $$
+BEGIN
+  INSERT INTO transfer_compact (id, amount_cents, initiated_at, updated_at, end_to_end_id, from_wallet_id,
+                                to_wallet_id, version, status_code, currency, idempotency_key)
+  VALUES (NEW.id, round(NEW.amount)::BIGINT, NEW.initiated_at, NEW.updated_at, substr(NEW.end_to_end_id, 2)::UUID,
+          NEW.from_wallet_id::UUID, NEW.to_wallet_id::UUID, NEW.version, transfer_status_code(NEW.status),
+          NEW.currency, NEW.idempotency_key)
+  ON CONFLICT (id) DO UPDATE SET
+    status_code = EXCLUDED.status_code,
+    version     = EXCLUDED.version,
+    updated_at  = EXCLUDED.updated_at;
+  RETURN NEW;
+END
+$$;
+
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'transfer_compact_mirror') THEN
+    CREATE TRIGGER transfer_compact_mirror AFTER INSERT OR UPDATE ON transfer
+      FOR EACH ROW EXECUTE FUNCTION transfer_compact_mirror();
+  END IF;
+END
+$$;
+
+DO $$
+DECLARE
+  last_id UUID := '00000000-0000-0000-0000-000000000000';
+  next_id UUID;
+BEGIN
+  RAISE NOTICE 'transfer before: table %, indexes %',
+    pg_size_pretty(pg_table_size('transfer')), pg_size_pretty(pg_indexes_size('transfer'));
+  LOOP
+    SELECT max(id) INTO next_id FROM (SELECT id FROM transfer WHERE id > last_id ORDER BY id LIMIT 5000) chunk;
+    EXIT WHEN next_id IS NULL;
+    -- Rows already mirrored by the trigger carry a newer state than this snapshot
+    INSERT INTO transfer_compact (id, amount_cents, initiated_at, updated_at, end_to_end_id, from_wallet_id,
+                                  to_wallet_id, version, status_code, currency, idempotency_key)
+    SELECT id, round(amount)::BIGINT, initiated_at, updated_at, substr(end_to_end_id, 2)::UUID,
+           from_wallet_id::UUID, to_wallet_id::UUID, version, transfer_status_code(status),
+           currency, idempotency_key
+    FROM transfer
+    WHERE id > last_id AND id <= next_id
+    ON CONFLICT (id) DO NOTHING;
+    last_id := next_id;
+    COMMIT;
+  END LOOP;
+END
+$$;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_transfer_compact_e2e ON transfer_compact(end_to_end_id);
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_transfer_compact_idempotency_key ON transfer_compact(idempotency_key)
+  WHERE idempotency_key IS NOT NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_transfer_compact_from ON transfer_compact(from_wallet_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_transfer_compact_to ON transfer_compact(to_wallet_id);
+
+DO $$
+BEGIN
+  LOCK TABLE transfer IN ACCESS EXCLUSIVE MODE;
+  -- Writes after the last chunk were mirrored by the trigger, so nothing is left to copy
+  DROP TRIGGER transfer_compact_mirror ON transfer;
+  DROP TABLE transfer;
+  ALTER TABLE transfer_compact RENAME TO transfer;
+  ALTER INDEX transfer_compact_pkey RENAME TO transfer_pkey;
+  ALTER INDEX uq_transfer_compact_e2e RENAME TO uq_transfer_e2e;
+  ALTER INDEX uq_transfer_compact_idempotency_key RENAME TO uq_transfer_idempotency_key;
+  ALTER INDEX ix_transfer_compact_from RENAME TO ix_transfer_from;
+  ALTER INDEX ix_transfer_compact_to RENAME TO ix_transfer_to;
+  RAISE NOTICE 'transfer after: table %, indexes %',
+    pg_size_pretty(pg_table_size('transfer')), pg_size_pretty(pg_indexes_size('transfer'));
+END
+$$;
+
+DROP FUNCTION IF EXISTS transfer_compact_mirror();
+DROP FUNCTION IF EXISTS transfer_status_code(TEXT);
@@ -0,0 +1,131 @@
+-- Compact ledger_entry layout:
+--   operation_code    SMALLINT instead of TEXT (OperationTypeCodeConverter: 0 DEPOSIT, 1 WITHDRAW,
+--                     2 PIX_OUT, 3 PIX_IN, 4 ADJUSTMENT, 5 RESERVED, 6 UNRESERVED)
+--   amount_cents      BIGINT instead of NUMERIC(15,2)
+--   idempotency_hash  md5(idempotency_key)::uuid, 16 B instead of up to 47 B of text
+--   end_to_end_id     UUID of the transfer for {e2e}-reserve|apply-debit|apply-credit|unreserve
+--                     keys, the only thing the read model used the key text for
+--   effective_at      dropped: always equal to created_at and never read
+--
+-- Indexes, from the statements that actually run against the table:
+--   balance / available balance   WHERE wallet_id = ?                    } one covering index,
+--   historical balance            WHERE wallet_id = ? AND created_at <= ? } index-only scan
+--   idempotency check             WHERE idempotency_hash = ?  (no wallet_id in the port)
+--   group-commit conflict         (idempotency_hash, wallet_id)
+--   projector / rebuild           seq ranges
+-- ix_ledger_balance, ix_ledger_historical and ix_ledger_wallet_time collapse into
+-- ix_ledger_wallet_created; the idempotency index leads with the hash so the per-request
+-- existence check stops scanning the wallet's entries. Six indexes per insert become four.
+--
+-- Estimated sizes for a transfer step row:
+--   heap tuple                ~152 B -> ~120 B
+--   index bytes per row       ~248 B -> ~128 B
+-- Actual sizes before and after are written to the migration log (NOTICE); the
+-- performance/pgbench/ledger-layout suite measures insert throughput, WAL bytes per insert
+-- and balance latency for both layouts.
+--
+-- Same online procedure as V7 (outside a transaction, see .sql.conf): a trigger mirrors
+-- inserts into ledger_entry_compact while existing rows are copied in seq chunks, then the
+-- tables are swapped under a brief lock. seq values, and so read model checkpoints, are kept.
+-- Instances running the previous version must be drained before the swap.
+
+CREATE TABLE IF NOT EXISTS ledger_entry_compact (
+  id                UUID PRIMARY KEY,
+  wallet_id         UUID NOT NULL REFERENCES wallet(id),
+  seq               BIGINT NOT NULL DEFAULT nextval('ledger_entry_seq_seq'),
+  amount_cents      BIGINT NOT NULL CHECK (amount_cents <> 0),
+  created_at        TIMESTAMPTZ NOT NULL DEFAULT now(),
+  operation_code    SMALLINT NOT NULL CHECK (operation_code BETWEEN 0 AND 6),
+  idempotency_hash  UUID,
+  end_to_end_id     UUID
+);
+
+CREATE OR REPLACE FUNCTION ledger_operation_code(operation_type TEXT) RETURNS SMALLINT
+  LANGUAGE sql IMMUTABLE AS $$
+    SELECT CASE operation_type
+      WHEN 'DEPOSIT' THEN 0 WHEN 'WITHDRAW' THEN 1 WHEN 'PIX_OUT' THEN 2 WHEN 'PIX_IN' THEN 3
+      WHEN 'ADJUSTMENT' THEN 4 WHEN 'RESERVED' THEN 5 WHEN 'UNRESERVED' THEN 6 END::SMALLINT
+  $$;
+
+CREATE OR REPLACE FUNCTION ledger_transfer_of(idempotency_key TEXT) RETURNS UUID
+  LANGUAGE sql IMMUTABLE AS $$
+    SELECT CASE WHEN idempotency_key ~ '^E[0-9A-F]{32}-(reserve|apply-debit|apply-credit|unreserve)$'
+                THEN substr(idempotency_key, 2, 32)::UUID END
+  $$;
+
+CREATE OR REPLACE FUNCTION ledger_entry_compact_mirror() RETURNS trigger
+  LANGUAGE plpgsql AS $$
+BEGIN
+  INSERT INTO ledger_entry_compact (id, wallet_id, seq, amount_cents, created_at, operation_code,
+                                    idempotency_hash, end_to_end_id)
+  VALUES (NEW.id, NEW.wallet_id, NEW.seq, round(NEW.amount * 100)::BIGINT, NEW.created_at,
+          ledger_operation_code(NEW.operation_type), md5(NEW.idempotency_key)::UUID,
+          ledger_transfer_of(NEW.idempotency_key))
+  ON CONFLICT (id) DO NOTHING;
+  RETURN NEW;
+END
+$$;
+
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'ledger_entry_compact_mirror') THEN
+    CREATE TRIGGER ledger_entry_compact_mirror AFTER INSERT ON ledger_entry
+      FOR EACH ROW EXECUTE FUNCTION ledger_entry_compact_mirror();
+  END IF;
+END
+$$;
+
+DO $$
+DECLARE
+  last_seq BIGINT := 0;
+  max_seq  BIGINT;
+BEGIN
+  RAISE NOTICE 'ledger_entry before: table %, indexes %',
+    pg_size_pretty(pg_table_size('ledger_entry')), pg_size_pretty(pg_indexes_size('ledger_entry'));
+  -- Rows above max_seq were inserted after the trigger existed
+  SELECT COALESCE(max(seq), 0) INTO max_seq FROM ledger_entry;
+  WHILE last_seq < max_seq LOOP
+    INSERT INTO ledger_entry_compact (id, wallet_id, seq, amount_cents, created_at, operation_code,
+                                      idempotency_hash, end_to_end_id)
+    SELECT id, wallet_id, seq, round(amount * 100)::BIGINT, created_at,
+           ledger_operation_code(operation_type), md5(idempotency_key)::UUID,
+           ledger_transfer_of(idempotency_key)
+    FROM ledger_entry
+    WHERE seq > last_seq AND seq <= last_seq + 10000
+    ON CONFLICT (id) DO NOTHING;
+    last_seq := last_seq + 10000;
+    COMMIT;
+  END LOOP;
+END
+$$;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_ledger_entry_compact_seq ON ledger_entry_compact(seq);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_ledger_compact_wallet_created
+  ON ledger_entry_compact(wallet_id, created_at) INCLUDE (operation_code, amount_cents);
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_ledger_entry_compact_idempotency
+  ON ledger_entry_compact(idempotency_hash, wallet_id) WHERE idempotency_hash IS NOT NULL;
+
+DO $$
+BEGIN
+  LOCK TABLE ledger_entry IN ACCESS EXCLUSIVE MODE;
+  DROP TRIGGER ledger_entry_compact_mirror ON ledger_entry;
+  -- Keep the sequence (and with it every seq position) when the old table goes away
+  ALTER SEQUENCE ledger_entry_seq_seq OWNED BY ledger_entry_compact.seq;
+  DROP TABLE ledger_entry;
+  ALTER TABLE ledger_entry_compact RENAME TO ledger_entry;
+  ALTER TABLE ledger_entry RENAME CONSTRAINT ledger_entry_compact_wallet_id_fkey TO ledger_entry_wallet_id_fkey;
+  ALTER INDEX ledger_entry_compact_pkey RENAME TO ledger_entry_pkey;
+  ALTER INDEX uq_ledger_entry_compact_seq RENAME TO uq_ledger_entry_seq;
+  ALTER INDEX ix_ledger_compact_wallet_created RENAME TO ix_ledger_wallet_created;
+  ALTER INDEX uq_ledger_entry_compact_idempotency RENAME TO uq_ledger_entry_idempotency;
+  RAISE NOTICE 'ledger_entry after: table %, indexes %',
+    pg_size_pretty(pg_table_size('ledger_entry')), pg_size_pretty(pg_indexes_size('ledger_entry'));
+END
+$$;
+
+COMMENT ON COLUMN ledger_entry.operation_code IS
+'0 DEPOSIT, 1 WITHDRAW, 2 PIX_OUT (legacy), 3 PIX_IN (legacy), 4 ADJUSTMENT, 5 RESERVED (block funds for PENDING transfer), 6 UNRESERVED (release blocked funds)';
+
+DROP FUNCTION IF EXISTS ledger_entry_compact_mirror();
+DROP FUNCTION IF EXISTS ledger_transfer_of(TEXT);
+DROP FUNCTION IF EXISTS ledger_operation_code(TEXT);
@@ -0,0 +1,116 @@
+-- Single-call PIX transfer creation (pix.transfer.single-call.enabled).
+-- Does in one round trip what PixTransferService otherwise does in about eight: idempotency
+-- check, source wallet, PIX key resolution, available balance, reservation entry and
+-- transfer insert. Unlike the step-by-step path the balance is read under a row lock on the
+-- source wallet, so two concurrent transfers cannot both reserve the same funds.
+--
+-- result_code (TransferRepositoryPort.CreateResultCode):
+--   0 CREATED                  transfer_* columns describe the new PENDING transfer
+--   1 DUPLICATE                transfer_* columns describe the transfer already under the key
+--   2 SOURCE_WALLET_NOT_FOUND
+--   3 PIX_KEY_NOT_FOUND        not in this database's pix_key; the caller falls back to the
+--                              step-by-step path (the key may live on another shard)
+--   4 SAME_WALLET
+--   5 INSUFFICIENT_FUNDS       available_cents holds the available balance
+--   6 NOT_APPLICABLE           bucket-sharded source wallet; the caller falls back
+--
+-- Output columns are prefixed so they never shadow table columns inside the body.
+CREATE OR REPLACE FUNCTION pix_create_transfer(
+  p_idempotency_key  VARCHAR,
+  p_from_wallet_id   UUID,
+  p_pix_key          VARCHAR,
+  p_amount_cents     BIGINT,
+  p_currency         VARCHAR,
+  p_end_to_end_id    UUID,
+  p_reserve_key      VARCHAR)
+RETURNS TABLE (
+  result_code             SMALLINT,
+  transfer_id             UUID,
+  transfer_from_wallet_id UUID,
+  transfer_to_wallet_id   UUID,
+  transfer_amount_cents   BIGINT,
+  transfer_currency       VARCHAR,
+  transfer_status_code    SMALLINT,
+  transfer_version        INT,
+  transfer_end_to_end_id  UUID,
+  transfer_initiated_at   TIMESTAMPTZ,
+  available_cents         BIGINT)
+LANGUAGE plpgsql AS $$
+DECLARE
+  v_buckets SMALLINT;
+  v_to      UUID;
+  v_now     TIMESTAMPTZ := now();
+BEGIN
+  -- Serialises transfers out of the wallet; taken before the idempotency check so a retry
+  -- racing the original waits for it and then sees its transfer
+  SELECT w.balance_buckets INTO v_buckets FROM wallet w WHERE w.id = p_from_wallet_id FOR UPDATE;
+  IF NOT FOUND THEN
+    result_code := 2;
+    RETURN NEXT;
+    RETURN;
+  END IF;
+
+  SELECT t.id, t.from_wallet_id, t.to_wallet_id, t.amount_cents, t.currency, t.status_code, t.version,
+         t.end_to_end_id, t.initiated_at
+    INTO transfer_id, transfer_from_wallet_id, transfer_to_wallet_id, transfer_amount_cents, transfer_currency,
+         transfer_status_code, transfer_version, transfer_end_to_end_id, transfer_initiated_at
+    FROM transfer t WHERE t.idempotency_key = p_idempotency_key;
+  IF FOUND THEN
+    result_code := 1;
+    RETURN NEXT;
+    RETURN;
+  END IF;
+
+  IF v_buckets > 1 THEN
+    result_code := 6;
+    RETURN NEXT;
+    RETURN;
+  END IF;
+
+  SELECT k.wallet_id INTO v_to FROM pix_key k WHERE k.value = p_pix_key AND k.status = 'ACTIVE';
+  IF NOT FOUND THEN
+    result_code := 3;
+    RETURN NEXT;
+    RETURN;
+  END IF;
+  IF v_to = p_from_wallet_id THEN
+    result_code := 4;
+    RETURN NEXT;
+    RETURN;
+  END IF;
+
+  -- Same formula as LedgerEntryJpaRepository.findAvailableBalance
+  SELECT COALESCE(SUM(CASE WHEN l.operation_code IN (0, 6) THEN l.amount_cents
+                           WHEN l.operation_code IN (1, 5) THEN -l.amount_cents
+                           ELSE 0 END), 0)
+    INTO available_cents
+    FROM ledger_entry l WHERE l.wallet_id = p_from_wallet_id;
+  IF available_cents < p_amount_cents THEN
+    result_code := 5;
+    RETURN NEXT;
+    RETURN;
+  END IF;
+
+  -- RESERVED (5), keyed like LedgerEntryCodec: md5(key)::uuid
+  INSERT INTO ledger_entry (id, wallet_id, operation_code, amount_cents, created_at, idempotency_hash, end_to_end_id)
+  VALUES (gen_random_uuid(), p_from_wallet_id, 5, p_amount_cents, v_now, md5(p_reserve_key)::uuid, p_end_to_end_id);
+
+  -- PENDING (0), see TransferStatusCodeConverter
+  transfer_id := gen_random_uuid();
+  INSERT INTO transfer (id, end_to_end_id, idempotency_key, from_wallet_id, to_wallet_id, amount_cents,
+                        currency, status_code, version, initiated_at, updated_at)
+  VALUES (transfer_id, p_end_to_end_id, p_idempotency_key, p_from_wallet_id, v_to, p_amount_cents,
+          p_currency, 0, 0, v_now, v_now);
+
+  result_code := 0;
+  transfer_from_wallet_id := p_from_wallet_id;
+  transfer_to_wallet_id := v_to;
+  transfer_amount_cents := p_amount_cents;
+  transfer_currency := p_currency;
+  transfer_status_code := 0;
+  transfer_version := 0;
+  transfer_end_to_end_id := p_end_to_end_id;
+  transfer_initiated_at := v_now;
+  RETURN NEXT;
+END;
+$$;
@@ -0,0 +1,94 @@
+package org.pix.wallet.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.application.port.in.WithdrawUseCase;
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.application.port.out.WalletEnginePort;
+import org.pix.wallet.application.port.out.WalletRepositoryPort;
+import org.pix.wallet.domain.exception.InsufficientFundsException;
+import org.pix.wallet.domain.model.Wallet;
+import org.pix.wallet.domain.model.enums.WalletStatus;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EngineWithdrawService Unit Tests")
+class EngineWithdrawServiceTest {
+
+    private final WalletRepositoryPort walletPort = mock(WalletRepositoryPort.class);
+    private final LedgerEntryRepositoryPort ledgerPort = mock(LedgerEntryRepositoryPort.class);
+    private final WalletEnginePort walletEngine = mock(WalletEnginePort.class);
+    private final MetricsService metricsService = mock(MetricsService.class);
+    private final EngineWithdrawService service = new EngineWithdrawService(
+            new WalletOperationValidator(walletPort), ledgerPort, walletEngine, metricsService);
+
+    private UUID walletId;
+
+    @BeforeEach
+    void setUp() {
+        walletId = UUID.randomUUID();
+        when(walletPort.findById(walletId)).thenReturn(Optional.of(Wallet.builder()
+                .id(walletId)
+                .status(WalletStatus.ACTIVE)
+                .createdAt(Instant.now())
+                .build()));
+    }
+
+    @Test
+    @DisplayName("Should submit the withdrawal to the engine and record it when applied")
+    void shouldSubmitToEngine() {
+        when(walletEngine.submit(any())).thenReturn(CompletableFuture.completedFuture(
+                new WalletEnginePort.Outcome(WalletEnginePort.Result.APPLIED, null, new BigDecimal("90.00"))));
+
+        var result = service.execute(new WithdrawUseCase.Command(walletId, BigDecimal.TEN, "w1"));
+
+        assertThat(result.walletId()).isEqualTo(walletId);
+        verify(walletEngine).submit(WalletEnginePort.Command.withdraw(walletId, BigDecimal.TEN, "w1"));
+        verify(metricsService).recordWithdrawalCompleted();
+        verify(ledgerPort, never()).withdraw(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should map an engine rejection to InsufficientFundsException")
+    void shouldMapInsufficientFunds() {
+        when(walletEngine.submit(any())).thenReturn(CompletableFuture.completedFuture(
+                new WalletEnginePort.Outcome(WalletEnginePort.Result.INSUFFICIENT_FUNDS, null, new BigDecimal("5.00"))));
+
+        assertThatThrownBy(() -> service.execute(new WithdrawUseCase.Command(walletId, BigDecimal.TEN, "w1")))
+                .isInstanceOf(InsufficientFundsException.class)
+                .hasMessageContaining("Available: 5.00");
+        verify(metricsService, never()).recordWithdrawalCompleted();
+    }
+
+    @Test
+    @DisplayName("Should skip the engine when the ledger already has the idempotency key")
+    void shouldSkipEngineForProjectedDuplicate() {
+        when(ledgerPort.existsByIdempotencyKey("w1")).thenReturn(true);
+
+        service.execute(new WithdrawUseCase.Command(walletId, BigDecimal.TEN, "w1"));
+
+        verifyNoInteractions(walletEngine);
+    }
+
+    @Test
+    @DisplayName("Should surface engine failures unwrapped")
+    void shouldUnwrapEngineFailure() {
+        when(walletEngine.submit(any())).thenReturn(CompletableFuture.failedFuture(
+                new RejectedExecutionException("Wallet engine shard 0 is saturated")));
+
+        assertThatThrownBy(() -> service.execute(new WithdrawUseCase.Command(walletId, BigDecimal.TEN, "w1")))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -1,5 +1,6 @@
 package org.pix.wallet.application.service;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,6 +9,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.pix.wallet.application.port.in.ProcessPixTransferUseCase;
 import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.application.port.out.OutboxRepositoryPort;
 import org.pix.wallet.application.port.out.PixKeyRepositoryPort;
 import org.pix.wallet.application.port.out.TransferRepositoryPort;
 import org.pix.wallet.application.port.out.WalletRepositoryPort;
@@ -16,12 +18,19 @@ import org.pix.wallet.domain.model.Wallet;
 import org.pix.wallet.domain.model.enums.PixKeyStatus;
 import org.pix.wallet.domain.model.enums.PixKeyType;
 import org.pix.wallet.domain.model.enums.WalletStatus;
+import org.pix.wallet.infrastructure.cache.RecentTransferCache;
+import org.pix.wallet.infrastructure.concurrency.LookupFanOut;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -47,6 +56,9 @@ public class PixTransferServiceTest {
     @Mock
     private org.pix.wallet.infrastructure.observability.MetricsService metricsService;
 
+    @Mock
+    private OutboxRepositoryPort outboxRepositoryPort;
+
         private PixTransferService pixTransferService;
 
     private UUID fromWalletId;
@@ -70,7 +82,11 @@ public class PixTransferServiceTest {
             transferRepositoryPort, 
             ledgerEntryRepositoryPort,  // Added
             metricsService, 
-            fundsValidator
+            fundsValidator,
+            outboxRepositoryPort,
+            mock(PlatformTransactionManager.class),
+            LookupFanOut.sequential(ObservationRegistry.NOOP),
+            RecentTransferCache.disabled()
         );
     }
 
@@ -139,6 +155,11 @@ public class PixTransferServiceTest {
         verify(ledgerEntryRepositoryPort).getAvailableBalance(fromWalletId.toString());
         verify(ledgerEntryRepositoryPort).reserve(anyString(), any(BigDecimal.class), anyString());
         verify(transferRepositoryPort).save(any());
+        verify(outboxRepositoryPort).append(argThat(event ->
+            event.eventType().equals("TRANSFER_CREATED") &&
+            event.aggregateId().equals(transferResult.endToEndId()) &&
+            event.payload().get("amount").equals("100.00")
+        ));
     }
 
     @Test
@@ -173,6 +194,7 @@ public class PixTransferServiceTest {
         verify(transferRepositoryPort).existsByIdempotencyKey(idempotencyKey);
         verify(transferRepositoryPort).findByIdempotencyKey(idempotencyKey);
         verify(transferRepositoryPort, never()).save(any());
+        verify(outboxRepositoryPort, never()).append(any());
         verifyNoInteractions(walletRepositoryPort, ledgerEntryRepositoryPort, pixKeyRepositoryPort);
     }
 
@@ -338,4 +360,131 @@ public class PixTransferServiceTest {
         verify(transferRepositoryPort, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should create the transfer in a single call when the adapter supports it")
+    void shouldCreateTransferInSingleCall() {
+        // Arrange
+        var command = new ProcessPixTransferUseCase.Command(fromWalletId.toString(), pixKey, amount, idempotencyKey);
+        TransferRepositoryPort.TransferResult created = new TransferRepositoryPort.TransferResult(
+                UUID.randomUUID(), "E12345678901234567890123456789AB", fromWalletId.toString(), toWalletId.toString(),
+                amount, "BRL", "PENDING", 0, Instant.now());
+        when(transferRepositoryPort.supportsCreatePending()).thenReturn(true);
+        when(transferRepositoryPort.createPending(any())).thenReturn(Optional.of(new TransferRepositoryPort.CreateOutcome(
+                TransferRepositoryPort.CreateResultCode.CREATED, created, null)));
+
+        // Act
+        ProcessPixTransferUseCase.Result result = pixTransferService.execute(command);
+
+        // Assert
+        assertThat(result.endToEndId()).isEqualTo(created.endToEndId());
+        assertThat(result.status()).isEqualTo("PENDING");
+        verify(transferRepositoryPort).createPending(argThat(c ->
+            c.idempotencyKey().equals(idempotencyKey) &&
+            c.reserveIdempotencyKey().equals(c.endToEndId() + "-reserve")
+        ));
+        verify(outboxRepositoryPort).append(argThat(event -> event.eventType().equals("TRANSFER_CREATED")));
+        verify(metricsService).recordTransferSingleCall("CREATED");
+        verify(transferRepositoryPort, never()).save(any());
+        verifyNoInteractions(walletRepositoryPort, ledgerEntryRepositoryPort, pixKeyRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should map a single-call insufficient funds result to InsufficientFundsException")
+    void shouldRejectInsufficientFundsFromSingleCall() {
+        // Arrange
+        var command = new ProcessPixTransferUseCase.Command(fromWalletId.toString(), pixKey, amount, idempotencyKey);
+        when(transferRepositoryPort.supportsCreatePending()).thenReturn(true);
+        when(transferRepositoryPort.createPending(any())).thenReturn(Optional.of(new TransferRepositoryPort.CreateOutcome(
+                TransferRepositoryPort.CreateResultCode.INSUFFICIENT_FUNDS, null, new BigDecimal("10.00"))));
+
+        // Act & Assert
+        assertThatThrownBy(() -> pixTransferService.execute(command))
+                .isInstanceOf(org.pix.wallet.domain.exception.InsufficientFundsException.class)
+                .hasMessageContaining("Insufficient balance");
+        verify(outboxRepositoryPort, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the step-by-step flow when the single call cannot decide")
+    void shouldFallBackWhenSingleCallNotApplicable() {
+        // Arrange
+        var command = new ProcessPixTransferUseCase.Command(fromWalletId.toString(), pixKey, amount, idempotencyKey);
+        when(transferRepositoryPort.supportsCreatePending()).thenReturn(true);
+        when(transferRepositoryPort.createPending(any())).thenReturn(Optional.of(new TransferRepositoryPort.CreateOutcome(
+                TransferRepositoryPort.CreateResultCode.PIX_KEY_NOT_FOUND, null, null)));
+        when(transferRepositoryPort.existsByIdempotencyKey(idempotencyKey)).thenReturn(false);
+        when(walletRepositoryPort.findById(fromWalletId)).thenReturn(Optional.of(Wallet.builder()
+                .id(fromWalletId).status(WalletStatus.ACTIVE).createdAt(Instant.now()).build()));
+        when(pixKeyRepositoryPort.findByValueAndActive(pixKey)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> pixTransferService.execute(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("PIX key not found");
+        verify(pixKeyRepositoryPort).findByValueAndActive(pixKey);
+    }
+
+    @Test
+    @DisplayName("Should resolve source wallet and PIX key concurrently when parallel lookups are enabled")
+    void shouldResolveLookupsConcurrently() {
+        var command = new ProcessPixTransferUseCase.Command(fromWalletId.toString(), pixKey, amount, idempotencyKey);
+        Wallet fromWallet = Wallet.builder().id(fromWalletId).status(WalletStatus.ACTIVE).createdAt(Instant.now()).build();
+        Wallet toWallet = Wallet.builder().id(toWalletId).status(WalletStatus.ACTIVE).createdAt(Instant.now()).build();
+        PixKey pixKeyEntity = new PixKey(UUID.randomUUID(), toWalletId, PixKeyType.CPF, pixKey,
+                PixKeyStatus.ACTIVE, OffsetDateTime.now());
+        var bothStarted = new CountDownLatch(2);
+
+        when(transferRepositoryPort.existsByIdempotencyKey(idempotencyKey)).thenReturn(false);
+        when(walletRepositoryPort.findById(fromWalletId)).thenAnswer(invocation -> {
+            awaitSibling(bothStarted);
+            return Optional.of(fromWallet);
+        });
+        when(pixKeyRepositoryPort.findByValueAndActive(pixKey)).thenAnswer(invocation -> {
+            awaitSibling(bothStarted);
+            return Optional.of(pixKeyEntity);
+        });
+        when(walletRepositoryPort.findById(toWalletId)).thenReturn(Optional.of(toWallet));
+        when(ledgerEntryRepositoryPort.getAvailableBalance(fromWalletId.toString())).thenReturn(Optional.of(new BigDecimal("500.00")));
+        when(transferRepositoryPort.save(any())).thenAnswer(invocation -> {
+            TransferRepositoryPort.TransferCommand saved = invocation.getArgument(0);
+            return new TransferRepositoryPort.TransferResult(UUID.randomUUID(), saved.endToEndId(),
+                    saved.fromWalletId(), saved.toWalletId(), saved.amount(), saved.currency(), saved.status(), 0, Instant.now());
+        });
+
+        var result = parallelService().execute(command);
+
+        assertThat(result.status()).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("Should fail the transfer when a concurrent lookup fails")
+    void shouldFailWhenConcurrentLookupFails() {
+        var command = new ProcessPixTransferUseCase.Command(fromWalletId.toString(), pixKey, amount, idempotencyKey);
+        var failure = new DataAccessResourceFailureException("pix_key unavailable");
+
+        // May be cancelled before it runs
+        lenient().when(transferRepositoryPort.existsByIdempotencyKey(idempotencyKey)).thenReturn(false);
+        when(pixKeyRepositoryPort.findByValueAndActive(pixKey)).thenThrow(failure);
+
+        assertThatThrownBy(() -> parallelService().execute(command))
+                .hasRootCauseInstanceOf(DataAccessResourceFailureException.class);
+
+        verify(transferRepositoryPort, never()).save(any());
+        verify(ledgerEntryRepositoryPort, never()).reserve(anyString(), any(), anyString());
+    }
+
+    private PixTransferService parallelService() {
+        return new PixTransferService(walletRepositoryPort, pixKeyRepositoryPort, transferRepositoryPort,
+                ledgerEntryRepositoryPort, metricsService, new FundsValidator(ledgerEntryRepositoryPort),
+                outboxRepositoryPort, mock(PlatformTransactionManager.class),
+                new LookupFanOut(new SimpleAsyncTaskExecutor(), ObservationRegistry.NOOP),
+                RecentTransferCache.disabled());
+    }
+
+    private static void awaitSibling(CountDownLatch bothStarted) throws InterruptedException {
+        bothStarted.countDown();
+        if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+            throw new AssertionError("Lookups did not run concurrently");
+        }
+    }
 }
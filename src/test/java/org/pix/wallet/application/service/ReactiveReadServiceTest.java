@@ -0,0 +1,103 @@
+package org.pix.wallet.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.pix.wallet.application.port.in.GetBalanceUseCase;
+import org.pix.wallet.application.port.in.ReactiveReadUseCase;
+import org.pix.wallet.application.port.out.ReactiveBalanceQueryPort;
+import org.pix.wallet.application.port.out.ReactiveTransferQueryPort;
+import org.pix.wallet.application.port.out.TransferRepositoryPort.TransferResult;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveReadService Unit Tests")
+class ReactiveReadServiceTest {
+
+    @Mock
+    private ReactiveBalanceQueryPort balancePort;
+
+    @Mock
+    private ReactiveTransferQueryPort transferPort;
+
+    @InjectMocks
+    private ReactiveReadService reactiveReadService;
+
+    private UUID walletId;
+
+    @BeforeEach
+    void setUp() {
+        walletId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should get current balance when wallet exists")
+    void shouldGetCurrentBalance() {
+        when(balancePort.walletExists(walletId)).thenReturn(Mono.just(true));
+        when(balancePort.getCurrentBalance(walletId)).thenReturn(Mono.just(new BigDecimal("500.00")));
+
+        GetBalanceUseCase.Result result = reactiveReadService
+                .balance(new GetBalanceUseCase.Command(walletId, null))
+                .block();
+
+        assertThat(result.walletId()).isEqualTo(walletId);
+        assertThat(result.balance()).isEqualByComparingTo("500.00");
+        verify(balancePort, never()).getBalanceAsOf(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should use historical balance when point in time is given")
+    void shouldGetHistoricalBalance() {
+        Instant at = Instant.parse("2025-01-01T00:00:00Z");
+        when(balancePort.walletExists(walletId)).thenReturn(Mono.just(true));
+        when(balancePort.getBalanceAsOf(walletId, at)).thenReturn(Mono.empty());
+
+        GetBalanceUseCase.Result result = reactiveReadService
+                .balance(new GetBalanceUseCase.Command(walletId, at))
+                .block();
+
+        assertThat(result.balance()).isEqualByComparingTo(BigDecimal.ZERO);
+        verify(balancePort, never()).getCurrentBalance(any());
+    }
+
+    @Test
+    @DisplayName("Should fail with same error as blocking path when wallet not found")
+    void shouldFailWhenWalletNotFound() {
+        when(balancePort.walletExists(walletId)).thenReturn(Mono.just(false));
+
+        assertThatThrownBy(() -> reactiveReadService
+                .balance(new GetBalanceUseCase.Command(walletId, null))
+                .block())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Wallet not found");
+        verify(balancePort, never()).getCurrentBalance(any());
+    }
+
+    @Test
+    @DisplayName("Should map transfer status and complete empty when missing")
+    void shouldMapTransferStatus() {
+        Instant initiatedAt = Instant.now();
+        when(transferPort.findByEndToEndId("E2E-1")).thenReturn(Mono.just(new TransferResult(
+                UUID.randomUUID(), "E2E-1", "from", "to", new BigDecimal("10.00"), "BRL", "CONFIRMED", 1, initiatedAt)));
+        when(transferPort.findByEndToEndId("E2E-2")).thenReturn(Mono.empty());
+
+        ReactiveReadUseCase.TransferStatusView view = reactiveReadService.transferStatus("E2E-1").block();
+
+        assertThat(view.status()).isEqualTo("CONFIRMED");
+        assertThat(view.amount()).isEqualByComparingTo("10.00");
+        assertThat(view.initiatedAt()).isEqualTo(initiatedAt);
+        assertThat(reactiveReadService.transferStatus("E2E-2").blockOptional()).isEmpty();
+    }
+}
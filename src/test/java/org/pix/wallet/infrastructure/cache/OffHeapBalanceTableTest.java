@@ -0,0 +1,130 @@
+package org.pix.wallet.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OffHeapBalanceTable Unit Tests")
+class OffHeapBalanceTableTest {
+
+    @Test
+    @DisplayName("Should store a load and serve it until the wallet is invalidated")
+    void shouldStoreAndInvalidate() {
+        OffHeapBalanceTable table = new OffHeapBalanceTable(100);
+        UUID id = UUID.randomUUID();
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+
+        assertThat(table.get(msb, lsb)).isNull();
+        assertThat(table.putIfUnchanged(msb, lsb, table.stamp(msb, lsb), 10_000, 2_500, 42)).isTrue();
+
+        OffHeapBalanceTable.Balance balance = table.get(msb, lsb);
+        assertThat(balance.balanceCents()).isEqualTo(10_000);
+        assertThat(balance.availableCents()).isEqualTo(7_500);
+        assertThat(balance.loadedAtMillis()).isEqualTo(42);
+
+        table.invalidate(msb, lsb);
+        assertThat(table.get(msb, lsb)).isNull();
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop a load that overlapped an invalidation")
+    void shouldRejectStaleLoad() {
+        OffHeapBalanceTable table = new OffHeapBalanceTable(100);
+        UUID id = UUID.randomUUID();
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+
+        long stamp = table.stamp(msb, lsb);
+        table.invalidate(msb, lsb);
+
+        assertThat(table.putIfUnchanged(msb, lsb, stamp, 10_000, 0, 1)).isFalse();
+        assertThat(table.get(msb, lsb)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should stop placing new wallets once full and keep the existing ones")
+    void shouldBoundDistinctWallets() {
+        OffHeapBalanceTable table = new OffHeapBalanceTable(3);
+        for (int i = 0; i < 3; i++) {
+            UUID id = UUID.randomUUID();
+            table.putIfUnchanged(id.getMostSignificantBits(), id.getLeastSignificantBits(),
+                table.stamp(id.getMostSignificantBits(), id.getLeastSignificantBits()), i, 0, 1);
+        }
+        UUID extra = UUID.randomUUID();
+
+        assertThat(table.stamp(extra.getMostSignificantBits(), extra.getLeastSignificantBits())).isEqualTo(-1);
+        assertThat(table.size()).isEqualTo(3);
+        assertThat(table.capacity()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Should restore recent entries from a snapshot and skip older ones")
+    void shouldRoundTripSnapshot(@TempDir Path dir) throws Exception {
+        OffHeapBalanceTable table = new OffHeapBalanceTable(100);
+        UUID recent = UUID.randomUUID();
+        UUID old = UUID.randomUUID();
+        UUID invalidated = UUID.randomUUID();
+        put(table, recent, 500, 100, 2_000);
+        put(table, old, 700, 0, 1_000);
+        put(table, invalidated, 900, 0, 2_000);
+        table.invalidate(invalidated.getMostSignificantBits(), invalidated.getLeastSignificantBits());
+
+        Path file = dir.resolve("balances.snapshot");
+        assertThat(table.writeSnapshot(file)).isEqualTo(2);
+
+        OffHeapBalanceTable restored = new OffHeapBalanceTable(100);
+        assertThat(restored.loadSnapshot(file, 1_500)).isEqualTo(1);
+        assertThat(restored.get(recent.getMostSignificantBits(), recent.getLeastSignificantBits()))
+            .isEqualTo(new OffHeapBalanceTable.Balance(500, 100, 2_000));
+        assertThat(restored.get(old.getMostSignificantBits(), old.getLeastSignificantBits())).isNull();
+        assertThat(restored.loadSnapshot(dir.resolve("missing"), 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never expose a half-written entry to concurrent readers")
+    void shouldReadConsistentEntriesUnderConcurrentWrites() throws Exception {
+        OffHeapBalanceTable table = new OffHeapBalanceTable(16);
+        UUID id = UUID.randomUUID();
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<OffHeapBalanceTable.Balance> torn = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                OffHeapBalanceTable.Balance balance = table.get(msb, lsb);
+                // Every write keeps reserved = balance / 2 and loadedAt = balance
+                if (balance != null && (balance.reservedCents() * 2 != balance.balanceCents()
+                        || balance.loadedAtMillis() != balance.balanceCents())) {
+                    torn.set(balance);
+                }
+            }
+        });
+        reader.start();
+        for (long i = 1; i <= 200_000; i++) {
+            table.putIfUnchanged(msb, lsb, table.stamp(msb, lsb), i * 2, i, i * 2);
+            if (i % 7 == 0) {
+                table.invalidate(msb, lsb);
+            }
+        }
+        running.set(false);
+        reader.join();
+
+        assertThat(torn.get()).isNull();
+    }
+
+    private static void put(OffHeapBalanceTable table, UUID id, long balance, long reserved, long loadedAt) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        table.putIfUnchanged(msb, lsb, table.stamp(msb, lsb), balance, reserved, loadedAt);
+    }
+}
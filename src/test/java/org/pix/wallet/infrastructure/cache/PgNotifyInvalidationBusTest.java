@@ -0,0 +1,120 @@
+package org.pix.wallet.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PgNotifyInvalidationBus Unit Tests")
+class PgNotifyInvalidationBusTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<String> evicted = new ArrayList<>();
+    private final List<String> emptied = new ArrayList<>();
+    private JdbcTemplate publisher;
+    private PgNotifyInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        publisher = mock(JdbcTemplate.class);
+        bus = new PgNotifyInvalidationBus(() -> {
+            throw new SQLException("not used");
+        }, publisher, objectMapper, new MetricsService(registry));
+        bus.register(cache("wallet"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict the named cache when another instance publishes")
+    void shouldEvictOnRemoteInvalidation() throws Exception {
+        bus.dispatch(objectMapper.writeValueAsString(new PgNotifyInvalidationBus.Invalidation(
+            "wallet", "w-1", "other-instance", 7, System.currentTimeMillis())));
+        bus.dispatch(objectMapper.writeValueAsString(new PgNotifyInvalidationBus.Invalidation(
+            "unknown-cache", "x", "other-instance", 8, System.currentTimeMillis())));
+        bus.dispatch("not json");
+
+        assertThat(evicted).containsExactly("w-1");
+        assertThat(registry.get("pix.cache.invalidation.lag").tag("cache", "wallet").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should send pg_notify only after the transaction commits and skip its own echo")
+    void shouldPublishAfterCommit() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish("wallet", "w-1");
+        verifyNoInteractions(publisher);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(publisher).queryForList(eq("SELECT pg_notify(?, ?)"), eq(PgNotifyInvalidationBus.CHANNEL), payload.capture());
+        bus.dispatch((String) payload.getValue());
+        assertThat(evicted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not publish when the transaction rolls back")
+    void shouldNotPublishOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish("wallet", "w-1");
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("Should empty every registered cache and bump the epoch on resync")
+    void shouldResyncOnReconnect() {
+        bus.register(cache("pix-key"));
+
+        bus.resync();
+        bus.resync();
+
+        assertThat(bus.epoch()).isEqualTo(2);
+        assertThat(emptied).containsExactlyInAnyOrder("wallet", "pix-key", "wallet", "pix-key");
+    }
+
+    private InvalidatableCache cache(String name) {
+        return new InvalidatableCache() {
+            @Override
+            public String cacheName() {
+                return name;
+            }
+
+            @Override
+            public void evict(String key) {
+                evicted.add(key);
+            }
+
+            @Override
+            public void evictAll() {
+                emptied.add(name);
+            }
+        };
+    }
+}
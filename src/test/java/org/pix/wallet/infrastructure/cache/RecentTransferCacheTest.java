@@ -0,0 +1,93 @@
+package org.pix.wallet.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.application.port.out.TransferRepositoryPort.TransferResult;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RecentTransferCache Unit Tests")
+class RecentTransferCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricsService metricsService = new MetricsService(registry);
+
+    @Test
+    @DisplayName("Should answer PENDING transfers from memory and skip other statuses")
+    void shouldKeepOnlyPendingTransfers() {
+        RecentTransferCache cache = new RecentTransferCache(10, Duration.ofMinutes(1), metricsService, null);
+
+        cache.remember(transfer("E1", "PENDING"));
+        cache.remember(transfer("E2", "CONFIRMED"));
+
+        assertThat(cache.find("E1")).map(TransferResult::endToEndId).contains("E1");
+        assertThat(cache.find("E2")).isEmpty();
+        assertThat(registry.get("pix.transfer.recent.lookups").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(registry.get("pix.transfer.recent.lookups").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest transfer at capacity and expired ones after the window")
+    void shouldBoundSizeAndAge() throws InterruptedException {
+        RecentTransferCache bounded = new RecentTransferCache(2, Duration.ofMinutes(1), metricsService, null);
+        bounded.remember(transfer("E1", "PENDING"));
+        bounded.remember(transfer("E2", "PENDING"));
+        bounded.remember(transfer("E3", "PENDING"));
+
+        assertThat(bounded.size()).isEqualTo(2);
+        assertThat(bounded.find("E1")).isEmpty();
+        assertThat(bounded.find("E3")).isPresent();
+
+        RecentTransferCache windowed = new RecentTransferCache(10, Duration.ofMillis(20), metricsService, null);
+        windowed.remember(transfer("E4", "PENDING"));
+        Thread.sleep(40);
+
+        assertThat(windowed.find("E4")).isEmpty();
+        assertThat(windowed.size()).isZero();
+        assertThat(registry.get("pix.transfer.recent.evictions").tag("reason", "capacity").counter().count()).isEqualTo(1);
+        assertThat(registry.get("pix.transfer.recent.evictions").tag("reason", "expired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should forget a transfer locally and publish it to the other instances")
+    void shouldForgetAndPublish() {
+        CacheInvalidationBus bus = mock(CacheInvalidationBus.class);
+        RecentTransferCache cache = new RecentTransferCache(10, Duration.ofMinutes(1), metricsService, bus);
+        verify(bus).register(cache);
+        cache.remember(transfer("E1", "PENDING"));
+        cache.remember(transfer("E2", "PENDING"));
+
+        cache.forget("E1", "terminal");
+        cache.evict("E2");
+
+        assertThat(cache.find("E1")).isEmpty();
+        assertThat(cache.find("E2")).isEmpty();
+        verify(bus).publish("transfer", "E1");
+        verify(bus, never()).publish("transfer", "E2");
+    }
+
+    @Test
+    @DisplayName("Should keep nothing when disabled")
+    void shouldKeepNothingWhenDisabled() {
+        RecentTransferCache cache = RecentTransferCache.disabled();
+
+        cache.remember(transfer("E1", "PENDING"));
+        cache.forget("E1", "terminal");
+
+        assertThat(cache.find("E1")).isEmpty();
+        assertThat(cache.isEnabled()).isFalse();
+    }
+
+    private static TransferResult transfer(String endToEndId, String status) {
+        return new TransferResult(UUID.randomUUID(), endToEndId, UUID.randomUUID().toString(),
+            UUID.randomUUID().toString(), new BigDecimal("10.00"), "BRL", status, 0, Instant.now());
+    }
+}
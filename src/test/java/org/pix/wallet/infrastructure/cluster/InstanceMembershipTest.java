@@ -0,0 +1,86 @@
+package org.pix.wallet.infrastructure.cluster;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Several instances in one JVM sharing one membership table.
+ */
+@DisplayName("InstanceMembership Unit Tests")
+class InstanceMembershipTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:membership-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbc.execute("""
+            CREATE TABLE app_instance (
+              instance_id VARCHAR(64) PRIMARY KEY,
+              base_url VARCHAR(255) NOT NULL,
+              heartbeat_at TIMESTAMP WITH TIME ZONE NOT NULL)
+            """);
+    }
+
+    @Test
+    @DisplayName("Should give every wallet exactly one owner that all members agree on")
+    void shouldAgreeOnSingleOwner() {
+        List<InstanceMembership> members = List.of(member("a", NOW), member("b", NOW), member("c", NOW));
+        members.forEach(InstanceMembership::heartbeat);
+        members.forEach(InstanceMembership::heartbeat);
+
+        IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID()).forEach(wallet -> {
+            assertThat(members.stream().filter(m -> m.isOwner(wallet))).hasSize(1);
+            String owner = members.stream().filter(m -> m.isOwner(wallet)).findFirst().orElseThrow().instanceId();
+            members.stream().filter(m -> !m.isOwner(wallet))
+                .forEach(m -> assertThat(m.ownerUrl(wallet)).contains("http://" + owner));
+        });
+    }
+
+    @Test
+    @DisplayName("Should drop members whose heartbeat expired")
+    void shouldDropStaleMembers() {
+        InstanceMembership a = member("a", NOW.minusSeconds(30));
+        InstanceMembership b = member("b", NOW);
+        a.heartbeat();
+        b.heartbeat();
+
+        List<UUID> wallets = IntStream.range(0, 200).mapToObj(i -> UUID.randomUUID()).toList();
+        assertThat(wallets).allSatisfy(w -> assertThat(b.isOwner(w)).isTrue());
+    }
+
+    @Test
+    @DisplayName("Should own everything when alone and deregister on shutdown")
+    void shouldDeregisterOnDestroy() {
+        InstanceMembership a = member("a", NOW);
+        a.heartbeat();
+
+        assertThat(a.ownerUrl(UUID.randomUUID())).isEmpty();
+
+        a.destroy();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM app_instance", Integer.class)).isZero();
+    }
+
+    private InstanceMembership member(String id, Instant now) {
+        return new InstanceMembership(jdbc, id, "http://" + id, Duration.ofSeconds(5), 64,
+            new MetricsService(new SimpleMeterRegistry()), Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
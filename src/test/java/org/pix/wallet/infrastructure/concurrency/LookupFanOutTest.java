@@ -0,0 +1,127 @@
+package org.pix.wallet.infrastructure.concurrency;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.infrastructure.observability.ObservabilityContext;
+import org.slf4j.MDC;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LookupFanOut Unit Tests")
+class LookupFanOutTest {
+
+    private final List<Observation.Context> started = new CopyOnWriteArrayList<>();
+    private final ObservationRegistry registry = ObservationRegistry.create();
+
+    LookupFanOutTest() {
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStart(Observation.Context context) {
+                started.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        ObservabilityContext.clear();
+    }
+
+    @Test
+    @DisplayName("Should run subtasks concurrently with the caller's MDC and a child span each")
+    void shouldRunSubtasksConcurrentlyWithContext() {
+        var fanOut = new LookupFanOut(new SimpleAsyncTaskExecutor(), registry);
+        var bothStarted = new CountDownLatch(2);
+        ObservabilityContext.setOperation("PIX_TRANSFER_CREATE");
+        Observation request = Observation.start("request", registry);
+
+        try (Observation.Scope ignored = request.openScope(); var scope = fanOut.open()) {
+            var first = scope.fork("first", () -> awaitSibling(bothStarted));
+            var second = scope.fork("second", () -> awaitSibling(bothStarted));
+            scope.join();
+
+            assertThat(first.get()).isEqualTo("PIX_TRANSFER_CREATE");
+            assertThat(second.get()).isEqualTo("PIX_TRANSFER_CREATE");
+        } finally {
+            request.stop();
+        }
+
+        assertThat(started).filteredOn(context -> "pix.lookup".equals(context.getName()))
+            .hasSize(2)
+            .allSatisfy(context -> assertThat(context.getParentObservation()).isSameAs(request));
+    }
+
+    @Test
+    @DisplayName("Should cancel running siblings and rethrow the first failure")
+    void shouldCancelSiblingsOnFirstFailure() throws InterruptedException {
+        var fanOut = new LookupFanOut(new SimpleAsyncTaskExecutor(), registry);
+        var interrupted = new CountDownLatch(1);
+
+        try (var scope = fanOut.open()) {
+            scope.fork("slow", () -> {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                    return "never";
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new IllegalStateException(e);
+                }
+            });
+            scope.fork("failing", () -> {
+                throw new IllegalArgumentException("lookup failed");
+            });
+
+            assertThatThrownBy(scope::join)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("lookup failed");
+        }
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should run sequential subtasks lazily on the caller's thread")
+    void shouldRunSequentialSubtasksLazily() {
+        var fanOut = LookupFanOut.sequential(registry);
+        Thread caller = Thread.currentThread();
+
+        try (var scope = fanOut.open()) {
+            var first = scope.fork("first", Thread::currentThread);
+            var never = scope.fork("never", () -> {
+                throw new AssertionError("must not run");
+            });
+            scope.join();
+
+            assertThat(first.get()).isSameAs(caller);
+            assertThat(never).isNotNull();
+        }
+        assertThat(started).hasSize(1);
+    }
+
+    private static String awaitSibling(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        try {
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new AssertionError("Subtasks did not run concurrently");
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return MDC.get("operation");
+    }
+}
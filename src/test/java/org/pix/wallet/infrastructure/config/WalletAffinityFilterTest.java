@@ -0,0 +1,182 @@
+package org.pix.wallet.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.infrastructure.cluster.InstanceMembership;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two instances on localhost: this filter's instance ("local") and a stub owner.
+ */
+@DisplayName("WalletAffinityFilter Unit Tests")
+class WalletAffinityFilterTest {
+
+    private HttpServer owner;
+    private String ownerUrl;
+    private final AtomicReference<String> ownerReceived = new AtomicReference<>();
+    private InstanceMembership membership;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        owner = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        owner.createContext("/", exchange -> {
+            ownerReceived.set(exchange.getRequestMethod() + " " + exchange.getRequestURI() + " "
+                + new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)
+                + " forwardedBy=" + exchange.getRequestHeaders().getFirst(WalletAffinityFilter.FORWARDED_HEADER));
+            byte[] body = "{\"from\":\"owner\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(201, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        owner.start();
+        ownerUrl = "http://localhost:" + owner.getAddress().getPort();
+
+        JdbcTemplate jdbc = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:affinity-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbc.execute("""
+            CREATE TABLE app_instance (
+              instance_id VARCHAR(64) PRIMARY KEY,
+              base_url VARCHAR(255) NOT NULL,
+              heartbeat_at TIMESTAMP WITH TIME ZONE NOT NULL)
+            """);
+        registry = new SimpleMeterRegistry();
+        MetricsService metrics = new MetricsService(registry);
+        new InstanceMembership(jdbc, "remote", ownerUrl, Duration.ofSeconds(5), 64, metrics, Clock.systemUTC()).heartbeat();
+        membership = new InstanceMembership(jdbc, "local", "http://localhost:1", Duration.ofSeconds(5), 64,
+            metrics, Clock.systemUTC());
+        membership.heartbeat();
+    }
+
+    @AfterEach
+    void tearDown() {
+        owner.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should forward a request for a wallet owned by another instance")
+    void shouldForwardToOwner() throws Exception {
+        UUID wallet = walletOwnedBy(false);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/wallets/" + wallet + "/deposit");
+        request.setContent("{\"amount\":\"10.00\"}".getBytes(StandardCharsets.UTF_8));
+        request.addHeader("Idempotency-Key", "k-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Boolean> chained = new AtomicReference<>(false);
+
+        filter(WalletAffinityFilter.Mode.FORWARD).doFilter(request, response, (req, res) -> chained.set(true));
+
+        assertThat(chained.get()).isFalse();
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"from\":\"owner\"}");
+        assertThat(response.getHeader(WalletAffinityFilter.OWNER_HEADER)).isEqualTo(ownerUrl);
+        assertThat(ownerReceived.get())
+            .isEqualTo("POST /wallets/" + wallet + "/deposit {\"amount\":\"10.00\"} forwardedBy=local");
+    }
+
+    @Test
+    @DisplayName("Should route transfer creation by the source wallet in the body")
+    void shouldRouteTransferByBody() throws Exception {
+        UUID wallet = walletOwnedBy(false);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/pix/transfers");
+        request.setContent(("{\"fromWalletId\":\"" + wallet + "\",\"toPixKey\":\"k\",\"amount\":\"1.00\"}")
+            .getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(WalletAffinityFilter.Mode.FORWARD).doFilter(request, response, (req, res) -> {});
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(ownerReceived.get()).contains("/pix/transfers").contains(wallet.toString());
+    }
+
+    @Test
+    @DisplayName("Should serve owned wallets locally, with the body still readable")
+    void shouldServeOwnedWalletLocally() throws Exception {
+        UUID wallet = walletOwnedBy(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/pix/transfers");
+        request.setContent(("{\"fromWalletId\":\"" + wallet + "\"}").getBytes(StandardCharsets.UTF_8));
+        AtomicReference<String> seenBody = new AtomicReference<>();
+
+        filter(WalletAffinityFilter.Mode.FORWARD).doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> seenBody.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)));
+
+        assertThat(seenBody.get()).contains(wallet.toString());
+        assertThat(ownerReceived.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should answer locally with an owner hint in HINT mode")
+    void shouldHintOwner() throws Exception {
+        UUID wallet = walletOwnedBy(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Boolean> chained = new AtomicReference<>(false);
+
+        filter(WalletAffinityFilter.Mode.HINT).doFilter(
+            new MockHttpServletRequest("GET", "/wallets/" + wallet + "/balance"), response, (req, res) -> chained.set(true));
+
+        assertThat(chained.get()).isTrue();
+        assertThat(response.getHeader(WalletAffinityFilter.OWNER_HEADER)).isEqualTo(ownerUrl);
+        assertThat(ownerReceived.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should never forward an already forwarded request")
+    void shouldNotForwardTwice() throws Exception {
+        UUID wallet = walletOwnedBy(false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/wallets/" + wallet + "/balance");
+        request.addHeader(WalletAffinityFilter.FORWARDED_HEADER, "other");
+        AtomicReference<Boolean> chained = new AtomicReference<>(false);
+
+        filter(WalletAffinityFilter.Mode.FORWARD).doFilter(request, new MockHttpServletResponse(), (req, res) -> chained.set(true));
+
+        assertThat(chained.get()).isTrue();
+        assertThat(ownerReceived.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should serve locally when the owner is unreachable")
+    void shouldFallBackWhenOwnerDown() throws Exception {
+        UUID wallet = walletOwnedBy(false);
+        owner.stop(0);
+        AtomicReference<Boolean> chained = new AtomicReference<>(false);
+
+        filter(WalletAffinityFilter.Mode.FORWARD).doFilter(
+            new MockHttpServletRequest("GET", "/wallets/" + wallet + "/balance"), new MockHttpServletResponse(),
+            (req, res) -> chained.set(true));
+
+        assertThat(chained.get()).isTrue();
+        assertThat(registry.get("pix.affinity.requests").tag("outcome", "forward_failed").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    private WalletAffinityFilter filter(WalletAffinityFilter.Mode mode) {
+        return new WalletAffinityFilter(membership, new MetricsService(registry), new ObjectMapper(), mode,
+            Duration.ofSeconds(1));
+    }
+
+    private UUID walletOwnedBy(boolean local) {
+        return Stream.generate(UUID::randomUUID)
+            .filter(w -> membership.isOwner(w) == local)
+            .findFirst()
+            .orElseThrow();
+    }
+}
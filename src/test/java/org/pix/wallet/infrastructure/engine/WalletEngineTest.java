@@ -0,0 +1,268 @@
+package org.pix.wallet.infrastructure.engine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.application.port.out.WalletEnginePort.Command;
+import org.pix.wallet.application.port.out.WalletEnginePort.Outcome;
+import org.pix.wallet.application.port.out.WalletEnginePort.Projection;
+import org.pix.wallet.application.port.out.WalletEnginePort.Result;
+import org.pix.wallet.application.port.out.WalletEnginePort.Type;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("WalletEngine Unit Tests")
+class WalletEngineTest {
+
+    @TempDir
+    Path directory;
+
+    private final LedgerEntryRepositoryPort ledger = mock(LedgerEntryRepositoryPort.class);
+    private final List<Command> projected = new CopyOnWriteArrayList<>();
+    private final AtomicReference<BigDecimal> databaseBalance = new AtomicReference<>(new BigDecimal("100.00"));
+    private final Projection toDatabase = command -> {
+        BigDecimal amount = command.type() == Type.DEPOSIT ? command.amount() : command.amount().negate();
+        databaseBalance.accumulateAndGet(amount, BigDecimal::add);
+        projected.add(command);
+    };
+    private Projection projection = toDatabase;
+    private UUID walletId;
+    private WalletEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        walletId = UUID.randomUUID();
+        when(ledger.getAvailableBalance(walletId.toString())).thenAnswer(inv -> Optional.of(databaseBalance.get()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null && engine.isRunning()) {
+            engine.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply deposits and withdrawals against the balance loaded once from the database")
+    void shouldApplyCommandsInMemory() {
+        engine = start(100_000);
+
+        assertThat(submit(Command.deposit(walletId, new BigDecimal("50.00"), "d1")).availableBalance())
+            .isEqualByComparingTo("150.00");
+        Outcome withdrawal = submit(Command.withdraw(walletId, new BigDecimal("30.00"), "w1"));
+
+        assertThat(withdrawal.result()).isEqualTo(Result.APPLIED);
+        assertThat(withdrawal.availableBalance()).isEqualByComparingTo("120.00");
+        verify(ledger, times(1)).getAvailableBalance(walletId.toString());
+    }
+
+    @Test
+    @DisplayName("Should reject debits above the available balance and report duplicates")
+    void shouldRejectInsufficientFundsAndDuplicates() {
+        engine = start(100_000);
+        UUID destination = UUID.randomUUID();
+
+        Outcome transfer = submit(Command.transfer(walletId, destination, new BigDecimal("80.00"), "t1", "E1"));
+        Outcome duplicate = submit(Command.transfer(walletId, destination, new BigDecimal("80.00"), "t1", "E2"));
+        awaitProjected(1);
+        Outcome overdraft = submit(Command.withdraw(walletId, new BigDecimal("20.01"), "w1"));
+
+        assertThat(transfer.result()).isEqualTo(Result.APPLIED);
+        assertThat(duplicate.result()).isEqualTo(Result.DUPLICATE);
+        assertThat(duplicate.endToEndId()).isEqualTo("E1");
+        assertThat(overdraft.result()).isEqualTo(Result.INSUFFICIENT_FUNDS);
+        assertThat(overdraft.availableBalance()).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    @DisplayName("Should reload the balance once its events are projected and a debit would fail")
+    void shouldReloadBalanceAfterExternalCredit() {
+        engine = start(100_000);
+        submit(Command.withdraw(walletId, new BigDecimal("100.00"), "w1"));
+        awaitProjected(1);
+
+        // A webhook credited the wallet outside the engine
+        databaseBalance.accumulateAndGet(new BigDecimal("40.00"), BigDecimal::add);
+        Outcome withdrawal = submit(Command.withdraw(walletId, new BigDecimal("25.00"), "w2"));
+
+        assertThat(withdrawal.result()).isEqualTo(Result.APPLIED);
+        assertThat(withdrawal.availableBalance()).isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    @DisplayName("Should project accepted commands to the database in journal order")
+    void shouldProjectInOrder() {
+        engine = start(100_000);
+
+        submit(Command.deposit(walletId, BigDecimal.ONE, "k1"));
+        submit(Command.withdraw(walletId, BigDecimal.ONE, "k2"));
+        submit(Command.withdraw(walletId, new BigDecimal("1000.00"), "k3"));
+        awaitProjected(2);
+
+        assertThat(projected).extracting(Command::idempotencyKey).containsExactly("k1", "k2");
+        assertThat(engine.projectionLag()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should restore balances and idempotency keys from the journal after a restart")
+    void shouldRecoverFromJournal() {
+        engine = start(100_000);
+        submit(Command.deposit(walletId, new BigDecimal("10.00"), "d1"));
+        submit(Command.withdraw(walletId, new BigDecimal("5.00"), "w1"));
+        engine.stop();
+
+        engine = start(100_000);
+        Outcome duplicate = submit(Command.withdraw(walletId, new BigDecimal("5.00"), "w1"));
+        Outcome next = submit(Command.withdraw(walletId, new BigDecimal("105.00"), "w2"));
+
+        assertThat(duplicate.result()).isEqualTo(Result.DUPLICATE);
+        assertThat(next.result()).isEqualTo(Result.APPLIED);
+        assertThat(next.availableBalance()).isEqualByComparingTo("0.00");
+        verify(ledger, times(1)).getAvailableBalance(walletId.toString());
+    }
+
+    @Test
+    @DisplayName("Should restart from a snapshot and drop journal segments it covers")
+    void shouldRecoverFromSnapshot() throws IOException {
+        engine = start(3);
+        for (int i = 0; i < 7; i++) {
+            submit(Command.deposit(walletId, BigDecimal.ONE, "d" + i));
+        }
+        awaitProjected(7);
+        engine.stop();
+        assertThat(Files.exists(shardDir().resolve("snapshot.bin"))).isTrue();
+        assertThat(journalSegments()).hasSize(1);
+
+        engine = start(3);
+        Outcome outcome = submit(Command.withdraw(walletId, new BigDecimal("107.00"), "w1"));
+
+        assertThat(outcome.result()).isEqualTo(Result.APPLIED);
+        verify(ledger, times(1)).getAvailableBalance(walletId.toString());
+    }
+
+    @Test
+    @DisplayName("Should truncate a torn journal tail and keep every complete entry")
+    void shouldTruncateTornTail() throws IOException {
+        engine = start(100_000);
+        submit(Command.deposit(walletId, new BigDecimal("10.00"), "d1"));
+        awaitProjected(1);
+        engine.stop();
+        List<Path> segments = journalSegments();
+        Path segment = segments.get(segments.size() - 1);
+        long intact = Files.size(segment);
+        Files.write(segment, new byte[] {0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        engine = start(100_000);
+        assertThat(Files.size(segment)).isEqualTo(intact);
+        Outcome outcome = submit(Command.withdraw(walletId, new BigDecimal("110.00"), "w1"));
+
+        assertThat(outcome.result()).isEqualTo(Result.APPLIED);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed projection and re-project unprojected entries after a restart")
+    void shouldRetryAndReproject() {
+        AtomicInteger failures = new AtomicInteger();
+        projection = command -> {
+            if (failures.getAndIncrement() < 2) {
+                throw new IllegalStateException("database unavailable");
+            }
+            toDatabase.project(command);
+        };
+        engine = start(100_000);
+        submit(Command.deposit(walletId, BigDecimal.ONE, "d1"));
+        awaitProjected(1);
+
+        assertThat(failures.get()).isEqualTo(3);
+
+        // Accepted but never projected: the projection is stuck until the restart
+        projection = command -> {
+            throw new IllegalStateException("database unavailable");
+        };
+        engine.stop();
+        engine = start(100_000);
+        submit(Command.deposit(walletId, BigDecimal.ONE, "d2"));
+        engine.stop();
+        projection = toDatabase;
+        projected.clear();
+
+        engine = start(100_000);
+        awaitProjected(1);
+
+        assertThat(projected).extracting(Command::idempotencyKey).containsExactly("d2");
+    }
+
+    @Test
+    @DisplayName("Should keep balances of many wallets apart across map growth")
+    void shouldGrowBalanceMap() {
+        WalletBalanceMap map = new WalletBalanceMap(4);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            map.put(id, i, i);
+        }
+
+        assertThat(map.size()).isEqualTo(1000);
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(map.cents(ids.get(i))).isEqualTo(i);
+        }
+        assertThat(map.cents(UUID.randomUUID())).isEqualTo(WalletBalanceMap.MISSING);
+    }
+
+    private WalletEngine start(long snapshotEvery) {
+        WalletEngine started = new WalletEngine(directory, 1,
+            new WalletEngine.Settings(64, 16, snapshotEvery, Duration.ofMinutes(1), Duration.ofSeconds(1)),
+            Duration.ofSeconds(1), ledger, command -> projection.project(command),
+            new MetricsService(new SimpleMeterRegistry()), Clock.systemUTC());
+        started.start();
+        return started;
+    }
+
+    private Outcome submit(Command command) {
+        CompletableFuture<Outcome> outcome = engine.submit(command);
+        return outcome.orTimeout(5, TimeUnit.SECONDS).join();
+    }
+
+    private void awaitProjected(int count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (projected.size() < count || engine.projectionLag() > 0) {
+            assertThat(System.nanoTime()).as("projection did not catch up").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private Path shardDir() {
+        return directory.resolve("shard-0");
+    }
+
+    private List<Path> journalSegments() throws IOException {
+        try (Stream<Path> files = Files.list(shardDir())) {
+            return files.filter(p -> p.getFileName().toString().startsWith("journal-")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.pix.wallet.infrastructure.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.application.port.out.EventPublisherPort;
+import org.pix.wallet.application.port.out.EventPublisherPort.EventMessage;
+import org.pix.wallet.application.port.out.OutboxRepositoryPort;
+import org.pix.wallet.infrastructure.messaging.OutboxRelay.CleanupMode;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.sharding.SingleShardRouter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OutboxRelay Unit Tests")
+class OutboxRelayTest {
+
+    private OutboxRepositoryPort outboxRepositoryPort;
+    private InMemoryEventPublisher publisher;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry registry;
+    private MetricsService metricsService;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepositoryPort = mock(OutboxRepositoryPort.class);
+        publisher = new InMemoryEventPublisher();
+        transactionManager = mock(PlatformTransactionManager.class);
+        registry = new SimpleMeterRegistry();
+        metricsService = new MetricsService(registry);
+    }
+
+    private OutboxRelay relay(int batchSize, CleanupMode cleanupMode) {
+        return relay(publisher, batchSize, cleanupMode);
+    }
+
+    private OutboxRelay relay(EventPublisherPort eventPublisher, int batchSize, CleanupMode cleanupMode) {
+        return new OutboxRelay(outboxRepositoryPort, eventPublisher, new TransactionTemplate(transactionManager),
+            metricsService, new SingleShardRouter(), batchSize, 5, cleanupMode);
+    }
+
+    private static List<EventMessage> events(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+            .mapToObj(i -> new EventMessage(i, "TRANSFER", "E" + i, "TRANSFER_CREATED", "{}", Instant.now().minusMillis(50)))
+            .toList();
+    }
+
+    @Test
+    @DisplayName("Should publish a batch and delete it in bulk")
+    void shouldPublishAndDeleteBatch() {
+        when(outboxRepositoryPort.lockNextBatch(10)).thenReturn(events(1, 3));
+
+        int relayed = relay(10, CleanupMode.DELETE).relayBatch();
+
+        assertThat(relayed).isEqualTo(3);
+        assertThat(publisher.published()).extracting(EventMessage::sequence).containsExactly(1L, 2L, 3L);
+        verify(outboxRepositoryPort).delete(List.of(1L, 2L, 3L));
+        verify(outboxRepositoryPort, never()).markPublished(any(), any());
+        verify(transactionManager).commit(any());
+
+        assertThat(registry.find("pix.outbox.events.published").counter().count()).isEqualTo(3.0);
+        assertThat(registry.find("pix.outbox.batch.size").summary().count()).isEqualTo(1);
+        assertThat(registry.find("pix.outbox.publish.lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should mark rows as published when cleanup mode is MARK")
+    void shouldMarkPublished() {
+        when(outboxRepositoryPort.lockNextBatch(10)).thenReturn(events(7, 8));
+
+        relay(10, CleanupMode.MARK).relayBatch();
+
+        verify(outboxRepositoryPort).markPublished(eq(List.of(7L, 8L)), any(Instant.class));
+        verify(outboxRepositoryPort, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when the outbox is empty")
+    void shouldSkipEmptyOutbox() {
+        when(outboxRepositoryPort.lockNextBatch(anyInt())).thenReturn(List.of());
+
+        relay(10, CleanupMode.DELETE).poll();
+
+        assertThat(publisher.published()).isEmpty();
+        verify(outboxRepositoryPort, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should keep draining while batches are full")
+    void shouldDrainFullBatches() {
+        when(outboxRepositoryPort.lockNextBatch(2))
+            .thenReturn(events(1, 2))
+            .thenReturn(events(3, 4))
+            .thenReturn(events(5, 5));
+
+        relay(2, CleanupMode.DELETE).poll();
+
+        assertThat(publisher.published()).hasSize(5);
+        verify(outboxRepositoryPort, times(3)).lockNextBatch(2);
+    }
+
+    @Test
+    @DisplayName("Should roll back and keep rows when publishing fails")
+    void shouldRollbackOnPublishFailure() {
+        EventPublisherPort failing = mock(EventPublisherPort.class);
+        doThrow(new IllegalStateException("broker down")).when(failing).publish(any());
+        when(outboxRepositoryPort.lockNextBatch(10)).thenReturn(events(1, 2));
+
+        relay(failing, 10, CleanupMode.DELETE).poll();
+
+        verify(outboxRepositoryPort, never()).delete(any());
+        verify(transactionManager).rollback(any());
+        assertThat(registry.find("pix.outbox.publish.failures").counter().count()).isEqualTo(1.0);
+    }
+}
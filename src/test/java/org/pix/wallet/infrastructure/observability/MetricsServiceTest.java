@@ -461,4 +461,139 @@ class MetricsServiceTest {
         assertThat(timer.count()).isEqualTo(1);
         assertThat(timer.totalTime(java.util.concurrent.TimeUnit.MILLISECONDS)).isGreaterThan(0);
     }
+
+    @Test
+    @DisplayName("Should record outbox appended events by type")
+    void shouldRecordOutboxEventAppended() {
+        // When
+        metricsService.recordOutboxEventAppended("TRANSFER_CREATED");
+        metricsService.recordOutboxEventAppended("TRANSFER_CREATED");
+
+        // Then
+        Counter counter = meterRegistry.find("pix.outbox.events.appended")
+                .tag("eventType", "TRANSFER_CREATED")
+                .counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should record connection limiter wait and rejections")
+    void shouldRecordConnectionLimiterMetrics() {
+        // When
+        metricsService.recordConnectionLimiterWait(Duration.ofMillis(15));
+        metricsService.recordConnectionLimiterRejected();
+
+        // Then
+        Timer timer = meterRegistry.find("pix.datasource.limiter.wait").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+
+        Counter counter = meterRegistry.find("pix.datasource.limiter.rejected").counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should record ledger group commit batch size and queue latency")
+    void shouldRecordLedgerGroupCommit() {
+        // When
+        metricsService.recordLedgerGroupCommit(12);
+        metricsService.recordLedgerGroupCommitLatency(Duration.ofMillis(3));
+
+        // Then
+        var summary = meterRegistry.find("pix.ledger.group_commit.batch.size").summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.totalAmount()).isEqualTo(12.0);
+
+        Timer timer = meterRegistry.find("pix.ledger.group_commit.queue.latency").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should record cross-shard credits deferred and applied")
+    void shouldRecordCrossShardCredits() {
+        // When
+        metricsService.recordCrossShardCreditDeferred();
+        metricsService.recordCrossShardCreditApplied(Duration.ofMillis(250));
+
+        // Then
+        Counter counter = meterRegistry.find("pix.sharding.cross_shard_credit.deferred").counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isEqualTo(1.0);
+
+        Timer timer = meterRegistry.find("pix.sharding.cross_shard_credit.lag").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should record wallet affinity routing outcomes")
+    void shouldRecordAffinityRequests() {
+        // When
+        metricsService.recordAffinityRequest("forwarded");
+        metricsService.recordAffinityRequest("forwarded");
+        metricsService.registerAffinityMembers(() -> 3);
+
+        // Then
+        Counter counter = meterRegistry.find("pix.affinity.requests").tag("outcome", "forwarded").counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isEqualTo(2.0);
+
+        assertThat(meterRegistry.find("pix.affinity.members").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should record read-model projection progress")
+    void shouldRecordReadModelProjection() {
+        // When
+        metricsService.recordReadModelProjected(25, Duration.ofMillis(40));
+        metricsService.recordReadModelGapSkipped();
+
+        // Then
+        Counter projected = meterRegistry.find("pix.read_model.events.projected").counter();
+        assertThat(projected).isNotNull();
+        assertThat(projected.count()).isEqualTo(25.0);
+
+        Timer lag = meterRegistry.find("pix.read_model.projection.lag").timer();
+        assertThat(lag).isNotNull();
+        assertThat(lag.count()).isEqualTo(1);
+
+        assertThat(meterRegistry.find("pix.read_model.gaps.skipped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRecordBalanceRebuildProgress() {
+        // When
+        metricsService.registerBalanceRebuildProgress(() -> 0.5, () -> 12);
+        metricsService.recordBalanceRebuildEntries(300);
+        metricsService.recordBalanceRebuildMismatches("missing", 2);
+
+        // Then
+        assertThat(meterRegistry.find("pix.read_model.balance_rebuild.progress").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.find("pix.read_model.balance_rebuild.eta").gauge().value()).isEqualTo(12.0);
+        assertThat(meterRegistry.find("pix.read_model.balance_rebuild.entries").counter().count()).isEqualTo(300.0);
+
+        Counter missing = meterRegistry.find("pix.read_model.balance_rebuild.differences")
+                .tag("kind", "missing")
+                .counter();
+        assertThat(missing).isNotNull();
+        assertThat(missing.count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should record single-call transfer creation outcomes")
+    void shouldRecordTransferSingleCall() {
+        // When
+        metricsService.recordTransferSingleCall("CREATED");
+        metricsService.recordTransferSingleCall("CREATED");
+        metricsService.recordTransferSingleCall("NOT_APPLICABLE");
+
+        // Then
+        assertThat(meterRegistry.find("pix.transfer.single_call").tag("outcome", "CREATED").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.find("pix.transfer.single_call").tag("outcome", "NOT_APPLICABLE").counter().count())
+                .isEqualTo(1.0);
+    }
 }
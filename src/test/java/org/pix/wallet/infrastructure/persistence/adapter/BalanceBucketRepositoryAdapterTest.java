@@ -0,0 +1,114 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.domain.exception.InsufficientFundsException;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.entity.WalletEntity;
+import org.pix.wallet.infrastructure.persistence.repository.LedgerEntryJpaRepository;
+import org.pix.wallet.infrastructure.persistence.repository.WalletBalanceBucketJpaRepository;
+import org.pix.wallet.infrastructure.persistence.repository.WalletJpaRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BalanceBucketRepositoryAdapter Unit Tests")
+class BalanceBucketRepositoryAdapterTest {
+
+    private WalletBalanceBucketJpaRepository bucketRepo;
+    private WalletJpaRepository walletRepo;
+    private LedgerEntryJpaRepository ledgerRepo;
+    private SimpleMeterRegistry registry;
+    private BalanceBucketRepositoryAdapter adapter;
+
+    private UUID walletId;
+    private WalletEntity wallet;
+
+    @BeforeEach
+    void setUp() {
+        bucketRepo = mock(WalletBalanceBucketJpaRepository.class);
+        walletRepo = mock(WalletJpaRepository.class);
+        ledgerRepo = mock(LedgerEntryJpaRepository.class);
+        registry = new SimpleMeterRegistry();
+        adapter = new BalanceBucketRepositoryAdapter(bucketRepo, walletRepo, ledgerRepo, new MetricsService(registry));
+
+        walletId = UUID.randomUUID();
+        wallet = WalletEntity.builder().id(walletId).balanceBuckets(4).build();
+    }
+
+    @Test
+    @DisplayName("Should seed buckets evenly from the ledger available balance")
+    void shouldSeedBucketsFromLedger() {
+        when(walletRepo.lockById(walletId)).thenReturn(Optional.of(wallet));
+        when(ledgerRepo.findAvailableBalance(walletId)).thenReturn(Optional.of(new BigDecimal("100.03")));
+
+        adapter.configure(walletId, 4);
+
+        verify(bucketRepo).deleteAllForWallet(walletId);
+        verify(bucketRepo).insert(walletId, 0, new BigDecimal("25.03"));
+        verify(bucketRepo).insert(walletId, 1, new BigDecimal("25.00"));
+        verify(bucketRepo).insert(walletId, 3, new BigDecimal("25.00"));
+        assertThat(wallet.getBalanceBuckets()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should remove buckets when sharding is turned off")
+    void shouldDisableSharding() {
+        when(walletRepo.lockById(walletId)).thenReturn(Optional.of(wallet));
+
+        adapter.configure(walletId, 1);
+
+        verify(bucketRepo).deleteAllForWallet(walletId);
+        verify(bucketRepo, never()).insert(any(), anyInt(), any());
+        assertThat(wallet.getBalanceBuckets()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should debit a single covering bucket without the aggregate lock")
+    void shouldDebitSingleBucket() {
+        when(bucketRepo.lockBucketCovering(walletId, BigDecimal.TEN)).thenReturn(List.of((short) 2));
+
+        adapter.debit(wallet, BigDecimal.TEN);
+
+        verify(bucketRepo).debit(walletId, 2, BigDecimal.TEN);
+        verify(bucketRepo, never()).lockAll(any());
+    }
+
+    @Test
+    @DisplayName("Should drain several buckets under the aggregate lock when none covers the amount")
+    void shouldFallBackToAggregateLock() {
+        when(bucketRepo.lockBucketCovering(walletId, new BigDecimal("50"))).thenReturn(List.of());
+        when(bucketRepo.lockAll(walletId)).thenReturn(List.of(
+            new Object[] {(short) 0, new BigDecimal("30")},
+            new Object[] {(short) 1, BigDecimal.ZERO},
+            new Object[] {(short) 2, new BigDecimal("30")}));
+
+        adapter.debit(wallet, new BigDecimal("50"));
+
+        verify(bucketRepo).debit(walletId, 0, new BigDecimal("30"));
+        verify(bucketRepo).debit(walletId, 2, new BigDecimal("20"));
+        verify(bucketRepo, never()).debit(eq(walletId), eq(1), any());
+        assertThat(registry.find("pix.wallet.buckets.debit.fallback").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject the debit when all buckets together are insufficient")
+    void shouldRejectWhenBucketsInsufficient() {
+        when(bucketRepo.lockBucketCovering(walletId, new BigDecimal("50"))).thenReturn(List.of());
+        when(bucketRepo.lockAll(walletId)).thenReturn(List.<Object[]>of(new Object[] {(short) 0, new BigDecimal("49.99")}));
+
+        assertThatThrownBy(() -> adapter.debit(wallet, new BigDecimal("50")))
+            .isInstanceOf(InsufficientFundsException.class);
+        verify(bucketRepo, never()).debit(any(), anyInt(), any());
+    }
+}
@@ -0,0 +1,132 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.application.port.out.PixKeyRepositoryPort;
+import org.pix.wallet.domain.model.PixKey;
+import org.pix.wallet.domain.model.enums.PixKeyStatus;
+import org.pix.wallet.domain.model.enums.PixKeyType;
+import org.pix.wallet.infrastructure.cache.CacheInvalidationBus;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachingPixKeyRepositoryAdapter Unit Tests")
+class CachingPixKeyRepositoryAdapterTest {
+
+    private PixKeyRepositoryPort delegate;
+    private SimpleMeterRegistry registry;
+    private PixKey key;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PixKeyRepositoryPort.class);
+        registry = new SimpleMeterRegistry();
+        key = new PixKey(UUID.randomUUID(), UUID.randomUUID(), PixKeyType.EMAIL, "alice@example.com",
+            PixKeyStatus.ACTIVE, OffsetDateTime.now());
+        when(delegate.findByValueAndActive(key.value())).thenReturn(Optional.of(key));
+        when(delegate.findByValueAndActive("unknown@example.com")).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("Should resolve a key from the database once and serve copies afterwards")
+    void shouldCacheActiveKeys() {
+        CachingPixKeyRepositoryAdapter cache = cache(Duration.ofSeconds(5), 0);
+
+        PixKey first = cache.findByValueAndActive(key.value()).orElseThrow();
+        first.deactivate();
+        PixKey second = cache.findByValueAndActive(key.value()).orElseThrow();
+
+        assertThat(second.walletId()).isEqualTo(key.walletId());
+        assertThat(second.status()).isEqualTo(PixKeyStatus.ACTIVE);
+        verify(delegate, times(1)).findByValueAndActive(key.value());
+        assertThat(registry.counter("pix.pixkey.cache.lookups", "result", "hit").count()).isEqualTo(1);
+        assertThat(registry.counter("pix.pixkey.cache.lookups", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should remember unknown keys only for the negative TTL")
+    void shouldExpireNegativeEntries() throws InterruptedException {
+        CachingPixKeyRepositoryAdapter cache = cache(Duration.ofMillis(50), 0);
+
+        assertThat(cache.findByValueAndActive("unknown@example.com")).isEmpty();
+        assertThat(cache.findByValueAndActive("unknown@example.com")).isEmpty();
+        verify(delegate, times(1)).findByValueAndActive("unknown@example.com");
+
+        Thread.sleep(100);
+        cache.findByValueAndActive("unknown@example.com");
+
+        verify(delegate, times(2)).findByValueAndActive("unknown@example.com");
+        assertThat(registry.counter("pix.pixkey.cache.lookups", "result", "negative_hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop a cached value when a key with that value is saved")
+    void shouldInvalidateOnSave() {
+        CachingPixKeyRepositoryAdapter cache = cache(Duration.ofSeconds(5), 0);
+        cache.findByValueAndActive(key.value());
+        cache.findByValueAndActive("unknown@example.com");
+
+        key.deactivate();
+        when(delegate.save(key)).thenReturn(key);
+        cache.save(key);
+        when(delegate.findByValueAndActive(key.value())).thenReturn(Optional.empty());
+        PixKey created = new PixKey(UUID.randomUUID(), UUID.randomUUID(), PixKeyType.EMAIL, "unknown@example.com",
+            PixKeyStatus.ACTIVE, OffsetDateTime.now());
+        when(delegate.save(created)).thenReturn(created);
+        cache.save(created);
+        when(delegate.findByValueAndActive(created.value())).thenReturn(Optional.of(created));
+
+        assertThat(cache.findByValueAndActive(key.value())).isEmpty();
+        assertThat(cache.findByValueAndActive(created.value())).map(PixKey::id).contains(created.id());
+    }
+
+    @Test
+    @DisplayName("Should preload the most used keys when warm-up is enabled")
+    void shouldWarmUp() {
+        when(delegate.findMostUsedActive(10)).thenReturn(List.of(key));
+        CachingPixKeyRepositoryAdapter cache = cache(Duration.ofSeconds(5), 10);
+
+        cache.warmUp();
+        cache.findByValueAndActive(key.value());
+
+        verify(delegate, never()).findByValueAndActive(key.value());
+    }
+
+    @Test
+    @DisplayName("Should keep the negative entries within their own bound")
+    void shouldBoundNegativeEntries() {
+        when(delegate.findByValueAndActive(anyString())).thenReturn(Optional.empty());
+        when(delegate.findByValueAndActive(key.value())).thenReturn(Optional.of(key));
+        CachingPixKeyRepositoryAdapter cache = cache(Duration.ofSeconds(5), 0);
+        cache.findByValueAndActive(key.value());
+
+        for (int i = 0; i < 100; i++) {
+            cache.findByValueAndActive("probe-" + i);
+        }
+
+        assertThat(registry.get("pix.pixkey.cache.size").tag("kind", "negative").gauge().value()).isLessThanOrEqualTo(20);
+        cache.findByValueAndActive(key.value());
+        verify(delegate, times(1)).findByValueAndActive(key.value());
+    }
+
+    private CachingPixKeyRepositoryAdapter cache(Duration negativeTtl, int warmUpSize) {
+        return new CachingPixKeyRepositoryAdapter(delegate, new MetricsService(registry), noBus(), 100, Duration.ofMinutes(5),
+            20, negativeTtl, warmUpSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<CacheInvalidationBus> noBus() {
+        return mock(ObjectProvider.class);
+    }
+}
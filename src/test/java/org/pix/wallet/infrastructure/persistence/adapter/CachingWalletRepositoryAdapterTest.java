@@ -0,0 +1,110 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.application.port.out.WalletRepositoryPort;
+import org.pix.wallet.domain.model.Wallet;
+import org.pix.wallet.domain.model.enums.WalletStatus;
+import org.pix.wallet.infrastructure.cache.CacheInvalidationBus;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachingWalletRepositoryAdapter Unit Tests")
+class CachingWalletRepositoryAdapterTest {
+
+    private WalletRepositoryPort delegate;
+    private SimpleMeterRegistry registry;
+    private CachingWalletRepositoryAdapter adapter;
+    private UUID walletId;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(WalletRepositoryPort.class);
+        registry = new SimpleMeterRegistry();
+        adapter = new CachingWalletRepositoryAdapter(delegate, new MetricsService(registry), noBus(), 100, Duration.ofMinutes(1));
+        walletId = UUID.randomUUID();
+        when(delegate.findById(walletId)).thenReturn(Optional.of(wallet(WalletStatus.ACTIVE)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups within a request from the identity map")
+    void shouldReuseWalletWithinRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        Wallet first = adapter.findById(walletId).orElseThrow();
+        Wallet second = adapter.findById(walletId).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).findById(walletId);
+        assertThat(lookups("request_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve later requests from the near cache")
+    void shouldReuseWalletAcrossRequests() {
+        adapter.findById(walletId);
+        Wallet cached = adapter.findById(walletId).orElseThrow();
+
+        assertThat(cached.status()).isEqualTo(WalletStatus.ACTIVE);
+        verify(delegate, times(1)).findById(walletId);
+        assertThat(lookups("hit")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should see a status change saved through the port immediately")
+    void shouldInvalidateOnSave() {
+        adapter.findById(walletId);
+
+        Wallet blocked = wallet(WalletStatus.BLOCKED);
+        when(delegate.save(blocked)).thenReturn(blocked);
+        adapter.save(blocked);
+        when(delegate.findById(walletId)).thenReturn(Optional.of(blocked));
+
+        assertThat(adapter.findById(walletId)).map(Wallet::status).contains(WalletStatus.BLOCKED);
+    }
+
+    @Test
+    @DisplayName("Should not cache wallets that do not exist")
+    void shouldNotCacheMissingWallets() {
+        UUID missing = UUID.randomUUID();
+        when(delegate.findById(missing)).thenReturn(Optional.empty());
+
+        adapter.findById(missing);
+        adapter.findById(missing);
+
+        verify(delegate, times(2)).findById(missing);
+    }
+
+    private Wallet wallet(WalletStatus status) {
+        return Wallet.builder().id(walletId).status(status).createdAt(Instant.parse("2026-01-01T00:00:00Z")).build();
+    }
+
+    private double lookups(String result) {
+        return registry.counter("pix.wallet.cache.lookups", "result", result, "operation", "unknown").count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<CacheInvalidationBus> noBus() {
+        return mock(ObjectProvider.class);
+    }
+}
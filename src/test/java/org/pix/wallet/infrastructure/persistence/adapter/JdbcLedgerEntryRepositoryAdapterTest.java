@@ -0,0 +1,169 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.domain.exception.InsufficientFundsException;
+import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryCodec;
+import org.pix.wallet.infrastructure.persistence.entity.WalletEntity;
+import org.pix.wallet.infrastructure.persistence.sharding.SingleShardRouter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JdbcLedgerEntryRepositoryAdapter Tests")
+class JdbcLedgerEntryRepositoryAdapterTest {
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private JdbcTemplate jdbc;
+    private BalanceBucketRepositoryAdapter buckets;
+    private JdbcLedgerEntryRepositoryAdapter adapter;
+    private UUID walletId;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:jdbc-ledger-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("""
+            CREATE TABLE wallet (id UUID PRIMARY KEY, balance_buckets INT NOT NULL);
+            CREATE TABLE ledger_entry (
+              id UUID PRIMARY KEY, wallet_id UUID NOT NULL REFERENCES wallet (id),
+              amount_cents BIGINT NOT NULL, created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+              operation_code SMALLINT NOT NULL, idempotency_hash UUID, end_to_end_id UUID);
+            CREATE TABLE wallet_balance_bucket (wallet_id UUID NOT NULL, bucket INT NOT NULL, balance NUMERIC(17,2) NOT NULL);
+            """);
+        walletId = UUID.randomUUID();
+        jdbc.update("INSERT INTO wallet (id, balance_buckets) VALUES (?, 1)", walletId);
+
+        buckets = mock(BalanceBucketRepositoryAdapter.class);
+        adapter = new JdbcLedgerEntryRepositoryAdapter(JdbcClient.create(counting(dataSource)), buckets,
+            new SingleShardRouter());
+    }
+
+    @Test
+    @DisplayName("Should deposit and find the entry by idempotency key")
+    void shouldDepositAndFindByIdempotencyKey() {
+        adapter.deposit(walletId.toString(), new BigDecimal("10.00"), "idem-1");
+
+        assertThat(adapter.existsByIdempotencyKey("idem-1")).isTrue();
+        assertThat(adapter.existsByIdempotencyKey("other")).isFalse();
+        assertThat(jdbc.queryForObject("SELECT idempotency_hash FROM ledger_entry", UUID.class))
+            .isEqualTo(LedgerEntryCodec.idempotencyHash("idem-1"));
+    }
+
+    @Test
+    @DisplayName("Should keep reserved funds out of the available balance but not the real balance")
+    void shouldReserveAndUnreserve() {
+        adapter.deposit(walletId.toString(), new BigDecimal("500.00"), "d1");
+        adapter.reserve(walletId.toString(), new BigDecimal("100.00"), "E0123456789ABCDEF0123456789ABCDEF-reserve");
+
+        assertThat(adapter.getAvailableBalance(walletId.toString())).hasValueSatisfying(
+            b -> assertThat(b).isEqualByComparingTo("400.00"));
+        assertThat(adapter.getCurrentBalance(walletId.toString())).hasValueSatisfying(
+            b -> assertThat(b).isEqualByComparingTo("500.00"));
+        assertThat(jdbc.queryForObject("SELECT end_to_end_id FROM ledger_entry WHERE operation_code = 5", UUID.class))
+            .isNotNull();
+
+        adapter.unreserve(walletId.toString(), new BigDecimal("100.00"), "u1");
+        assertThat(adapter.getAvailableBalance(walletId.toString())).hasValueSatisfying(
+            b -> assertThat(b).isEqualByComparingTo("500.00"));
+    }
+
+    @Test
+    @DisplayName("Should reject a withdrawal above the available balance without writing")
+    void shouldRejectInsufficientFunds() {
+        adapter.deposit(walletId.toString(), new BigDecimal("99.99"), "d1");
+
+        assertThatThrownBy(() -> adapter.withdraw(walletId.toString(), new BigDecimal("100.00"), "w1"))
+            .isInstanceOf(InsufficientFundsException.class);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM ledger_entry", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should throw when the wallet does not exist")
+    void shouldThrowWhenWalletNotFound() {
+        String missing = UUID.randomUUID().toString();
+
+        assertThatThrownBy(() -> adapter.reserve(missing, BigDecimal.ONE, "r1"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Wallet not found");
+        assertThatThrownBy(() -> adapter.unreserve(missing, BigDecimal.ONE, "u1"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Wallet not found");
+        assertThat(adapter.getAvailableBalance(missing)).hasValue(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should compute the historical balance up to the given instant")
+    void shouldComputeHistoricalBalance() {
+        Instant before = Instant.now().minusSeconds(60);
+        adapter.deposit(walletId.toString(), new BigDecimal("10.00"), "d1");
+
+        assertThat(adapter.getBalanceAsOf(walletId.toString(), before)).hasValueSatisfying(
+            b -> assertThat(b).isEqualByComparingTo("0"));
+        assertThat(adapter.getBalanceAsOf(walletId.toString(), Instant.now().plusSeconds(1))).hasValueSatisfying(
+            b -> assertThat(b).isEqualByComparingTo("10.00"));
+    }
+
+    @Test
+    @DisplayName("Should delegate to the bucket adapter for bucket-sharded wallets")
+    void shouldUseBucketsForShardedWallets() {
+        jdbc.update("UPDATE wallet SET balance_buckets = 4 WHERE id = ?", walletId);
+
+        adapter.deposit(walletId.toString(), BigDecimal.TEN, "d1");
+        adapter.withdraw(walletId.toString(), BigDecimal.ONE, "w1");
+
+        verify(buckets).credit(eq(walletId), eq(4), eq(BigDecimal.TEN));
+        verify(buckets).debit(walletId, BigDecimal.ONE);
+        verify(buckets, never()).credit(any(WalletEntity.class), any());
+    }
+
+    @Test
+    @DisplayName("Should issue two statements per write and one per balance read")
+    void shouldIssueMinimalStatements() {
+        adapter.deposit(walletId.toString(), new BigDecimal("50.00"), "d1");
+        assertThat(statements.getAndSet(0)).isEqualTo(2);
+
+        adapter.withdraw(walletId.toString(), new BigDecimal("10.00"), "w1");
+        assertThat(statements.getAndSet(0)).isEqualTo(2);
+
+        adapter.reserve(walletId.toString(), new BigDecimal("10.00"), "r1");
+        assertThat(statements.getAndSet(0)).isEqualTo(2);
+
+        adapter.getAvailableBalance(walletId.toString());
+        assertThat(statements.getAndSet(0)).isEqualTo(1);
+    }
+
+    private DataSource counting(DataSource target) {
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {DataSource.class},
+            (proxy, method, args) -> {
+                Object result = method.invoke(target, args);
+                if (!method.getName().equals("getConnection")) {
+                    return result;
+                }
+                Connection connection = (Connection) result;
+                return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                    (p, m, a) -> {
+                        if (m.getName().startsWith("prepare") || m.getName().equals("createStatement")) {
+                            statements.incrementAndGet();
+                        }
+                        return m.invoke(connection, a);
+                    });
+            });
+    }
+}
@@ -0,0 +1,97 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.application.port.out.TransferRepositoryPort.TransferCommand;
+import org.pix.wallet.application.port.out.TransferRepositoryPort.TransferResult;
+import org.pix.wallet.domain.validator.TransferStatusTransitionValidator;
+import org.pix.wallet.infrastructure.persistence.sharding.SingleShardRouter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JdbcTransferRepositoryAdapter Tests")
+class JdbcTransferRepositoryAdapterTest {
+
+    private static final String E2E = "E0123456789ABCDEF0123456789ABCDEF";
+
+    private JdbcTemplate jdbc;
+    private JdbcTransferRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:jdbc-transfer-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("""
+            CREATE TABLE transfer (
+              id UUID PRIMARY KEY, amount_cents BIGINT NOT NULL,
+              initiated_at TIMESTAMP WITH TIME ZONE NOT NULL, updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+              end_to_end_id UUID NOT NULL UNIQUE, from_wallet_id UUID NOT NULL, to_wallet_id UUID NOT NULL,
+              version INT NOT NULL, status_code SMALLINT NOT NULL, currency VARCHAR(3) NOT NULL,
+              idempotency_key VARCHAR(64) NOT NULL UNIQUE);
+            """);
+        adapter = new JdbcTransferRepositoryAdapter(JdbcClient.create(dataSource),
+            new TransferStatusTransitionValidator(), new SingleShardRouter());
+    }
+
+    @Test
+    @DisplayName("Should save a transfer and find it by end-to-end id and idempotency key")
+    void shouldSaveAndFind() {
+        TransferResult saved = adapter.save(command());
+
+        assertThat(saved.version()).isZero();
+        assertThat(saved.status()).isEqualTo("PENDING");
+        TransferResult found = adapter.findByEndToEndId(E2E).orElseThrow();
+        assertThat(found.id()).isEqualTo(saved.id());
+        assertThat(found.endToEndId()).isEqualTo(E2E);
+        assertThat(found.amount()).isEqualByComparingTo("12.34");
+        assertThat(adapter.findByIdempotencyKey("idem-1")).map(TransferResult::id).hasValue(saved.id());
+        assertThat(adapter.existsByIdempotencyKey("other")).isFalse();
+        assertThat(adapter.findByEndToEndId("not-an-e2e")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should update the status and bump the version")
+    void shouldUpdateStatus() {
+        adapter.save(command());
+
+        adapter.updateStatus(E2E, "CONFIRMED", 0);
+
+        TransferResult found = adapter.findByEndToEndId(E2E).orElseThrow();
+        assertThat(found.status()).isEqualTo("CONFIRMED");
+        assertThat(found.version()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a stale version")
+    void shouldRejectStaleVersion() {
+        adapter.save(command());
+        adapter.updateStatus(E2E, "CONFIRMED", 0);
+
+        assertThatThrownBy(() -> adapter.updateStatus(E2E, "REJECTED", 0))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("version mismatch");
+    }
+
+    @Test
+    @DisplayName("Should throw when the transfer does not exist")
+    void shouldThrowWhenTransferNotFound() {
+        assertThatThrownBy(() -> adapter.updateStatus(E2E, "CONFIRMED", 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Transfer not found");
+    }
+
+    private TransferCommand command() {
+        return new TransferCommand(E2E, UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+            new BigDecimal("12.34"), "BRL", "PENDING", "idem-1");
+    }
+}
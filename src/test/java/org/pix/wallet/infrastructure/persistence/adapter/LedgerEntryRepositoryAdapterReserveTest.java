@@ -5,10 +5,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.pix.wallet.domain.exception.InsufficientFundsException;
 import org.pix.wallet.domain.model.enums.OperationType;
+import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryCodec;
 import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryEntity;
 import org.pix.wallet.infrastructure.persistence.entity.WalletEntity;
 import org.pix.wallet.infrastructure.persistence.repository.LedgerEntryJpaRepository;
 import org.pix.wallet.infrastructure.persistence.repository.WalletJpaRepository;
+import org.pix.wallet.infrastructure.persistence.sharding.SingleShardRouter;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -24,6 +26,7 @@ class LedgerEntryRepositoryAdapterReserveTest {
     private LedgerEntryRepositoryAdapter adapter;
     private LedgerEntryJpaRepository ledgerRepo;
     private WalletJpaRepository walletRepo;
+    private BalanceBucketRepositoryAdapter buckets;
 
     private UUID walletId;
     private WalletEntity walletEntity;
@@ -32,7 +35,8 @@ class LedgerEntryRepositoryAdapterReserveTest {
     void setUp() {
         ledgerRepo = mock(LedgerEntryJpaRepository.class);
         walletRepo = mock(WalletJpaRepository.class);
-        adapter = new LedgerEntryRepositoryAdapter(ledgerRepo, walletRepo);
+        buckets = mock(BalanceBucketRepositoryAdapter.class);
+        adapter = new LedgerEntryRepositoryAdapter(ledgerRepo, walletRepo, buckets, new SingleShardRouter());
 
         walletId = UUID.randomUUID();
         walletEntity = WalletEntity.builder()
@@ -60,8 +64,8 @@ class LedgerEntryRepositoryAdapterReserveTest {
         verify(ledgerRepo).findAvailableBalance(walletId);
         verify(ledgerRepo).save(argThat(entry -> 
             entry.getOperationType() == OperationType.RESERVED &&
-            entry.getAmount().compareTo(reserveAmount) == 0 &&
-            entry.getIdempotencyKey().equals(idempotencyKey)
+            entry.getAmountCents() == LedgerEntryCodec.cents(reserveAmount) &&
+            entry.getIdempotencyHash().equals(LedgerEntryCodec.idempotencyHash(idempotencyKey))
         ));
     }
 
@@ -118,8 +122,8 @@ class LedgerEntryRepositoryAdapterReserveTest {
         assertThat(result).isNotNull();
         verify(ledgerRepo).save(argThat(entry -> 
             entry.getOperationType() == OperationType.UNRESERVED &&
-            entry.getAmount().compareTo(unreserveAmount) == 0 &&
-            entry.getIdempotencyKey().equals(idempotencyKey)
+            entry.getAmountCents() == LedgerEntryCodec.cents(unreserveAmount) &&
+            entry.getIdempotencyHash().equals(LedgerEntryCodec.idempotencyHash(idempotencyKey))
         ));
     }
 
@@ -207,4 +211,39 @@ class LedgerEntryRepositoryAdapterReserveTest {
 
         verify(ledgerRepo, never()).save(any());
     }
+
+    @Test
+    @DisplayName("Should debit balance buckets instead of summing the ledger for sharded wallets")
+    void shouldReserveFromBucketsWhenSharded() {
+        // Given
+        walletEntity.setBalanceBuckets(8);
+        when(walletRepo.findById(walletId)).thenReturn(Optional.of(walletEntity));
+        when(ledgerRepo.save(any(LedgerEntryEntity.class))).thenAnswer(i -> i.getArgument(0));
+
+        // When
+        adapter.reserve(walletId.toString(), new BigDecimal("50.00"), "reserve-sharded");
+
+        // Then
+        verify(buckets).debit(walletEntity, new BigDecimal("50.00"));
+        verify(ledgerRepo, never()).findAvailableBalance(any());
+        verify(ledgerRepo).save(any(LedgerEntryEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should credit a balance bucket on unreserve for sharded wallets")
+    void shouldCreditBucketOnUnreserveWhenSharded() {
+        // Given
+        walletEntity.setBalanceBuckets(4);
+        when(walletRepo.findById(walletId)).thenReturn(Optional.of(walletEntity));
+        when(ledgerRepo.save(any(LedgerEntryEntity.class))).thenAnswer(i -> i.getArgument(0));
+        when(buckets.available(walletId)).thenReturn(new BigDecimal("75.00"));
+
+        // When
+        adapter.unreserve(walletId.toString(), new BigDecimal("25.00"), "unreserve-sharded");
+
+        // Then
+        verify(buckets).credit(walletEntity, new BigDecimal("25.00"));
+        assertThat(adapter.getAvailableBalance(walletId.toString())).contains(new BigDecimal("75.00"));
+        verify(ledgerRepo, never()).findAvailableBalance(any());
+    }
 }
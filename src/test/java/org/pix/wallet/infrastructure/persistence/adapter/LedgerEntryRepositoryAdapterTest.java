@@ -11,6 +11,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.pix.wallet.infrastructure.persistence.repository.LedgerEntryJpaRepository;
 import org.pix.wallet.infrastructure.persistence.repository.WalletJpaRepository;
+import org.pix.wallet.infrastructure.persistence.sharding.SingleShardRouter;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -50,7 +51,8 @@ class LedgerEntryRepositoryAdapterTest {
         // precisa wallet existir por FK
         UUID wid = UUID.fromString("7f9d34e0-8b2a-4d0d-aad1-12f3c9d5e6b2");
 
-        var adapter = new LedgerEntryRepositoryAdapter(ledgerJpa, walletJpa);
+        var adapter = new LedgerEntryRepositoryAdapter(ledgerJpa, walletJpa,
+            org.mockito.Mockito.mock(BalanceBucketRepositoryAdapter.class), new SingleShardRouter());
         String key = "idem-1";
         adapter.deposit(wid.toString(), new BigDecimal("10.00"), key);
         ledgerJpa.flush();
@@ -0,0 +1,99 @@
+package org.pix.wallet.infrastructure.persistence.adapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.infrastructure.cache.CacheInvalidationBus;
+import org.pix.wallet.infrastructure.cache.OffHeapBalanceTable;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OffHeapBalanceLedgerEntryRepositoryAdapter Unit Tests")
+class OffHeapBalanceLedgerEntryRepositoryAdapterTest {
+
+    private LedgerEntryRepositoryPort delegate;
+    private SimpleMeterRegistry registry;
+    private OffHeapBalanceLedgerEntryRepositoryAdapter adapter;
+    private String walletId;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(LedgerEntryRepositoryPort.class);
+        registry = new SimpleMeterRegistry();
+        adapter = adapter(Duration.ofMinutes(1));
+        walletId = UUID.randomUUID().toString();
+        when(delegate.getCurrentBalance(walletId)).thenReturn(Optional.of(new BigDecimal("100.00")));
+        when(delegate.getAvailableBalance(walletId)).thenReturn(Optional.of(new BigDecimal("60.00")));
+    }
+
+    @Test
+    @DisplayName("Should serve both balances from one load")
+    void shouldServeBothBalancesFromOneLoad() {
+        assertThat(adapter.getAvailableBalance(walletId)).contains(new BigDecimal("60.00"));
+        assertThat(adapter.getCurrentBalance(walletId)).contains(new BigDecimal("100.00"));
+        assertThat(adapter.getAvailableBalance(walletId)).contains(new BigDecimal("60.00"));
+
+        verify(delegate, times(1)).getCurrentBalance(walletId);
+        verify(delegate, times(1)).getAvailableBalance(walletId);
+        assertThat(lookups("hit")).isEqualTo(2);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reload the balances after a ledger write")
+    void shouldReloadAfterWrite() {
+        adapter.getCurrentBalance(walletId);
+        when(delegate.reserve(walletId, new BigDecimal("10.00"), "k")).thenReturn("entry");
+        when(delegate.getAvailableBalance(walletId)).thenReturn(Optional.of(new BigDecimal("50.00")));
+
+        assertThat(adapter.reserve(walletId, new BigDecimal("10.00"), "k")).isEqualTo("entry");
+
+        assertThat(adapter.getAvailableBalance(walletId)).contains(new BigDecimal("50.00"));
+        verify(delegate, times(2)).getCurrentBalance(walletId);
+    }
+
+    @Test
+    @DisplayName("Should reload entries older than the ttl")
+    void shouldExpireEntries() {
+        adapter = adapter(Duration.ZERO);
+        adapter.getCurrentBalance(walletId);
+
+        await(5);
+        adapter.getCurrentBalance(walletId);
+
+        verify(delegate, times(2)).getCurrentBalance(walletId);
+        assertThat(lookups("expired")).isEqualTo(1);
+    }
+
+    private OffHeapBalanceLedgerEntryRepositoryAdapter adapter(Duration ttl) {
+        return new OffHeapBalanceLedgerEntryRepositoryAdapter(delegate, new OffHeapBalanceTable(100),
+            new MetricsService(registry), noBus(), ttl);
+    }
+
+    private double lookups(String result) {
+        return registry.get("pix.balance.store.lookups").tag("result", result).counter().count();
+    }
+
+    private static void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<CacheInvalidationBus> noBus() {
+        return mock(ObjectProvider.class);
+    }
+}
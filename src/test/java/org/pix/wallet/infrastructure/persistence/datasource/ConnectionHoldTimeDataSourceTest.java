@@ -0,0 +1,71 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.observability.ObservabilityContext;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConnectionHoldTimeDataSource Unit Tests")
+class ConnectionHoldTimeDataSourceTest {
+
+    private SimpleMeterRegistry registry;
+    private ConnectionHoldTimeDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        registry = new SimpleMeterRegistry();
+        dataSource = new ConnectionHoldTimeDataSource(target);
+        dataSource.bindMetrics(new MetricsService(registry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ObservabilityContext.clear();
+    }
+
+    @Test
+    @DisplayName("Should record the hold time once, tagged with the use case at checkout")
+    void shouldRecordHoldTimePerUseCase() throws SQLException {
+        ObservabilityContext.setOperation("PIX_TRANSFER_CREATE");
+        Connection connection = dataSource.getConnection();
+        ObservabilityContext.setOperation("SOMETHING_ELSE");
+
+        connection.close();
+        connection.close();
+
+        Timer timer = registry.find("pix.datasource.connection.hold").tag("use_case", "PIX_TRANSFER_CREATE").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(registry.find("pix.datasource.connection.hold").tag("use_case", "SOMETHING_ELSE").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should tag connections taken outside a use case as none")
+    void shouldTagMissingUseCase() throws SQLException {
+        dataSource.getConnection().close();
+
+        assertThat(registry.find("pix.datasource.connection.hold").tag("use_case", "none").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should unwrap to itself")
+    void shouldUnwrap() throws SQLException {
+        assertThat(dataSource.isWrapperFor(ConnectionHoldTimeDataSource.class)).isTrue();
+        assertThat(dataSource.unwrap(ConnectionHoldTimeDataSource.class)).isSameAs(dataSource);
+    }
+}
@@ -0,0 +1,73 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConnectionLimitingDataSource Unit Tests")
+class ConnectionLimitingDataSourceTest {
+
+    private DataSource target;
+    private ConnectionLimitingDataSource limiter;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        limiter = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Should hold a permit while the connection is open")
+    void shouldHoldPermitUntilClose() throws SQLException {
+        Connection connection = limiter.getConnection();
+        assertThat(limiter.getAvailablePermits()).isEqualTo(1);
+
+        connection.close();
+        assertThat(limiter.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should release the permit only once on repeated close")
+    void shouldReleasePermitOnce() throws SQLException {
+        Connection connection = limiter.getConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(limiter.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject after acquire timeout when all permits are busy")
+    void shouldRejectWhenExhausted() throws SQLException {
+        limiter.getConnection();
+        limiter.getConnection();
+
+        assertThatThrownBy(() -> limiter.getConnection())
+            .isInstanceOf(SQLTransientConnectionException.class);
+        verify(target, times(2)).getConnection();
+        assertThat(limiter.getWaiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the pool fails to provide a connection")
+    void shouldReleasePermitOnTargetFailure() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool down"));
+
+        assertThatThrownBy(() -> limiter.getConnection()).isInstanceOf(SQLException.class);
+        assertThat(limiter.getAvailablePermits()).isEqualTo(2);
+    }
+}
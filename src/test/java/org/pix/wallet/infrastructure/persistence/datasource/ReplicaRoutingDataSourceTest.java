@@ -0,0 +1,156 @@
+package org.pix.wallet.infrastructure.persistence.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Primary/replica stand-in: two in-memory H2 databases that answer with their own name.
+ */
+@DisplayName("ReplicaRoutingDataSource Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    private final Map<String, ReplicaStatus> statuses = new HashMap<>();
+    private SimpleMeterRegistry registry;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = node("primary");
+        DataSource replica = node("replica-1");
+        registry = new SimpleMeterRegistry();
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            primary,
+            Map.of("replica-1", replica),
+            statuses::get,
+            route -> "reports".equals(route) ? Duration.ofSeconds(30) : Duration.ofSeconds(1),
+            Duration.ofSeconds(3),
+            new MetricsService(registry),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbc = new JdbcTemplate(dataSource);
+        var txManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(txManager);
+        readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("Should send read-write transactions to the primary")
+    void shouldRouteWritesToPrimary() {
+        statuses.put("replica-1", healthy(Duration.ZERO, "0/100"));
+
+        assertThat(whoAmI(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to a healthy replica")
+    void shouldRouteReadOnlyToReplica() {
+        statuses.put("replica-1", healthy(Duration.ofMillis(200), "0/100"));
+
+        assertThat(whoAmI(readOnly)).isEqualTo("replica-1");
+        assertThat(routeCount("default", "replica-1", "replica")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should fall back to primary when lag exceeds the route bound")
+    void shouldFallBackOnLag() {
+        statuses.put("replica-1", healthy(Duration.ofSeconds(5), "0/100"));
+
+        assertThat(whoAmI(readOnly)).isEqualTo("primary");
+        assertThat(routeCount("default", "primary", "lag")).isEqualTo(1.0);
+
+        // A more tolerant route still uses the replica
+        String previous = ReplicaRoutingContext.enterRoute("reports");
+        try {
+            assertThat(whoAmI(readOnly)).isEqualTo("replica-1");
+        } finally {
+            ReplicaRoutingContext.restoreRoute(previous);
+        }
+    }
+
+    @Test
+    @DisplayName("Should honour read-your-writes token against replayed WAL position")
+    void shouldHonourConsistencyToken() {
+        statuses.put("replica-1", healthy(Duration.ZERO, "0/100"));
+
+        ReplicaRoutingContext.setMinPosition(WalPosition.parse("0/200"));
+        assertThat(whoAmI(readOnly)).isEqualTo("primary");
+        assertThat(routeCount("default", "primary", "read_your_writes")).isEqualTo(1.0);
+
+        ReplicaRoutingContext.setMinPosition(WalPosition.parse("0/FF"));
+        assertThat(whoAmI(readOnly)).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("Should treat stale or missing probes as unhealthy")
+    void shouldSkipStaleReplica() {
+        statuses.put("replica-1", new ReplicaStatus(Duration.ZERO, WalPosition.parse("0/100"), NOW.minusSeconds(10)));
+        assertThat(whoAmI(readOnly)).isEqualTo("primary");
+
+        statuses.clear();
+        assertThat(whoAmI(readOnly)).isEqualTo("primary");
+        assertThat(routeCount("default", "primary", "unhealthy")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should order WAL positions across the 32-bit boundary")
+    void shouldCompareWalPositions() {
+        assertThat(WalPosition.parse("1/0").isAtLeast(WalPosition.parse("0/FFFFFFFF"))).isTrue();
+        assertThat(WalPosition.parse("16/B374D848").toString()).isEqualTo("16/B374D848");
+    }
+
+    private String whoAmI(TransactionTemplate tx) {
+        return tx.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private double routeCount(String route, String target, String reason) {
+        var counter = registry.find("pix.datasource.route")
+            .tag("route", route).tag("target", target).tag("reason", reason)
+            .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static ReplicaStatus healthy(Duration lag, String replayed) {
+        return new ReplicaStatus(lag, WalPosition.parse(replayed), NOW);
+    }
+
+    private static DataSource node(String name) {
+        var dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        var init = new JdbcTemplate(dataSource);
+        init.execute("CREATE TABLE node (name VARCHAR(32))");
+        init.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,48 @@
+package org.pix.wallet.infrastructure.persistence.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.domain.model.enums.TransferStatus;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Compact transfer column mapping Unit Tests")
+class EndToEndIdsTest {
+
+    @Test
+    @DisplayName("Should round-trip issued end-to-end ids through their UUID key")
+    void shouldRoundTripEndToEndId() {
+        UUID random = UUID.randomUUID();
+        String endToEndId = "E" + random.toString().replace("-", "").toUpperCase();
+
+        assertThat(EndToEndIds.toKey(endToEndId)).contains(random);
+        assertThat(EndToEndIds.toText(random)).isEqualTo(endToEndId);
+        assertThat(EndToEndIds.toText(new UUID(0, -1))).isEqualTo("E0000000000000000FFFFFFFFFFFFFFFF");
+    }
+
+    @Test
+    @DisplayName("Should not map ids outside the issued format")
+    void shouldRejectForeignFormats() {
+        assertThat(EndToEndIds.toKey(null)).isEmpty();
+        assertThat(EndToEndIds.toKey("E1")).isEmpty();
+        assertThat(EndToEndIds.toKey("E12345678202310191234abcdefghijk")).isEmpty();
+        assertThat(EndToEndIds.toKey("X" + "0".repeat(32))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep transfer status codes stable")
+    void shouldKeepStatusCodesStable() {
+        TransferStatusCodeConverter converter = new TransferStatusCodeConverter();
+
+        assertThat(converter.convertToDatabaseColumn(TransferStatus.PENDING)).isEqualTo((short) 0);
+        assertThat(converter.convertToDatabaseColumn(TransferStatus.CONFIRMED)).isEqualTo((short) 1);
+        assertThat(converter.convertToDatabaseColumn(TransferStatus.REJECTED)).isEqualTo((short) 2);
+        for (TransferStatus status : TransferStatus.values()) {
+            assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(status))).isEqualTo(status);
+        }
+        assertThatThrownBy(() -> converter.convertToEntityAttribute((short) 9)).isInstanceOf(IllegalStateException.class);
+    }
+}
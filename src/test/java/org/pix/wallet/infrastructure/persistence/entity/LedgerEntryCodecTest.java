@@ -0,0 +1,57 @@
+package org.pix.wallet.infrastructure.persistence.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.domain.model.enums.OperationType;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Compact ledger column mapping Unit Tests")
+class LedgerEntryCodecTest {
+
+    @Test
+    @DisplayName("Should hash idempotency keys like md5(key)::uuid in Postgres")
+    void shouldMatchPostgresMd5Uuid() {
+        // SELECT md5('abc')::uuid
+        assertThat(LedgerEntryCodec.idempotencyHash("abc"))
+            .isEqualTo(UUID.fromString("90015098-3cd2-4fb0-d696-3f7d28e17f72"));
+        assertThat(LedgerEntryCodec.idempotencyHash(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the transfer of transfer step keys only")
+    void shouldExtractTransferOfStepKeys() {
+        UUID transfer = UUID.randomUUID();
+        String e2e = EndToEndIds.toText(transfer);
+
+        assertThat(LedgerEntryCodec.endToEndId(e2e + "-reserve")).isEqualTo(transfer);
+        assertThat(LedgerEntryCodec.endToEndId(e2e + "-apply-credit")).isEqualTo(transfer);
+        assertThat(LedgerEntryCodec.endToEndId(e2e + "-refund")).isNull();
+        assertThat(LedgerEntryCodec.endToEndId("deposit-123")).isNull();
+        assertThat(LedgerEntryCodec.endToEndId(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should convert amounts to cents and back")
+    void shouldConvertCents() {
+        assertThat(LedgerEntryCodec.cents(new BigDecimal("10.50"))).isEqualTo(1050L);
+        assertThat(LedgerEntryCodec.cents(new BigDecimal("0.005"))).isEqualTo(1L);
+        assertThat(LedgerEntryCodec.amount(1050L)).isEqualByComparingTo("10.50");
+    }
+
+    @Test
+    @DisplayName("Should keep operation codes stable")
+    void shouldKeepOperationCodesStable() {
+        // Literals in LedgerEntryJpaRepository, R2dbcBalanceQueryAdapter and BalanceRebuildEngine
+        assertThat(OperationTypeCodeConverter.code(OperationType.DEPOSIT)).isEqualTo((short) 0);
+        assertThat(OperationTypeCodeConverter.code(OperationType.WITHDRAW)).isEqualTo((short) 1);
+        assertThat(OperationTypeCodeConverter.code(OperationType.RESERVED)).isEqualTo((short) 5);
+        assertThat(OperationTypeCodeConverter.code(OperationType.UNRESERVED)).isEqualTo((short) 6);
+        for (OperationType type : OperationType.values()) {
+            assertThat(OperationTypeCodeConverter.fromCode(OperationTypeCodeConverter.code(type))).isEqualTo(type);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.pix.wallet.infrastructure.persistence.ledger;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.domain.model.enums.OperationType;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryCodec;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GroupCommitLedgerWriter Unit Tests")
+class GroupCommitLedgerWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry registry;
+    private GroupCommitLedgerWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        registry = new SimpleMeterRegistry();
+        writer = new GroupCommitLedgerWriter(jdbcTemplate, new MetricsService(registry), 16, 8, Duration.ofMillis(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not accept entries before the writer is started")
+    void shouldRejectWhenNotRunning() {
+        assertThat(writer.submit(UUID.randomUUID(), OperationType.DEPOSIT, BigDecimal.TEN, "k1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent submissions into one multi-row insert")
+    void shouldCoalesceSubmissions() throws Exception {
+        // Echo back every generated id as inserted
+        when(jdbcTemplate.queryForList(startsWith("INSERT"), eq(UUID.class), any(Object[].class)))
+            .thenAnswer(inv -> insertedIds(inv.getArguments()));
+        writer.start();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(writer.submit(UUID.randomUUID(), OperationType.DEPOSIT, BigDecimal.ONE, "k" + i).orElseThrow());
+        }
+
+        for (CompletableFuture<String> future : futures) {
+            assertThat(future.get(2, TimeUnit.SECONDS)).isNotBlank();
+        }
+        DistributionSummary batchSize = registry.find("pix.ledger.group_commit.batch.size").summary();
+        assertThat(batchSize.totalAmount()).isEqualTo(5.0);
+        assertThat(batchSize.count()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should resolve duplicate idempotency keys to the existing entry id")
+    void shouldResolveConflictsToExistingId() {
+        UUID walletId = UUID.randomUUID();
+        UUID existing = UUID.randomUUID();
+        when(jdbcTemplate.queryForList(startsWith("INSERT"), eq(UUID.class), any(Object[].class)))
+            .thenReturn(List.of());
+        when(jdbcTemplate.queryForList(startsWith("SELECT"), eq(UUID.class),
+                eq(LedgerEntryCodec.idempotencyHash("dup")), eq(walletId)))
+            .thenReturn(List.of(existing));
+
+        var entry = pending(walletId, "dup");
+        writer.flush(List.of(entry));
+
+        assertThat(entry.result().join()).isEqualTo(existing.toString());
+    }
+
+    @Test
+    @DisplayName("Should fail every caller of a group when the insert fails")
+    void shouldFailWholeGroup() {
+        when(jdbcTemplate.queryForList(startsWith("INSERT"), eq(UUID.class), any(Object[].class)))
+            .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        var first = pending(UUID.randomUUID(), "a");
+        var second = pending(UUID.randomUUID(), "b");
+        writer.flush(List.of(first, second));
+
+        assertThatThrownBy(first.result()::join).hasCauseInstanceOf(DataAccessResourceFailureException.class);
+        assertThatThrownBy(second.result()::join).hasCauseInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(registry.find("pix.ledger.group_commit.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    private static GroupCommitLedgerWriter.PendingEntry pending(UUID walletId, String key) {
+        return new GroupCommitLedgerWriter.PendingEntry(UUID.randomUUID(), walletId, OperationType.DEPOSIT,
+            BigDecimal.ONE, key, java.time.Instant.now(), System.nanoTime(), new CompletableFuture<>());
+    }
+
+    private static List<UUID> insertedIds(Object[] invocationArgs) {
+        // args: sql, elementType, then 7 bind values per row starting with the entry id
+        Object[] binds = Arrays.copyOfRange(invocationArgs, 2, invocationArgs.length);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < binds.length; i += 7) {
+            ids.add((UUID) binds[i]);
+        }
+        return ids;
+    }
+}
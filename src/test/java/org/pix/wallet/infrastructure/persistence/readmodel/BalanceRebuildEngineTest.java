@@ -0,0 +1,161 @@
+package org.pix.wallet.infrastructure.persistence.readmodel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.application.port.in.RebuildBalancesUseCase.Report;
+import org.pix.wallet.application.port.in.RebuildBalancesUseCase.State;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.sharding.SingleShardRouter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Rebuild against a projection kept by {@link LedgerProjector}, with small chunks and passes
+ * so several of each are exercised.
+ */
+@DisplayName("BalanceRebuildEngine Unit Tests")
+class BalanceRebuildEngineTest {
+
+    private static final Instant T0 = Instant.parse("2025-03-01T08:00:00Z");
+
+    private JdbcTemplate jdbc;
+    private TransactionTemplate tx;
+    private SimpleMeterRegistry registry;
+    private BalanceRebuildEngine engine;
+    private final List<UUID> wallets = new ArrayList<>();
+    private long seq;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:balance-rebuild-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        ReadModelTestSchema.create(jdbc);
+        registry = new SimpleMeterRegistry();
+        MetricsService metrics = new MetricsService(registry);
+        engine = new BalanceRebuildEngine(jdbc, tx, metrics, new SingleShardRouter(), 40, 7, 100);
+
+        Random random = new Random(7);
+        for (int i = 0; i < 20; i++) {
+            UUID id = UUID.randomUUID();
+            wallets.add(id);
+            jdbc.update("INSERT INTO wallet (id) VALUES (?)", id);
+        }
+        for (int i = 0; i < 300; i++) {
+            UUID wallet = wallets.get(random.nextInt(wallets.size() - 1)); // the last wallet never moves
+            String type = List.of("DEPOSIT", "DEPOSIT", "WITHDRAW", "RESERVED", "UNRESERVED").get(random.nextInt(5));
+            entry(wallet, type, BigDecimal.valueOf(1 + random.nextInt(5_000), 2));
+        }
+
+        LedgerProjector projector = new LedgerProjector(new ReadModelStore(jdbc), tx, metrics,
+            new SingleShardRouter(), 1_000, 1, Duration.ofHours(1));
+        projector.projectBatch();
+    }
+
+    @Test
+    @DisplayName("Should find nothing to fix on a projection kept by the projector")
+    void shouldAgreeWithProjector() {
+        Report report = engine.run(3, true);
+
+        assertThat(report.entries()).isEqualTo(300);
+        assertThat(report.wallets()).isEqualTo(20);
+        assertThat(report.passes()).isEqualTo(3);
+        assertThat(report.mismatched() + report.missing() + report.extra()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report differences in dry-run mode without writing")
+    void shouldReportDifferencesInDryRun() {
+        var expected = balances();
+        corrupt();
+        var corrupted = balances();
+
+        Report report = engine.run(3, true);
+
+        assertThat(report.mismatched()).isEqualTo(1);
+        assertThat(report.missing()).isEqualTo(1);
+        assertThat(report.extra()).isEqualTo(1);
+        assertThat(report.sample()).hasSize(3);
+        assertThat(report.sample()).anySatisfy(m -> {
+            assertThat(m.walletId()).isEqualTo(wallets.get(0));
+            assertThat(m.actualBalance()).isEqualByComparingTo("999.99");
+            assertThat(m.expectedBalance()).isEqualByComparingTo(
+                (BigDecimal) expected.stream().filter(r -> wallets.get(0).equals(r.get("WALLET_ID"))).findFirst()
+                    .orElseThrow().get("BALANCE"));
+        });
+        assertThat(balances()).isEqualTo(corrupted);
+        assertThat(registry.get("pix.read_model.balance_rebuild.differences").tag("kind", "missing").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should rewrite only the differing rows back to the ledger's balances")
+    void shouldRepairProjection() {
+        var expected = balances();
+        corrupt();
+
+        Report report = engine.run(4, false);
+
+        assertThat(report.mismatched() + report.missing() + report.extra()).isEqualTo(3);
+        assertThat(balances()).isEqualTo(expected);
+        assertThat(engine.run(2, true).mismatched()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run in the background, report progress and refuse a second run")
+    void shouldRunInBackground() throws Exception {
+        try (Connection projector = jdbc.getDataSource().getConnection()) {
+            // Holding the checkpoint lock parks the run in its reconcile step
+            projector.setAutoCommit(false);
+            projector.createStatement().executeQuery("SELECT position FROM read_model.projection_checkpoint FOR UPDATE");
+
+            engine.start(2, true);
+            await().atMost(Duration.ofSeconds(5)).until(() -> engine.status().progress() > 0);
+
+            assertThat(engine.status().state()).isEqualTo(State.RUNNING);
+            assertThatThrownBy(() -> engine.start(2, true)).isInstanceOf(IllegalStateException.class);
+            projector.commit();
+        }
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> engine.status().state() == State.SUCCEEDED);
+
+        assertThat(engine.status().report().entries()).isEqualTo(300);
+        assertThat(registry.get("pix.read_model.balance_rebuild.progress").gauge().value()).isEqualTo(1.0);
+    }
+
+    private void corrupt() {
+        jdbc.update("UPDATE read_model.wallet_balance_view SET balance = 999.99 WHERE wallet_id = ?", wallets.get(0));
+        jdbc.update("DELETE FROM read_model.wallet_balance_view WHERE wallet_id = ?", wallets.get(1));
+        jdbc.update("INSERT INTO read_model.wallet_balance_view VALUES (?, 5.00, 5.00, 1, ?)",
+            wallets.get(wallets.size() - 1), Timestamp.from(T0));
+    }
+
+    private List<Map<String, Object>> balances() {
+        return jdbc.queryForList("SELECT * FROM read_model.wallet_balance_view ORDER BY wallet_id");
+    }
+
+    private void entry(UUID wallet, String type, BigDecimal amount) {
+        seq++;
+        ReadModelTestSchema.insertEntry(jdbc, seq, wallet, type, amount, T0.plusSeconds(seq * 97), "k-" + seq);
+    }
+}
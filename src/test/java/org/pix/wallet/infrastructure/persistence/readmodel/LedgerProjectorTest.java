@@ -0,0 +1,227 @@
+package org.pix.wallet.infrastructure.persistence.readmodel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.application.port.in.ReadModelQueryUseCase.TransferHistoryItem;
+import org.pix.wallet.application.port.in.RebuildReadModelUseCase;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.persistence.adapter.ReadModelQueryAdapter;
+import org.pix.wallet.infrastructure.persistence.entity.EndToEndIds;
+import org.pix.wallet.infrastructure.persistence.sharding.SingleShardRouter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Projector, rebuild and query adapter against an in-memory H2 copy of the ledger and
+ * {@code read_model} tables.
+ */
+@DisplayName("LedgerProjector Unit Tests")
+class LedgerProjectorTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T10:00:00Z");
+
+    private JdbcTemplate jdbc;
+    private TransactionTemplate tx;
+    private ReadModelStore store;
+    private SimpleMeterRegistry registry;
+    private ReadModelQueryAdapter query;
+    private long seq;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:read-model-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        ReadModelTestSchema.create(jdbc);
+        store = new ReadModelStore(jdbc);
+        registry = new SimpleMeterRegistry();
+        query = new ReadModelQueryAdapter(jdbc, new SingleShardRouter());
+    }
+
+    @Test
+    @DisplayName("Should project balances, daily totals and the transfer lifecycle")
+    void shouldProjectTransferLifecycle() {
+        UUID payer = UUID.randomUUID();
+        UUID payee = UUID.randomUUID();
+        String e2e = endToEndId();
+        LedgerProjector projector = projector(Duration.ofHours(1));
+
+        entry(payer, "DEPOSIT", "100.00", T0, "dep-1");
+        transfer(e2e, payer, payee);
+        entry(payer, "RESERVED", "30.00", T0.plusSeconds(1), e2e + "-reserve");
+        assertThat(projector.projectBatch()).isEqualTo(2);
+
+        assertThat(query.transfers(payer, 10, null)).singleElement()
+            .satisfies(t -> {
+                assertThat(t.status()).isEqualTo("PENDING");
+                assertThat(t.direction()).isEqualTo("OUT");
+                assertThat(t.counterpartyWalletId()).isEqualTo(payee.toString());
+            });
+        assertThat(query.balance(payer).orElseThrow().availableBalance()).isEqualByComparingTo("70.00");
+
+        entry(payer, "WITHDRAW", "30.00", T0.plusSeconds(5), e2e + "-apply-debit");
+        entry(payee, "DEPOSIT", "30.00", T0.plusSeconds(5), e2e + "-apply-credit");
+        entry(payer, "UNRESERVED", "30.00", T0.plusSeconds(5), e2e + "-unreserve");
+        assertThat(projector.projectBatch()).isEqualTo(3);
+
+        var payerBalance = query.balance(payer).orElseThrow();
+        assertThat(payerBalance.balance()).isEqualByComparingTo("70.00");
+        assertThat(payerBalance.availableBalance()).isEqualByComparingTo("70.00");
+        assertThat(query.balance(payee).orElseThrow().balance()).isEqualByComparingTo("30.00");
+
+        TransferHistoryItem out = query.transfers(payer, 10, null).get(0);
+        TransferHistoryItem in = query.transfers(payee, 10, null).get(0);
+        assertThat(out.status()).isEqualTo("CONFIRMED");
+        assertThat(out.initiatedAt()).isEqualTo(T0.plusSeconds(1));
+        assertThat(in.direction()).isEqualTo("IN");
+        assertThat(in.status()).isEqualTo("CONFIRMED");
+        assertThat(in.counterpartyWalletId()).isEqualTo(payer.toString());
+
+        var day = LocalDate.of(2025, 1, 1);
+        assertThat(query.dailyTotals(payer, day, day)).singleElement().satisfies(d -> {
+            assertThat(d.credits()).isEqualByComparingTo("100.00");
+            assertThat(d.debits()).isEqualByComparingTo("30.00");
+            assertThat(d.entries()).isEqualTo(4);
+        });
+
+        var freshness = query.freshness(payer);
+        assertThat(freshness.position()).isEqualTo(5);
+        assertThat(freshness.projectedThrough()).isEqualTo(T0.plusSeconds(5));
+        assertThat(freshness.stalenessMillis()).isBetween(0L, 60_000L);
+    }
+
+    @Test
+    @DisplayName("Should mark a rejected transfer and keep confirmed ones confirmed")
+    void shouldProjectRejection() {
+        UUID payer = UUID.randomUUID();
+        String e2e = endToEndId();
+        entry(payer, "DEPOSIT", "50.00", T0, "dep-1");
+        entry(payer, "RESERVED", "20.00", T0, e2e + "-reserve");
+        entry(payer, "UNRESERVED", "20.00", T0.plusSeconds(2), e2e + "-unreserve");
+        // A user deposit whose key merely looks similar is not a transfer
+        entry(payer, "DEPOSIT", "1.00", T0, "my-key-reserve");
+
+        projector(Duration.ofHours(1)).projectBatch();
+
+        assertThat(query.transfers(payer, 10, null)).singleElement()
+            .satisfies(t -> assertThat(t.status()).isEqualTo("REJECTED"));
+        assertThat(query.balance(payer).orElseThrow().availableBalance()).isEqualByComparingTo("51.00");
+    }
+
+    @Test
+    @DisplayName("Should stop at a sequence gap until it is filled")
+    void shouldWaitForInFlightSequence() {
+        UUID wallet = UUID.randomUUID();
+        LedgerProjector projector = projector(Duration.ofHours(1));
+        entry(wallet, "DEPOSIT", "1.00", T0, "a");
+        entry(wallet, "DEPOSIT", "2.00", T0, "b");
+        seq++; // seq 3 still in flight
+        entry(wallet, "DEPOSIT", "4.00", T0, "d");
+
+        assertThat(projector.projectBatch()).isEqualTo(2);
+        assertThat(projector.projectBatch()).isZero();
+        assertThat(query.freshness(wallet).refreshedAt()).isNull();
+
+        insert(3, wallet, "DEPOSIT", "3.00", T0, "c");
+        assertThat(projector.projectBatch()).isEqualTo(2);
+        assertThat(query.balance(wallet).orElseThrow().balance()).isEqualByComparingTo("10.00");
+        assertThat(query.freshness(wallet).position()).isEqualTo(4);
+        assertThat(query.freshness(wallet).refreshedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should skip a gap left by a rolled-back insert after the timeout")
+    void shouldSkipExpiredGap() {
+        UUID wallet = UUID.randomUUID();
+        seq++; // seq 1 rolled back
+        entry(wallet, "DEPOSIT", "2.00", T0, "b");
+
+        assertThat(projector(Duration.ZERO).projectBatch()).isEqualTo(1);
+        assertThat(registry.get("pix.read_model.gaps.skipped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should rebuild in parallel to exactly what streaming produced")
+    void shouldRebuildToStreamingResult() {
+        Random random = new Random(42);
+        List<UUID> wallets = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            wallets.add(UUID.randomUUID());
+        }
+        for (int i = 0; i < 150; i++) {
+            UUID payer = wallets.get(random.nextInt(wallets.size()));
+            UUID payee = wallets.get(random.nextInt(wallets.size()));
+            Instant at = T0.plus(Duration.ofMinutes(37L * i));
+            String e2e = endToEndId();
+            entry(payer, "DEPOSIT", "10.00", at, "dep-" + i);
+            transfer(e2e, payer, payee);
+            entry(payer, "RESERVED", "4.00", at, e2e + "-reserve");
+            if (random.nextBoolean()) {
+                entry(payer, "WITHDRAW", "4.00", at.plusSeconds(3), e2e + "-apply-debit");
+                entry(payee, "DEPOSIT", "4.00", at.plusSeconds(3), e2e + "-apply-credit");
+            }
+            if (random.nextInt(3) > 0) {
+                entry(payer, "UNRESERVED", "4.00", at.plusSeconds(3), e2e + "-unreserve");
+            }
+        }
+
+        LedgerProjector projector = new LedgerProjector(store, tx, new MetricsService(registry),
+            new SingleShardRouter(), 37, 1, Duration.ofHours(1));
+        while (projector.projectBatch() > 0) {
+            // drain in small batches
+        }
+        var streamed = snapshot();
+
+        var result = new ReadModelRebuilder(store, tx, new MetricsService(registry), new SingleShardRouter(), 16, 100)
+            .rebuild(4);
+
+        assertThat(result).extracting(RebuildReadModelUseCase.Result::events).isEqualTo(seq);
+        assertThat(snapshot()).isEqualTo(streamed);
+        assertThat(query.freshness(wallets.get(0)).position()).isEqualTo(seq);
+    }
+
+    private LedgerProjector projector(Duration gapTimeout) {
+        return new LedgerProjector(store, tx, new MetricsService(registry), new SingleShardRouter(), 100, 1, gapTimeout);
+    }
+
+    private List<List<Map<String, Object>>> snapshot() {
+        return List.of(
+            jdbc.queryForList("SELECT * FROM read_model.wallet_balance_view ORDER BY wallet_id"),
+            jdbc.queryForList("SELECT * FROM read_model.wallet_transfer_history ORDER BY wallet_id, end_to_end_id"),
+            jdbc.queryForList("SELECT * FROM read_model.daily_wallet_totals ORDER BY wallet_id, entry_date"));
+    }
+
+    private void entry(UUID wallet, String type, String amount, Instant at, String key) {
+        insert(++seq, wallet, type, amount, at, key);
+    }
+
+    private void insert(long seq, UUID wallet, String type, String amount, Instant at, String key) {
+        ReadModelTestSchema.insertEntry(jdbc, seq, wallet, type, new BigDecimal(amount), at, key);
+    }
+
+    private void transfer(String e2e, UUID from, UUID to) {
+        jdbc.update("INSERT INTO transfer (end_to_end_id, from_wallet_id, to_wallet_id) VALUES (?, ?, ?)",
+            EndToEndIds.toKey(e2e).orElseThrow(), from, to);
+    }
+
+    private static String endToEndId() {
+        return "E" + UUID.randomUUID().toString().replace("-", "").toUpperCase();
+    }
+}
@@ -0,0 +1,59 @@
+package org.pix.wallet.infrastructure.persistence.readmodel;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.pix.wallet.domain.model.enums.OperationType;
+import org.pix.wallet.infrastructure.persistence.entity.LedgerEntryCodec;
+import org.pix.wallet.infrastructure.persistence.entity.OperationTypeCodeConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * H2 stand-in for the ledger tables the read model consumes and the {@code read_model} schema.
+ */
+final class ReadModelTestSchema {
+
+    private ReadModelTestSchema() {
+    }
+
+    static void create(JdbcTemplate jdbc) {
+        jdbc.execute("""
+            CREATE TABLE wallet (id UUID PRIMARY KEY);
+            CREATE TABLE ledger_entry (
+              id UUID PRIMARY KEY, wallet_id UUID NOT NULL, seq BIGINT NOT NULL UNIQUE,
+              amount_cents BIGINT NOT NULL, created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+              operation_code SMALLINT NOT NULL, idempotency_hash UUID, end_to_end_id UUID);
+            CREATE TABLE transfer (end_to_end_id UUID PRIMARY KEY, from_wallet_id UUID, to_wallet_id UUID);
+            CREATE SCHEMA read_model;
+            CREATE TABLE read_model.wallet_balance_view (
+              wallet_id UUID PRIMARY KEY, balance NUMERIC(17,2) NOT NULL, available_balance NUMERIC(17,2) NOT NULL,
+              last_seq BIGINT NOT NULL, updated_at TIMESTAMP WITH TIME ZONE NOT NULL);
+            CREATE TABLE read_model.wallet_transfer_history (
+              wallet_id UUID NOT NULL, end_to_end_id VARCHAR(64) NOT NULL, direction VARCHAR(3) NOT NULL,
+              counterparty_wallet_id VARCHAR(64), amount NUMERIC(15,2) NOT NULL, status VARCHAR(16) NOT NULL,
+              initiated_at TIMESTAMP WITH TIME ZONE NOT NULL, updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+              PRIMARY KEY (wallet_id, end_to_end_id));
+            CREATE TABLE read_model.daily_wallet_totals (
+              wallet_id UUID NOT NULL, entry_date DATE NOT NULL, credits NUMERIC(17,2) NOT NULL,
+              debits NUMERIC(17,2) NOT NULL, entries INT NOT NULL, PRIMARY KEY (wallet_id, entry_date));
+            CREATE TABLE read_model.projection_checkpoint (
+              projection VARCHAR(64) PRIMARY KEY, position BIGINT NOT NULL,
+              last_event_at TIMESTAMP WITH TIME ZONE, refreshed_at TIMESTAMP WITH TIME ZONE);
+            INSERT INTO read_model.projection_checkpoint (projection, position) VALUES ('ledger', 0);
+            """);
+    }
+
+    /**
+     * Inserts a ledger row encoded the way the ledger adapters write it.
+     */
+    static void insertEntry(JdbcTemplate jdbc, long seq, UUID wallet, String type, BigDecimal amount,
+                            Instant at, String idempotencyKey) {
+        jdbc.update("INSERT INTO ledger_entry (id, wallet_id, seq, amount_cents, created_at, operation_code, "
+                + "idempotency_hash, end_to_end_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            UUID.randomUUID(), wallet, seq, LedgerEntryCodec.cents(amount), Timestamp.from(at),
+            OperationTypeCodeConverter.code(OperationType.valueOf(type)),
+            LedgerEntryCodec.idempotencyHash(idempotencyKey), LedgerEntryCodec.endToEndId(idempotencyKey));
+    }
+}
@@ -0,0 +1,193 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pix.wallet.application.port.out.LedgerEntryRepositoryPort;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Local multi-database setup: two in-memory H2 shards behind a {@link ShardRoutingDataSource}.
+ */
+@DisplayName("ConsistentHashShardRouter Unit Tests")
+class ConsistentHashShardRouterTest {
+
+    private ConsistentHashShardRouter router;
+    private SimpleMeterRegistry registry;
+    private JdbcTemplate routed;
+    private TransactionTemplate tx;
+    private UUID onShard0;
+    private UUID onShard1;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        shards.put("shard-0", shard("shard-0"));
+        shards.put("shard-1", shard("shard-1"));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ShardRoutingDataSource("shard-0", shards));
+
+        ShardMap map = new ShardMap(List.of("shard-0", "shard-1"), 64);
+        registry = new SimpleMeterRegistry();
+        router = new ConsistentHashShardRouter(map, shards, dataSource, new MetricsService(registry));
+        routed = new JdbcTemplate(dataSource);
+        tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        onShard0 = walletOn(map, "shard-0");
+        onShard1 = walletOn(map, "shard-1");
+        router.jdbc("shard-0").update("INSERT INTO wallet (id) VALUES (?)", onShard0);
+        router.jdbc("shard-1").update("INSERT INTO wallet (id) VALUES (?)", onShard1);
+        router.jdbc("shard-1").update("INSERT INTO transfer (end_to_end_id, from_wallet_id) VALUES ('E1', ?)",
+            onShard1.toString());
+    }
+
+    @Test
+    @DisplayName("Should run wallet work on the wallet's shard")
+    void shouldRouteToWalletShard() {
+        String outsideTx = router.onShard(onShard1, this::whoAmI);
+        String insideTx = tx.execute(s -> router.onShard(onShard0, this::whoAmI));
+
+        assertThat(outsideTx).isEqualTo("shard-1");
+        assertThat(insideTx).isEqualTo("shard-0");
+        assertThat(ShardRoutingContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should pin a transaction to its first shard")
+    void shouldPinTransaction() {
+        tx.executeWithoutResult(s -> {
+            router.onShard(onShard1, this::whoAmI);
+
+            assertThat(router.isLocal(onShard1)).isTrue();
+            assertThat(router.isLocal(onShard0)).isFalse();
+            assertThatThrownBy(() -> router.onShard(onShard0, this::whoAmI))
+                .isInstanceOf(CrossShardAccessException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should pin unrouted work to the default shard")
+    void shouldPinUnroutedWorkToDefault() {
+        tx.executeWithoutResult(s -> {
+            assertThat(whoAmI()).isEqualTo("shard-0");
+            assertThatThrownBy(() -> router.onShard(onShard1, this::whoAmI))
+                .isInstanceOf(CrossShardAccessException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should read a foreign wallet outside the pinned transaction")
+    void shouldReadForeignWallet() {
+        tx.executeWithoutResult(s -> {
+            router.onShard(onShard0, this::whoAmI);
+
+            Integer count = router.readFrom(onShard1,
+                jdbc -> jdbc.queryForObject("SELECT COUNT(*) FROM wallet WHERE id = ?", Integer.class, onShard1));
+
+            assertThat(count).isEqualTo(1);
+        });
+        assertThat(registry.get("pix.sharding.foreign.reads").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should locate the owning shard of a row not keyed by wallet")
+    void shouldLocateOwningShard() {
+        String locate = "SELECT from_wallet_id FROM transfer WHERE end_to_end_id = ?";
+
+        Optional<String> found = tx.execute(s -> router.onOwningShard(locate, "E1",
+            () -> Optional.ofNullable(routed.queryForObject(
+                "SELECT end_to_end_id || '@' || (SELECT name FROM node) FROM transfer WHERE end_to_end_id = 'E1'",
+                String.class))));
+        Optional<String> missing = tx.execute(s -> router.onOwningShard(locate, "E404", Optional::<String>empty));
+
+        assertThat(found).contains("E1@shard-1");
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply deferred credits on the destination shard exactly once")
+    void shouldRelayDeferredCredits() {
+        LedgerEntryRepositoryPort ledger = mock(LedgerEntryRepositoryPort.class);
+        when(ledger.deposit(any(), any(), any())).thenAnswer(inv -> whoAmI());
+        var relay = new CrossShardCreditRelay(router, ledger, tx, new MetricsService(registry), 10);
+        router.jdbc("shard-0").update(
+            "INSERT INTO cross_shard_credit (wallet_id, amount, idempotency_key) VALUES (?, 10.00, 'E1-apply-credit')",
+            onShard1);
+
+        assertThat(relay.relayFrom("shard-0")).isEqualTo(1);
+        assertThat(relay.relayFrom("shard-0")).isZero();
+
+        verify(ledger, times(1)).deposit(eq(onShard1.toString()), eq(new BigDecimal("10.00")), eq("E1-apply-credit"));
+        assertThat(registry.get("pix.sharding.cross_shard_credit.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip a credit already applied before a crash")
+    void shouldSkipAlreadyAppliedCredit() {
+        LedgerEntryRepositoryPort ledger = mock(LedgerEntryRepositoryPort.class);
+        when(ledger.existsByIdempotencyKey("E1-apply-credit")).thenReturn(true);
+        var relay = new CrossShardCreditRelay(router, ledger, tx, new MetricsService(registry), 10);
+        router.jdbc("shard-0").update(
+            "INSERT INTO cross_shard_credit (wallet_id, amount, idempotency_key) VALUES (?, 10.00, 'E1-apply-credit')",
+            onShard1);
+
+        assertThat(relay.relayFrom("shard-0")).isEqualTo(1);
+
+        verify(ledger, never()).deposit(any(), any(), any());
+    }
+
+    private String whoAmI() {
+        return routed.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static UUID walletOn(ShardMap map, String shard) {
+        UUID id;
+        do {
+            id = UUID.randomUUID();
+        } while (!map.shardFor(id).equals(shard));
+        return id;
+    }
+
+    private static DataSource shard(String name) {
+        var dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        var init = new JdbcTemplate(dataSource);
+        init.execute("CREATE TABLE node (name VARCHAR(32))");
+        init.update("INSERT INTO node VALUES (?)", name);
+        init.execute("CREATE TABLE wallet (id UUID PRIMARY KEY)");
+        init.execute("CREATE TABLE transfer (end_to_end_id VARCHAR(64) PRIMARY KEY, from_wallet_id VARCHAR(36))");
+        init.execute("""
+            CREATE TABLE cross_shard_credit (
+              id BIGINT AUTO_INCREMENT PRIMARY KEY,
+              wallet_id UUID NOT NULL,
+              amount NUMERIC(15,2) NOT NULL,
+              idempotency_key VARCHAR(64) NOT NULL UNIQUE,
+              created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+              applied_at TIMESTAMP WITH TIME ZONE)
+            """);
+        return dataSource;
+    }
+}
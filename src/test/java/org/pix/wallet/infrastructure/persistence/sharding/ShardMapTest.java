@@ -0,0 +1,64 @@
+package org.pix.wallet.infrastructure.persistence.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ShardMap Unit Tests")
+class ShardMapTest {
+
+    private static final List<UUID> WALLETS = IntStream.range(0, 20_000)
+        .mapToObj(i -> UUID.randomUUID())
+        .toList();
+
+    @Test
+    @DisplayName("Should spread wallets evenly across shards")
+    void shouldSpreadWalletsEvenly() {
+        ShardMap map = new ShardMap(List.of("shard-0", "shard-1", "shard-2", "shard-3"), 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        WALLETS.forEach(w -> counts.merge(map.shardFor(w), 1, Integer::sum));
+
+        assertThat(counts).hasSize(4);
+        // 5000 expected per shard; 128 virtual nodes keep the skew well under 20%
+        assertThat(counts.values()).allSatisfy(c -> assertThat(c).isBetween(4_000, 6_000));
+    }
+
+    @Test
+    @DisplayName("Should only move wallets onto the added shard")
+    void shouldMoveOnlyToNewShard() {
+        ShardMap before = new ShardMap(List.of("shard-0", "shard-1"), 128);
+        ShardMap after = new ShardMap(List.of("shard-0", "shard-1", "shard-2"), 128);
+
+        long moved = WALLETS.stream()
+            .filter(w -> !before.shardFor(w).equals(after.shardFor(w)))
+            .peek(w -> assertThat(after.shardFor(w)).isEqualTo("shard-2"))
+            .count();
+
+        assertThat(moved).isBetween(WALLETS.size() / 5L, WALLETS.size() / 2L);
+    }
+
+    @Test
+    @DisplayName("Should not depend on the order shards are listed in")
+    void shouldIgnoreListOrder() {
+        ShardMap a = new ShardMap(List.of("shard-0", "shard-1", "shard-2"), 64);
+        ShardMap b = new ShardMap(List.of("shard-2", "shard-0", "shard-1"), 64);
+
+        assertThat(WALLETS).allSatisfy(w -> assertThat(a.shardFor(w)).isEqualTo(b.shardFor(w)));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty shard list")
+    void shouldRejectEmptyShards() {
+        assertThatThrownBy(() -> new ShardMap(List.of(), 16))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
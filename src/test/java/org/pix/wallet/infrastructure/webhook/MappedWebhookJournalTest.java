@@ -0,0 +1,159 @@
+package org.pix.wallet.infrastructure.webhook;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pix.wallet.application.port.in.ProcessPixWebhookUseCase.Command;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.pix.wallet.infrastructure.webhook.MappedWebhookJournal.Entry;
+import org.pix.wallet.infrastructure.webhook.MappedWebhookJournal.FsyncPolicy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedWebhookJournal Unit Tests")
+class MappedWebhookJournalTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path directory;
+
+    private MappedWebhookJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hand appended events back in order and drop them once committed")
+    void shouldReadInOrder() {
+        journal = open(4);
+
+        assertThat(journal.append(event(1))).isTrue();
+        assertThat(journal.append(event(2))).isTrue();
+
+        assertThat(drain(Integer.MAX_VALUE)).containsExactly(event(1), event(2));
+        assertThat(journal.depth()).isZero();
+        assertThat(journal.peek()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should roll to new segments and delete the ones fully consumed")
+    void shouldRollAndDeleteSegments() throws IOException {
+        journal = open(8);
+        for (int i = 0; i < 10; i++) {
+            journal.append(event(i));
+        }
+        assertThat(segments()).hasSizeGreaterThan(1);
+
+        assertThat(drain(Integer.MAX_VALUE)).hasSize(10).first().isEqualTo(event(0));
+        assertThat(segments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse events once max-segments are full")
+    void shouldRefuseWhenFull() {
+        journal = open(2);
+        int accepted = 0;
+        while (journal.append(event(accepted))) {
+            accepted++;
+        }
+
+        assertThat(accepted).isGreaterThan(2);
+        assertThat(journal.depth()).isEqualTo(accepted);
+        drain(1);
+        assertThat(journal.append(event(accepted))).isFalse();
+        drain(Integer.MAX_VALUE);
+        assertThat(journal.append(event(accepted))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should replay from the last checkpoint after a restart")
+    void shouldReplayFromCheckpoint() {
+        journal = open(8);
+        for (int i = 0; i < 6; i++) {
+            journal.append(event(i));
+        }
+        drain(4);
+        journal.close();
+
+        journal = open(8);
+
+        assertThat(journal.depth()).isEqualTo(2);
+        assertThat(drain(Integer.MAX_VALUE)).containsExactly(event(4), event(5));
+        journal.append(event(6));
+        assertThat(drain(Integer.MAX_VALUE)).containsExactly(event(6));
+    }
+
+    @Test
+    @DisplayName("Should zero a torn tail and keep every complete event")
+    void shouldTruncateTornTail() throws IOException {
+        journal = open(8);
+        journal.append(event(1));
+        journal.close();
+        Path segment = segments().get(0);
+        int used = Files.readAllBytes(segment).length - tailZeros(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 40, 1, 2, 3, 4, 5}), used);
+        }
+
+        journal = open(8);
+
+        assertThat(journal.depth()).isEqualTo(1);
+        journal.append(event(2));
+        assertThat(drain(Integer.MAX_VALUE)).containsExactly(event(1), event(2));
+    }
+
+    private MappedWebhookJournal open(int maxSegments) {
+        return new MappedWebhookJournal(directory, SEGMENT_SIZE, maxSegments, FsyncPolicy.ALWAYS,
+            Duration.ofMillis(10), new MetricsService(new SimpleMeterRegistry()));
+    }
+
+    private List<Command> drain(int max) {
+        List<Command> drained = new ArrayList<>();
+        Entry entry;
+        while (drained.size() < max && (entry = journal.peek()) != null) {
+            drained.add(entry.command());
+            journal.commit(entry);
+        }
+        return drained;
+    }
+
+    private static Command event(int i) {
+        return new Command("E" + String.format("%031d", i), "evt-" + i, "CONFIRMED",
+            Instant.parse("2026-01-01T00:00:00Z").plusSeconds(i).plusNanos(7));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().startsWith("webhook-")).sorted().toList();
+        }
+    }
+
+    // Events end with a non-zero nano field, so the trailing zeros are exactly the unused space
+    private static int tailZeros(Path segment) throws IOException {
+        byte[] bytes = Files.readAllBytes(segment);
+        int zeros = 0;
+        for (int i = bytes.length - 1; i >= 0 && bytes[i] == 0; i--) {
+            zeros++;
+        }
+        return zeros;
+    }
+}
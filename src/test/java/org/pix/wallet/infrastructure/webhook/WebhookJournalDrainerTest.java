@@ -0,0 +1,120 @@
+package org.pix.wallet.infrastructure.webhook;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pix.wallet.application.port.in.ProcessPixWebhookUseCase;
+import org.pix.wallet.application.port.in.ProcessPixWebhookUseCase.Command;
+import org.pix.wallet.infrastructure.observability.MetricsService;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WebhookJournalDrainer Unit Tests")
+class WebhookJournalDrainerTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+    private MappedWebhookJournal journal;
+    private WebhookJournalDrainer drainer;
+
+    @BeforeEach
+    void setUp() {
+        journal = new MappedWebhookJournal(directory, 64 * 1024, 4, MappedWebhookJournal.FsyncPolicy.INTERVAL,
+            Duration.ofMillis(5), new MetricsService(registry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (drainer != null && drainer.isRunning()) {
+            drainer.stop();
+        }
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should keep retrying an event while the database fails, without passing it")
+    void shouldRetryTransientFailures() {
+        AtomicInteger failures = new AtomicInteger();
+        start(command -> {
+            if (command.eventId().equals("evt-1") && failures.getAndIncrement() < 3) {
+                throw new DataAccessResourceFailureException("database unavailable");
+            }
+            processed.add(command.eventId());
+        });
+
+        journal.append(event("evt-1"));
+        journal.append(event("evt-2"));
+        awaitDrained();
+
+        assertThat(processed).containsExactly("evt-1", "evt-2");
+        assertThat(registry.counter("pix.webhook.journal.retries").count()).isEqualTo(3);
+        assertThat(registry.counter("pix.webhook.journal.drained", "outcome", "processed").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should skip an event the use case keeps rejecting after max-attempts")
+    void shouldSkipRejectedEvents() {
+        AtomicInteger attempts = new AtomicInteger();
+        start(command -> {
+            if (command.eventId().equals("evt-1")) {
+                attempts.incrementAndGet();
+                throw new IllegalArgumentException("Transfer not found: " + command.endToEndId());
+            }
+            processed.add(command.eventId());
+        });
+
+        journal.append(event("evt-1"));
+        journal.append(event("evt-2"));
+        awaitDrained();
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(processed).containsExactly("evt-2");
+        assertThat(registry.counter("pix.webhook.journal.drained", "outcome", "rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should replay events left in the journal when it starts")
+    void shouldReplayOnStart() {
+        journal.append(event("evt-1"));
+        journal.close();
+        journal = new MappedWebhookJournal(directory, 64 * 1024, 4, MappedWebhookJournal.FsyncPolicy.NONE,
+            Duration.ofMillis(5), new MetricsService(registry));
+
+        start(command -> processed.add(command.eventId()));
+        awaitDrained();
+
+        assertThat(processed).containsExactly("evt-1");
+    }
+
+    private void start(ProcessPixWebhookUseCase delegate) {
+        drainer = new WebhookJournalDrainer(journal, delegate, 3, Duration.ofMillis(20), new MetricsService(registry));
+        drainer.start();
+    }
+
+    private void awaitDrained() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (journal.depth() > 0) {
+            assertThat(System.nanoTime()).as("journal was not drained").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private static Command event(String eventId) {
+        return new Command("E12345678901234567890123456789012", eventId, "CONFIRMED", Instant.now());
+    }
+}
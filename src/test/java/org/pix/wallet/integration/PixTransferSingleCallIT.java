@@ -0,0 +1,12 @@
+package org.pix.wallet.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * {@link PixTransferIT} with transfers created through the {@code pix_create_transfer} function.
+ */
+@TestPropertySource(properties = "pix.transfer.single-call.enabled=true")
+@DisplayName("PIX Transfer - Integration Tests (single-call creation)")
+class PixTransferSingleCallIT extends PixTransferIT {
+}